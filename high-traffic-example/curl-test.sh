@@ -7,6 +7,8 @@ YELLOW='\033[1;33m'
 NC='\033[0m' # No Color
 
 BASE_URL="http://localhost:8080"
+# actuator는 관리 포트에서만 열림 (management.server.port)
+MANAGEMENT_URL="http://localhost:${MANAGEMENT_PORT:-8081}"
 
 echo -e "${GREEN}========================================${NC}"
 echo -e "${GREEN}API 테스트 시작${NC}"
@@ -15,7 +17,7 @@ echo ""
 
 # 헬스 체크
 echo -e "${YELLOW}1. 헬스 체크${NC}"
-curl -s "${BASE_URL}/actuator/health" | jq .
+curl -s "${MANAGEMENT_URL}/actuator/health" | jq .
 echo ""
 echo ""
 
@@ -150,7 +152,7 @@ echo ""
 
 # 좋아요 증가
 echo -e "${YELLOW}13. 좋아요 증가${NC}"
-curl -s -X POST "${BASE_URL}/api/posts/${POST_ID}/like" | jq .
+curl -s -X POST "${BASE_URL}/api/posts/${POST_ID}/like?userId=1" | jq .
 echo ""
 echo ""
 
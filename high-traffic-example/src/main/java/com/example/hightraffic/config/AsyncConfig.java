@@ -3,15 +3,29 @@ package com.example.hightraffic.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
+/**
+ * 비동기 실행 설정
+ *
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true):
+ * - 작업마다 가상 스레드를 생성 (풀/큐 없음), 동시 실행 수만 concurrency-limit으로 제한
+ * - 한도에 도달하면 제출한 스레드가 대기 (거부하지 않음)
+ *   단, 게시글 상세 화면 Executor는 대기 없이 거부 (BoundedVirtualThreadExecutor)
+ * - Tomcat 요청 처리와 @Scheduled 스케줄러는 Spring Boot가 가상 스레드로 구성 (VirtualThreadConfig 참고)
+ */
 @EnableAsync
 @Configuration
 public class AsyncConfig {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Value("${app.async.core-pool-size:10}")
     private int corePoolSize;
 
@@ -21,8 +35,27 @@ public class AsyncConfig {
     @Value("${app.async.queue-capacity:100}")
     private int queueCapacity;
 
+    @Value("${app.async.virtual.concurrency-limit:200}")
+    private int virtualConcurrencyLimit;
+
+    @Value("${app.post-page.executor.core-pool-size:32}")
+    private int postPageCorePoolSize;
+
+    @Value("${app.post-page.executor.max-pool-size:64}")
+    private int postPageMaxPoolSize;
+
+    @Value("${app.post-page.executor.queue-capacity:1000}")
+    private int postPageQueueCapacity;
+
+    @Value("${app.post-page.executor.virtual-concurrency-limit:2000}")
+    private int postPageVirtualConcurrencyLimit;
+
     @Bean(name = "taskExecutor")
     public Executor taskExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor("async-", virtualConcurrencyLimit);
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(corePoolSize);
         executor.setMaxPoolSize(maxPoolSize);
@@ -33,4 +66,35 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 게시글 상세 화면 병렬 로딩 전용 Executor (PostPageService)
+     * - @Async 작업과 풀을 분리하여 이벤트 처리 적체가 화면 응답 시간에 영향을 주지 않도록 함
+     * - 큐가 가득 차면 거부 → 해당 단계는 대체값으로 응답 (호출 스레드에서 실행하지 않음)
+     * - 가상 스레드 모드도 동시 실행 수 한도에서 대기하지 않고 거부
+     *   (대기하면 요청 스레드가 단계별 시간 제한이 시작되기 전에 묶임)
+     */
+    @Bean(name = "postPageExecutor")
+    public AsyncTaskExecutor postPageExecutor() {
+        if (virtualThreads) {
+            return new BoundedVirtualThreadExecutor("post-page-", postPageVirtualConcurrencyLimit, 60_000);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(postPageCorePoolSize);
+        executor.setMaxPoolSize(postPageMaxPoolSize);
+        executor.setQueueCapacity(postPageQueueCapacity);
+        executor.setThreadNamePrefix("post-page-");
+        executor.initialize();
+        return executor;
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix, int concurrencyLimit) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(concurrencyLimit);
+        // 종료 시 실행 중인 작업 완료 대기 (close 시점)
+        executor.setTaskTerminationTimeout(60_000);
+        return executor;
+    }
 }
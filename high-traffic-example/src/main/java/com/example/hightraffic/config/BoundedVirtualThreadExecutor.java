@@ -0,0 +1,69 @@
+package com.example.hightraffic.config;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+
+/**
+ * 동시 실행 수 한도에서 대기하지 않고 거부하는 가상 스레드 Executor
+ *
+ * 문제 정의:
+ * - SimpleAsyncTaskExecutor의 concurrencyLimit은 한도에 도달하면 제출한 스레드를 대기시킴
+ * - CompletableFuture.supplyAsync(..).orTimeout(..)은 제출이 끝난 뒤에 시간 제한을 걸므로
+ *   대기 시간은 시간 제한에 포함되지 않음 → 요청 스레드가 시간 제한 없이 묶임
+ *
+ * 해결 방법:
+ * - 한도는 Semaphore로 직접 관리하고 허가를 얻지 못하면 즉시 TaskRejectedException
+ *   (ThreadPoolTaskExecutor의 큐가 가득 찬 경우와 같은 예외 → 호출 측은 대체값 사용)
+ * - 허가는 작업이 끝나면 (예외 포함) 반납
+ */
+public class BoundedVirtualThreadExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final int concurrencyLimit;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int concurrencyLimit, long taskTerminationTimeoutMs) {
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.delegate.setTaskTerminationTimeout(taskTerminationTimeoutMs);
+        this.permits = new Semaphore(concurrencyLimit);
+        this.concurrencyLimit = concurrencyLimit;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!permits.tryAcquire()) {
+            throw new TaskRejectedException("동시 실행 수 한도 초과: limit=" + concurrencyLimit);
+        }
+        try {
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    permits.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 실행 중인 작업 수
+     */
+    public int getActiveCount() {
+        return concurrencyLimit - permits.availablePermits();
+    }
+
+    /**
+     * 종료 시 실행 중인 작업 완료 대기 (taskTerminationTimeout까지)
+     */
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
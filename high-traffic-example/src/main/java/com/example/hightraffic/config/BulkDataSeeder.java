@@ -0,0 +1,373 @@
+package com.example.hightraffic.config;
+
+import com.example.hightraffic.domain.Comment;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 대량 테스트 데이터 생성기 (게시글 + 계층형 댓글)
+ *
+ * 문제 정의:
+ * - IDENTITY 전략은 INSERT마다 ID를 받아와야 하므로 Hibernate JDBC batch가 비활성화됨
+ * - 자식 댓글은 부모 ID가 필요해서 댓글마다 save() → 행 1개당 왕복 1회
+ * - 게시글 수만 건만 만들어도 수 분이 걸려 실제 규모의 부하 테스트를 준비할 수 없음
+ *
+ * 해결 방법:
+ * 1. ID 미리 할당: 현재 MAX(id) 다음부터 생성기가 직접 ID를 부여
+ *    → 부모/자식 관계, path, reply_count, 게시글 댓글 수를 INSERT 전에 모두 계산
+ * 2. JDBC batch INSERT (rewriteBatchedStatements=true → 드라이버가 multi-row INSERT로 변환)
+ * 3. 생성은 호출 스레드 1개, 쓰기는 writers개 스레드가 청크(게시글 chunk-size개 + 그 댓글) 단위로 병렬 처리
+ *    - 작업 큐가 가득 차면 호출 스레드가 직접 쓰기 → 메모리에 쌓이는 청크 수 제한
+ *    - 청크마다 트랜잭션 1개 (중간에 실패하면 이미 커밋된 청크는 유지)
+ *
+ * 댓글 분포:
+ * - 게시글당 댓글 수: 0 ~ comments-per-post × 2 (평균 comments-per-post)
+ * - depth-weights: depth별 비율 (예: 60,25,10,5 → 루트 60%, 대댓글 25%, ...)
+ *   부모가 될 댓글이 아직 없으면 한 단계 얕은 depth로 생성
+ *
+ * 주의:
+ * - ID를 직접 지정하므로 다른 요청이 동시에 INSERT하지 않는 기동 시점에만 실행
+ * - MySQL은 지정한 ID 이후로 AUTO_INCREMENT가 자동으로 이동
+ * - JPA Auditing을 거치지 않으므로 created_at/updated_at을 직접 지정 (게시글 ID 순 = 작성 순)
+ */
+@Slf4j
+@Component
+@Profile("local")
+@RequiredArgsConstructor
+public class BulkDataSeeder {
+
+    private static final String INSERT_POST_SQL =
+            "INSERT INTO posts (id, title, content, author, view_count, like_count, comment_count, "
+                    + "active_comment_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_COMMENT_SQL =
+            "INSERT INTO comments (id, post_id, parent_id, content, author, depth, is_deleted, path, "
+                    + "reply_count, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, false, ?, ?, ?, ?)";
+
+    private static final String[] TITLES = {
+            "Spring Boot 대용량 트래픽 처리 방법",
+            "JPA 성능 최적화 전략",
+            "Redis 캐싱 적용 가이드",
+            "Kafka를 활용한 이벤트 기반 아키텍처",
+            "데이터베이스 인덱스 최적화",
+            "동시성 문제 해결하기",
+            "분산 시스템 설계 패턴",
+            "마이크로서비스 아키텍처 구축",
+            "MySQL 복제 및 샤딩",
+            "API 성능 튜닝 가이드"
+    };
+
+    private static final String[] CONTENT_TEMPLATES = {
+            "이 글에서는 %s에 대해 자세히 알아보겠습니다. 실무에서 겪은 경험을 바탕으로 실질적인 해결 방법을 제시합니다.",
+            "%s는 대규모 시스템에서 매우 중요한 주제입니다. 이번 포스팅에서는 실전 예제와 함께 설명하겠습니다.",
+            "많은 개발자들이 %s에 대해 궁금해합니다. 이 글에서는 기초부터 고급 기법까지 단계별로 설명합니다.",
+            "%s를 적용하면서 겪었던 시행착오와 최종적으로 찾은 최선의 방법을 공유합니다.",
+            "실무에서 %s를 적용한 사례를 바탕으로 구체적인 구현 방법과 주의사항을 정리했습니다."
+    };
+
+    private static final String[] AUTHORS = {
+            "김개발", "이백엔드", "박프론트", "최데브옵스", "정아키텍트",
+            "강시니어", "윤주니어", "조풀스택", "장테크리드", "임CTO"
+    };
+
+    private static final String[] COMMENT_CONTENTS = {
+            "좋은 글 감사합니다!",
+            "많은 도움이 되었습니다.",
+            "실무에 바로 적용해봐야겠네요.",
+            "궁금했던 내용이었는데 잘 정리되어 있네요.",
+            "추가로 궁금한 점이 있는데, 더 자세히 설명해주실 수 있나요?"
+    };
+
+    private static final String[] REPLY_CONTENTS = {
+            "좋은 의견 감사합니다!",
+            "저도 같은 생각입니다.",
+            "그 부분은 이렇게 해결할 수 있습니다.",
+            "추가 설명드리자면...",
+            "동의합니다!"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 생성할 게시글 수
+    @Value("${app.seed.posts:100}")
+    private int targetPosts;
+
+    // 게시글당 평균 댓글 수
+    @Value("${app.seed.comments-per-post:10}")
+    private int commentsPerPost;
+
+    // depth별 댓글 비율 (배열 길이 = 최대 depth + 1)
+    @Value("${app.seed.depth-weights:60,25,10,5}")
+    private int[] depthWeights;
+
+    // 청크(트랜잭션) 1개에 담을 게시글 수
+    @Value("${app.seed.chunk-size:1000}")
+    private int chunkSize;
+
+    // 병렬 쓰기 스레드 수 (Hikari 풀 크기보다 작게)
+    @Value("${app.seed.writers:4}")
+    private int writers;
+
+    /**
+     * 설정된 양만큼 게시글/댓글 생성
+     *
+     * @return 생성 결과 (행 수, 소요 시간)
+     */
+    public SeedResult seed() {
+        long firstPostId = nextId("posts");
+        long firstCommentId = nextId("comments");
+        LocalDateTime baseTime = LocalDateTime.now().minusSeconds(targetPosts);
+        int totalWeight = validateDepthWeights();
+
+        log.info("대량 데이터 생성 시작: posts={}, commentsPerPost={}, depthWeights={}, chunkSize={}, writers={}",
+                targetPosts, commentsPerPost, Arrays.toString(depthWeights), chunkSize, writers);
+        long startTime = System.currentTimeMillis();
+
+        AtomicLong writtenPosts = new AtomicLong();
+        AtomicLong writtenComments = new AtomicLong();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                writers, writers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(writers),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "seed-writer");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        List<Future<?>> futures = new ArrayList<>();
+        long nextCommentId = firstCommentId;
+        try {
+            for (int offset = 0; offset < targetPosts; offset += chunkSize) {
+                int size = Math.min(chunkSize, targetPosts - offset);
+                Chunk chunk = generate(firstPostId + offset, offset, size, nextCommentId, baseTime, totalWeight);
+                nextCommentId += chunk.comments.size();
+
+                futures.add(executor.submit(() -> {
+                    write(chunk);
+                    long posts = writtenPosts.addAndGet(chunk.posts.size());
+                    long comments = writtenComments.addAndGet(chunk.comments.size());
+                    log.info("대량 데이터 생성 진행: posts={}/{}, comments={}, {} rows/s",
+                            posts, targetPosts, comments, rowsPerSecond(posts + comments, startTime));
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("대량 데이터 생성이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("대량 데이터 생성 실패 (커밋된 청크까지 저장됨)", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        SeedResult result = new SeedResult(writtenPosts.get(), writtenComments.get(),
+                System.currentTimeMillis() - startTime);
+        log.info("대량 데이터 생성 완료: posts={}, comments={}, {}ms, {} rows/s",
+                result.posts(), result.comments(), result.elapsedMs(), result.rowsPerSecond());
+        return result;
+    }
+
+    /**
+     * 청크 1개 생성 (ID/path/답글 수/댓글 수를 모두 메모리에서 계산)
+     */
+    private Chunk generate(long firstPostId, int firstIndex, int size, long firstCommentId,
+                           LocalDateTime baseTime, int totalWeight) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<Object[]> posts = new ArrayList<>(size);
+        List<CommentRow> comments = new ArrayList<>(size * commentsPerPost);
+        long commentId = firstCommentId;
+
+        for (int i = 0; i < size; i++) {
+            long postId = firstPostId + i;
+            LocalDateTime createdAt = baseTime.plusSeconds(firstIndex + i);
+            int commentCount = commentsPerPost > 0 ? random.nextInt(commentsPerPost * 2 + 1) : 0;
+
+            // depth별로 부모 후보(이미 생성된 같은 게시글의 댓글)를 모아 둠
+            List<List<CommentRow>> levels = new ArrayList<>(depthWeights.length);
+            for (int depth = 0; depth < depthWeights.length; depth++) {
+                levels.add(new ArrayList<>());
+            }
+
+            for (int j = 0; j < commentCount; j++) {
+                int depth = pickDepth(random, totalWeight);
+                while (depth > 0 && levels.get(depth - 1).isEmpty()) {
+                    depth--;
+                }
+                CommentRow parent = depth > 0
+                        ? levels.get(depth - 1).get(random.nextInt(levels.get(depth - 1).size()))
+                        : null;
+
+                CommentRow comment = new CommentRow(commentId++, postId, parent, depth, createdAt.plusSeconds(j + 1));
+                levels.get(depth).add(comment);
+                comments.add(comment);
+            }
+
+            String title = generateTitle(firstIndex + i + 1, random);
+            Timestamp timestamp = Timestamp.valueOf(createdAt);
+            posts.add(new Object[]{
+                    postId,
+                    title,
+                    generateContent(title, random),
+                    AUTHORS[random.nextInt(AUTHORS.length)],
+                    random.nextInt(100),
+                    random.nextInt(50),
+                    commentCount,
+                    commentCount,
+                    timestamp,
+                    timestamp
+            });
+        }
+        return new Chunk(posts, comments);
+    }
+
+    /**
+     * 청크 1개 저장 (트랜잭션 1개, 테이블별 batch INSERT 1회)
+     */
+    private void write(Chunk chunk) {
+        List<Object[]> comments = new ArrayList<>(chunk.comments.size());
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (CommentRow comment : chunk.comments) {
+            Timestamp timestamp = Timestamp.valueOf(comment.createdAt);
+            String[] contents = comment.parent == null ? COMMENT_CONTENTS : REPLY_CONTENTS;
+            comments.add(new Object[]{
+                    comment.id,
+                    comment.postId,
+                    comment.parent != null ? comment.parent.id : null,
+                    contents[random.nextInt(contents.length)],
+                    AUTHORS[random.nextInt(AUTHORS.length)],
+                    comment.depth,
+                    comment.path,
+                    comment.replyCount,
+                    timestamp,
+                    timestamp
+            });
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_POST_SQL, chunk.posts);
+            if (!comments.isEmpty()) {
+                jdbcTemplate.batchUpdate(INSERT_COMMENT_SQL, comments);
+            }
+        });
+    }
+
+    private long nextId(String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        return (maxId != null ? maxId : 0L) + 1;
+    }
+
+    private int validateDepthWeights() {
+        int total = 0;
+        for (int weight : depthWeights) {
+            if (weight < 0) {
+                throw new IllegalArgumentException("app.seed.depth-weights는 0 이상이어야 합니다.");
+            }
+            total += weight;
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("app.seed.depth-weights의 합은 0보다 커야 합니다.");
+        }
+        if (depthWeights.length - 1 > Comment.MAX_PATH_DEPTH) {
+            throw new IllegalArgumentException("댓글 최대 depth는 " + Comment.MAX_PATH_DEPTH + "입니다.");
+        }
+        return total;
+    }
+
+    private int pickDepth(ThreadLocalRandom random, int totalWeight) {
+        int value = random.nextInt(totalWeight);
+        for (int depth = 0; depth < depthWeights.length; depth++) {
+            value -= depthWeights[depth];
+            if (value < 0) {
+                return depth;
+            }
+        }
+        return 0;
+    }
+
+    private String generateTitle(int index, ThreadLocalRandom random) {
+        if (index <= TITLES.length) {
+            return String.format("[%d] %s", index, TITLES[index - 1]);
+        }
+        return String.format("[%d] %s (추가)", index, TITLES[random.nextInt(TITLES.length)]);
+    }
+
+    private String generateContent(String title, ThreadLocalRandom random) {
+        String template = CONTENT_TEMPLATES[random.nextInt(CONTENT_TEMPLATES.length)];
+        String mainTopic = title.replaceAll("\\[\\d+\\]\\s*", "").replaceAll("\\s*\\(추가\\)\\s*", "");
+
+        return String.format(template, mainTopic) + "\n\n"
+                + "## 주요 내용\n\n"
+                + "1. 기본 개념 이해\n"
+                + "2. 실전 적용 방법\n"
+                + "3. 성능 최적화 전략\n"
+                + "4. 트러블슈팅 가이드\n\n"
+                + "## 결론\n\n"
+                + mainTopic + "를 적용하면 시스템의 성능과 안정성을 크게 향상시킬 수 있습니다. "
+                + "실무에 적용할 때는 각 환경의 특성을 고려하여 최적화하는 것이 중요합니다.";
+    }
+
+    private static long rowsPerSecond(long rows, long startTime) {
+        return rows * 1000 / Math.max(1L, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 생성 결과
+     */
+    public record SeedResult(long posts, long comments, long elapsedMs) {
+
+        public long rowsPerSecond() {
+            return (posts + comments) * 1000 / Math.max(1L, elapsedMs);
+        }
+    }
+
+    private record Chunk(List<Object[]> posts, List<CommentRow> comments) {
+    }
+
+    /**
+     * 생성 중인 댓글 (자식이 추가될 때마다 replyCount 증가, INSERT 시점에 확정)
+     */
+    private static final class CommentRow {
+        private final long id;
+        private final long postId;
+        private final CommentRow parent;
+        private final int depth;
+        private final String path;
+        private final LocalDateTime createdAt;
+        private int replyCount;
+
+        private CommentRow(long id, long postId, CommentRow parent, int depth, LocalDateTime createdAt) {
+            this.id = id;
+            this.postId = postId;
+            this.parent = parent;
+            this.depth = depth;
+            this.createdAt = createdAt;
+            String segment = Comment.pathSegment(id);
+            this.path = parent != null ? parent.path + segment : segment;
+            if (parent != null) {
+                parent.replyCount++;
+            }
+        }
+    }
+}
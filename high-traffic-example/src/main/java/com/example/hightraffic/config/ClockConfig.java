@@ -0,0 +1,20 @@
+package com.example.hightraffic.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * 현재 시각 기준
+ *
+ * 시각으로 윈도우/차단 만료를 계산하는 컴포넌트에 주입 (테스트에서는 고정 시각 Clock으로 생성)
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.hightraffic.config;
+
+import com.example.hightraffic.domain.Comment;
+import com.example.hightraffic.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 댓글 path 마이그레이션 (기존 행에 Materialized Path 채우기)
+ *
+ * 동작 방식:
+ * 1. path가 null인 댓글을 depth, id 순으로 batch-size개씩 조회 (부모가 항상 먼저 처리됨)
+ * 2. 부모 path + 자신의 세그먼트로 path 계산 (같은 배치의 부모는 메모리에서 조회)
+ * 3. 배치마다 트랜잭션 커밋 → 중간에 중단되어도 다음 실행 시 남은 행부터 이어서 진행
+ *
+ * 실행 시점:
+ * - ApplicationReadyEvent (DataInitializer 등 ApplicationRunner 이후)
+ * - 모든 행이 채워지면 첫 조회에서 빈 결과 → 바로 종료
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentPathMigrator {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.comment.path.migration-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.comment.path.migration-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrate() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            int total = 0;
+            int migrated;
+            while ((migrated = migrateBatch()) > 0) {
+                total += migrated;
+            }
+
+            if (total > 0) {
+                log.info("=== 댓글 path 마이그레이션 완료: {}건, {}ms ===",
+                        total, System.currentTimeMillis() - startTime);
+            }
+        } catch (Exception e) {
+            // path가 없는 댓글은 트리 조회에서 제외될 뿐이므로 기동은 계속
+            log.error("댓글 path 마이그레이션 중 에러 발생", e);
+        }
+    }
+
+    private int migrateBatch() {
+        Integer migrated = transactionTemplate.execute(status -> {
+            List<Comment> comments = commentRepository.findByPathIsNullOrderByDepthAscIdAsc(PageRequest.of(0, batchSize));
+            if (comments.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, String> pathsById = loadParentPaths(comments);
+            for (Comment comment : comments) {
+                String parentPath = null;
+                if (comment.getParentId() != null) {
+                    parentPath = pathsById.get(comment.getParentId());
+                    if (parentPath == null) {
+                        // 부모가 없는 댓글 (데이터 불일치): 독립된 스레드로 취급
+                        log.warn("부모 path를 찾을 수 없어 루트로 처리: id={}, parentId={}",
+                                comment.getId(), comment.getParentId());
+                    }
+                }
+                comment.assignPath(parentPath);
+                pathsById.put(comment.getId(), comment.getPath());
+            }
+            return comments.size();
+        });
+        return migrated != null ? migrated : 0;
+    }
+
+    private Map<Long, String> loadParentPaths(List<Comment> comments) {
+        Set<Long> parentIds = comments.stream()
+                .map(Comment::getParentId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, String> paths = new HashMap<>();
+        commentRepository.findAllById(parentIds).stream()
+                .filter(parent -> parent.getPath() != null)
+                .forEach(parent -> paths.put(parent.getId(), parent.getPath()));
+        return paths;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.hightraffic.config;
+
+import com.example.hightraffic.domain.Comment;
+import com.example.hightraffic.repository.CommentRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 댓글 답글 수 백필 (reply_count가 null인 기존 행 채우기)
+ *
+ * 동작 방식:
+ * 1. reply_count가 null인 댓글을 id 순으로 batch-size개씩 행 잠금과 함께 조회 (SELECT ... FOR UPDATE)
+ * 2. GROUP BY parent_id 집계 1회로 배치 전체의 답글 수 계산
+ * 3. 배치마다 트랜잭션 커밋 → 중단되어도 다음 실행 시 이어서 진행
+ *
+ * 백필 중 답글이 생성/삭제되면:
+ * - 잠금 전에 증감이 끝났으면: null + 1 = null로 무시되고, 잠금을 얻은 뒤의 집계에 그 답글이 포함됨
+ * - 잠금 후에 증감하면: 부모 행 UPDATE가 백필 커밋까지 대기한 뒤 채워진 값에 더해짐
+ *   (잠금 없이 집계 → 저장하면 그 사이의 답글은 집계에도, 증감에도 반영되지 않음)
+ * - 같은 테이블을 서브쿼리로 읽는 UPDATE 한 문장은 MySQL에서 허용되지 않음 (ERROR 1093)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentReplyCountBackfill {
+
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.comment.reply-count.backfill-enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.comment.reply-count.backfill-batch-size:1000}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            int total = 0;
+            int filled;
+            while ((filled = backfillBatch()) > 0) {
+                total += filled;
+            }
+
+            if (total > 0) {
+                log.info("=== 댓글 답글 수 백필 완료: {}건, {}ms ===", total, System.currentTimeMillis() - startTime);
+            }
+        } catch (Exception e) {
+            log.error("댓글 답글 수 백필 중 에러 발생", e);
+        }
+    }
+
+    private int backfillBatch() {
+        Integer filled = transactionTemplate.execute(status -> {
+            List<Comment> comments = commentRepository.findByReplyCountIsNullOrderByIdAsc(PageRequest.of(0, batchSize));
+            if (comments.isEmpty()) {
+                return 0;
+            }
+
+            List<Long> ids = comments.stream().map(Comment::getId).toList();
+            Map<Long, Integer> counts = new HashMap<>();
+            for (Object[] row : commentRepository.countRepliesByParentIds(ids)) {
+                counts.put((Long) row[0], ((Number) row[1]).intValue());
+            }
+
+            comments.forEach(comment -> comment.initReplyCount(counts.getOrDefault(comment.getId(), 0)));
+            return comments.size();
+        });
+        return filled != null ? filled : 0;
+    }
+}
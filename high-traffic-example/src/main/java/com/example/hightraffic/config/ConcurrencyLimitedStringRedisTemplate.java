@@ -0,0 +1,80 @@
+package com.example.hightraffic.config;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 실행 수를 Semaphore로 제한하는 StringRedisTemplate (가상 스레드 모드용)
+ *
+ * 문제 정의:
+ * - 일반 명령은 공유 커넥션 하나에 다중화되지만, 파이프라인/트랜잭션은 호출마다 전용 커넥션을 사용
+ * - 가상 스레드 수천 개가 동시에 파이프라인을 실행하면 Redis 커넥션 수가 그만큼 늘어남
+ *   (lettuce.pool 설정은 commons-pool2가 없어 적용되지 않음)
+ *
+ * 해결 방법:
+ * - 모든 명령/스크립트/파이프라인이 거치는 execute(RedisCallback, ...)에서 공정 Semaphore 획득
+ * - acquire-timeout 안에 획득하지 못하면 TransientDataAccessResourceException (호출 측의 Redis 장애 처리 경로로 처리)
+ * - 콜백 안에서 다시 템플릿을 호출해도 같은 스레드는 추가로 획득하지 않음 (교착 방지)
+ */
+public class ConcurrencyLimitedStringRedisTemplate extends StringRedisTemplate {
+
+    private static final ThreadLocal<Boolean> HOLDING = ThreadLocal.withInitial(() -> false);
+
+    private final Semaphore permits;
+    private final int maxConcurrency;
+    private final long acquireTimeoutMs;
+
+    public ConcurrencyLimitedStringRedisTemplate(RedisConnectionFactory connectionFactory,
+                                                 int maxConcurrency,
+                                                 long acquireTimeoutMs) {
+        super(connectionFactory);
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.maxConcurrency = maxConcurrency;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public <T> T execute(RedisCallback<T> action, boolean exposeConnection, boolean pipeline) {
+        if (HOLDING.get()) {
+            return super.execute(action, exposeConnection, pipeline);
+        }
+
+        acquire();
+        HOLDING.set(true);
+        try {
+            return super.execute(action, exposeConnection, pipeline);
+        } finally {
+            HOLDING.remove();
+            permits.release();
+        }
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int getWaitingThreads() {
+        return permits.getQueueLength();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new TransientDataAccessResourceException(
+                        "Redis 동시 접근 한도 초과: maxConcurrency=" + maxConcurrency + ", waited=" + acquireTimeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TransientDataAccessResourceException("Redis 명령 대기 중 인터럽트", e);
+        }
+    }
+}
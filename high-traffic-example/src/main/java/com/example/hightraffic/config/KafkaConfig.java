@@ -1,10 +1,29 @@
 package com.example.hightraffic.config;
 
+import com.example.hightraffic.event.ViewEvent;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
 
 @EnableKafka
 @Configuration
@@ -14,6 +33,22 @@ public class KafkaConfig {
     public static final String ORDER_UPDATED_TOPIC = "order-updated";
     public static final String PAYMENT_PROCESSED_TOPIC = "payment-processed";
     public static final String INVENTORY_UPDATED_TOPIC = "inventory-updated";
+    public static final String VIEW_EVENT_TOPIC = "post-viewed";
+
+    @Value("${app.view-count.kafka.partitions:6}")
+    private int viewEventPartitions;
+
+    @Value("${app.view-count.kafka.concurrency:3}")
+    private int viewEventConcurrency;
+
+    @Value("${app.view-count.kafka.window-ms:1000}")
+    private long viewEventWindowMs;
+
+    @Value("${app.view-count.kafka.max-poll-records:5000}")
+    private int viewEventMaxPollRecords;
+
+    @Value("${app.view-count.kafka.max-block-ms:100}")
+    private long viewEventMaxBlockMs;
 
     @Bean
     public NewTopic orderCreatedTopic() {
@@ -46,4 +81,66 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
+
+    /**
+     * 조회 이벤트 토픽 (키: 게시글 ID)
+     */
+    @Bean
+    public NewTopic viewEventTopic() {
+        return TopicBuilder.name(VIEW_EVENT_TOPIC)
+                .partitions(viewEventPartitions)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 조회 이벤트 전용 Producer
+     * - 타입 헤더 없이 JSON만 전송 (메시지 크기 최소화)
+     * - linger/압축으로 요청 스레드의 send()를 작은 배치로 묶음
+     * - 브로커 장애 시 send()가 요청 스레드를 오래 막지 않도록 max.block.ms를 짧게 설정
+     */
+    @Bean
+    public KafkaTemplate<String, ViewEvent> viewEventKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties(null);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, "lz4");
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, viewEventMaxBlockMs);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    /**
+     * 조회 이벤트 집계용 Listener Container (ViewEventAggregator)
+     *
+     * 텀블링 윈도우:
+     * - 배치 리스너 + poll 사이 대기(idleBetweenPolls = window-ms)
+     * - poll 1회 = 직전 윈도우 동안 쌓인 이벤트 (최대 max-poll-records건) → 한 번에 집계/반영
+     *
+     * 오류 처리:
+     * - 역직렬화 실패 메시지는 null 값으로 전달되어 건너뜀 (poison pill로 멈추지 않음)
+     * - DB 반영 실패 시 같은 배치를 1초 간격으로 계속 재시도 (이벤트 유실 없음, 반영 위치로 중복 방지)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ViewEvent> viewEventListenerContainerFactory(
+            KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties(null);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, viewEventMaxPollRecords);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        JsonDeserializer<ViewEvent> valueDeserializer = new JsonDeserializer<>(ViewEvent.class, false);
+        DefaultKafkaConsumerFactory<String, ViewEvent> consumerFactory = new DefaultKafkaConsumerFactory<>(
+                props, new StringDeserializer(), new ErrorHandlingDeserializer<>(valueDeserializer));
+
+        ConcurrentKafkaListenerContainerFactory<String, ViewEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(viewEventConcurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.getContainerProperties().setIdleBetweenPolls(viewEventWindowMs);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(new FixedBackOff(1000L, FixedBackOff.UNLIMITED_ATTEMPTS)));
+        return factory;
+    }
 }
@@ -0,0 +1,87 @@
+package com.example.hightraffic.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 게시글 최신순 인덱스 마이그레이션 (idx_created_at → idx_created_at_id)
+ *
+ * 문제 정의:
+ * - 키셋 페이지네이션을 위해 (created_at) 인덱스를 (created_at, id) 복합 인덱스로 교체
+ * - ddl-auto=update는 새 인덱스만 만들고 엔티티에서 빠진 인덱스는 삭제하지 않음
+ *   → 기존 DB에는 idx_created_at이 남아 쓰기마다 불필요한 인덱스 갱신
+ *
+ * 동작 방식:
+ * 1. JDBC 메타데이터로 posts 테이블 인덱스 조회
+ * 2. 새 복합 인덱스가 있고 이전 인덱스도 남아 있을 때만 삭제 (복합 인덱스의 선두 컬럼이 같아 대체 가능)
+ * 3. 이미 삭제되었으면 아무것도 하지 않음 (여러 노드가 동시에 기동해도 먼저 실행한 노드만 삭제)
+ *
+ * DDL은 MySQL 문법 (이전 인덱스는 운영 MySQL에만 있음, create-drop인 H2에는 생성되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostIndexMigrator {
+
+    private static final String TABLE = "posts";
+    private static final String LEGACY_INDEX = "idx_created_at";
+    private static final String CURRENT_INDEX = "idx_created_at_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.post-index.migration-enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void dropLegacyIndex() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            Set<String> indexes = findIndexNames();
+            if (!indexes.contains(LEGACY_INDEX)) {
+                return;
+            }
+            if (!indexes.contains(CURRENT_INDEX)) {
+                // 대체할 인덱스가 없으면 최신순 조회가 전체 스캔이 되므로 유지
+                log.warn("게시글 복합 인덱스가 없어 이전 인덱스 유지: {}", LEGACY_INDEX);
+                return;
+            }
+
+            jdbcTemplate.execute("DROP INDEX " + LEGACY_INDEX + " ON " + TABLE);
+            log.info("=== 게시글 이전 인덱스 삭제: {} (대체: {}) ===", LEGACY_INDEX, CURRENT_INDEX);
+        } catch (Exception e) {
+            // 다른 노드가 먼저 삭제했거나 권한이 없는 경우 - 조회 결과에는 영향 없으므로 기동은 계속
+            log.warn("게시글 이전 인덱스 삭제 실패: {}", LEGACY_INDEX, e);
+        }
+    }
+
+    private Set<String> findIndexNames() {
+        Set<String> names = jdbcTemplate.execute((ConnectionCallback<Set<String>>) connection -> {
+            Set<String> result = new HashSet<>();
+            try (ResultSet rs = connection.getMetaData()
+                    .getIndexInfo(connection.getCatalog(), connection.getSchema(), TABLE, false, true)) {
+                while (rs.next()) {
+                    String name = rs.getString("INDEX_NAME");
+                    if (name != null) {
+                        result.add(name.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return result;
+        });
+        return names != null ? names : Set.of();
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.hightraffic.config;
 
+import com.example.hightraffic.dto.PostResponse;
+import com.example.hightraffic.service.PostCacheService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +14,9 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -27,12 +32,14 @@ import java.time.Duration;
  *
  * 주요 기능:
  * 1. RedisTemplate 설정 - 조회수, Rate Limit 데이터 저장
- * 2. CacheManager 설정 - Spring Cache 추상화
+ * 2. CacheManager 설정 - Spring Cache 추상화 (게시글 상세 L2 캐시 포함)
+ * 3. Pub/Sub 리스너 컨테이너 - 노드 간 캐시 무효화
  *
  * Redis 활용 사례:
  * - 조회수: post:viewcount:{postId} (INCR, GET)
  * - 중복 방지: post:viewed:{postId}:{ip} (5초 TTL)
  * - Rate Limit: ratelimit:ip:{ip} (60초 TTL)
+ * - 게시글 상세 캐시: postDetail::{postId}
  */
 @EnableCaching
 @Configuration
@@ -106,7 +113,9 @@ public class RedisConfig {
      * - @CacheEvict("posts") - 게시글 수정 시 캐시 무효화
      */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(
+            RedisConnectionFactory connectionFactory,
+            @Value("${app.cache.post.redis-ttl-seconds:600}") long postDetailTtlSeconds) {
         ObjectMapper objectMapper = new ObjectMapper();
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
@@ -127,8 +136,32 @@ public class RedisConfig {
                         RedisSerializationContext.SerializationPair.fromSerializer(serializer)
                 );
 
+        // 게시글 상세 캐시: 타입을 지정한 직렬화로 PostResponse 그대로 복원 (L2, PostCacheService)
+        Jackson2JsonRedisSerializer<PostResponse> postSerializer =
+                new Jackson2JsonRedisSerializer<>(objectMapper, PostResponse.class);
+        RedisCacheConfiguration postDetailConfig = config
+                .entryTtl(Duration.ofSeconds(postDetailTtlSeconds))
+                .serializeValuesWith(
+                        RedisSerializationContext.SerializationPair.fromSerializer(postSerializer)
+                );
+
         return RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(config)
+                .withCacheConfiguration(PostCacheService.CACHE_NAME, postDetailConfig)
                 .build();
     }
+
+    /**
+     * Redis Pub/Sub 리스너 컨테이너
+     *
+     * 목적:
+     * - 게시글 캐시 무효화 메시지 수신 (post:cache:invalidate 채널)
+     * - 각 노드의 로컬 캐시(L1)를 밀리초 단위로 동시에 무효화
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
+    }
 }
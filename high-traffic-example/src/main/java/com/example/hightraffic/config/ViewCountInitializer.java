@@ -1,28 +1,43 @@
 package com.example.hightraffic.config;
 
-import com.example.hightraffic.domain.Post;
 import com.example.hightraffic.repository.PostRepository;
 import com.example.hightraffic.service.ViewCountService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.ApplicationArguments;
-import org.springframework.boot.ApplicationRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Profile;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 조회수 초기화
  *
  * 애플리케이션 시작 시:
- * 1. DB에서 모든 게시글의 조회수 조회
- * 2. Redis에 조회수 초기화
+ * 1. DB에서 게시글 ID와 조회수만 ID 순으로 page-size개씩 조회 (키셋 페이징, 본문 로딩 없음)
+ * 2. 페이지마다 Redis에 SET NX 파이프라인으로 적재 (페이지당 왕복 1회)
  *
  * 목적:
  * - 서버 재시작 후에도 조회수 정합성 유지
  * - Redis에 데이터가 없을 때 DB에서 복원
  *
+ * 기존 방식(findAll + 게시글마다 hasKey + set) 대비:
+ * - 힙에 올라가는 데이터: 전체 게시글 엔티티(TEXT 포함) → 한 페이지의 [id, viewCount]
+ * - Redis 왕복: 게시글당 2회 → 페이지당 1회
+ * - 기동 완료(ApplicationReadyEvent) 후 @Async로 실행 → 적재를 기다리지 않고 트래픽 수신
+ *
+ * 적재 중 정합성:
+ * - 적재가 끝날 때까지 ViewCountService가 조회수 증가 전에 키 존재 여부를 확인하고,
+ *   없으면 DB 값으로 먼저 채움 (SET NX이므로 적재와 겹쳐도 한쪽만 반영)
+ * - 조회는 원래 Redis에 없으면 DB 값을 사용하므로 영향 없음
+ *
  * Profile:
  * - local: 개발 환경에서만 실행
  * - 프로덕션에서는 DataInitializer와 함께 조건부 실행 가능
@@ -31,39 +46,71 @@ import java.util.List;
 @Component
 @Profile("local")
 @RequiredArgsConstructor
-public class ViewCountInitializer implements ApplicationRunner {
+public class ViewCountInitializer {
 
     private final PostRepository postRepository;
     private final ViewCountService viewCountService;
 
-    @Override
-    public void run(ApplicationArguments args) {
-        log.info("=== 조회수 초기화 시작 ===");
+    // 페이지(SELECT 1회 + Redis 파이프라인 1회)당 게시글 수
+    @Value("${app.view-count.warm-up.page-size:5000}")
+    private int pageSize;
+
+    // 진행 상황 로그 간격 (게시글 수)
+    @Value("${app.view-count.warm-up.log-interval:100000}")
+    private int logInterval;
+
+    /**
+     * 요청을 받기 전에 적재 중 표시 (웹 서버는 ApplicationReadyEvent 이전에 요청을 받기 시작함)
+     */
+    @PostConstruct
+    void markWarmUp() {
+        viewCountService.beginWarmUp();
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        log.info("=== 조회수 초기화 시작 (pageSize={}) ===", pageSize);
+        long startTime = System.currentTimeMillis();
 
+        long scanned = 0;
+        long initialized = 0;
+        long nextLog = logInterval;
         try {
-            // 모든 게시글 조회
-            List<Post> posts = postRepository.findAll();
+            Long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = postRepository.findViewCountsAfter(afterId, PageRequest.of(0, pageSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
 
-            int initializedCount = 0;
-            int skippedCount = 0;
+                Map<Long, Long> viewCounts = new LinkedHashMap<>();
+                for (Object[] row : rows) {
+                    viewCounts.put((Long) row[0], (Long) row[1]);
+                }
+                initialized += viewCountService.initializeViewCounts(viewCounts);
+                scanned += rows.size();
+                afterId = (Long) rows.get(rows.size() - 1)[0];
 
-            for (Post post : posts) {
-                try {
-                    // Redis에 조회수 초기화
-                    // (Redis에 이미 값이 있으면 스킵)
-                    viewCountService.initializeViewCount(post.getId(), post.getViewCount());
-                    initializedCount++;
-                } catch (Exception e) {
-                    log.error("조회수 초기화 실패: postId={}", post.getId(), e);
-                    skippedCount++;
+                if (scanned >= nextLog) {
+                    log.info("조회수 초기화 진행: 조회={}, 적재={}, {} rows/s",
+                            scanned, initialized, rowsPerSecond(scanned, startTime));
+                    nextLog = scanned + logInterval;
                 }
             }
 
-            log.info("=== 조회수 초기화 완료: 성공={}, 건너뜀={}, 전체={} ===",
-                    initializedCount, skippedCount, posts.size());
+            log.info("=== 조회수 초기화 완료: 적재={}, 건너뜀(이미 존재)={}, 전체={}, {}ms, {} rows/s ===",
+                    initialized, scanned - initialized, scanned,
+                    System.currentTimeMillis() - startTime, rowsPerSecond(scanned, startTime));
+            viewCountService.completeWarmUp();
 
         } catch (Exception e) {
-            log.error("조회수 초기화 중 에러 발생", e);
+            // 적재 중 표시를 유지 → 적재되지 않은 게시글은 조회 시 DB 값으로 채워짐
+            log.error("조회수 초기화 중 에러 발생: 조회={}, 적재={}", scanned, initialized, e);
         }
     }
+
+    private static long rowsPerSecond(long rows, long startTime) {
+        return rows * 1000 / Math.max(1L, System.currentTimeMillis() - startTime);
+    }
 }
@@ -0,0 +1,102 @@
+package com.example.hightraffic.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * 가상 스레드 실행 모드 설정 (spring.threads.virtual.enabled=true, Java 21)
+ *
+ * Spring Boot가 구성하는 부분:
+ * - Tomcat 요청 처리: 요청마다 가상 스레드 (server.tomcat.threads.max는 적용되지 않음)
+ * - @Scheduled: SimpleAsyncTaskScheduler (가상 스레드, spring.task.scheduling.pool.size는 적용되지 않음)
+ * - @Async / 게시글 상세 병렬 로딩: AsyncConfig에서 동시 실행 수를 제한한 가상 스레드 Executor로 교체
+ *
+ * 이 설정이 추가하는 안전장치:
+ * - 요청 스레드 수가 사실상 무제한이 되므로 커넥션 자원 앞에 Semaphore를 둠
+ * - DB: Hikari DataSource를 ConcurrencyLimitedDataSource로 감쌈 (기본 permits = maximum-pool-size)
+ * - Redis: stringRedisTemplate을 ConcurrencyLimitedStringRedisTemplate으로 교체
+ * - 한도/대기 스레드 수는 virtualthread.permits.* 게이지로 노출
+ *
+ * 주의:
+ * - synchronized 블록 안에서 I/O를 하면 캐리어 스레드가 고정(pinning)됨 → 새 코드는 ReentrantLock 사용
+ *   (고정 여부 확인: -Djdk.tracePinnedThreads=short)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    /**
+     * Hikari DataSource를 동시 접근 제한 DataSource로 감쌈
+     * - BeanPostProcessor는 다른 빈보다 먼저 생성되어야 하므로 static, 설정은 Environment에서 직접 읽음
+     */
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikariDataSource)) {
+                    return bean;
+                }
+                int maxConcurrency = environment.getProperty("app.virtual-threads.db.max-concurrency", Integer.class, 0);
+                if (maxConcurrency <= 0) {
+                    maxConcurrency = hikariDataSource.getMaximumPoolSize();
+                }
+                long acquireTimeoutMs = environment.getProperty("app.virtual-threads.db.acquire-timeout-ms", Long.class, 3000L);
+                log.info("가상 스레드 모드: DB 동시 접근 제한 적용 (maxConcurrency={}, acquireTimeout={}ms)",
+                        maxConcurrency, acquireTimeoutMs);
+                return new ConcurrencyLimitedDataSource(hikariDataSource, maxConcurrency, acquireTimeoutMs);
+            }
+        };
+    }
+
+    /**
+     * 동시 실행 수를 제한한 stringRedisTemplate (Spring Boot 기본 빈 대체)
+     */
+    @Bean
+    public StringRedisTemplate stringRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            @Value("${app.virtual-threads.redis.max-concurrency:64}") int maxConcurrency,
+            @Value("${app.virtual-threads.redis.acquire-timeout-ms:500}") long acquireTimeoutMs) {
+        log.info("가상 스레드 모드: Redis 동시 실행 제한 적용 (maxConcurrency={}, acquireTimeout={}ms)",
+                maxConcurrency, acquireTimeoutMs);
+        return new ConcurrencyLimitedStringRedisTemplate(connectionFactory, maxConcurrency, acquireTimeoutMs);
+    }
+
+    /**
+     * Semaphore 상태 게이지 (가용 permits, 대기 스레드 수)
+     */
+    @Bean
+    public MeterBinder virtualThreadPermitMetrics(DataSource dataSource, StringRedisTemplate stringRedisTemplate) {
+        return registry -> {
+            if (dataSource instanceof ConcurrencyLimitedDataSource limited) {
+                Gauge.builder("virtualthread.permits.available", limited, ConcurrencyLimitedDataSource::getAvailablePermits)
+                        .tag("resource", "db")
+                        .register(registry);
+                Gauge.builder("virtualthread.permits.waiting", limited, ConcurrencyLimitedDataSource::getWaitingThreads)
+                        .tag("resource", "db")
+                        .register(registry);
+            }
+            if (stringRedisTemplate instanceof ConcurrencyLimitedStringRedisTemplate limited) {
+                Gauge.builder("virtualthread.permits.available", limited, ConcurrencyLimitedStringRedisTemplate::getAvailablePermits)
+                        .tag("resource", "redis")
+                        .register(registry);
+                Gauge.builder("virtualthread.permits.waiting", limited, ConcurrencyLimitedStringRedisTemplate::getWaitingThreads)
+                        .tag("resource", "redis")
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -1,13 +1,17 @@
 package com.example.hightraffic.controller;
 
 import com.example.hightraffic.dto.*;
+import com.example.hightraffic.interceptor.RateLimited;
 import com.example.hightraffic.service.CommentService;
+import com.example.hightraffic.service.CommentStreamService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -30,6 +34,7 @@ import java.util.List;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     // ==================== 2 Depth 방식 API ====================
 
@@ -46,6 +51,7 @@ public class CommentController {
      *   "author": "작성자"
      * }
      */
+    @RateLimited(limit = 30, name = "comment-write")
     @PostMapping("/two-depth")
     public ResponseEntity<CommentResponse> createCommentTwoDepth(@Valid @RequestBody CommentCreateRequest request) {
         log.info("댓글 생성 요청 (2 depth): postId={}, parentId={}", request.getPostId(), request.getParentId());
@@ -79,6 +85,45 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 스레드 페이지 조회 (2 Depth 방식, 커서 기반)
+     *
+     * GET /api/comments/two-depth/threads?postId=1&cursor=...&size=20&replySize=3
+     *
+     * - 루트 댓글 size개와 각 스레드의 첫 replySize개 답글
+     * - replyCount: 스레드의 전체 답글 수
+     * - nextReplyCursor: 답글 더보기 커서 (GET /api/comments/{id}/replies?cursor=...)
+     */
+    @GetMapping("/two-depth/threads")
+    public ResponseEntity<KeysetPageResponse<CommentWithRepliesResponse>> getCommentThreads(
+            @RequestParam Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "3") int replySize
+    ) {
+        log.info("스레드 페이지 조회 요청 (2 depth): postId={}, size={}, replySize={}", postId, size, replySize);
+        KeysetPageResponse<CommentWithRepliesResponse> response =
+                commentService.getCommentThreads(postId, cursor, size, replySize);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 답글 더보기 (특정 댓글의 직계 답글, 커서 기반)
+     *
+     * GET /api/comments/{id}/replies?cursor=...&size=20
+     */
+    @GetMapping("/{id}/replies")
+    public ResponseEntity<KeysetPageResponse<CommentWithRepliesResponse.ReplyResponse>> getReplies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("답글 조회 요청: id={}, size={}", id, size);
+        KeysetPageResponse<CommentWithRepliesResponse.ReplyResponse> response =
+                commentService.getReplies(id, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== 무한 Depth 방식 API ====================
 
     /**
@@ -94,6 +139,7 @@ public class CommentController {
      *   "author": "작성자"
      * }
      */
+    @RateLimited(limit = 30, name = "comment-write")
     @PostMapping("/infinite-depth")
     public ResponseEntity<CommentResponse> createCommentInfiniteDepth(@Valid @RequestBody CommentCreateRequest request) {
         log.info("댓글 생성 요청 (무한 depth): postId={}, parentId={}", request.getPostId(), request.getParentId());
@@ -137,6 +183,91 @@ public class CommentController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 스레드 목록 조회 (무한 Depth 방식, 경로 열거 기반)
+     *
+     * GET /api/comments/infinite-depth/threads?postId=1&cursor=10&size=10
+     *
+     * - 루트 댓글 size개와 각 스레드의 모든 하위 댓글을 트리 순서로 반환
+     * - cursor: 이전 응답의 nextCursor (마지막 루트 댓글 ID)
+     * - 게시글 전체 댓글을 읽지 않으므로 댓글이 많은 게시글에 사용
+     * - 행 수 제한(app.comment.path.max-tree-rows)을 넘으면 루트 댓글이 size개보다 적게 올 수 있음 (hasNext로 판단)
+     * - truncated=true인 댓글은 하위 댓글 일부가 빠진 상태 → /api/comments/{id}/children으로 이어서 조회
+     */
+    @GetMapping("/infinite-depth/threads")
+    public ResponseEntity<CursorPageResponse<CommentTreeResponse>> getThreads(
+            @RequestParam Long postId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("댓글 스레드 조회 요청: postId={}, cursor={}, size={}", postId, cursor, size);
+        CursorPageResponse<CommentTreeResponse> response = commentService.getThreads(postId, cursor, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 댓글 목록 조회 (무한 Depth 방식, 스트리밍)
+     *
+     * GET /api/comments/infinite-depth/stream?postId=1
+     *
+     * - 응답 형식은 /api/comments/infinite-depth와 같은 트리 배열
+     * - 댓글을 트리 순서로 읽으면서 바로 출력 → 메모리 사용량이 댓글 수가 아닌 트리 깊이에 비례
+     * - 댓글이 매우 많은 게시글에 사용
+     */
+    @GetMapping("/infinite-depth/stream")
+    public ResponseEntity<StreamingResponseBody> streamCommentsInfiniteDepth(@RequestParam Long postId) {
+        log.info("댓글 목록 스트리밍 요청 (무한 depth): postId={}", postId);
+        StreamingResponseBody body = outputStream -> commentStreamService.writePostTree(postId, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 서브트리 조회 (스트리밍)
+     *
+     * GET /api/comments/{id}/subtree/stream
+     */
+    @GetMapping("/{id}/subtree/stream")
+    public ResponseEntity<StreamingResponseBody> streamSubtree(@PathVariable Long id) {
+        log.info("댓글 서브트리 스트리밍 요청: id={}", id);
+        // 응답 헤더를 보내기 전에 존재 여부 확인 (스트리밍 시작 후에는 404를 보낼 수 없음)
+        CommentStreamService.Subtree subtree = commentStreamService.findSubtree(id);
+        StreamingResponseBody body = outputStream -> commentStreamService.writeSubtree(subtree, outputStream);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
+    /**
+     * 서브트리 조회 (특정 댓글과 모든 하위 댓글)
+     *
+     * GET /api/comments/{id}/subtree
+     *
+     * - 행 수 제한을 넘으면 하위 댓글 일부가 빠진 댓글에 truncated=true
+     */
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<CommentTreeResponse> getSubtree(@PathVariable Long id) {
+        log.info("댓글 서브트리 조회 요청: id={}", id);
+        CommentTreeResponse response = commentService.getSubtree(id);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 직계 자식 댓글 조회 (한 단계)
+     *
+     * GET /api/comments/{id}/children?size=50
+     */
+    @GetMapping("/{id}/children")
+    public ResponseEntity<List<CommentResponse>> getChildren(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        log.info("직계 자식 댓글 조회 요청: id={}, size={}", id, size);
+        List<CommentResponse> response = commentService.getChildren(id, size);
+        return ResponseEntity.ok(response);
+    }
+
     // ==================== 공통 API ====================
 
     /**
@@ -156,6 +287,7 @@ public class CommentController {
      *
      * PUT /api/comments/{id}
      */
+    @RateLimited(limit = 30, name = "comment-write")
     @PutMapping("/{id}")
     public ResponseEntity<CommentResponse> updateComment(
             @PathVariable Long id,
@@ -175,6 +307,7 @@ public class CommentController {
      * - 자식 댓글이 있으면: 소프트 삭제 (내용만 "삭제된 댓글입니다"로 변경)
      * - 자식 댓글이 없으면: 실제 삭제
      */
+    @RateLimited(limit = 30, name = "comment-write")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long id) {
         log.info("댓글 삭제 요청: id={}", id);
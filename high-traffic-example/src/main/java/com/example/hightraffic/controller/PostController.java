@@ -1,14 +1,20 @@
 package com.example.hightraffic.controller;
 
 import com.example.hightraffic.dto.*;
+import com.example.hightraffic.interceptor.RateLimited;
+import com.example.hightraffic.service.PageDirection;
 import com.example.hightraffic.service.PostService;
+import com.example.hightraffic.service.RankingPeriod;
+import com.example.hightraffic.service.ViewStatsStep;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -34,6 +40,7 @@ public class PostController {
      *
      * POST /api/posts
      */
+    @RateLimited(limit = 30, name = "post-write")
     @PostMapping
     public ResponseEntity<PostResponse> createPost(@Valid @RequestBody PostCreateRequest request) {
         log.info("게시글 생성 요청: title={}", request.getTitle());
@@ -46,6 +53,7 @@ public class PostController {
      *
      * GET /api/posts/{id}
      */
+    @RateLimited(limit = 300)
     @GetMapping("/{id}")
     public ResponseEntity<PostResponse> getPost(@PathVariable Long id) {
         log.info("게시글 조회 요청: id={}", id);
@@ -53,6 +61,47 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시글 순 방문자 통계
+     *
+     * GET /api/posts/{id}/stats/visitors?days=7
+     *
+     * - total: 누적, lastWeek / lastMonth: 최근 7일 / 30일 (PFMERGE 롤업)
+     * - daily: 오늘부터 days일의 일별 순 방문자
+     * - HyperLogLog 추정값 (표준 오차 약 0.81%)
+     */
+    @RateLimited(limit = 300)
+    @GetMapping("/{id}/stats/visitors")
+    public ResponseEntity<UniqueVisitorStatsResponse> getUniqueVisitorStats(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "7") int days
+    ) {
+        log.info("게시글 순 방문자 통계 조회 요청: id={}, days={}", id, days);
+        UniqueVisitorStatsResponse response = postService.getUniqueVisitorStats(id, days);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글 조회수 시계열
+     *
+     * GET /api/posts/{id}/stats?from=2024-08-01T00:00:00&to=2024-08-08T00:00:00&step=DAY
+     *
+     * - step: MINUTE (최근 분 버킷만) / HOUR / DAY
+     * - 압축된 구간은 MySQL 시간/일 단위 행, 최근 구간은 Redis 분 버킷에서 합산
+     */
+    @RateLimited(limit = 300)
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<ViewStatsResponse> getViewStats(
+            @PathVariable Long id,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "HOUR") ViewStatsStep step
+    ) {
+        log.info("게시글 조회수 시계열 요청: id={}, from={}, to={}, step={}", id, from, to, step);
+        ViewStatsResponse response = postService.getViewStats(id, from, to, step);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 게시글 목록 조회 - 페이지 번호 방식
      *
@@ -117,11 +166,41 @@ public class PostController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 게시글 목록 조회 - 복합 키셋 방식 (createdAt, id, 양방향)
+     *
+     * GET /api/posts/keyset?cursor=...&direction=NEXT&size=10
+     *
+     * - cursor: 이전 응답의 nextCursor 또는 prevCursor (첫 요청 시 null)
+     * - direction: NEXT(더 오래된 게시글) / PREV(더 최신 게시글)
+     *
+     * 응답 예시:
+     * {
+     *   "content": [...],
+     *   "nextCursor": "MjAyNC0wMS0wMVQxMjowMDowMC4xMjM0NTZfOTA",
+     *   "prevCursor": "MjAyNC0wMS0wMVQxMjowNTowMC42NTQzMjFfMTAw",
+     *   "hasNext": true,
+     *   "hasPrevious": true,
+     *   "size": 10
+     * }
+     */
+    @GetMapping("/keyset")
+    public ResponseEntity<KeysetPageResponse<PostListResponse>> getPostsByKeyset(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "NEXT") PageDirection direction,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("게시글 목록 조회 요청 (키셋): direction={}, size={}", direction, size);
+        KeysetPageResponse<PostListResponse> response = postService.getPostsByKeyset(cursor, direction, size);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 게시글 수정
      *
      * PUT /api/posts/{id}
      */
+    @RateLimited(limit = 30, name = "post-write")
     @PutMapping("/{id}")
     public ResponseEntity<PostResponse> updatePost(
             @PathVariable Long id,
@@ -137,6 +216,7 @@ public class PostController {
      *
      * DELETE /api/posts/{id}
      */
+    @RateLimited(limit = 30, name = "post-write")
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> deletePost(@PathVariable Long id) {
         log.info("게시글 삭제 요청: id={}", id);
@@ -147,48 +227,92 @@ public class PostController {
     /**
      * 좋아요 증가
      *
-     * POST /api/posts/{id}/like
+     * POST /api/posts/{id}/like?userId=42
+     *
+     * - userId: 사용자 ID (필수, 같은 사용자의 중복 좋아요는 무시, 생략 시 400)
      */
+    @RateLimited(limit = 60, name = "post-like")
     @PostMapping("/{id}/like")
-    public ResponseEntity<PostResponse> increaseLike(@PathVariable Long id) {
-        log.info("좋아요 증가 요청: id={}", id);
-        PostResponse response = postService.increaseLike(id);
+    public ResponseEntity<PostResponse> increaseLike(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long userId
+    ) {
+        log.info("좋아요 증가 요청: id={}, userId={}", id, userId);
+        PostResponse response = postService.increaseLike(id, userId);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 좋아요 감소
      *
-     * DELETE /api/posts/{id}/like
+     * DELETE /api/posts/{id}/like?userId=42
+     *
+     * - userId: 사용자 ID (필수, 좋아요를 누르지 않은 사용자의 취소는 무시, 생략 시 400)
      */
+    @RateLimited(limit = 60, name = "post-like")
     @DeleteMapping("/{id}/like")
-    public ResponseEntity<PostResponse> decreaseLike(@PathVariable Long id) {
-        log.info("좋아요 감소 요청: id={}", id);
-        PostResponse response = postService.decreaseLike(id);
+    public ResponseEntity<PostResponse> decreaseLike(
+            @PathVariable Long id,
+            @RequestParam(required = false) Long userId
+    ) {
+        log.info("좋아요 감소 요청: id={}, userId={}", id, userId);
+        PostResponse response = postService.decreaseLike(id, userId);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 조회수 상위 게시글 조회
      *
-     * GET /api/posts/top/viewed
+     * GET /api/posts/top/viewed?period=ALL&size=10
+     *
+     * - period: ALL (누적) 또는 DAILY (오늘)
+     * - size: 조회할 게시글 수 (최대 100)
      */
     @GetMapping("/top/viewed")
-    public ResponseEntity<List<PostListResponse>> getTopViewedPosts() {
-        log.info("조회수 상위 게시글 조회 요청");
-        List<PostListResponse> response = postService.getTopViewedPosts();
+    public ResponseEntity<List<PostListResponse>> getTopViewedPosts(
+            @RequestParam(defaultValue = "ALL") RankingPeriod period,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("조회수 상위 게시글 조회 요청: period={}, size={}", period, size);
+        List<PostListResponse> response = postService.getTopViewedPosts(period, size);
         return ResponseEntity.ok(response);
     }
 
     /**
      * 좋아요 상위 게시글 조회
      *
-     * GET /api/posts/top/liked
+     * GET /api/posts/top/liked?period=ALL&size=10
+     *
+     * - period: ALL (누적) 또는 DAILY (오늘)
+     * - size: 조회할 게시글 수 (최대 100)
      */
     @GetMapping("/top/liked")
-    public ResponseEntity<List<PostListResponse>> getTopLikedPosts() {
-        log.info("좋아요 상위 게시글 조회 요청");
-        List<PostListResponse> response = postService.getTopLikedPosts();
+    public ResponseEntity<List<PostListResponse>> getTopLikedPosts(
+            @RequestParam(defaultValue = "ALL") RankingPeriod period,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("좋아요 상위 게시글 조회 요청: period={}, size={}", period, size);
+        List<PostListResponse> response = postService.getTopLikedPosts(period, size);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 트렌딩 게시글 조회
+     *
+     * GET /api/posts/trending?size=20&cursor=...
+     *
+     * - 조회/좋아요에 시간 감쇠(반감기 app.trending.half-life-hours)를 적용한 점수 순
+     * - cursor: 이전 응답의 nextCursor (첫 페이지는 생략)
+     * - size: 페이지 크기 (최대 100)
+     */
+    @RateLimited(limit = 300)
+    @GetMapping("/trending")
+    public ResponseEntity<KeysetPageResponse<PostListResponse>> getTrendingPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        log.info("트렌딩 게시글 조회 요청: cursor={}, size={}", cursor, size);
+        KeysetPageResponse<PostListResponse> response = postService.getTrendingPosts(cursor, size);
         return ResponseEntity.ok(response);
     }
 }
@@ -1,21 +1,17 @@
 package com.example.hightraffic.controller;
 
-import com.example.hightraffic.dto.CommentWithRepliesResponse;
-import com.example.hightraffic.dto.PostResponse;
-import com.example.hightraffic.service.CommentService;
+import com.example.hightraffic.dto.PostPageResponse;
+import com.example.hightraffic.service.PostPageService;
 import com.example.hightraffic.service.PostService;
 import com.example.hightraffic.util.RequestUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestParam;
 
-import java.util.List;
-
 /**
  * Thymeleaf 뷰 컨트롤러
  */
@@ -24,7 +20,7 @@ import java.util.List;
 public class ViewController {
 
     private final PostService postService;
-    private final CommentService commentService;
+    private final PostPageService postPageService;
 
     /**
      * 홈 화면 (게시글 목록으로 리다이렉트)
@@ -56,6 +52,8 @@ public class ViewController {
      * 1. 클라이언트 IP 추출
      * 2. Redis 기반 조회수 증가 (5초 중복 방지)
      * 3. 화면에 Redis 조회수 표시
+     *
+     * 본문/댓글/카운터는 PostPageService가 병렬로 조회 (느린 단계는 대체값으로 화면 제공)
      */
     @GetMapping("/posts/{id}")
     public String viewPost(
@@ -66,15 +64,13 @@ public class ViewController {
         // 클라이언트 IP 추출
         String clientIp = RequestUtils.getClientIp(request);
 
-        // 게시글 조회 (조회수 증가 포함)
-        PostResponse post = postService.getPostWithViewCount(id, clientIp);
-
-        // 댓글 조회 (2 depth 방식)
-        List<CommentWithRepliesResponse> comments = commentService.getCommentsTwoDepth(id);
+        // 게시글 + 댓글(2 depth 방식) + 댓글 수 조회 (조회수 증가 포함)
+        PostPageResponse page = postPageService.getPostPage(id, clientIp);
 
-        model.addAttribute("post", post);
-        model.addAttribute("comments", comments);
-        model.addAttribute("commentCount", commentService.getActiveCommentCount(id));
+        model.addAttribute("post", page.getPost());
+        model.addAttribute("comments", page.getComments());
+        model.addAttribute("commentCount", page.getCommentCount());
+        model.addAttribute("degraded", page.isDegraded());
 
         return "posts/detail";
     }
@@ -27,9 +27,23 @@ import java.time.LocalDateTime;
  * - 자식 댓글이 있는 경우: 내용만 삭제 표시 ("삭제된 댓글입니다")
  * - 자식 댓글이 없는 경우: 실제 삭제 가능
  *
+ * 경로 열거 (Materialized Path):
+ * - path = 루트부터 자신까지의 댓글 ID를 고정 길이(8자리) base36으로 이어 붙인 문자열
+ *   예) 루트 1 → 대댓글 5 → 대대댓글 9 : "00000001" + "00000005" + "00000009"
+ * - path 순 정렬 = 트리 순서 (부모 다음에 자식, 형제는 ID 순 = 작성 순)
+ * - 서브트리 = path LIKE '{부모 path}%' → 인덱스 범위 스캔 1회
+ * - ID는 INSERT 후에 정해지므로 저장 직후 assignPath()로 채움
+ * - 기존 행은 CommentPathMigrator가 채움 (path가 null인 행은 트리 조회 대상에서 제외)
+ *
+ * 답글 수 (replyCount):
+ * - 답글 생성/실제 삭제 시 부모 행을 UPDATE ... SET reply_count = reply_count + ?로 원자적 갱신
+ * - 소프트 삭제된 답글은 목록에 "삭제된 댓글입니다"로 남으므로 개수 유지
+ *
  * 인덱스 전략:
  * - (postId, parentId, createdAt): 특정 게시글의 댓글 조회 최적화
  * - (postId, depth, createdAt): depth별 조회 최적화
+ * - (postId, path): 서브트리 / 스레드 범위 조회 (트리 순서)
+ * - (postId, depth, path): 한 단계(루트 목록, 특정 댓글의 직계 자식)를 트리 순서로 조회
  */
 @Entity
 @Table(
@@ -37,13 +51,23 @@ import java.time.LocalDateTime;
     indexes = {
         @Index(name = "idx_post_parent_created", columnList = "post_id, parent_id, created_at"),
         @Index(name = "idx_post_depth_created", columnList = "post_id, depth, created_at"),
-        @Index(name = "idx_parent_id", columnList = "parent_id")
+        @Index(name = "idx_parent_id", columnList = "parent_id"),
+        @Index(name = "idx_post_path", columnList = "post_id, path"),
+        @Index(name = "idx_post_depth_path", columnList = "post_id, depth, path")
     }
 )
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
 
+    // path 세그먼트 길이 (base36 8자리 = 약 2.8조개의 ID 표현 가능)
+    public static final int PATH_SEGMENT_LENGTH = 8;
+
+    // path 최대 길이 (utf8mb4 인덱스 키 제한 3072 bytes 이내) → 세그먼트 95개 = 최대 depth 94 (루트가 depth 0)
+    public static final int MAX_PATH_LENGTH = 760;
+
+    public static final int MAX_PATH_DEPTH = MAX_PATH_LENGTH / PATH_SEGMENT_LENGTH - 1;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -69,6 +93,13 @@ public class Comment extends BaseEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    @Column(length = MAX_PATH_LENGTH)
+    private String path;
+
+    // 직계 답글 수 (비정규화, null이면 아직 계산 전 → CommentReplyCountBackfill이 채움)
+    @Column(name = "reply_count")
+    private Integer replyCount;
+
     @Builder
     public Comment(Long postId, Long parentId, String content, String author, Integer depth) {
         this.postId = postId;
@@ -77,6 +108,7 @@ public class Comment extends BaseEntity {
         this.author = author;
         this.depth = depth != null ? depth : 0;
         this.isDeleted = false;
+        this.replyCount = 0;
     }
 
     /**
@@ -98,6 +130,34 @@ public class Comment extends BaseEntity {
         this.content = "삭제된 댓글입니다.";
     }
 
+    /**
+     * 경로 지정 (저장 후 ID가 생성된 다음 호출)
+     *
+     * @param parentPath 부모 댓글의 path (루트 댓글이면 null)
+     */
+    public void assignPath(String parentPath) {
+        String segment = pathSegment(this.id);
+        this.path = parentPath != null ? parentPath + segment : segment;
+    }
+
+    /**
+     * 답글 수 초기화 (백필 전용, 평소에는 CommentRepository.addReplyCount로 원자적 증감)
+     */
+    public void initReplyCount(int replyCount) {
+        this.replyCount = replyCount;
+    }
+
+    /**
+     * 댓글 ID → 고정 길이 base36 세그먼트 (문자열 정렬 = 숫자 정렬)
+     */
+    public static String pathSegment(Long id) {
+        String base36 = Long.toString(id, 36);
+        if (base36.length() > PATH_SEGMENT_LENGTH) {
+            throw new IllegalStateException("댓글 ID가 path 세그먼트 범위를 초과했습니다: id=" + id);
+        }
+        return "0".repeat(PATH_SEGMENT_LENGTH - base36.length()) + base36;
+    }
+
     /**
      * 최상위 댓글인지 확인
      */
@@ -23,7 +23,8 @@ import lombok.NoArgsConstructor;
 @Table(
     name = "posts",
     indexes = {
-        @Index(name = "idx_created_at", columnList = "created_at"),
+        // 이전 idx_created_at(created_at 단일)을 대체, 기존 DB의 이전 인덱스는 PostIndexMigrator가 삭제
+        @Index(name = "idx_created_at_id", columnList = "created_at, id"),
         @Index(name = "idx_title", columnList = "title"),
         @Index(name = "idx_author", columnList = "author")
     }
@@ -51,6 +52,13 @@ public class Post extends BaseEntity {
     @Column(nullable = false)
     private Long likeCount;
 
+    // 댓글 수 / 삭제되지 않은 댓글 수 (Redis 카운터의 Write-Behind 사본, null이면 아직 계산 전)
+    @Column(name = "comment_count")
+    private Long commentCount;
+
+    @Column(name = "active_comment_count")
+    private Long activeCommentCount;
+
     @Builder
     public Post(String title, String content, String author) {
         this.title = title;
@@ -58,6 +66,8 @@ public class Post extends BaseEntity {
         this.author = author;
         this.viewCount = 0L;
         this.likeCount = 0L;
+        this.commentCount = 0L;
+        this.activeCommentCount = 0L;
     }
 
     /**
@@ -0,0 +1,57 @@
+package com.example.hightraffic.domain;
+
+import com.example.hightraffic.service.ViewStatsStep;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 조회수 시계열 (시간/일 단위 집계 행)
+ *
+ * - ViewStatsService 압축기가 Redis 분 단위 버킷을 합산하여 JDBC batch로 저장
+ * - 조회수가 없는 구간은 행이 없음 (0으로 간주)
+ *
+ * 인덱스 전략:
+ * - (post_id, granularity, bucket_start): 게시글별 구간 조회 + 중복 방지
+ * - (granularity, bucket_start): 일 단위 합산 (압축 진행 위치는 ViewStatsCompaction)
+ */
+@Entity
+@Table(
+    name = "post_view_stats",
+    uniqueConstraints = @UniqueConstraint(name = "uk_post_granularity_bucket",
+            columnNames = {"post_id", "granularity", "bucket_start"}),
+    indexes = @Index(name = "idx_granularity_bucket", columnList = "granularity, bucket_start")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PostViewStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ViewStatsStep granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(nullable = false)
+    private Long views;
+}
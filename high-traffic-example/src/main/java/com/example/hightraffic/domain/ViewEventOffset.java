@@ -0,0 +1,42 @@
+package com.example.hightraffic.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조회 이벤트 반영 위치 (토픽 파티션별 마지막으로 DB에 반영한 offset)
+ *
+ * 조회수 증가분과 같은 트랜잭션에서 저장하므로:
+ * - 커밋 후 Kafka offset 커밋 전에 장애가 나도 재전달된 이벤트를 건너뜀 (중복 집계 없음)
+ * - DB를 백업 시점으로 복구하면 이 테이블도 함께 복구되어, 이후 이벤트만 다시 반영됨
+ */
+@Entity
+@Table(name = "view_event_offsets")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ViewEventOffset {
+
+    // {topic}-{partition}
+    @Id
+    @Column(name = "topic_partition", length = 255)
+    private String topicPartition;
+
+    @Column(name = "applied_offset", nullable = false)
+    private Long appliedOffset;
+
+    public ViewEventOffset(String topicPartition, long appliedOffset) {
+        this.topicPartition = topicPartition;
+        this.appliedOffset = appliedOffset;
+    }
+
+    public void advance(long offset) {
+        if (offset > appliedOffset) {
+            this.appliedOffset = offset;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hightraffic.domain;
+
+import com.example.hightraffic.service.ViewStatsStep;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회수 시계열 압축 완료 기록 (구간마다 1행)
+ *
+ * - 시간 단위: 마지막 청크까지 커밋된 뒤에 기록 → 중간에 장애가 나면 기록이 없어 다음 압축에서 다시 처리
+ * - 일 단위: 합산과 같은 트랜잭션에서 기록
+ * - 압축 진행 위치 = 단위별 가장 최근 완료 구간 (post_view_stats 행의 MAX는 부분 압축된 시간을 가리킬 수 있음)
+ */
+@Entity
+@Table(
+    name = "view_stats_compactions",
+    uniqueConstraints = @UniqueConstraint(name = "uk_compaction_granularity_bucket",
+            columnNames = {"granularity", "bucket_start"})
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ViewStatsCompaction {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private ViewStatsStep granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+}
@@ -1,6 +1,7 @@
 package com.example.hightraffic.dto;
 
 import com.example.hightraffic.domain.Comment;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -38,6 +39,10 @@ public class CommentTreeResponse {
     @Builder.Default
     private List<CommentTreeResponse> children = new ArrayList<>();
 
+    // 조회 행 수 제한(max-tree-rows)으로 하위 댓글이 일부만 포함되었으면 true (나머지는 /children으로 조회)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Boolean truncated;
+
     public static CommentTreeResponse from(Comment comment) {
         return CommentTreeResponse.builder()
                 .id(comment.getId())
@@ -57,6 +62,10 @@ public class CommentTreeResponse {
         this.children.add(child);
     }
 
+    public void markTruncated() {
+        this.truncated = true;
+    }
+
     /**
      * 자식 댓글 개수 (재귀적으로 계산)
      */
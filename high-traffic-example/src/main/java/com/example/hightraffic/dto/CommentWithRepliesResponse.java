@@ -16,6 +16,11 @@ import java.util.List;
  * 구조:
  * - 댓글 (depth 0)
  *   - 대댓글 목록 (depth 1)
+ *
+ * 스레드 페이지 조회 시:
+ * - replies에는 처음 N개만 포함
+ * - replyCount: 전체 답글 수 (비정규화 컬럼)
+ * - nextReplyCursor: 남은 답글 조회용 커서 (GET /api/comments/{id}/replies, 없으면 null)
  */
 @Getter
 @Builder
@@ -30,6 +35,8 @@ public class CommentWithRepliesResponse {
     private Boolean isDeleted;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Integer replyCount;
+    private String nextReplyCursor;
 
     @Builder.Default
     private List<ReplyResponse> replies = new ArrayList<>();
@@ -43,6 +50,7 @@ public class CommentWithRepliesResponse {
                 .isDeleted(comment.getIsDeleted())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .replyCount(comment.getReplyCount())
                 .replies(new ArrayList<>())
                 .build();
     }
@@ -51,6 +59,10 @@ public class CommentWithRepliesResponse {
         this.replies.add(ReplyResponse.from(reply));
     }
 
+    public void setNextReplyCursor(String nextReplyCursor) {
+        this.nextReplyCursor = nextReplyCursor;
+    }
+
     @Getter
     @Builder
     @NoArgsConstructor
@@ -0,0 +1,29 @@
+package com.example.hightraffic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 복합 키셋 페이지네이션 응답 DTO (createdAt, id 기준, 양방향)
+ *
+ * - nextCursor: 더 오래된 게시글 방향 (direction=NEXT)
+ * - prevCursor: 더 최신 게시글 방향 (direction=PREV)
+ * - 커서는 불투명 문자열이므로 클라이언트는 그대로 다시 전달
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPageResponse<T> {
+
+    private List<T> content;
+    private String nextCursor;
+    private String prevCursor;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private int size;
+}
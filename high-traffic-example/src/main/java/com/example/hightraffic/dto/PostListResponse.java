@@ -13,7 +13,7 @@ import java.time.LocalDateTime;
  * 상세 내용을 제외하고 필요한 정보만 포함
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostListResponse {
@@ -0,0 +1,29 @@
+package com.example.hightraffic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 게시글 상세 화면 데이터 (게시글 + 댓글 + 댓글 수)
+ *
+ * degradedStages: 시간 초과/실패로 대체값을 사용한 단계 이름 (비어 있으면 모두 최신 값)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostPageResponse {
+
+    private PostResponse post;
+    private List<CommentWithRepliesResponse> comments;
+    private long commentCount;
+    private List<String> degradedStages;
+
+    public boolean isDegraded() {
+        return degradedStages != null && !degradedStages.isEmpty();
+    }
+}
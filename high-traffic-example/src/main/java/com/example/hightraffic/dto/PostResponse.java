@@ -9,7 +9,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class PostResponse {
@@ -20,6 +20,8 @@ public class PostResponse {
     private String author;
     private Long viewCount;
     private Long likeCount;
+    // 누적 순 방문자 수 (HyperLogLog 추정값, 캐시된 본문에는 없음)
+    private Long uniqueVisitors;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -36,6 +38,29 @@ public class PostResponse {
                 .build();
     }
 
+    /**
+     * 캐시된 게시글 본문에 최신 카운터를 합친 응답 생성 (원본은 변경하지 않음)
+     *
+     * @param viewCount Redis의 조회수
+     * @param likeCount Redis의 좋아요 수
+     * @return 카운터만 바뀐 PostResponse
+     */
+    public PostResponse withCounts(Long viewCount, Long likeCount) {
+        return toBuilder()
+                .viewCount(viewCount)
+                .likeCount(likeCount)
+                .build();
+    }
+
+    /**
+     * 순 방문자 수를 합친 응답 생성 (원본은 변경하지 않음)
+     */
+    public PostResponse withUniqueVisitors(Long uniqueVisitors) {
+        return toBuilder()
+                .uniqueVisitors(uniqueVisitors)
+                .build();
+    }
+
     /**
      * Post 엔티티와 Redis 조회수로 PostResponse 생성
      *
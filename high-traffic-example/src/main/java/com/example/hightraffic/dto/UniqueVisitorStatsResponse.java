@@ -0,0 +1,37 @@
+package com.example.hightraffic.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 게시글 순 방문자 통계 (HyperLogLog 추정값, 표준 오차 약 0.81%)
+ *
+ * - total: 누적 순 방문자
+ * - lastWeek / lastMonth: 최근 7일 / 30일 순 방문자 (오늘 포함, 여러 날 방문해도 1명)
+ * - daily: 일별 순 방문자 (오늘부터 과거 순)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UniqueVisitorStatsResponse {
+
+    private Long postId;
+    private long total;
+    private long lastWeek;
+    private long lastMonth;
+    private List<Daily> daily;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Daily {
+        private LocalDate date;
+        private long uniqueVisitors;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.hightraffic.dto;
+
+import com.example.hightraffic.service.ViewStatsStep;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 게시글 조회수 시계열
+ *
+ * - points: step 단위 구간별 조회수 (조회가 없는 구간은 0, 시간 순)
+ * - sources: 값을 읽은 보관 단계 (DAY/HOUR: MySQL 압축 행, MINUTE: Redis 분 버킷)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ViewStatsResponse {
+
+    private Long postId;
+    private ViewStatsStep step;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private List<ViewStatsStep> sources;
+    private List<Point> points;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Point {
+        private LocalDateTime bucketStart;
+        private long views;
+    }
+}
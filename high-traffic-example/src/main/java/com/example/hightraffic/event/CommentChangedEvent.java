@@ -0,0 +1,23 @@
+package com.example.hightraffic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 댓글 변경 이벤트 (생성, 소프트 삭제, 실제 삭제)
+ *
+ * 트랜잭션 커밋 후 게시글별 댓글 수 카운터에 증감분 반영 (CommentCountService)
+ * - 생성: total +1, active +1
+ * - 소프트 삭제: active -1
+ * - 실제 삭제: total -1, active -1 (이미 소프트 삭제된 댓글이면 active 0)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    private final Long postId;
+    private final int totalDelta;
+    private final int activeDelta;
+}
@@ -0,0 +1,28 @@
+package com.example.hightraffic.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 변경 이벤트 (생성, 수정, 삭제)
+ *
+ * 트랜잭션 커밋 후 처리:
+ * - 게시글 상세 캐시를 모든 노드에서 무효화 (PostCacheService)
+ * - 전체 게시글 수 카운터 갱신 (PostCountService)
+ * - 삭제된 게시글의 Redis 카운터/랭킹 정리 (PostCleanupService)
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class PostChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long postId;
+    private final Type type;
+}
@@ -0,0 +1,31 @@
+package com.example.hightraffic.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글 조회 이벤트 (Kafka 조회수 파이프라인, 중복 조회를 제외한 조회 1건)
+ *
+ * 메시지 크기를 줄이기 위해 JSON 필드명을 한 글자로 사용 ({"p":1,"t":1700000000000})
+ * - 사용자 식별자(IP)는 전송하지 않음 (중복 체크는 발행 전에 Redis에서 끝나고, 집계에는 필요 없음)
+ *   IP의 hashCode()는 32비트라 IPv4 전체를 쉽게 역산할 수 있어 개인정보 보호가 되지 않음
+ * - 이전 버전이 발행한 메시지의 "h" 필드는 무시 (배포 중 호환)
+ * - 메시지 키는 게시글 ID → 같은 게시글의 이벤트는 같은 파티션(같은 컨슈머)에서 집계
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class ViewEvent {
+
+    @JsonProperty("p")
+    private Long postId;
+
+    @JsonProperty("t")
+    private long timestamp;
+}
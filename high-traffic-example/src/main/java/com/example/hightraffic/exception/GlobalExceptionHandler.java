@@ -2,6 +2,7 @@ package com.example.hightraffic.exception;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -21,9 +22,15 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<Map<String, Object>> handleBusinessException(BusinessException e) {
-        log.error("Business Exception: {}", e.getMessage(), e);
+        if (e.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            // Rate Limit 거절은 어뷰징 시 대량 발생하므로 스택 트레이스 생략
+            log.warn("Business Exception: {}", e.getMessage());
+        } else {
+            log.error("Business Exception: {}", e.getMessage(), e);
+        }
 
         Map<String, Object> errorResponse = createErrorResponse(e.getMessage(), e.getStatus());
+        HttpHeaders headers = new HttpHeaders();
 
         // 429 Too Many Requests 에러일 때 Retry-After 정보 추가
         if (e.getStatus().value() == 429) {
@@ -36,6 +43,7 @@ public class GlobalExceptionHandler {
                     if (!numberPart.isEmpty()) {
                         int retryAfterSeconds = Integer.parseInt(numberPart);
                         errorResponse.put("retryAfter", retryAfterSeconds);
+                        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
                     }
                 } catch (Exception ex) {
                     // 파싱 실패 시 무시
@@ -45,6 +53,7 @@ public class GlobalExceptionHandler {
 
         return ResponseEntity
                 .status(e.getStatus())
+                .headers(headers)
                 .body(errorResponse);
     }
 
@@ -0,0 +1,121 @@
+package com.example.hightraffic.interceptor;
+
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.service.LocalRateLimiter;
+import com.example.hightraffic.service.RateLimitResult;
+import com.example.hightraffic.service.RateLimitService;
+import com.example.hightraffic.util.RequestUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * {@link RateLimited} API의 하이브리드 Rate Limit 인터셉터 (로컬 + Redis)
+ *
+ * 판정 순서:
+ * 1. 로컬 차단 캐시: 이미 전역 한도를 넘은 클라이언트 → 즉시 거절 (Redis 호출 0회)
+ * 2. 로컬 토큰 버킷: 이 노드에서만 봐도 한도를 넘은 요청 → 즉시 거절 (Redis 호출 0회)
+ * 3. Redis 전역 한도: 모든 노드 합산 한도 판정 (Lua 스크립트 1회)
+ *    - 거절되면 재시도 가능 시각까지 로컬 차단 캐시에 등록
+ *
+ * 장애 대응:
+ * - Redis 장애 시 요청을 허용 (fail-open), 로컬 계층은 계속 동작
+ *
+ * Redis Key:
+ * - ratelimit:api:{이름}:ip:{ip} (알고리즘에 따라 ratelimit:sliding:, ratelimit:gcra: Prefix)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+
+    private final RateLimitService rateLimitService;
+    private final LocalRateLimiter localRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        RateLimited rateLimited = handlerMethod.getMethodAnnotation(RateLimited.class);
+        if (rateLimited == null) {
+            return true;
+        }
+
+        String ip = RequestUtils.getClientIp(request);
+        String subject = "api:" + resolveName(rateLimited, handlerMethod) + ":ip:" + ip;
+        Duration window = Duration.ofSeconds(rateLimited.windowSeconds());
+
+        if (localRateLimiter.isEnabled()) {
+            // [1단계] 이미 한도를 넘은 클라이언트
+            long blockedMillis = localRateLimiter.getBlockedMillis(subject);
+            if (blockedMillis > 0) {
+                throw reject("blocked", subject, blockedMillis);
+            }
+
+            // [2단계] 로컬 토큰 버킷
+            long waitMillis = localRateLimiter.tryConsume(subject, rateLimited.limit(), window);
+            if (waitMillis > 0) {
+                throw reject("local", subject, waitMillis);
+            }
+        }
+
+        // [3단계] Redis 전역 한도
+        RateLimitResult result;
+        try {
+            result = rateLimitService.tryAcquire(subject, rateLimited.limit(), window);
+        } catch (Exception e) {
+            log.warn("Rate Limit Redis 판정 실패, 요청 허용: subject={}", subject, e);
+            record("redis", "error");
+            return true;
+        }
+
+        if (!result.isAllowed()) {
+            localRateLimiter.block(subject, result.getRetryAfterMillis());
+            throw reject("redis", subject, result.getRetryAfterMillis());
+        }
+
+        record("redis", "allowed");
+        response.setHeader(REMAINING_HEADER, String.valueOf(result.getRemaining()));
+        return true;
+    }
+
+    private String resolveName(RateLimited rateLimited, HandlerMethod handlerMethod) {
+        if (!rateLimited.name().isEmpty()) {
+            return rateLimited.name();
+        }
+        return handlerMethod.getBeanType().getSimpleName() + "." + handlerMethod.getMethod().getName();
+    }
+
+    private BusinessException reject(String tier, String subject, long retryAfterMillis) {
+        record(tier, "rejected");
+        long retryAfterSeconds = Math.max(1L, (retryAfterMillis + 999) / 1000);
+        log.warn("Rate Limit 초과: subject={}, tier={}, retryAfter={}초", subject, tier, retryAfterSeconds);
+        return new BusinessException(
+                String.format("요청이 너무 많습니다. %d초 후에 다시 시도해주세요.", retryAfterSeconds),
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    private void record(String tier, String result) {
+        Counter.builder("ratelimit.decisions")
+                .description("Rate Limit 판정 수 (tier: 판정 계층)")
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.hightraffic.interceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드 단위 Rate Limit (클라이언트 IP 기준)
+ *
+ * 사용 예시:
+ * <pre>
+ * &#64;RateLimited(limit = 30, windowSeconds = 60)
+ * &#64;PostMapping
+ * public ResponseEntity&lt;PostResponse&gt; createPost(...)
+ * </pre>
+ *
+ * 초과 시 429 Too Many Requests + Retry-After 헤더로 응답합니다.
+ *
+ * @see RateLimitInterceptor
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimited {
+
+    /**
+     * 윈도우 내 최대 요청 수 (모든 노드 합산)
+     */
+    int limit();
+
+    /**
+     * 윈도우 크기 (초)
+     */
+    long windowSeconds() default 60;
+
+    /**
+     * 제한 단위 이름 (같은 이름을 가진 API는 한도를 공유)
+     * - 비어 있으면 "컨트롤러명.메서드명"
+     */
+    String name() default "";
+}
@@ -1,10 +1,16 @@
 package com.example.hightraffic.repository;
 
 import com.example.hightraffic.domain.Comment;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
@@ -73,4 +79,148 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * 삭제되지 않은 댓글만 조회
      */
     List<Comment> findByPostIdAndIsDeletedFalseOrderByCreatedAtAsc(Long postId);
+
+    // ==================== 경로 열거 (Materialized Path) ====================
+
+    /**
+     * 서브트리 조회 (트리 순서)
+     * - path LIKE '{prefix}%' → idx_post_path 범위 스캔 1회 (앞부분이 고정된 LIKE는 범위 조건으로 변환됨)
+     *
+     * @param pathPrefix 조회할 댓글의 path + "%"
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.path LIKE :pathPrefix ORDER BY c.path ASC")
+    List<Comment> findSubtreeByPath(@Param("postId") Long postId,
+                                    @Param("pathPrefix") String pathPrefix,
+                                    Pageable pageable);
+
+    /**
+     * 한 단계 조회 (특정 댓글의 직계 자식, 트리 순서)
+     * - (post_id, depth, path) 인덱스에서 depth 고정 + path 범위 스캔
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.depth = :depth AND c.path LIKE :pathPrefix "
+            + "ORDER BY c.path ASC")
+    List<Comment> findLevelByPath(@Param("postId") Long postId,
+                                  @Param("depth") Integer depth,
+                                  @Param("pathPrefix") String pathPrefix,
+                                  Pageable pageable);
+
+    /**
+     * 루트 댓글 path 조회 (afterPath 이후, 트리 순서)
+     * - 스레드 목록의 경계를 정하기 위해 사용 (path만 조회 → 커버링 인덱스)
+     */
+    @Query("SELECT c.path FROM Comment c WHERE c.postId = :postId AND c.depth = 0 AND c.path > :afterPath "
+            + "ORDER BY c.path ASC")
+    List<String> findRootPathsAfter(@Param("postId") Long postId,
+                                    @Param("afterPath") String afterPath,
+                                    Pageable pageable);
+
+    /**
+     * path 구간 조회 [fromPath, toPath) - 연속된 스레드 K개를 트리 순서로 조회
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.path >= :fromPath AND c.path < :toPath "
+            + "ORDER BY c.path ASC")
+    List<Comment> findByPathRange(@Param("postId") Long postId,
+                                  @Param("fromPath") String fromPath,
+                                  @Param("toPath") String toPath,
+                                  Pageable pageable);
+
+    /**
+     * path 구간 조회 [fromPath, 끝) - 마지막 스레드까지
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.path >= :fromPath ORDER BY c.path ASC")
+    List<Comment> findByPathFrom(@Param("postId") Long postId,
+                                 @Param("fromPath") String fromPath,
+                                 Pageable pageable);
+
+    /**
+     * path가 없는 댓글 조회 (마이그레이션용, 부모가 먼저 처리되도록 depth 순)
+     */
+    List<Comment> findByPathIsNullOrderByDepthAscIdAsc(Pageable pageable);
+
+    // ==================== 스레드 페이지 (2 Depth) ====================
+
+    /**
+     * 루트 댓글 첫 페이지 (createdAt, id 오름차순)
+     * - (post_id, parent_id, created_at) 인덱스: parent_id IS NULL도 인덱스 조건으로 사용됨
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootPageFirst(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 루트 댓글 다음 페이지 (커서 이후)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId IS NULL "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findRootPageAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
+
+    /**
+     * 답글 페이지 (특정 댓글의 직계 답글, 커서 이후)
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId = :parentId "
+            + "AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id)) "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplyPageAfter(@Param("postId") Long postId,
+                                     @Param("parentId") Long parentId,
+                                     @Param("createdAt") LocalDateTime createdAt,
+                                     @Param("id") Long id,
+                                     Pageable pageable);
+
+    /**
+     * 답글 첫 페이지
+     */
+    @Query("SELECT c FROM Comment c WHERE c.postId = :postId AND c.parentId = :parentId "
+            + "ORDER BY c.createdAt ASC, c.id ASC")
+    List<Comment> findReplyPageFirst(@Param("postId") Long postId,
+                                     @Param("parentId") Long parentId,
+                                     Pageable pageable);
+
+    /**
+     * 여러 루트 댓글의 첫 N개 답글을 한 번에 조회
+     * - 서브쿼리는 (post_id, parent_id, created_at) 인덱스만 읽어 부모별 순번 계산 (커버링 인덱스, id 포함)
+     * - 순번 limit 이하인 행만 테이블에서 조회 → 답글이 많은 스레드도 N개만 읽음
+     */
+    @Query(value = "SELECT c.* FROM comments c JOIN ("
+            + "SELECT id, ROW_NUMBER() OVER (PARTITION BY parent_id ORDER BY created_at, id) AS rn "
+            + "FROM comments WHERE post_id = :postId AND parent_id IN (:parentIds)"
+            + ") r ON c.id = r.id WHERE r.rn <= :limit "
+            + "ORDER BY c.parent_id, c.created_at, c.id",
+            nativeQuery = true)
+    List<Comment> findFirstRepliesByParentIds(@Param("postId") Long postId,
+                                              @Param("parentIds") Collection<Long> parentIds,
+                                              @Param("limit") int limit);
+
+    /**
+     * 답글 수 증감 (원자적 UPDATE, 읽고-쓰기 경합 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + :delta WHERE c.id = :id")
+    int addReplyCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 답글 수가 계산되지 않은 댓글 조회 + 행 잠금 (백필용, SELECT ... FOR UPDATE)
+     * - 잠금 동안 답글 생성/삭제의 답글 수 증감이 대기 → 백필 커밋 후 채워진 값에 반영됨
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    List<Comment> findByReplyCountIsNullOrderByIdAsc(Pageable pageable);
+
+    /**
+     * 부모별 직계 답글 수 집계 (백필용, 결과: [parentId, count])
+     */
+    @Query("SELECT c.parentId, COUNT(c) FROM Comment c WHERE c.parentId IN :parentIds GROUP BY c.parentId")
+    List<Object[]> countRepliesByParentIds(@Param("parentIds") Collection<Long> parentIds);
+
+    // ==================== 댓글 수 정합성 보정 ====================
+
+    /**
+     * 게시글별 전체/활성 댓글 수 집계 (결과: [postId, total, active])
+     * - 정합성 보정 작업 전용 (조회 API는 CommentCountService의 카운터 사용)
+     */
+    @Query("SELECT c.postId, COUNT(c), SUM(CASE WHEN c.isDeleted = false THEN 1 ELSE 0 END) "
+            + "FROM Comment c WHERE c.postId IN :postIds GROUP BY c.postId")
+    List<Object[]> countByPostIds(@Param("postIds") Collection<Long> postIds);
 }
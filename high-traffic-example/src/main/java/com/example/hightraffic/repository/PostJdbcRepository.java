@@ -0,0 +1,100 @@
+package com.example.hightraffic.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 대량 업데이트용 JDBC 리포지토리
+ *
+ * JPA 대신 JDBC를 사용하는 이유:
+ * - findById + save(dirty checking)는 게시글마다 SELECT + UPDATE 2회 실행
+ * - JDBC batchUpdate는 SELECT 없이 UPDATE만 묶어서 전송
+ * - rewriteBatchedStatements=true 설정 시 MySQL 드라이버가 여러 UPDATE를 하나의 패킷으로 전송
+ *
+ * 주의사항:
+ * - 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 로딩한 엔티티와 값이 달라질 수 있음
+ * - updated_at은 갱신하지 않음 (카운터 동기화는 게시글 수정이 아님)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 일괄 업데이트
+     *
+     * @param viewCounts 게시글 ID → 조회수
+     * @return 업데이트된 행 수
+     */
+    public int batchUpdateViewCounts(Map<Long, Long> viewCounts) {
+        return batchUpdateCounter("UPDATE posts SET view_count = ? WHERE id = ?", viewCounts);
+    }
+
+    /**
+     * 조회수 증가분 일괄 반영 (Kafka 조회 이벤트 집계 결과)
+     *
+     * @param deltas 게시글 ID → 증가분
+     * @return 업데이트된 행 수
+     */
+    public int batchAddViewCounts(Map<Long, Long> deltas) {
+        return batchUpdateCounter("UPDATE posts SET view_count = view_count + ? WHERE id = ?", deltas);
+    }
+
+    /**
+     * 좋아요 수 일괄 업데이트
+     *
+     * @param likeCounts 게시글 ID → 좋아요 수
+     * @return 업데이트된 행 수
+     */
+    public int batchUpdateLikeCounts(Map<Long, Long> likeCounts) {
+        return batchUpdateCounter("UPDATE posts SET like_count = ? WHERE id = ?", likeCounts);
+    }
+
+    /**
+     * 댓글 수 일괄 업데이트
+     *
+     * @param commentCounts 게시글 ID → [전체 댓글 수, 삭제되지 않은 댓글 수]
+     * @return 업데이트된 행 수
+     */
+    public int batchUpdateCommentCounts(Map<Long, long[]> commentCounts) {
+        if (commentCounts.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = commentCounts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue()[0], entry.getValue()[1], entry.getKey()})
+                .toList();
+
+        int[] results = jdbcTemplate.batchUpdate(
+                "UPDATE posts SET comment_count = ?, active_comment_count = ? WHERE id = ?", batchArgs);
+        return countUpdated(results);
+    }
+
+    private int batchUpdateCounter(String sql, Map<Long, Long> counts) {
+        if (counts.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> batchArgs = counts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        int[] results = jdbcTemplate.batchUpdate(sql, batchArgs);
+
+        return countUpdated(results);
+    }
+
+    private int countUpdated(int[] results) {
+        // rewriteBatchedStatements 사용 시 행 수 대신 SUCCESS_NO_INFO(-2)가 반환될 수 있음
+        return (int) Arrays.stream(results)
+                .filter(result -> result > 0 || result == Statement.SUCCESS_NO_INFO)
+                .count();
+    }
+}
@@ -1,16 +1,27 @@
 package com.example.hightraffic.repository;
 
 import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.dto.PostListResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    /**
+     * 목록 조회용 Projection (생성자 표현식)
+     * - content(TEXT) 컬럼을 SELECT하지 않음 → MySQL 전송량, 힙 할당 감소
+     * - 엔티티가 아니므로 영속성 컨텍스트에 올라가지 않음 (스냅샷/dirty checking 비용 없음)
+     */
+    String POST_LIST_PROJECTION = "SELECT new com.example.hightraffic.dto.PostListResponse("
+            + "p.id, p.title, p.author, p.viewCount, p.likeCount, p.createdAt) FROM Post p ";
+
     /**
      * 페이지 번호 기반 조회 (Offset-based Pagination)
      * - 장점: 특정 페이지로 바로 이동 가능, 전체 페이지 수 확인 가능
@@ -19,6 +30,44 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     Page<Post> findAllByOrderByCreatedAtDesc(Pageable pageable);
 
+    /**
+     * 페이지 이동용 ID 조회 (Deferred Join 1단계)
+     * - (created_at, id) 복합 인덱스만 읽고 id만 반환 (커버링 인덱스)
+     * - OFFSET으로 건너뛰는 행도 인덱스 엔트리뿐이라 테이블 행을 읽지 않음
+     * - 2단계에서 findPostListByIdIn으로 size개만 조회
+     */
+    @Query("SELECT p.id FROM Post p ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findPostIdsOrderByCreatedAtDesc(Pageable pageable);
+
+    /**
+     * 복합 키셋 첫 페이지 (createdAt DESC, id DESC)
+     */
+    @Query(POST_LIST_PROJECTION + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findPostListKeysetFirst(Pageable pageable);
+
+    /**
+     * 복합 키셋 다음 페이지 - (createdAt, id)가 커서보다 오래된 게시글
+     * - createdAt이 같은 게시글은 id로 순서를 정해 중복/누락 방지
+     * - 행 값 비교 (a, b) < (?, ?)는 MySQL이 인덱스 범위로 최적화하지 못하는 경우가 있어 OR로 풀어서 작성
+     */
+    @Query(POST_LIST_PROJECTION
+            + "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) "
+            + "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostListResponse> findPostListKeysetNext(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
+    /**
+     * 복합 키셋 이전 페이지 - (createdAt, id)가 커서보다 최신인 게시글
+     * - 커서에 가까운 것부터 조회하기 위해 오름차순 (호출 측에서 뒤집음)
+     */
+    @Query(POST_LIST_PROJECTION
+            + "WHERE p.createdAt > :createdAt OR (p.createdAt = :createdAt AND p.id > :id) "
+            + "ORDER BY p.createdAt ASC, p.id ASC")
+    List<PostListResponse> findPostListKeysetPrev(@Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") Long id,
+                                                  Pageable pageable);
+
     /**
      * 커서 기반 조회 (Cursor-based Pagination) - 무한 스크롤용
      * - 장점: 일관성 있는 결과, 성능이 좋음 (인덱스 활용)
@@ -30,11 +79,29 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     @Query("SELECT p FROM Post p WHERE p.id < :cursor ORDER BY p.id DESC")
     List<Post> findPostsByCursor(@Param("cursor") Long cursor, Pageable pageable);
 
+    /**
+     * 커서 기반 목록 조회 (Projection)
+     */
+    @Query(POST_LIST_PROJECTION + "WHERE p.id < :cursor ORDER BY p.id DESC")
+    List<PostListResponse> findPostListByCursor(@Param("cursor") Long cursor, Pageable pageable);
+
     /**
      * 첫 페이지 조회 (커서가 없을 때)
      */
     List<Post> findAllByOrderByIdDesc(Pageable pageable);
 
+    /**
+     * 첫 페이지 목록 조회 (Projection, 커서가 없을 때)
+     */
+    @Query(POST_LIST_PROJECTION + "ORDER BY p.id DESC")
+    List<PostListResponse> findPostListFirstPage(Pageable pageable);
+
+    /**
+     * ID 목록으로 목록 조회 (Projection, 랭킹용 - 순서는 호출 측에서 정렬)
+     */
+    @Query(POST_LIST_PROJECTION + "WHERE p.id IN :ids")
+    List<PostListResponse> findPostListByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 제목으로 검색 (페이지 번호 기반)
      */
@@ -50,6 +117,37 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      */
     List<Post> findTop10ByOrderByViewCountDesc();
 
+    /**
+     * 조회수 상위 게시글 조회 (Projection, 랭킹 ZSET 초기화용)
+     */
+    @Query(POST_LIST_PROJECTION + "ORDER BY p.viewCount DESC")
+    List<PostListResponse> findPostListOrderByViewCount(Pageable pageable);
+
+    /**
+     * 좋아요 상위 게시글 조회 (Projection, 랭킹 ZSET 초기화용)
+     */
+    @Query(POST_LIST_PROJECTION + "ORDER BY p.likeCount DESC")
+    List<PostListResponse> findPostListOrderByLikeCount(Pageable pageable);
+
+    /**
+     * 게시글 ID와 조회수 조회 (기동 시 Redis 조회수 적재용, 결과: [id, viewCount])
+     * - 본문(TEXT) 없이 PK 범위 스캔으로 페이지 단위 조회
+     */
+    @Query("SELECT p.id, p.viewCount FROM Post p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Object[]> findViewCountsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * ID 목록의 조회수 조회 (Redis 조회수 키가 없어진 게시글 재적재용, 결과: [id, viewCount])
+     */
+    @Query("SELECT p.id, p.viewCount FROM Post p WHERE p.id IN :ids")
+    List<Object[]> findViewCountsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글 ID와 저장된 댓글 수 조회 (댓글 수 정합성 보정용, 결과: [id, commentCount, activeCommentCount])
+     */
+    @Query("SELECT p.id, p.commentCount, p.activeCommentCount FROM Post p WHERE p.id > :afterId ORDER BY p.id ASC")
+    List<Object[]> findCommentCountsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
     /**
      * 좋아요 상위 게시글 조회
      */
@@ -0,0 +1,101 @@
+package com.example.hightraffic.repository;
+
+import com.example.hightraffic.service.ViewStatsStep;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * 조회수 시계열 대량 저장용 JDBC 리포지토리
+ *
+ * - 같은 구간을 다시 압축해도 결과가 같도록 DELETE + batch INSERT로 교체 (재실행 안전)
+ * - MySQL 전용 upsert(ON DUPLICATE KEY UPDATE) 대신 표준 SQL만 사용 (테스트 H2 호환)
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostViewStatJdbcRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 시간 단위 행 교체
+     *
+     * @param hour 구간 시작 시각 (정시)
+     * @param views 게시글 ID → 해당 시간 조회수
+     * @return 저장된 행 수
+     */
+    public int replaceHourly(LocalDateTime hour, Map<Long, Long> views) {
+        if (views.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.update(
+                "DELETE FROM post_view_stats WHERE granularity = :granularity AND bucket_start = :bucketStart "
+                        + "AND post_id IN (:postIds)",
+                new MapSqlParameterSource()
+                        .addValue("granularity", ViewStatsStep.HOUR.name())
+                        .addValue("bucketStart", Timestamp.valueOf(hour))
+                        .addValue("postIds", views.keySet()));
+
+        MapSqlParameterSource[] batchArgs = views.entrySet().stream()
+                .map(entry -> new MapSqlParameterSource()
+                        .addValue("postId", entry.getKey())
+                        .addValue("granularity", ViewStatsStep.HOUR.name())
+                        .addValue("bucketStart", Timestamp.valueOf(hour))
+                        .addValue("views", entry.getValue()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO post_view_stats (post_id, granularity, bucket_start, views) "
+                        + "VALUES (:postId, :granularity, :bucketStart, :views)",
+                batchArgs);
+        return batchArgs.length;
+    }
+
+    /**
+     * 하루의 시간 단위 행을 일 단위 행으로 합산 (기존 일 단위 행은 교체)
+     *
+     * @return 저장된 행 수
+     */
+    public int rollupDaily(LocalDate day) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("hour", ViewStatsStep.HOUR.name())
+                .addValue("day", ViewStatsStep.DAY.name())
+                .addValue("from", Timestamp.valueOf(day.atStartOfDay()))
+                .addValue("to", Timestamp.valueOf(day.plusDays(1).atStartOfDay()));
+
+        jdbcTemplate.update(
+                "DELETE FROM post_view_stats WHERE granularity = :day AND bucket_start = :from", params);
+        return jdbcTemplate.update(
+                "INSERT INTO post_view_stats (post_id, granularity, bucket_start, views) "
+                        + "SELECT post_id, :day, :from, SUM(views) FROM post_view_stats "
+                        + "WHERE granularity = :hour AND bucket_start >= :from AND bucket_start < :to "
+                        + "GROUP BY post_id",
+                params);
+    }
+
+    /**
+     * 구간 압축 완료 기록 (이미 있으면 완료 시각만 교체)
+     *
+     * 시간 단위는 마지막 청크가 커밋된 뒤에, 일 단위는 합산과 같은 트랜잭션에서 호출
+     */
+    public void markCompacted(ViewStatsStep granularity, LocalDateTime bucketStart) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("granularity", granularity.name())
+                .addValue("bucketStart", Timestamp.valueOf(bucketStart))
+                .addValue("completedAt", Timestamp.valueOf(LocalDateTime.now()));
+
+        jdbcTemplate.update(
+                "DELETE FROM view_stats_compactions WHERE granularity = :granularity AND bucket_start = :bucketStart",
+                params);
+        jdbcTemplate.update(
+                "INSERT INTO view_stats_compactions (granularity, bucket_start, completed_at) "
+                        + "VALUES (:granularity, :bucketStart, :completedAt)",
+                params);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.hightraffic.repository;
+
+import com.example.hightraffic.domain.PostViewStat;
+import com.example.hightraffic.service.ViewStatsStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface PostViewStatRepository extends JpaRepository<PostViewStat, Long> {
+
+    /**
+     * 게시글의 구간 집계 행 조회 ([from, to), 시간 순)
+     */
+    @Query("SELECT s FROM PostViewStat s WHERE s.postId = :postId AND s.granularity = :granularity "
+            + "AND s.bucketStart >= :from AND s.bucketStart < :to ORDER BY s.bucketStart")
+    List<PostViewStat> findRange(@Param("postId") Long postId,
+                                 @Param("granularity") ViewStatsStep granularity,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,7 @@
+package com.example.hightraffic.repository;
+
+import com.example.hightraffic.domain.ViewEventOffset;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ViewEventOffsetRepository extends JpaRepository<ViewEventOffset, String> {
+}
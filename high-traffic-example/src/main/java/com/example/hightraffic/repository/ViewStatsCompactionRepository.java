@@ -0,0 +1,20 @@
+package com.example.hightraffic.repository;
+
+import com.example.hightraffic.domain.ViewStatsCompaction;
+import com.example.hightraffic.service.ViewStatsStep;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ViewStatsCompactionRepository extends JpaRepository<ViewStatsCompaction, Long> {
+
+    /**
+     * 가장 최근 압축 완료 구간 (압축 진행 위치, 기록이 없으면 null)
+     */
+    @Query("SELECT MAX(c.bucketStart) FROM ViewStatsCompaction c WHERE c.granularity = :granularity")
+    LocalDateTime findLastCompleted(@Param("granularity") ViewStatsStep granularity);
+
+    boolean existsByGranularityAndBucketStart(ViewStatsStep granularity, LocalDateTime bucketStart);
+}
@@ -0,0 +1,54 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.CommentCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 댓글 수 DB 동기화 / 정합성 보정 스케줄러
+ *
+ * 1. DB 동기화 (기본 10초, app.comment.count.sync.interval-ms)
+ *    - Redis 댓글 수를 posts.comment_count, active_comment_count에 반영
+ *    - 조회수와 같은 ViewCountSyncCoordinator의 파티션 소유권 사용
+ *
+ * 2. 정합성 보정 (기본 1시간, app.comment.count.reconcile.interval-ms)
+ *    - 실제 COUNT와 비교하여 Redis/DB 값 복구
+ *    - Redis 락으로 여러 노드 중 한 노드만 실행
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountScheduler {
+
+    private final CommentCountService commentCountService;
+    private final ViewCountSyncCoordinator viewCountSyncCoordinator;
+
+    @Scheduled(fixedDelayString = "${app.comment.count.sync.interval-ms:10000}")
+    public void syncCommentCountToDatabase() {
+        try {
+            List<Integer> partitions = viewCountSyncCoordinator.getOwnedPartitions();
+            if (partitions.isEmpty()) {
+                return;
+            }
+            commentCountService.syncPartitions(partitions);
+        } catch (Exception e) {
+            log.error("댓글 수 DB 동기화 스케줄러 실행 중 에러 발생", e);
+        }
+    }
+
+    @Scheduled(
+            initialDelayString = "${app.comment.count.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${app.comment.count.reconcile.interval-ms:3600000}"
+    )
+    public void reconcileCommentCount() {
+        try {
+            commentCountService.reconcile();
+        } catch (Exception e) {
+            log.error("댓글 수 정합성 보정 스케줄러 실행 중 에러 발생", e);
+        }
+    }
+}
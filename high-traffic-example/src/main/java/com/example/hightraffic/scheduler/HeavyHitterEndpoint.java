@@ -0,0 +1,88 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.HeavyHitterDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 헤비 히터(조회 어뷰저) 상태 actuator 엔드포인트 (읽기 전용)
+ *
+ * GET /actuator/heavyhitters (management.server.port, 서비스 포트와 분리)
+ *
+ * - IP는 마지막 부분을 가린 값만 노출 (전체 IP는 차단 로그에서 확인)
+ * - 차단 해제는 기본으로 비활성화된 별도 엔드포인트 (HeavyHitterUnblockEndpoint)
+ *
+ * 응답 예시:
+ * {
+ *   "nodeId": "pod-1:3f2a9c1b",
+ *   "windowSeconds": 60,
+ *   "threshold": 300,
+ *   "mergedNodes": 2,
+ *   "lastMergeAt": "2024-01-01T00:00:00Z",
+ *   "sketchMemoryBytes": 173984,
+ *   "topOffenders": [{"identifier": "10.0.0.*", "estimate": 812, "blocked": true}, ...],
+ *   "blocked": {"10.0.0.*": "2024-01-01T00:10:00Z"}
+ * }
+ */
+@Component
+@Endpoint(id = "heavyhitters")
+@RequiredArgsConstructor
+public class HeavyHitterEndpoint {
+
+    private final HeavyHitterDetector detector;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("nodeId", detector.getNodeId());
+        status.put("enabled", detector.isEnabled());
+        status.put("windowSeconds", detector.getWindowSeconds());
+        status.put("threshold", detector.getThreshold());
+        status.put("mergedNodes", detector.getMergedNodes());
+        status.put("lastMergeAt", toInstant(detector.getLastMergeAt()));
+        status.put("sketchMemoryBytes", detector.getSketchMemoryBytes());
+
+        List<Map<String, Object>> offenders = detector.getTopOffenders().stream()
+                .map(offender -> {
+                    Map<String, Object> item = new LinkedHashMap<>();
+                    item.put("identifier", mask(offender.identifier()));
+                    item.put("estimate", offender.estimate());
+                    item.put("blocked", detector.isBlocked(offender.identifier()));
+                    return item;
+                })
+                .toList();
+        status.put("topOffenders", offenders);
+
+        // 같은 대역의 IP가 여러 개면 가장 늦은 해제 시각만 표시
+        Map<String, Long> blockedUntil = new LinkedHashMap<>();
+        detector.getBlocked().forEach((identifier, until) -> blockedUntil.merge(mask(identifier), until, Math::max));
+        Map<String, String> blocked = new LinkedHashMap<>();
+        blockedUntil.forEach((identifier, until) -> blocked.put(identifier, toInstant(until)));
+        status.put("blocked", blocked);
+        return status;
+    }
+
+    /**
+     * IP 마지막 부분 가림 (IPv4: 마지막 옥텟, IPv6: 앞 3개 그룹만 유지)
+     */
+    static String mask(String identifier) {
+        int colon = identifier.indexOf(':');
+        if (colon >= 0) {
+            String[] groups = identifier.split(":", -1);
+            return groups.length > 3 ? String.join(":", groups[0], groups[1], groups[2]) + ":*" : "*";
+        }
+        int dot = identifier.lastIndexOf('.');
+        return dot >= 0 ? identifier.substring(0, dot + 1) + "*" : "*";
+    }
+
+    private String toInstant(long epochMillis) {
+        return epochMillis > 0 ? Instant.ofEpochMilli(epochMillis).toString() : null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.HeavyHitterDetector;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 헤비 히터 스케치 노드 간 병합 스케줄러
+ *
+ * 모든 노드에서 실행 (각 노드가 자신의 스케치를 올리고 전체 합산 결과로 차단 목록을 갱신)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeavyHitterScheduler {
+
+    private final HeavyHitterDetector heavyHitterDetector;
+
+    @Scheduled(fixedDelayString = "${app.heavy-hitter.merge-interval-ms:5000}")
+    public void mergeSketches() {
+        try {
+            heavyHitterDetector.merge();
+        } catch (Exception e) {
+            log.error("헤비 히터 스케치 병합 중 에러 발생", e);
+        }
+    }
+}
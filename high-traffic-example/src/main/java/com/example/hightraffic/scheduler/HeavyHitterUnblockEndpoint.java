@@ -0,0 +1,33 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.HeavyHitterDetector;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 헤비 히터 차단 해제 actuator 엔드포인트 (쓰기 작업이라 기본 비활성화)
+ *
+ * DELETE /actuator/heavyhitterunblock/{identifier} : 차단 해제 (현재 윈도우 동안 다시 차단하지 않음)
+ *
+ * 사용하려면 두 설정이 모두 필요:
+ * - management.endpoint.heavyhitterunblock.enabled=true
+ * - management.endpoints.web.exposure.include에 heavyhitterunblock 추가
+ */
+@Component
+@Endpoint(id = "heavyhitterunblock", enableByDefault = false)
+@RequiredArgsConstructor
+public class HeavyHitterUnblockEndpoint {
+
+    private final HeavyHitterDetector detector;
+
+    @DeleteOperation
+    public Map<String, Object> unblock(@Selector String identifier) {
+        detector.unblock(identifier);
+        return Map.of("identifier", identifier, "blocked", detector.isBlocked(identifier));
+    }
+}
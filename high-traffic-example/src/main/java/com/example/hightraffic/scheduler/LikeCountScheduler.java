@@ -0,0 +1,45 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.LikeCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 좋아요 수 DB 동기화 스케줄러
+ *
+ * Redis에 저장된 좋아요 수를 주기적으로 DB에 동기화합니다.
+ *
+ * 스케줄 전략:
+ * - 기본 10초마다 실행 (fixedDelay, app.like.sync.interval-ms)
+ * - 조회수보다 변경 빈도가 낮고 정확도가 중요하므로 짧은 주기
+ *
+ * 여러 노드 환경:
+ * - 조회수와 같은 ViewCountSyncCoordinator의 파티션 소유권을 사용
+ * - 하트비트는 코디네이터가 주기적으로 갱신하므로 여기서는 현재 할당만 조회
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountScheduler {
+
+    private final LikeCountService likeCountService;
+    private final ViewCountSyncCoordinator viewCountSyncCoordinator;
+
+    @Scheduled(fixedDelayString = "${app.like.sync.interval-ms:10000}")
+    public void syncLikeCountToDatabase() {
+        try {
+            List<Integer> partitions = viewCountSyncCoordinator.getOwnedPartitions();
+            if (partitions.isEmpty()) {
+                return;
+            }
+            likeCountService.syncPartitions(partitions);
+        } catch (Exception e) {
+            log.error("좋아요 수 DB 동기화 스케줄러 실행 중 에러 발생", e);
+            // 예외를 삼켜서 스케줄러가 중단되지 않도록 함
+        }
+    }
+}
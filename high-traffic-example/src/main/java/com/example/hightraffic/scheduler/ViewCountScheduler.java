@@ -6,6 +6,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * 조회수 DB 동기화 스케줄러
  *
@@ -15,6 +17,11 @@ import org.springframework.stereotype.Component;
  * - 5분마다 실행 (fixedDelay)
  * - 이전 작업이 완료된 후 5분 대기
  * - DB 부하 분산 효과
+ *
+ * 여러 노드 환경:
+ * - ViewCountSyncCoordinator가 노드별 담당 파티션을 할당
+ * - 각 노드는 자신이 담당한 파티션의 Dirty Set만 동기화
+ * - 노드를 늘려도 전체 DB 쓰기량은 그대로, 노드당 작업량은 1/N
  */
 @Slf4j
 @Component
@@ -22,6 +29,7 @@ import org.springframework.stereotype.Component;
 public class ViewCountScheduler {
 
     private final ViewCountService viewCountService;
+    private final ViewCountSyncCoordinator viewCountSyncCoordinator;
 
     /**
      * Redis → DB 조회수 동기화
@@ -37,17 +45,43 @@ public class ViewCountScheduler {
     @Scheduled(fixedDelay = 5 * 60 * 1000) // 5분 = 300,000ms
     public void syncViewCountToDatabase() {
         try {
+            List<Integer> partitions = viewCountSyncCoordinator.refreshOwnedPartitions();
+            if (partitions.isEmpty()) {
+                log.info("=== 조회수 DB 동기화 스케줄러: 담당 파티션 없음 (nodeId={}) ===",
+                        viewCountSyncCoordinator.getNodeId());
+                return;
+            }
+
             log.info("=== 조회수 DB 동기화 스케줄러 시작 ===");
             long startTime = System.currentTimeMillis();
 
-            viewCountService.syncToDatabase();
+            int syncCount = viewCountService.syncPartitions(partitions);
+            viewCountSyncCoordinator.recordSync(syncCount);
 
             long elapsedTime = System.currentTimeMillis() - startTime;
-            log.info("=== 조회수 DB 동기화 스케줄러 완료 (소요시간: {}ms) ===", elapsedTime);
+            log.info("=== 조회수 DB 동기화 스케줄러 완료 (동기화: {}건, 소요시간: {}ms) ===", syncCount, elapsedTime);
 
         } catch (Exception e) {
             log.error("조회수 DB 동기화 스케줄러 실행 중 에러 발생", e);
             // 예외를 삼켜서 스케줄러가 중단되지 않도록 함
         }
     }
+
+    /**
+     * 핫 키 샤드 병합
+     *
+     * 트래픽이 줄어 핫 키 표시가 만료된 게시글의 샤드를 기준 키로 합침
+     * (스크립트가 원자적으로 처리하므로 모든 노드에서 실행해도 안전)
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.hot-key.fold-interval-ms:10000}")
+    public void foldHotKeyShards() {
+        try {
+            int folded = viewCountService.foldColdShards();
+            if (folded > 0) {
+                log.info("핫 키 샤드 병합 완료: {}건", folded);
+            }
+        } catch (Exception e) {
+            log.error("핫 키 샤드 병합 중 에러 발생", e);
+        }
+    }
 }
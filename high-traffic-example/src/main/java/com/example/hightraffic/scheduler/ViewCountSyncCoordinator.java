@@ -0,0 +1,159 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.ViewCountService;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 조회수 동기화 파티션 코디네이터 (여러 노드 간 작업 분할)
+ *
+ * 문제 정의:
+ * - Pod가 N개면 모든 Pod가 5분마다 같은 동기화를 수행 → DB 쓰기 N배, 같은 행에 경합
+ *
+ * 해결 방법: Redis 하트비트 기반 해시 범위 소유권
+ * 1. 각 노드는 주기적으로 Redis ZSET에 (nodeId, 마지막 하트비트 시각)을 기록
+ * 2. 하트비트가 TTL보다 오래된 노드는 제거 (죽은 노드)
+ * 3. 살아있는 노드를 nodeId 순으로 정렬하여 index를 정하고,
+ *    partition % 노드 수 == index 인 파티션을 담당
+ * 4. 노드가 죽으면 TTL 후 목록에서 빠지고, 남은 노드들이 파티션을 다시 나눠 가짐
+ *
+ * 정합성:
+ * - 노드 목록이 바뀌는 순간 두 노드가 잠시 같은 파티션을 담당할 수 있음
+ * - Dirty Set은 SPOP으로 꺼내므로 같은 게시글이 두 번 동기화되지 않음
+ * - 따라서 노드 수와 무관하게 전체 DB 쓰기량은 일정
+ *
+ * Redis Key:
+ * - viewcount:sync:nodes : 살아있는 노드 (ZSET, score = 마지막 하트비트 시각)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountSyncCoordinator {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ViewCountService viewCountService;
+
+    // 노드 목록 키 (같은 Redis를 쓰는 클러스터/테스트를 분리할 때만 변경)
+    @Value("${app.view-count.sync.nodes-key:viewcount:sync:nodes}")
+    private String nodesKey;
+
+    // 하트비트가 이 시간보다 오래되면 죽은 노드로 간주
+    @Value("${app.view-count.sync.node-ttl-ms:30000}")
+    private long nodeTtlMs;
+
+    @Getter
+    private final String nodeId = createNodeId();
+
+    @Getter
+    private volatile List<String> liveNodes = List.of();
+
+    @Getter
+    private volatile List<Integer> ownedPartitions = List.of();
+
+    @Getter
+    private volatile long lastHeartbeatAt;
+
+    @Getter
+    private volatile long lastSyncAt;
+
+    @Getter
+    private volatile int lastSyncCount;
+
+    /**
+     * 하트비트 기록 및 담당 파티션 재계산
+     */
+    @Scheduled(fixedRateString = "${app.view-count.sync.heartbeat-interval-ms:10000}")
+    public void heartbeat() {
+        try {
+            long now = System.currentTimeMillis();
+            redisTemplate.opsForZSet().add(nodesKey, nodeId, now);
+            redisTemplate.opsForZSet().removeRangeByScore(nodesKey, 0, now - nodeTtlMs);
+
+            Set<String> nodes = redisTemplate.opsForZSet().range(nodesKey, 0, -1);
+            List<String> sortedNodes = nodes != null ? new ArrayList<>(nodes) : new ArrayList<>();
+            Collections.sort(sortedNodes);
+
+            List<Integer> partitions = assignPartitions(sortedNodes);
+            if (!partitions.equals(ownedPartitions)) {
+                log.info("조회수 동기화 파티션 재할당: nodeId={}, nodes={}, partitions={}",
+                        nodeId, sortedNodes.size(), partitions);
+            }
+
+            liveNodes = List.copyOf(sortedNodes);
+            ownedPartitions = partitions;
+            lastHeartbeatAt = now;
+        } catch (Exception e) {
+            // Redis 장애 시 이전 할당 유지 (SPOP 기반이라 중복 담당이어도 안전)
+            log.error("조회수 동기화 하트비트 실패: nodeId={}", nodeId, e);
+        }
+    }
+
+    /**
+     * 최신 하트비트 기준으로 담당 파티션 조회
+     */
+    public List<Integer> refreshOwnedPartitions() {
+        heartbeat();
+        return ownedPartitions;
+    }
+
+    /**
+     * 동기화 결과 기록 (actuator 노출용)
+     */
+    public void recordSync(int syncCount) {
+        lastSyncAt = System.currentTimeMillis();
+        lastSyncCount = syncCount;
+    }
+
+    public int getTotalPartitions() {
+        return viewCountService.getSyncPartitionCount();
+    }
+
+    /**
+     * 종료 시 노드 목록에서 즉시 제거 → 다른 노드가 TTL을 기다리지 않고 파티션 인계
+     */
+    @PreDestroy
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(nodesKey, nodeId);
+            log.info("조회수 동기화 노드 탈퇴: nodeId={}", nodeId);
+        } catch (Exception e) {
+            log.warn("조회수 동기화 노드 탈퇴 실패 (TTL 후 자동 제거): nodeId={}", nodeId, e);
+        }
+    }
+
+    private List<Integer> assignPartitions(List<String> sortedNodes) {
+        int index = sortedNodes.indexOf(nodeId);
+        if (index < 0) {
+            return List.of();
+        }
+        int nodeCount = sortedNodes.size();
+        return IntStream.range(0, getTotalPartitions())
+                .filter(partition -> partition % nodeCount == index)
+                .boxed()
+                .toList();
+    }
+
+    private static String createNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.hightraffic.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조회수 동기화 파티션 상태 actuator 엔드포인트
+ *
+ * GET /actuator/viewcountsync
+ *
+ * 응답 예시:
+ * {
+ *   "nodeId": "pod-1:3f2a9c1b",
+ *   "liveNodes": ["pod-1:3f2a9c1b", "pod-2:9d8e7f6a"],
+ *   "totalPartitions": 16,
+ *   "ownedPartitions": [0, 2, 4, ...],
+ *   "lastHeartbeatAt": "2024-01-01T00:00:00Z",
+ *   "lastSyncAt": "2024-01-01T00:00:00Z",
+ *   "lastSyncCount": 120
+ * }
+ */
+@Component
+@Endpoint(id = "viewcountsync")
+@RequiredArgsConstructor
+public class ViewCountSyncEndpoint {
+
+    private final ViewCountSyncCoordinator coordinator;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("nodeId", coordinator.getNodeId());
+        status.put("liveNodes", coordinator.getLiveNodes());
+        status.put("totalPartitions", coordinator.getTotalPartitions());
+        status.put("ownedPartitions", coordinator.getOwnedPartitions());
+        status.put("lastHeartbeatAt", toInstant(coordinator.getLastHeartbeatAt()));
+        status.put("lastSyncAt", toInstant(coordinator.getLastSyncAt()));
+        status.put("lastSyncCount", coordinator.getLastSyncCount());
+        return status;
+    }
+
+    private String toInstant(long epochMillis) {
+        return epochMillis > 0 ? Instant.ofEpochMilli(epochMillis).toString() : null;
+    }
+}
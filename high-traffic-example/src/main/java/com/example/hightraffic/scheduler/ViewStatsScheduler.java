@@ -0,0 +1,31 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.ViewStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회수 시계열 압축 스케줄러
+ *
+ * Redis 분 단위 버킷을 끝난 시간부터 MySQL 시간/일 단위 행으로 합산합니다.
+ * - Redis 락으로 한 노드만 실행 (나머지 노드는 바로 반환)
+ * - 압축이 밀려도 분 버킷 보관 시간 안이면 다음 실행에서 이어서 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewStatsScheduler {
+
+    private final ViewStatsService viewStatsService;
+
+    @Scheduled(initialDelay = 60_000, fixedDelayString = "${app.view-stats.compact-interval-ms:300000}")
+    public void compactViewStats() {
+        try {
+            viewStatsService.compact();
+        } catch (Exception e) {
+            log.error("조회수 시계열 압축 중 에러 발생", e);
+        }
+    }
+}
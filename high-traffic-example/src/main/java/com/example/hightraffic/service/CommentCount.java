@@ -0,0 +1,20 @@
+package com.example.hightraffic.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * 게시글별 댓글 수
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class CommentCount {
+
+    // 전체 댓글 수 (소프트 삭제 포함)
+    private final long total;
+
+    // 삭제되지 않은 댓글 수
+    private final long active;
+}
@@ -0,0 +1,392 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.event.CommentChangedEvent;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.CommentRepository;
+import com.example.hightraffic.repository.PostJdbcRepository;
+import com.example.hightraffic.repository.PostRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글별 댓글 수 관리 서비스 (Redis 카운터 + DB Write-Behind)
+ *
+ * 문제 정의:
+ * - 게시글 상세 페이지마다 COUNT(*) FROM comments WHERE post_id = ? AND is_deleted = false 실행
+ * - 댓글이 많은 게시글일수록 인덱스 범위 스캔이 길어지고, 조회 트래픽이 그대로 DB 부하가 됨
+ *
+ * 해결 방법:
+ * 1. 게시글별 전체/활성 댓글 수를 Redis Hash에 저장 → 조회는 HMGET 1회 (O(1), comments 테이블 접근 없음)
+ * 2. 댓글 생성/소프트 삭제/실제 삭제 트랜잭션 커밋 후 Lua 스크립트로 증감 (원자적)
+ * 3. Write-Behind: 변경된 게시글 ID를 Dirty Set에 기록, 스케줄러가 posts.comment_count 컬럼에 batch UPDATE
+ * 4. 정합성 보정: 주기적으로 실제 COUNT와 비교하여 Redis/DB 값 복구 (이벤트 유실, Redis 장애 대비)
+ *
+ * 카운터 초기화 (Redis에 값이 없을 때):
+ * - posts.comment_count 컬럼 값 사용 (Write-Behind 사본)
+ * - 컬럼이 null(기존 게시글, 보정 전)이면 이때만 COUNT 1회 실행 후 Dirty Set에 기록하여 컬럼도 채움
+ *
+ * Redis Key 구조:
+ * - post:commentcount:{postId} : Hash (total, active)
+ * - post:commentcount:dirty:{partition} : DB 동기화가 필요한 게시글 ID (Set)
+ * - post:commentcount:reconcile:lock : 정합성 보정 작업 중복 실행 방지 락
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentCountService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final CommentRepository commentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Redis Key Prefix
+    private static final String COMMENT_COUNT_KEY_PREFIX = "post:commentcount:";
+    private static final String COMMENT_COUNT_DIRTY_KEY_PREFIX = "post:commentcount:dirty:";
+    private static final String RECONCILE_LOCK_KEY = "post:commentcount:reconcile:lock";
+
+    private static final String TOTAL_FIELD = "total";
+    private static final String ACTIVE_FIELD = "active";
+
+    /**
+     * 댓글 수 증감 스크립트
+     * - 반환값: [전체 댓글 수, 활성 댓글 수] (-1 = Redis에 없음)
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> COMMENT_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/comment-count.lua"), List.class);
+
+    /**
+     * 카운터 초기화 스크립트 (키가 없을 때만 total, active를 함께 저장)
+     */
+    private static final RedisScript<Long> INIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/comment-count-init.lua"), Long.class);
+
+    // Dirty Set 파티션 수 / 청크 크기 (조회수 동기화와 같은 파티션 소유권 사용)
+    @Value("${app.view-count.sync.partitions:16}")
+    private int syncPartitions;
+
+    @Value("${app.view-count.sync.chunk-size:500}")
+    private int syncChunkSize;
+
+    // 정합성 보정 시 한 번에 비교할 게시글 수
+    @Value("${app.comment.count.reconcile.chunk-size:500}")
+    private int reconcileChunkSize;
+
+    // 정합성 보정 락 유지 시간 (작업이 비정상 종료되어도 이 시간 후 해제)
+    @Value("${app.comment.count.reconcile.lock-ttl-ms:600000}")
+    private long reconcileLockTtlMs;
+
+    /**
+     * 댓글 수 조회 (Redis HMGET 1회, 없으면 DB 값으로 초기화)
+     */
+    public CommentCount getCommentCount(Long postId) {
+        List<Object> values = redisTemplate.opsForHash().multiGet(countKey(postId), List.of(TOTAL_FIELD, ACTIVE_FIELD));
+        if (values.get(0) != null && values.get(1) != null) {
+            return new CommentCount(Long.parseLong((String) values.get(0)), Long.parseLong((String) values.get(1)));
+        }
+        return initializeCommentCount(postId);
+    }
+
+    /**
+     * 댓글 변경 트랜잭션 커밋 후 카운터 증감
+     * - 실패해도 댓글 작업은 이미 커밋되었으므로 예외를 전파하지 않음 (정합성 보정 작업이 복구)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    @SuppressWarnings("unchecked")
+    public void onCommentChanged(CommentChangedEvent event) {
+        Long postId = event.getPostId();
+        try {
+            List<String> keys = List.of(countKey(postId), dirtyKey(postId, syncPartitions));
+            List<Long> result = redisTemplate.execute(COMMENT_COUNT_SCRIPT, keys,
+                    String.valueOf(event.getTotalDelta()),
+                    String.valueOf(event.getActiveDelta()),
+                    String.valueOf(postId));
+
+            if (result.get(0) < 0) {
+                // 카운터가 없음: 초기화 값에 이번 변경이 포함되는지에 따라 한 번 더 증감
+                if (seedCommentCount(postId)) {
+                    redisTemplate.execute(COMMENT_COUNT_SCRIPT, keys,
+                            String.valueOf(event.getTotalDelta()),
+                            String.valueOf(event.getActiveDelta()),
+                            String.valueOf(postId));
+                }
+            }
+            log.debug("댓글 수 반영: {}", event);
+        } catch (Exception e) {
+            log.error("댓글 수 반영 실패 (정합성 보정 작업에서 복구): {}", event, e);
+        }
+    }
+
+    private CommentCount initializeCommentCount(Long postId) {
+        seedCommentCount(postId);
+        List<Object> values = redisTemplate.opsForHash().multiGet(countKey(postId), List.of(TOTAL_FIELD, ACTIVE_FIELD));
+        return new CommentCount(
+                values.get(0) != null ? Long.parseLong((String) values.get(0)) : 0L,
+                values.get(1) != null ? Long.parseLong((String) values.get(1)) : 0L
+        );
+    }
+
+    /**
+     * Redis 카운터 초기화 (이미 있으면 유지)
+     *
+     * @return 커밋된 댓글 변경이 초기화 값에 포함되지 않았으면 true
+     *         (컬럼 값은 마지막 동기화 시점 기준, COUNT는 커밋된 변경을 모두 포함)
+     */
+    private boolean seedCommentCount(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(
+                        "게시글을 찾을 수 없습니다: id=" + postId,
+                        HttpStatus.NOT_FOUND
+                ));
+
+        long total;
+        long active;
+        boolean fromColumns = post.getCommentCount() != null && post.getActiveCommentCount() != null;
+        if (fromColumns) {
+            total = post.getCommentCount();
+            active = post.getActiveCommentCount();
+        } else {
+            // 보정 전 기존 게시글: 이번 한 번만 COUNT 후 컬럼도 채우도록 Dirty Set에 기록
+            CommentCount counted = countFromComments(List.of(postId)).getOrDefault(postId, new CommentCount(0, 0));
+            total = counted.getTotal();
+            active = counted.getActive();
+            redisTemplate.opsForSet().add(dirtyKey(postId, syncPartitions), String.valueOf(postId));
+        }
+
+        redisTemplate.execute(INIT_SCRIPT, List.of(countKey(postId)), String.valueOf(total), String.valueOf(active));
+        log.debug("댓글 수 초기화: postId={}, total={}, active={}, fromColumns={}", postId, total, active, fromColumns);
+        return fromColumns;
+    }
+
+    /**
+     * 지정한 파티션의 댓글 수를 DB에 동기화 (Dirty Set 기반 증분 동기화)
+     *
+     * 동작 방식은 LikeCountService.syncPartitions()와 동일
+     * - SPOP count → 파이프라인 HMGET → JDBC batch UPDATE (청크당 트랜잭션 1개)
+     * - 실패한 청크의 ID는 Dirty Set에 되돌려 다음 실행에서 재시도
+     *
+     * @param partitions 동기화할 파티션 번호 목록
+     * @return 동기화된 게시글 수
+     */
+    public int syncPartitions(Collection<Integer> partitions) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        int syncCount = 0;
+        for (Integer partition : partitions) {
+            String dirtyKey = COMMENT_COUNT_DIRTY_KEY_PREFIX + partition;
+
+            while (true) {
+                List<String> postIds = redisTemplate.opsForSet().pop(dirtyKey, syncChunkSize);
+                if (postIds == null || postIds.isEmpty()) {
+                    break;
+                }
+
+                try {
+                    syncCount += syncChunk(postIds);
+                } catch (Exception e) {
+                    redisTemplate.opsForSet().add(dirtyKey, postIds.toArray(new String[0]));
+                    log.error("댓글 수 동기화 실패 (다음 실행에서 재시도): partition={}, chunkSize={}, error={}",
+                            partition, postIds.size(), e.getMessage(), e);
+                    break;
+                }
+            }
+        }
+
+        sample.stop(Timer.builder("commentcount.sync.duration")
+                .description("댓글 수 Redis → DB 동기화 소요 시간")
+                .register(meterRegistry));
+        DistributionSummary.builder("commentcount.sync.rows")
+                .description("댓글 수 Redis → DB 동기화 실행당 행 수")
+                .register(meterRegistry)
+                .record(syncCount);
+
+        if (syncCount > 0) {
+            log.info("댓글 수 DB 동기화 완료: 게시글={}", syncCount);
+        }
+        return syncCount;
+    }
+
+    private int syncChunk(List<String> postIds) {
+        Map<Long, CommentCount> redisCounts = readRedisCounts(postIds.stream().map(Long::parseLong).toList());
+
+        Map<Long, long[]> commentCounts = new HashMap<>();
+        redisCounts.forEach((postId, count) -> commentCounts.put(postId, new long[]{count.getTotal(), count.getActive()}));
+
+        Integer updated = transactionTemplate.execute(status -> postJdbcRepository.batchUpdateCommentCounts(commentCounts));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 정합성 보정 (실제 COUNT와 비교하여 Redis 카운터와 DB 컬럼 복구)
+     *
+     * 동작 방식:
+     * 1. Redis 락(SET NX PX)으로 여러 노드 중 한 노드만 실행
+     * 2. 게시글을 id 순으로 청크 단위 순회 (키셋 방식)
+     * 3. 청크마다 GROUP BY post_id 집계 1회 + Redis HMGET 파이프라인 1회로 비교
+     * 4. 다른 값만 복구 (Redis: 키가 있을 때만 HSET, DB: batch UPDATE)
+     *
+     * 한계:
+     * - 집계와 복구 사이에 커밋된 댓글 변경은 덮어써질 수 있음 → 다음 보정에서 다시 맞춰짐
+     *
+     * @return 복구된 게시글 수 (락 획득 실패 시 -1)
+     */
+    public int reconcile() {
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(RECONCILE_LOCK_KEY, "1", Duration.ofMillis(reconcileLockTtlMs));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("댓글 수 정합성 보정: 다른 노드에서 실행 중");
+            return -1;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int repaired = 0;
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<Object[]> rows = postRepository.findCommentCountsAfter(afterId, PageRequest.of(0, reconcileChunkSize));
+                if (rows.isEmpty()) {
+                    break;
+                }
+                repaired += reconcileChunk(rows);
+                afterId = (Long) rows.get(rows.size() - 1)[0];
+            }
+        } finally {
+            redisTemplate.delete(RECONCILE_LOCK_KEY);
+        }
+
+        sample.stop(Timer.builder("commentcount.reconcile.duration")
+                .description("댓글 수 정합성 보정 소요 시간")
+                .register(meterRegistry));
+        Counter.builder("commentcount.reconcile.repaired")
+                .description("댓글 수 정합성 보정으로 복구된 게시글 수")
+                .register(meterRegistry)
+                .increment(repaired);
+
+        if (repaired > 0) {
+            log.warn("댓글 수 정합성 보정 완료: 복구된 게시글={}", repaired);
+        }
+        return repaired;
+    }
+
+    private int reconcileChunk(List<Object[]> rows) {
+        List<Long> postIds = rows.stream().map(row -> (Long) row[0]).toList();
+        Map<Long, CommentCount> actualCounts = countFromComments(postIds);
+        Map<Long, CommentCount> redisCounts = readRedisCounts(postIds);
+
+        Map<Long, long[]> dbRepairs = new HashMap<>();
+        Map<Long, CommentCount> redisRepairs = new HashMap<>();
+        for (Object[] row : rows) {
+            Long postId = (Long) row[0];
+            CommentCount actual = actualCounts.getOrDefault(postId, new CommentCount(0, 0));
+
+            if (!matches(actual, (Long) row[1], (Long) row[2])) {
+                dbRepairs.put(postId, new long[]{actual.getTotal(), actual.getActive()});
+            }
+            CommentCount cached = redisCounts.get(postId);
+            if (cached != null && !matches(actual, cached.getTotal(), cached.getActive())) {
+                redisRepairs.put(postId, actual);
+            }
+        }
+
+        if (!redisRepairs.isEmpty()) {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                redisRepairs.forEach((postId, count) -> connection.hashCommands().hMSet(bytes(countKey(postId)), Map.of(
+                        bytes(TOTAL_FIELD), bytes(String.valueOf(count.getTotal())),
+                        bytes(ACTIVE_FIELD), bytes(String.valueOf(count.getActive()))
+                )));
+                return null;
+            });
+        }
+        if (!dbRepairs.isEmpty()) {
+            transactionTemplate.execute(status -> postJdbcRepository.batchUpdateCommentCounts(dbRepairs));
+        }
+
+        Set<Long> repairedIds = new HashSet<>(dbRepairs.keySet());
+        repairedIds.addAll(redisRepairs.keySet());
+        if (!repairedIds.isEmpty()) {
+            log.warn("댓글 수 불일치 복구: postIds={}", repairedIds);
+        }
+        return repairedIds.size();
+    }
+
+    private boolean matches(CommentCount actual, Long total, Long active) {
+        return total != null && active != null && actual.getTotal() == total && actual.getActive() == active;
+    }
+
+    private Map<Long, CommentCount> countFromComments(Collection<Long> postIds) {
+        Map<Long, CommentCount> counts = new HashMap<>();
+        for (Object[] row : commentRepository.countByPostIds(postIds)) {
+            counts.put((Long) row[0], new CommentCount(((Number) row[1]).longValue(), ((Number) row[2]).longValue()));
+        }
+        return counts;
+    }
+
+    /**
+     * 여러 게시글의 Redis 카운터를 파이프라인 1회로 조회 (키가 없는 게시글은 제외)
+     */
+    private Map<Long, CommentCount> readRedisCounts(List<Long> postIds) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            postIds.forEach(postId -> connection.hashCommands().hMGet(
+                    bytes(countKey(postId)), bytes(TOTAL_FIELD), bytes(ACTIVE_FIELD)));
+            return null;
+        });
+
+        Map<Long, CommentCount> counts = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<String> values = (List<String>) results.get(i);
+            if (values != null && values.get(0) != null && values.get(1) != null) {
+                counts.put(postIds.get(i), new CommentCount(Long.parseLong(values.get(0)), Long.parseLong(values.get(1))));
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 게시글 삭제 시 댓글 수 키 삭제
+     */
+    public void deleteCommentCount(Long postId) {
+        redisTemplate.delete(countKey(postId));
+        log.debug("Redis 댓글 수 삭제: postId={}", postId);
+    }
+
+    private static String countKey(Long postId) {
+        return COMMENT_COUNT_KEY_PREFIX + postId;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static String dirtyKey(Long postId, int partitions) {
+        return COMMENT_COUNT_DIRTY_KEY_PREFIX + Math.floorMod(postId, partitions);
+    }
+}
@@ -2,11 +2,16 @@ package com.example.hightraffic.service;
 
 import com.example.hightraffic.domain.Comment;
 import com.example.hightraffic.dto.*;
+import com.example.hightraffic.event.CommentChangedEvent;
 import com.example.hightraffic.exception.BusinessException;
 import com.example.hightraffic.repository.CommentRepository;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -22,9 +27,15 @@ public class CommentService {
 
     private final CommentRepository commentRepository;
     private final PostRepository postRepository;
+    private final CommentCountService commentCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     private static final int MAX_DEPTH_FOR_TWO_LEVEL = 2; // 2 depth 방식의 최대 깊이
 
+    // 트리 조회 1회당 최대 댓글 수 (거대한 스레드로 인한 메모리 폭증 방지)
+    @Value("${app.comment.path.max-tree-rows:5000}")
+    private int maxTreeRows;
+
     /**
      * 댓글 생성 (2 depth 방식)
      * - depth 0: 댓글 (parentId = null)
@@ -55,7 +66,7 @@ public class CommentService {
             log.info("대댓글 생성: postId={}, parentId={}", request.getPostId(), request.getParentId());
         }
 
-        Comment savedComment = commentRepository.save(comment);
+        Comment savedComment = saveWithPath(comment);
         return CommentResponse.from(savedComment);
     }
 
@@ -78,12 +89,21 @@ public class CommentService {
         } else {
             // 자식 댓글 생성
             Comment parent = findCommentById(request.getParentId());
+
+            // path 길이 제한 (인덱스 키 크기)
+            if (parent.getDepth() >= Comment.MAX_PATH_DEPTH) {
+                throw new BusinessException(
+                        String.format("댓글 깊이는 최대 %d까지만 허용됩니다.", Comment.MAX_PATH_DEPTH),
+                        HttpStatus.BAD_REQUEST
+                );
+            }
+
             comment = request.toChildEntity(parent);
             log.info("자식 댓글 생성: postId={}, parentId={}, depth={}",
                     request.getPostId(), request.getParentId(), comment.getDepth());
         }
 
-        Comment savedComment = commentRepository.save(comment);
+        Comment savedComment = saveWithPath(comment);
         return CommentResponse.from(savedComment);
     }
 
@@ -108,14 +128,23 @@ public class CommentService {
         Comment comment = findCommentById(id);
 
         long childCount = commentRepository.countByParentId(id);
+        // 이미 소프트 삭제된 댓글은 활성 댓글 수에서 빠져 있음
+        int activeDelta = comment.getIsDeleted() ? 0 : -1;
 
         if (childCount > 0) {
             // 자식 댓글이 있으면 소프트 삭제
             comment.delete();
+            if (activeDelta != 0) {
+                eventPublisher.publishEvent(new CommentChangedEvent(comment.getPostId(), 0, activeDelta));
+            }
             log.info("댓글 소프트 삭제 (자식 댓글 존재): id={}, childCount={}", id, childCount);
         } else {
             // 자식 댓글이 없으면 실제 삭제
             commentRepository.delete(comment);
+            if (comment.getParentId() != null) {
+                commentRepository.addReplyCount(comment.getParentId(), -1);
+            }
+            eventPublisher.publishEvent(new CommentChangedEvent(comment.getPostId(), -1, activeDelta));
             log.info("댓글 실제 삭제: id={}", id);
         }
     }
@@ -160,6 +189,105 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 2 Depth 방식 스레드 페이지 조회 (루트 댓글 커서 페이지 + 첫 N개 답글)
+     *
+     * 조회 전략 (게시글의 나머지 댓글은 읽지 않음):
+     * 1. 루트 댓글 size + 1개 조회 - (post_id, parent_id, created_at) 인덱스 범위 스캔
+     * 2. 페이지의 루트 댓글들의 첫 replySize + 1개 답글을 쿼리 1회로 조회 (ROW_NUMBER)
+     * 3. replySize개를 넘으면 해당 스레드에 nextReplyCursor 지정
+     *
+     * @param cursor 이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param replySize 스레드별로 함께 반환할 답글 수
+     */
+    public KeysetPageResponse<CommentWithRepliesResponse> getCommentThreads(Long postId, String cursor,
+                                                                            int size, int replySize) {
+        PageRequest pageable = PageRequest.of(0, size + 1);
+        List<Comment> roots;
+        if (cursor == null) {
+            roots = commentRepository.findRootPageFirst(postId, pageable);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            roots = commentRepository.findRootPageAfter(
+                    postId, keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable);
+        }
+
+        boolean hasNext = roots.size() > size;
+        List<Comment> pageRoots = roots.stream().limit(size).collect(Collectors.toList());
+        if (pageRoots.isEmpty()) {
+            return KeysetPageResponse.<CommentWithRepliesResponse>builder()
+                    .content(List.of())
+                    .build();
+        }
+
+        // 스레드별 첫 replySize + 1개 답글 (다음 답글 존재 여부 확인용 1개 추가)
+        List<Long> rootIds = pageRoots.stream().map(Comment::getId).collect(Collectors.toList());
+        Map<Long, List<Comment>> repliesByParentId = commentRepository
+                .findFirstRepliesByParentIds(postId, rootIds, replySize + 1).stream()
+                .collect(Collectors.groupingBy(Comment::getParentId));
+
+        List<CommentWithRepliesResponse> content = pageRoots.stream()
+                .map(root -> {
+                    CommentWithRepliesResponse response = CommentWithRepliesResponse.from(root);
+                    List<Comment> replies = repliesByParentId.getOrDefault(root.getId(), List.of());
+                    replies.stream().limit(replySize).forEach(response::addReply);
+                    if (replySize > 0 && replies.size() > replySize) {
+                        Comment last = replies.get(replySize - 1);
+                        response.setNextReplyCursor(new KeysetCursor(last.getCreatedAt(), last.getId()).encode());
+                    }
+                    return response;
+                })
+                .collect(Collectors.toList());
+
+        Comment lastRoot = pageRoots.get(pageRoots.size() - 1);
+        String nextCursor = hasNext ? new KeysetCursor(lastRoot.getCreatedAt(), lastRoot.getId()).encode() : null;
+
+        log.debug("스레드 페이지 조회: postId={}, roots={}, hasNext={}", postId, content.size(), hasNext);
+        return KeysetPageResponse.<CommentWithRepliesResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(content.size())
+                .build();
+    }
+
+    /**
+     * 답글 더보기 (특정 댓글의 직계 답글 커서 페이지)
+     *
+     * @param cursor 스레드 응답의 nextReplyCursor 또는 이전 응답의 nextCursor
+     */
+    public KeysetPageResponse<CommentWithRepliesResponse.ReplyResponse> getReplies(Long parentId, String cursor, int size) {
+        // 게시글 ID를 조건에 포함해야 (post_id, parent_id, created_at) 인덱스를 사용
+        Comment parent = findCommentById(parentId);
+        PageRequest pageable = PageRequest.of(0, size + 1);
+
+        List<Comment> replies;
+        if (cursor == null) {
+            replies = commentRepository.findReplyPageFirst(parent.getPostId(), parentId, pageable);
+        } else {
+            KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+            replies = commentRepository.findReplyPageAfter(
+                    parent.getPostId(), parentId, keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable);
+        }
+
+        boolean hasNext = replies.size() > size;
+        List<Comment> pageReplies = replies.stream().limit(size).collect(Collectors.toList());
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = pageReplies.get(pageReplies.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return KeysetPageResponse.<CommentWithRepliesResponse.ReplyResponse>builder()
+                .content(pageReplies.stream()
+                        .map(CommentWithRepliesResponse.ReplyResponse::from)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(pageReplies.size())
+                .build();
+    }
+
     /**
      * 무한 Depth 방식 댓글 목록 조회
      * - 계층형 트리 구조
@@ -205,6 +333,78 @@ public class CommentService {
         return rootComments;
     }
 
+    /**
+     * 서브트리 조회 (Materialized Path)
+     * - 특정 댓글과 모든 하위 댓글을 path 범위 스캔 1회로 조회
+     * - 게시글 전체 댓글을 읽지 않으므로 댓글이 많은 게시글에서도 서브트리 크기만큼만 메모리 사용
+     * - max-tree-rows를 넘으면 잘린 위치의 조상 댓글에 truncated 표시 (나머지는 /children으로 조회)
+     */
+    public CommentTreeResponse getSubtree(Long commentId) {
+        Comment comment = findCommentWithPath(commentId);
+        List<Comment> subtree = commentRepository.findSubtreeByPath(
+                comment.getPostId(), comment.getPath() + "%", treeRowLimit());
+
+        log.debug("서브트리 조회: id={}, size={}", commentId, subtree.size());
+        return buildTree(subtree).get(0);
+    }
+
+    /**
+     * 한 단계 조회 (특정 댓글의 직계 자식, 트리 순서)
+     */
+    public List<CommentResponse> getChildren(Long commentId, int size) {
+        Comment comment = findCommentWithPath(commentId);
+        return commentRepository.findLevelByPath(
+                        comment.getPostId(), comment.getDepth() + 1, comment.getPath() + "%", PageRequest.of(0, size))
+                .stream()
+                .map(CommentResponse::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 스레드 목록 조회 (루트 댓글 size개와 그 하위 댓글 전체, 트리 순서)
+     *
+     * 조회 전략:
+     * 1. 루트 path를 size + 1개 조회 (커버링 인덱스) → 구간 [첫 루트, size+1번째 루트) 결정
+     * 2. path 구간 범위 스캔 1회로 스레드 size개를 트리 순서로 조회
+     * 3. 정렬된 결과를 스택으로 한 번 훑어 트리 구성 (부모 → 자식 순서가 보장됨)
+     *
+     * 행 수 제한 (max-tree-rows):
+     * - 제한을 넘으면 마지막 스레드는 일부만 조회됨 → 스레드가 2개 이상이면 마지막 스레드를 빼고 다음 페이지에서 다시 조회
+     * - 스레드 하나가 제한보다 크면 잘린 채 반환하고 잘린 위치의 조상 댓글에 truncated 표시
+     * - hasNext / nextCursor는 실제로 반환한 마지막 스레드 기준 (잘려서 빠진 루트 댓글도 다음 페이지에 포함)
+     *
+     * @param cursor 이전 페이지 마지막 루트 댓글 ID (null이면 처음부터)
+     */
+    public CursorPageResponse<CommentTreeResponse> getThreads(Long postId, Long cursor, int size) {
+        String afterPath = cursor != null ? Comment.pathSegment(cursor) : "";
+        List<String> rootPaths = commentRepository.findRootPathsAfter(postId, afterPath, PageRequest.of(0, size + 1));
+        if (rootPaths.isEmpty()) {
+            return CursorPageResponse.of(List.of(), null, false);
+        }
+
+        boolean moreRoots = rootPaths.size() > size;
+        PageRequest rowLimit = treeRowLimit();
+        List<Comment> comments = moreRoots
+                ? commentRepository.findByPathRange(postId, rootPaths.get(0), rootPaths.get(size), rowLimit)
+                : commentRepository.findByPathFrom(postId, rootPaths.get(0), rowLimit);
+
+        List<CommentTreeResponse> threads = buildTree(comments);
+        CommentTreeResponse last = threads.get(threads.size() - 1);
+        if (Boolean.TRUE.equals(last.getTruncated()) && threads.size() > 1) {
+            // 일부만 조회된 마지막 스레드는 다음 페이지에서 처음부터 다시 조회
+            threads.remove(threads.size() - 1);
+            last = threads.get(threads.size() - 1);
+        }
+
+        // 반환한 마지막 루트 뒤에 루트 댓글이 남아 있는지 (행 수 제한으로 빠진 루트 포함)
+        int lastRoot = rootPaths.indexOf(Comment.pathSegment(last.getId()));
+        boolean hasNext = lastRoot >= 0 ? lastRoot < rootPaths.size() - 1 : moreRoots;
+        Long nextCursor = hasNext ? last.getId() : null;
+
+        log.debug("스레드 조회: postId={}, threads={}, comments={}", postId, threads.size(), comments.size());
+        return CursorPageResponse.of(threads, nextCursor, hasNext);
+    }
+
     /**
      * 특정 댓글 조회
      */
@@ -214,17 +414,117 @@ public class CommentService {
     }
 
     /**
-     * 게시글의 댓글 개수 조회
+     * 게시글의 댓글 개수 조회 (Redis 카운터, comments 테이블 조회 없음)
      */
     public long getCommentCount(Long postId) {
-        return commentRepository.countByPostId(postId);
+        return commentCountService.getCommentCount(postId).getTotal();
     }
 
     /**
-     * 게시글의 삭제되지 않은 댓글 개수 조회
+     * 게시글의 삭제되지 않은 댓글 개수 조회 (Redis 카운터, comments 테이블 조회 없음)
      */
     public long getActiveCommentCount(Long postId) {
-        return commentRepository.countByPostIdAndIsDeletedFalse(postId);
+        return commentCountService.getCommentCount(postId).getActive();
+    }
+
+    /**
+     * 댓글 저장 후 path 지정 (ID가 INSERT 시점에 생성되므로 저장 후 계산, 커밋 시 UPDATE)
+     * - 부모가 아직 마이그레이션되지 않았으면 조상 path를 먼저 계산해서 함께 저장 (resolvePath)
+     * - 답글이면 부모의 reply_count 원자적 증가
+     * - 커밋 후 게시글 댓글 수 증가 (CommentChangedEvent)
+     */
+    private Comment saveWithPath(Comment comment) {
+        Comment savedComment = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(savedComment.getPostId(), 1, 1));
+        if (savedComment.getParentId() == null) {
+            savedComment.assignPath(null);
+        } else {
+            savedComment.assignPath(resolvePath(findCommentById(savedComment.getParentId())));
+            commentRepository.addReplyCount(savedComment.getParentId(), 1);
+        }
+        return savedComment;
+    }
+
+    /**
+     * 댓글의 path 조회 (아직 마이그레이션되지 않았으면 계산해서 지정)
+     * - path가 있는 가장 가까운 조상까지 올라간 뒤, 위에서부터 CommentPathMigrator와 같은 규칙으로 지정
+     * - 조상이 없는 댓글(데이터 불일치)은 마이그레이션과 같이 루트로 취급
+     * - 지정한 path는 같은 트랜잭션에서 UPDATE (마이그레이터가 나중에 처리해도 같은 값)
+     */
+    private String resolvePath(Comment comment) {
+        Deque<Comment> unresolved = new ArrayDeque<>();
+        String ancestorPath = null;
+        Comment current = comment;
+        while (current != null) {
+            if (current.getPath() != null) {
+                ancestorPath = current.getPath();
+                break;
+            }
+            unresolved.push(current);
+            current = current.getParentId() != null
+                    ? commentRepository.findById(current.getParentId()).orElse(null)
+                    : null;
+        }
+
+        while (!unresolved.isEmpty()) {
+            Comment ancestor = unresolved.pop();
+            ancestor.assignPath(ancestorPath);
+            ancestorPath = ancestor.getPath();
+        }
+        return ancestorPath;
+    }
+
+    /**
+     * 트리 조회 행 수 제한 (잘렸는지 알 수 있도록 1개 더 조회)
+     */
+    private PageRequest treeRowLimit() {
+        return PageRequest.of(0, maxTreeRows + 1);
+    }
+
+    /**
+     * path 순으로 정렬된 댓글 목록으로 트리 구성
+     * - path 순서 = 전위 순회 순서이므로 스택에 현재 조상 경로만 유지
+     * - 조상이 목록에 없는 댓글(구간의 첫 댓글 등)은 최상위로 반환
+     * - max-tree-rows개까지만 사용, 더 있으면 첫 번째로 빠진 댓글의 조상(= 하위 댓글이 일부만 포함된 댓글)에 truncated 표시
+     */
+    private List<CommentTreeResponse> buildTree(List<Comment> rows) {
+        List<CommentTreeResponse> roots = new ArrayList<>();
+        Deque<CommentTreeResponse> ancestors = new ArrayDeque<>();
+
+        List<Comment> comments = rows.size() > maxTreeRows ? rows.subList(0, maxTreeRows) : rows;
+        for (Comment comment : comments) {
+            CommentTreeResponse response = CommentTreeResponse.from(comment);
+            while (!ancestors.isEmpty() && !ancestors.peek().getId().equals(comment.getParentId())) {
+                ancestors.pop();
+            }
+
+            if (ancestors.isEmpty()) {
+                roots.add(response);
+            } else {
+                ancestors.peek().addChild(response);
+            }
+            ancestors.push(response);
+        }
+
+        if (rows.size() > maxTreeRows) {
+            Long omittedParentId = rows.get(maxTreeRows).getParentId();
+            while (!ancestors.isEmpty() && !ancestors.peek().getId().equals(omittedParentId)) {
+                ancestors.pop();
+            }
+            ancestors.forEach(CommentTreeResponse::markTruncated);
+        }
+        return roots;
+    }
+
+    private Comment findCommentWithPath(Long id) {
+        Comment comment = findCommentById(id);
+        if (comment.getPath() == null) {
+            throw new BusinessException(
+                    "댓글 경로가 아직 생성되지 않았습니다: id=" + id,
+                    HttpStatus.SERVICE_UNAVAILABLE
+            );
+        }
+        return comment;
     }
 
     /**
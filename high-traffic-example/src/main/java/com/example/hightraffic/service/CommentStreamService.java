@@ -0,0 +1,190 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Comment;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.CommentRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 댓글 트리 스트리밍 JSON 직렬화
+ *
+ * 문제 정의:
+ * - CommentTreeResponse 방식은 전체 댓글 엔티티 + 응답 객체 트리를 만든 뒤 Jackson이 직렬화
+ * - 최대 메모리 ≈ 댓글 수 × 2, 댓글 수만 개인 스레드는 요청 하나가 수백 MB를 할당
+ *
+ * 해결 방법:
+ * 1. path 순(= 트리 전위 순회 순)으로 정렬된 Stream<Comment>를 fetch size 단위로 읽음
+ *    - fetch size는 이 쿼리에만 힌트로 지정 (MySQL: Integer.MIN_VALUE = 한 행씩 스트리밍)
+ *    - 데이터소스 전역 설정(useCursorFetch)을 쓰지 않으므로 다른 쿼리는 기존처럼 한 번에 조회
+ * 2. 읽는 즉시 JsonGenerator로 출력하고 엔티티를 detach (영속성 컨텍스트에 쌓이지 않음)
+ * 3. 현재 열려 있는 조상 노드만 스택에 유지 → 메모리는 댓글 수가 아닌 트리 깊이에 비례
+ *
+ * 출력 형식: CommentTreeResponse 배열과 같은 필드
+ * - totalChildCount는 하위 댓글을 모두 쓴 뒤에 알 수 있으므로 children 뒤에 출력
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService {
+
+    private final CommentRepository commentRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    // 트리 스트리밍 쿼리의 JDBC fetch size (MySQL: Integer.MIN_VALUE = 한 행씩 스트리밍, H2 등은 양수)
+    @Value("${app.comment.stream.fetch-size:-2147483648}")
+    private int fetchSize;
+
+    /**
+     * 게시글의 전체 댓글 트리를 스트리밍으로 출력 (루트 댓글 배열)
+     */
+    @Transactional(readOnly = true)
+    public void writePostTree(Long postId, OutputStream outputStream) {
+        TypedQuery<Comment> query = entityManager.createQuery(
+                "SELECT c FROM Comment c WHERE c.postId = :postId AND c.path IS NOT NULL ORDER BY c.path ASC", Comment.class)
+                .setParameter("postId", postId);
+        try (Stream<Comment> comments = stream(query)) {
+            write(comments, outputStream);
+        }
+    }
+
+    /**
+     * 서브트리 스트리밍 대상 조회 (응답 헤더를 보내기 전에 호출)
+     *
+     * 스트리밍이 시작된 뒤에는 404/503을 보낼 수 없으므로 존재 여부와 경로를 여기서 한 번만 확인
+     */
+    @Transactional(readOnly = true)
+    public Subtree findSubtree(Long commentId) {
+        Comment root = commentRepository.findById(commentId)
+                .orElseThrow(() -> new BusinessException(
+                        "댓글을 찾을 수 없습니다: id=" + commentId,
+                        HttpStatus.NOT_FOUND
+                ));
+        if (root.getPath() == null) {
+            throw new BusinessException("댓글 경로가 아직 생성되지 않았습니다: id=" + commentId, HttpStatus.SERVICE_UNAVAILABLE);
+        }
+        return new Subtree(root.getPostId(), root.getPath());
+    }
+
+    /**
+     * 서브트리를 스트리밍으로 출력 (요소 1개인 배열)
+     */
+    @Transactional(readOnly = true)
+    public void writeSubtree(Subtree subtree, OutputStream outputStream) {
+        TypedQuery<Comment> query = entityManager.createQuery(
+                "SELECT c FROM Comment c WHERE c.postId = :postId AND c.path LIKE :pathPrefix ORDER BY c.path ASC", Comment.class)
+                .setParameter("postId", subtree.postId())
+                .setParameter("pathPrefix", subtree.path() + "%");
+        try (Stream<Comment> comments = stream(query)) {
+            write(comments, outputStream);
+        }
+    }
+
+    /**
+     * fetch size / read-only 힌트를 이 쿼리에만 지정해서 스트리밍
+     * - read-only: 스냅샷을 만들지 않음 (한 건씩 detach하여 영속성 컨텍스트도 비움)
+     * - 트랜잭션 안에서 사용 후 반드시 close (try-with-resources)
+     */
+    private Stream<Comment> stream(TypedQuery<Comment> query) {
+        return query
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    private void write(Stream<Comment> comments, OutputStream outputStream) {
+        long written = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            Deque<Frame> ancestors = new ArrayDeque<>();
+            generator.writeStartArray();
+
+            Iterator<Comment> iterator = comments.iterator();
+            while (iterator.hasNext()) {
+                Comment comment = iterator.next();
+
+                // 부모가 나올 때까지 닫기 (path 순이므로 닫힌 노드는 다시 나오지 않음)
+                while (!ancestors.isEmpty() && !ancestors.peek().id.equals(comment.getParentId())) {
+                    close(generator, ancestors);
+                }
+
+                writeStart(generator, comment);
+                ancestors.push(new Frame(comment.getId()));
+                entityManager.detach(comment);
+                written++;
+            }
+
+            while (!ancestors.isEmpty()) {
+                close(generator, ancestors);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            throw new UncheckedIOException(e);
+        }
+        log.debug("댓글 트리 스트리밍 완료: comments={}", written);
+    }
+
+    private void writeStart(JsonGenerator generator, Comment comment) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", comment.getId());
+        generator.writeNumberField("postId", comment.getPostId());
+        generator.writeObjectField("parentId", comment.getParentId());
+        generator.writeStringField("content", comment.getContent());
+        generator.writeStringField("author", comment.getAuthor());
+        generator.writeNumberField("depth", comment.getDepth());
+        generator.writeBooleanField("isDeleted", comment.getIsDeleted());
+        generator.writeObjectField("createdAt", comment.getCreatedAt());
+        generator.writeObjectField("updatedAt", comment.getUpdatedAt());
+        generator.writeArrayFieldStart("children");
+    }
+
+    /**
+     * 스택 맨 위 노드를 닫고, 하위 댓글 수를 부모에 누적
+     */
+    private void close(JsonGenerator generator, Deque<Frame> ancestors) throws IOException {
+        Frame frame = ancestors.pop();
+        generator.writeEndArray();
+        generator.writeNumberField("totalChildCount", frame.descendants);
+        generator.writeEndObject();
+
+        if (!ancestors.isEmpty()) {
+            ancestors.peek().descendants += frame.descendants + 1;
+        }
+    }
+
+    /**
+     * 스트리밍할 서브트리 (루트 댓글의 게시글 ID와 path)
+     */
+    public record Subtree(Long postId, String path) {
+    }
+
+    /**
+     * 아직 닫히지 않은 조상 노드 (ID와 지금까지 출력한 하위 댓글 수)
+     */
+    private static final class Frame {
+        private final Long id;
+        private int descendants;
+
+        private Frame(Long id) {
+            this.id = id;
+        }
+    }
+}
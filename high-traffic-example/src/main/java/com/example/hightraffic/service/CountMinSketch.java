@@ -0,0 +1,142 @@
+package com.example.hightraffic.service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Count-Min Sketch (빈도 추정, 고정 메모리)
+ *
+ * - depth개의 행 × width개의 카운터, 키마다 행별로 다른 위치의 카운터를 증가
+ * - 추정값 = 행별 카운터의 최솟값 (실제 값 이상, 과대 추정만 발생)
+ * - 오차: 전체 건수 N에 대해 확률 1 - e^(-depth)로 e·N/width 이하 → width는 N과 허용 오차로 정함
+ * - 같은 크기의 스케치는 카운터를 더하면 합쳐짐 (노드별 스케치 병합)
+ *
+ * 보수적 갱신 (conservative update):
+ * - 모든 행을 +1 하지 않고, 최솟값 + 1보다 작은 카운터만 최솟값 + 1로 올림
+ * - 다른 키와 겹친 카운터가 불필요하게 커지지 않아 과대 추정이 크게 줄어듦 (정상 사용자 오탐 방지)
+ * - 각 카운터는 여전히 그 위치의 모든 키의 실제 값 이상 → 추정값 ≥ 실제 값, 카운터 합산 병합도 유지
+ *
+ * 락 없이 여러 스레드에서 add 가능 (AtomicIntegerArray)
+ * - 같은 키를 동시에 기록하면 드물게 1씩 덜 셀 수 있음 (과소 추정 방향이라 오탐은 늘지 않음)
+ */
+final class CountMinSketch {
+
+    private final int depth;
+    private final int width;
+    private final AtomicIntegerArray counters;
+
+    CountMinSketch(int depth, int width) {
+        this.depth = depth;
+        this.width = width;
+        this.counters = new AtomicIntegerArray(depth * width);
+    }
+
+    int getDepth() {
+        return depth;
+    }
+
+    int getWidth() {
+        return width;
+    }
+
+    /**
+     * 1 증가 (보수적 갱신)
+     *
+     * @return 증가 후 추정값
+     */
+    long add(String key) {
+        long hash = hash64(key);
+        int min = Integer.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, hash)));
+        }
+        int target = min + 1;
+        for (int row = 0; row < depth; row++) {
+            counters.accumulateAndGet(index(row, hash), target, Math::max);
+        }
+        return target;
+    }
+
+    /**
+     * 전체 건수 N, 허용 오차 maxError에 필요한 행당 카운터 수 (e·N/width ≤ maxError)
+     */
+    static int widthFor(long expectedCount, double maxError) {
+        return (int) Math.max(1, Math.ceil(Math.E * expectedCount / maxError));
+    }
+
+    long estimate(String key) {
+        long hash = hash64(key);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counters.get(index(row, hash)));
+        }
+        return min;
+    }
+
+    /**
+     * 다른 스케치의 카운터를 더함 (같은 depth/width만 가능)
+     */
+    void merge(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("스케치 크기가 다릅니다: " + other.depth + "x" + other.width
+                    + " != " + depth + "x" + width);
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            int value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, value);
+            }
+        }
+    }
+
+    long getMemoryBytes() {
+        return (long) depth * width * Integer.BYTES;
+    }
+
+    /**
+     * 직렬화 (depth, width, 카운터 순서의 big-endian int)
+     */
+    byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES * (2 + counters.length()));
+        buffer.putInt(depth).putInt(width);
+        for (int i = 0; i < counters.length(); i++) {
+            buffer.putInt(counters.get(i));
+        }
+        return buffer.array();
+    }
+
+    static CountMinSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        CountMinSketch sketch = new CountMinSketch(buffer.getInt(), buffer.getInt());
+        for (int i = 0; i < sketch.counters.length(); i++) {
+            sketch.counters.set(i, buffer.getInt());
+        }
+        return sketch;
+    }
+
+    /**
+     * 행별 위치 = h1 + row·h2 (해시 1회로 depth개의 독립에 가까운 해시 생성)
+     */
+    private int index(int row, long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        return row * width + Math.floorMod(h1 + row * h2, width);
+    }
+
+    /**
+     * FNV-1a 64 + MurmurHash3 fmix64 (String.hashCode()는 32비트라 충돌이 많음)
+     */
+    private static long hash64(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,468 @@
+package com.example.hightraffic.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.RedisZSetCommands.ZAddArgs;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 조회 어뷰저(헤비 히터) 탐지 및 자동 차단
+ *
+ * 문제 정의:
+ * - RateLimitService는 모든 IP마다 Redis 키를 만듦 → 정상 사용자가 대부분인데도 키/왕복이 IP 수만큼 발생
+ * - 노드별 Rate Limit만으로는 여러 노드에 분산된 어뷰징 트래픽의 전체 규모를 알 수 없음
+ *
+ * 해결 방법 (노드 메모리에서 스트림 집계, 고정 메모리):
+ * 1. 조회마다 Count-Min Sketch(빈도 추정, 보수적 갱신) + Space-Saving(상위 K개 IP) 갱신 - Redis 호출 없음
+ * 2. 이 노드의 추정값만으로 임계값을 넘으면 즉시 차단 (전체 합은 노드 값 이상)
+ *    - 추정값은 과대 추정만 하므로 스케치 폭을 윈도우당 예상 조회 수로 정해 오차를 임계값의 error-ratio 이하로 유지
+ *      (고정 폭이면 트래픽이 늘수록 정상 IP의 추정값이 임계값을 넘어 오탐)
+ * 3. merge-interval-ms마다 노드별 스케치를 Redis에 올리고 모든 노드의 스케치를 합산
+ *    - 각 노드의 상위 K개 IP를 후보로 모아 합산 스케치로 전체 빈도 추정
+ *    - 임계값 이상이면 공유 차단 목록(ZSET, score = 차단 해제 시각)에 추가
+ *    - 공유 차단 목록을 로컬 캐시로 내려받아 다른 노드에서 탐지된 IP도 차단
+ * 4. 차단된 IP는 조회는 허용하되 조회수 증가 차단 (Rate Limit 초과와 같은 정책, Rate Limit 조회도 생략)
+ *
+ * 윈도우:
+ * - window-seconds 단위 고정 윈도우 (모든 노드가 같은 epoch 기준 윈도우 번호 사용)
+ * - 윈도우가 바뀌면 새 스케치로 시작 (마지막 병합 이후 ~ 윈도우 끝의 기록은 병합되지 않음)
+ *
+ * 메모리 (기본 설정):
+ * - 스케치 폭 = e × 예상 조회 수 / (error-ratio × 임계값) = e × 300,000 / (0.25 × 300) ≈ 10,874
+ * - 스케치 4 × 10,874 × 4바이트 ≈ 170KB (병합 때마다 노드별로 Redis에 업로드)
+ * - Space-Saving 카운터 100개, 차단 목록 max-blocked개
+ *
+ * Redis Key 구조:
+ * - heavyhitter:sketch:{window}:{nodeId} : 노드별 스케치 (직렬화, TTL = 윈도우 2배)
+ * - heavyhitter:nodes:{window} : 해당 윈도우에 스케치를 올린 노드 (Set)
+ * - heavyhitter:candidates:{window} : 노드별 상위 K개 IP 합집합 (Set)
+ * - heavyhitter:blocklist : 차단 IP (ZSET, score = 차단 해제 시각 epoch ms)
+ * - heavyhitter:unblocked:{window} : 관리자가 차단 해제한 IP (해당 윈도우 동안 다시 차단하지 않음, Set)
+ *
+ * 메트릭:
+ * - heavyhitter.blocked.views: 차단으로 조회수 증가를 막은 조회 수
+ * - heavyhitter.detected: 새로 차단한 IP 수
+ * - heavyhitter.merge.duration: 노드 간 병합 1회 소요 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HeavyHitterDetector {
+
+    private static final String SKETCH_KEY_PREFIX = "heavyhitter:sketch:";
+    private static final String NODES_KEY_PREFIX = "heavyhitter:nodes:";
+    private static final String CANDIDATES_KEY_PREFIX = "heavyhitter:candidates:";
+    private static final String UNBLOCKED_KEY_PREFIX = "heavyhitter:unblocked:";
+    static final String BLOCKLIST_KEY = "heavyhitter:blocklist";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+
+    @Value("${app.heavy-hitter.enabled:true}")
+    private boolean enabled;
+
+    @Getter
+    @Value("${app.heavy-hitter.window-seconds:60}")
+    private long windowSeconds;
+
+    // 윈도우 내 조회 수가 이 값 이상인 IP를 차단 (모든 노드 합산)
+    @Getter
+    @Value("${app.heavy-hitter.threshold:300}")
+    private long threshold;
+
+    @Value("${app.heavy-hitter.sketch-depth:4}")
+    private int sketchDepth;
+
+    // 윈도우당 예상 조회 수 (모든 노드 합산, 스케치 폭 계산용)
+    @Value("${app.heavy-hitter.expected-views-per-window:300000}")
+    private long expectedViewsPerWindow;
+
+    // 예상 조회 수에서 허용할 추정 오차 (임계값 대비 비율)
+    @Value("${app.heavy-hitter.error-ratio:0.25}")
+    private double errorRatio;
+
+    private int sketchWidth;
+
+    @Value("${app.heavy-hitter.top-k:100}")
+    private int topK;
+
+    // Space-Saving 락 스트라이프 수 (0이면 CPU 수)
+    @Value("${app.heavy-hitter.top-k-stripes:0}")
+    private int topKStripes;
+
+    @Value("${app.heavy-hitter.block-seconds:600}")
+    private long blockSeconds;
+
+    @Value("${app.heavy-hitter.max-blocked:10000}")
+    private long maxBlocked;
+
+    @Getter
+    private final String nodeId = createNodeId();
+
+    private final AtomicReference<Window> current = new AtomicReference<>();
+
+    // IP → 차단 해제 시각 (epoch ms)
+    private Cache<String, Long> blockedUntil;
+
+    // 노드 로컬에서 탐지하여 다음 병합 때 공유 차단 목록에 올릴 IP
+    private final ConcurrentLinkedQueue<String> pendingShare = new ConcurrentLinkedQueue<>();
+
+    // 차단 해제된 IP → 다시 차단하지 않을 마지막 윈도우 번호
+    private final Map<String, Long> exemptUntilWindow = new ConcurrentHashMap<>();
+
+    @Getter
+    private volatile List<Offender> topOffenders = List.of();
+
+    @Getter
+    private volatile int mergedNodes;
+
+    @Getter
+    private volatile long lastMergeAt;
+
+    private Counter blockedViews;
+    private Counter detected;
+
+    @PostConstruct
+    void init() {
+        sketchWidth = CountMinSketch.widthFor(expectedViewsPerWindow, errorRatio * threshold);
+        blockedUntil = Caffeine.newBuilder()
+                .maximumSize(maxBlocked)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long until, long currentTime) {
+                        return remainingNanos(until);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long until, long currentTime, long currentDuration) {
+                        return remainingNanos(until);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long until, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        blockedViews = Counter.builder("heavyhitter.blocked.views")
+                .description("헤비 히터 차단으로 조회수 증가를 막은 조회 수")
+                .register(meterRegistry);
+        detected = Counter.builder("heavyhitter.detected")
+                .description("헤비 히터로 새로 차단한 IP 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회 1건 기록 및 차단 여부 판정 (Redis 호출 없음)
+     *
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return true면 차단 대상 (조회수 증가 안 함)
+     */
+    public boolean record(String identifier) {
+        if (!enabled) {
+            return false;
+        }
+        if (isBlocked(identifier)) {
+            blockedViews.increment();
+            return true;
+        }
+
+        Window window = currentWindow();
+        long estimate = window.sketch().add(identifier);
+        window.topK().offer(identifier);
+
+        // 이 노드 값만으로 임계값 초과 → 병합을 기다리지 않고 차단 (다음 병합에서 공유 목록에 추가)
+        if (estimate >= threshold && !isExempt(identifier, window.id())) {
+            block(identifier, clock.millis() + blockSeconds * 1000);
+            pendingShare.add(identifier);
+            detected.increment();
+            blockedViews.increment();
+            log.warn("헤비 히터 차단 (노드 로컬 탐지): identifier={}, estimate={}, window={}초",
+                    identifier, estimate, windowSeconds);
+            return true;
+        }
+        return false;
+    }
+
+    public boolean isBlocked(String identifier) {
+        Long until = blockedUntil.getIfPresent(identifier);
+        return until != null && until > clock.millis();
+    }
+
+    /**
+     * 차단 해제 (로컬 + 공유 차단 목록)
+     * - 현재 윈도우 동안은 임계값을 넘어도 다시 차단하지 않음
+     * - 다른 노드는 다음 병합에서 로컬 차단 캐시를 해제
+     */
+    public void unblock(String identifier) {
+        long windowId = currentWindow().id();
+        exemptUntilWindow.put(identifier, windowId);
+        blockedUntil.invalidate(identifier);
+        String unblockedKey = unblockedKey(windowId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.zSetCommands().zRem(bytes(BLOCKLIST_KEY), bytes(identifier));
+            connection.setCommands().sAdd(bytes(unblockedKey), bytes(identifier));
+            connection.keyCommands().expire(bytes(unblockedKey), windowSeconds * 2);
+            return null;
+        });
+        log.info("헤비 히터 차단 해제: identifier={}", identifier);
+    }
+
+    /**
+     * 현재 차단 중인 IP → 차단 해제 시각
+     */
+    public Map<String, Long> getBlocked() {
+        return Map.copyOf(blockedUntil.asMap());
+    }
+
+    /**
+     * 현재 윈도우의 로컬 자료구조 메모리 (스케치 카운터 기준)
+     */
+    public long getSketchMemoryBytes() {
+        return currentWindow().sketch().getMemoryBytes();
+    }
+
+    /**
+     * 노드 간 병합
+     *
+     * 동작 방식 (왕복 4회, 조회 요청과 무관하게 주기적으로 실행):
+     * 1. 파이프라인: 로컬 스케치 SET EX + 노드/후보 Set 등록 + 노드/후보/차단 해제 목록 조회
+     * 2. MGET으로 모든 노드 스케치 조회 → 카운터 합산
+     * 3. 후보 IP의 전체 빈도 추정 → 임계값 이상이면 공유 차단 목록에 추가 (파이프라인)
+     * 4. 공유 차단 목록 조회 → 로컬 차단 캐시 갱신
+     *
+     * @return 이번 병합에서 공유 차단 목록에 추가한 IP 수
+     */
+    @SuppressWarnings("unchecked")
+    public int merge() {
+        if (!enabled) {
+            return 0;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Window window = currentWindow();
+        String nodesKey = nodesKey(window.id());
+        String candidatesKey = candidatesKey(window.id());
+        long ttlSeconds = windowSeconds * 2;
+        byte[] sketch = window.sketch().toBytes();
+        List<SpaceSaving.Entry> localTop = window.topK().top(topK);
+
+        // 로컬에서 차단된 IP는 더 이상 집계되지 않으므로 Space-Saving에서 밀려나도 후보에 포함
+        List<String> localDetected = new ArrayList<>();
+        for (String identifier; (identifier = pendingShare.poll()) != null; ) {
+            localDetected.add(identifier);
+        }
+        List<byte[]> localCandidates = new ArrayList<>(localTop.size() + localDetected.size());
+        localTop.forEach(entry -> localCandidates.add(bytes(entry.key())));
+        localDetected.forEach(identifier -> localCandidates.add(bytes(identifier)));
+
+        // 1. 로컬 스케치/후보 업로드 + 노드/후보 목록 조회
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().set(bytes(sketchKey(window.id(), nodeId)), sketch,
+                    Expiration.seconds(ttlSeconds), SetOption.upsert());
+            connection.setCommands().sAdd(bytes(nodesKey), bytes(nodeId));
+            connection.keyCommands().expire(bytes(nodesKey), ttlSeconds);
+            if (!localCandidates.isEmpty()) {
+                connection.setCommands().sAdd(bytes(candidatesKey), localCandidates.toArray(byte[][]::new));
+                connection.keyCommands().expire(bytes(candidatesKey), ttlSeconds);
+            }
+            connection.setCommands().sMembers(bytes(nodesKey));
+            connection.setCommands().sMembers(bytes(candidatesKey));
+            connection.setCommands().sMembers(bytes(unblockedKey(window.id())));
+            return null;
+        });
+        Set<String> nodes = (Set<String>) results.get(results.size() - 3);
+        Set<String> candidates = (Set<String>) results.get(results.size() - 2);
+        Set<String> unblocked = (Set<String>) results.get(results.size() - 1);
+        exemptUntilWindow.values().removeIf(windowId -> windowId < window.id());
+        unblocked.forEach(identifier -> exemptUntilWindow.put(identifier, window.id()));
+
+        // 2. 모든 노드 스케치 합산 (직렬화된 바이트 그대로 조회)
+        byte[][] sketchKeys = nodes.stream()
+                .map(node -> bytes(sketchKey(window.id(), node)))
+                .toArray(byte[][]::new);
+        List<byte[]> sketches = redisTemplate.execute(
+                (RedisCallback<List<byte[]>>) connection -> connection.stringCommands().mGet(sketchKeys));
+        CountMinSketch merged = new CountMinSketch(sketchDepth, sketchWidth);
+        int mergedCount = 0;
+        for (byte[] blob : sketches != null ? sketches : List.<byte[]>of()) {
+            if (blob == null) {
+                continue;
+            }
+            CountMinSketch other = CountMinSketch.fromBytes(blob);
+            if (other.getDepth() != sketchDepth || other.getWidth() != sketchWidth) {
+                log.warn("스케치 크기가 달라 병합에서 제외: {}x{}", other.getDepth(), other.getWidth());
+                continue;
+            }
+            merged.merge(other);
+            mergedCount++;
+        }
+
+        // 3. 후보의 전체 빈도 추정 → 임계값 이상이면 공유 차단 목록에 추가
+        long now = clock.millis();
+        long until = now + blockSeconds * 1000;
+        List<Offender> offenders = new ArrayList<>(candidates.size());
+        List<String> newlyBlocked = new ArrayList<>();
+        for (String candidate : candidates) {
+            long estimate = merged.estimate(candidate);
+            offenders.add(new Offender(candidate, estimate));
+            if (estimate >= threshold && !isBlocked(candidate) && !isExempt(candidate, window.id())) {
+                newlyBlocked.add(candidate);
+            }
+        }
+        offenders.sort(Comparator.comparingLong(Offender::estimate).reversed());
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            // ZADD GT: 이미 더 늦게 해제되는 차단은 유지
+            for (String identifier : localDetected) {
+                Long localUntil = blockedUntil.getIfPresent(identifier);
+                if (localUntil != null) {
+                    connection.zSetCommands().zAdd(bytes(BLOCKLIST_KEY), localUntil, bytes(identifier),
+                            ZAddArgs.empty().gt());
+                }
+            }
+            for (String identifier : newlyBlocked) {
+                connection.zSetCommands().zAdd(bytes(BLOCKLIST_KEY), until, bytes(identifier), ZAddArgs.empty().gt());
+            }
+            connection.zSetCommands().zRemRangeByScore(bytes(BLOCKLIST_KEY), Double.NEGATIVE_INFINITY, now);
+            return null;
+        });
+
+        // 4. 공유 차단 목록 → 로컬 차단 캐시 (다른 노드에서 해제된 IP는 로컬에서도 해제)
+        Set<TypedTuple<String>> blocklist = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(BLOCKLIST_KEY, now, Double.POSITIVE_INFINITY, 0, maxBlocked);
+        Map<String, Long> shared = new HashMap<>();
+        if (blocklist != null) {
+            for (TypedTuple<String> tuple : blocklist) {
+                if (tuple.getValue() != null && tuple.getScore() != null) {
+                    shared.put(tuple.getValue(), tuple.getScore().longValue());
+                }
+            }
+        }
+        blockedUntil.asMap().keySet()
+                .removeIf(identifier -> !shared.containsKey(identifier) && !pendingShare.contains(identifier));
+        shared.forEach(this::block);
+
+        if (!newlyBlocked.isEmpty()) {
+            detected.increment(newlyBlocked.size());
+            log.warn("헤비 히터 차단 (노드 합산 탐지): identifiers={}, window={}초, nodes={}",
+                    newlyBlocked, windowSeconds, mergedCount);
+        }
+        topOffenders = offenders.size() > topK ? List.copyOf(offenders.subList(0, topK)) : List.copyOf(offenders);
+        mergedNodes = mergedCount;
+        lastMergeAt = now;
+        sample.stop(Timer.builder("heavyhitter.merge.duration")
+                .description("헤비 히터 스케치 노드 간 병합 소요 시간")
+                .register(meterRegistry));
+        return newlyBlocked.size();
+    }
+
+    private boolean isExempt(String identifier, long windowId) {
+        Long exemptWindow = exemptUntilWindow.get(identifier);
+        return exemptWindow != null && exemptWindow >= windowId;
+    }
+
+    private void block(String identifier, long untilEpochMillis) {
+        blockedUntil.asMap().merge(identifier, untilEpochMillis, Math::max);
+    }
+
+    /**
+     * 현재 윈도우 (윈도우 번호가 바뀌면 새 스케치로 교체)
+     */
+    private Window currentWindow() {
+        long id = clock.millis() / (windowSeconds * 1000);
+        Window window = current.get();
+        while (window == null || window.id() < id) {
+            Window next = new Window(id, new CountMinSketch(sketchDepth, sketchWidth), new SpaceSaving(topK, topKStripes > 0 ? topKStripes : SpaceSaving.defaultStripes()));
+            if (current.compareAndSet(window, next)) {
+                return next;
+            }
+            window = current.get();
+        }
+        return window;
+    }
+
+    /**
+     * 현재 윈도우 번호
+     */
+    long getWindowId() {
+        return currentWindow().id();
+    }
+
+    static String sketchKey(long windowId, String node) {
+        return SKETCH_KEY_PREFIX + windowId + ":" + node;
+    }
+
+    static String nodesKey(long windowId) {
+        return NODES_KEY_PREFIX + windowId;
+    }
+
+    static String candidatesKey(long windowId) {
+        return CANDIDATES_KEY_PREFIX + windowId;
+    }
+
+    static String unblockedKey(long windowId) {
+        return UNBLOCKED_KEY_PREFIX + windowId;
+    }
+
+    private long remainingNanos(long untilEpochMillis) {
+        return Duration.ofMillis(Math.max(0L, untilEpochMillis - clock.millis())).toNanos();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String createNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            host = "unknown";
+        }
+        return host + ":" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    /**
+     * 탐지 후보 (노드 합산 추정 빈도)
+     */
+    public record Offender(String identifier, long estimate) {
+    }
+
+    private record Window(long id, CountMinSketch sketch, SpaceSaving topK) {
+    }
+}
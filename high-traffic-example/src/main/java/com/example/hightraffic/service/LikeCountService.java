@@ -0,0 +1,256 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.PostJdbcRepository;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.util.RedisScripts;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 좋아요 수 관리 서비스 (Redis 기반)
+ *
+ * 문제 정의:
+ * - 기존 방식: 게시글 엔티티 로딩 → likeCount++ → dirty checking UPDATE
+ * - 동시에 좋아요가 들어오면 Lost Update 발생 (둘 다 10 → 11로 저장)
+ * - 좋아요 1건마다 행 전체 UPDATE, 같은 사용자의 중복 좋아요도 막지 못함
+ *
+ * 해결 방법:
+ * 1. Redis 카운터 + 사용자 Bitmap을 Lua 스크립트 1회로 처리 (원자적)
+ *    - SETBIT post:liked:{postId} {userId} → 이전 비트로 중복 여부 O(1) 판정
+ *    - 중복이 아니면 INCRBY로 카운터 증감
+ *    - 1억 명 기준 게시글당 Bitmap 최대 12.5MB (사용자 ID가 작을수록 작아짐)
+ * 2. 같은 스크립트에서 좋아요 랭킹 ZSET / 트렌딩 점수 갱신 (RankingService, TrendingService)
+ * 3. Write-Behind: 변경된 게시글 ID를 Dirty Set에 기록, 스케줄러가 JDBC batch UPDATE
+ *    - 조회수와 같은 파티션 규칙(postId % N)과 노드별 파티션 소유권 사용
+ * 4. 카운터가 없을 때(최초 또는 Redis 재시작)만 DB 값으로 초기화 (SET NX)
+ *
+ * Redis Key 구조:
+ * - post:likecount:{postId} : 좋아요 수
+ * - post:liked:{postId} : 좋아요 누른 사용자 Bitmap
+ * - post:likecount:dirty:{partition} : DB 동기화가 필요한 게시글 ID (Set)
+ *
+ * 한계:
+ * - 사용자 ID가 필요 (익명 요청은 중복 체크를 할 수 없어 카운터 조작에 악용되므로 거절)
+ * - Bitmap은 DB에 저장하지 않으므로 Redis 데이터 유실 시 중복 체크 이력도 유실
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeCountService {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // Redis Key Prefix
+    static final String LIKE_COUNT_KEY_PREFIX = "post:likecount:";
+    static final String LIKE_COUNT_DIRTY_KEY_PREFIX = "post:likecount:dirty:";
+    private static final String LIKED_USERS_KEY_PREFIX = "post:liked:";
+
+    /**
+     * 좋아요 증감 스크립트
+     * - 반환값: [변경 여부(1/0), 좋아요 수(-1 = Redis에 없음)]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> LIKE_SCRIPT =
+            RedisScripts.of(List.class, TrendingService.TRENDING_LIBRARY, "scripts/post-like.lua");
+
+    // Bitmap offset 상한 (offset / 8 바이트까지 메모리 할당)
+    @Value("${app.like.max-user-id:100000000}")
+    private long maxUserId;
+
+    // Dirty Set 파티션 수 / 청크 크기 (조회수 동기화와 같은 파티션 소유권 사용)
+    @Value("${app.view-count.sync.partitions:16}")
+    private int syncPartitions;
+
+    @Value("${app.view-count.sync.chunk-size:500}")
+    private int syncChunkSize;
+
+    /**
+     * 좋아요 (사용자당 1회)
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (필수)
+     * @return 변경 후 좋아요 수 (중복 요청이면 현재 값)
+     */
+    public long increaseLike(Long postId, Long userId) {
+        return changeLike(postId, userId, 1);
+    }
+
+    /**
+     * 좋아요 취소 (좋아요를 누른 사용자만)
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (필수)
+     * @return 변경 후 좋아요 수 (변경이 없으면 현재 값)
+     */
+    public long decreaseLike(Long postId, Long userId) {
+        return changeLike(postId, userId, -1);
+    }
+
+    /**
+     * 현재 좋아요 수 조회 (DB 조회 없음)
+     *
+     * @param postId   게시글 ID
+     * @param fallback Redis에 값이 없을 때 사용할 값 (캐시된 게시글의 likeCount)
+     */
+    public long getCurrentLikeCount(Long postId, long fallback) {
+        String count = redisTemplate.opsForValue().get(LIKE_COUNT_KEY_PREFIX + postId);
+        return count != null ? Long.parseLong(count) : fallback;
+    }
+
+    @SuppressWarnings("unchecked")
+    private long changeLike(Long postId, Long userId, int delta) {
+        long userOffset = validateUserId(userId);
+        List<String> keys = List.of(
+                LIKE_COUNT_KEY_PREFIX + postId,
+                LIKED_USERS_KEY_PREFIX + postId,
+                dirtyKey(postId, syncPartitions),
+                RankingService.allTimeKey(RankingService.LIKES),
+                RankingService.todayKey(RankingService.LIKES),
+                TrendingService.TRENDING_KEY
+        );
+        Object[] args = {
+                String.valueOf(userOffset),
+                String.valueOf(delta),
+                String.valueOf(postId),
+                String.valueOf(RankingService.DAILY_RANKING_TTL.toSeconds()),
+                delta > 0 ? trendingService.likeTerm() : "",
+                String.valueOf(trendingService.getMaxTracked())
+        };
+
+        List<Long> result = redisTemplate.execute(LIKE_SCRIPT, keys, args);
+
+        if (result.get(1) < 0) {
+            // 카운터가 없음: DB 값으로 초기화 후 한 번 더 실행
+            initializeLikeCount(postId);
+            result = redisTemplate.execute(LIKE_SCRIPT, keys, args);
+        }
+
+        boolean changed = result.get(0) == 1L;
+        long likeCount = result.get(1);
+        log.debug("좋아요 {}: postId={}, userId={}, changed={}, likeCount={}",
+                delta > 0 ? "증가" : "감소", postId, userId, changed, likeCount);
+        return likeCount;
+    }
+
+    private long validateUserId(Long userId) {
+        if (userId == null) {
+            throw new BusinessException("좋아요는 사용자 ID가 필요합니다", HttpStatus.BAD_REQUEST);
+        }
+        if (userId < 0 || userId > maxUserId) {
+            throw new BusinessException("유효하지 않은 사용자 ID입니다: userId=" + userId, HttpStatus.BAD_REQUEST);
+        }
+        return userId;
+    }
+
+    /**
+     * DB 좋아요 수로 Redis 카운터 초기화 (이미 있으면 유지)
+     */
+    private void initializeLikeCount(Long postId) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new BusinessException(
+                        "게시글을 찾을 수 없습니다: id=" + postId,
+                        HttpStatus.NOT_FOUND
+                ));
+        redisTemplate.opsForValue().setIfAbsent(LIKE_COUNT_KEY_PREFIX + postId, String.valueOf(post.getLikeCount()));
+        log.debug("좋아요 수 초기화: postId={}, likeCount={}", postId, post.getLikeCount());
+    }
+
+    /**
+     * 지정한 파티션의 좋아요 수를 DB에 동기화 (Dirty Set 기반 증분 동기화)
+     *
+     * 동작 방식은 ViewCountService.syncPartitions()와 동일
+     * - SPOP count → MGET → JDBC batch UPDATE (청크당 트랜잭션 1개)
+     * - 실패한 청크의 ID는 Dirty Set에 되돌려 다음 실행에서 재시도
+     *
+     * @param partitions 동기화할 파티션 번호 목록
+     * @return 동기화된 게시글 수
+     */
+    public int syncPartitions(Collection<Integer> partitions) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        int syncCount = 0;
+        for (Integer partition : partitions) {
+            String dirtyKey = LIKE_COUNT_DIRTY_KEY_PREFIX + partition;
+
+            while (true) {
+                List<String> postIds = redisTemplate.opsForSet().pop(dirtyKey, syncChunkSize);
+                if (postIds == null || postIds.isEmpty()) {
+                    break;
+                }
+
+                try {
+                    syncCount += syncChunk(postIds);
+                } catch (Exception e) {
+                    redisTemplate.opsForSet().add(dirtyKey, postIds.toArray(new String[0]));
+                    log.error("좋아요 수 동기화 실패 (다음 실행에서 재시도): partition={}, chunkSize={}, error={}",
+                            partition, postIds.size(), e.getMessage(), e);
+                    break;
+                }
+            }
+        }
+
+        sample.stop(Timer.builder("likecount.sync.duration")
+                .description("좋아요 수 Redis → DB 동기화 소요 시간")
+                .register(meterRegistry));
+        DistributionSummary.builder("likecount.sync.rows")
+                .description("좋아요 수 Redis → DB 동기화 실행당 행 수")
+                .register(meterRegistry)
+                .record(syncCount);
+
+        if (syncCount > 0) {
+            log.info("좋아요 수 DB 동기화 완료: 게시글={}", syncCount);
+        }
+        return syncCount;
+    }
+
+    private int syncChunk(List<String> postIds) {
+        List<String> keys = postIds.stream()
+                .map(postId -> LIKE_COUNT_KEY_PREFIX + postId)
+                .toList();
+        List<String> counts = redisTemplate.opsForValue().multiGet(keys);
+
+        Map<Long, Long> likeCounts = new HashMap<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            String count = counts != null ? counts.get(i) : null;
+            if (count != null) {
+                likeCounts.put(Long.parseLong(postIds.get(i)), Long.parseLong(count));
+            }
+        }
+
+        Integer updated = transactionTemplate.execute(status -> postJdbcRepository.batchUpdateLikeCounts(likeCounts));
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 게시글 삭제 시 좋아요 관련 키 삭제
+     */
+    public void deleteLikeCount(Long postId) {
+        redisTemplate.delete(List.of(LIKE_COUNT_KEY_PREFIX + postId, LIKED_USERS_KEY_PREFIX + postId));
+        log.debug("Redis 좋아요 수 삭제: postId={}", postId);
+    }
+
+    static String dirtyKey(Long postId, int partitions) {
+        return LIKE_COUNT_DIRTY_KEY_PREFIX + Math.floorMod(postId, partitions);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.hightraffic.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로컬(JVM 내) Rate Limit 1차 계층
+ *
+ * 문제 정의:
+ * - 모든 요청이 Redis에서 판정되면 어뷰저의 요청도 전부 Redis 왕복을 발생시킴
+ * - 이미 한도를 넘은 클라이언트가 계속 요청하면 Redis 부하만 늘어남
+ *
+ * 해결 방법:
+ * 1. 토큰 버킷: 이 노드에서만 봐도 한도를 넘은 요청은 Redis 없이 즉시 거절
+ *    (전체 한도 = 모든 노드 합산이므로 노드 하나에서 초과했다면 전체도 초과)
+ * 2. 차단 캐시: Redis가 거절한 클라이언트는 재시도 가능 시각까지 로컬에서 거절
+ *    → 차단 기간 동안 Redis 호출 0회
+ *
+ * 메모리 관리:
+ * - Caffeine 캐시로 최대 항목 수 제한 (W-TinyLFU 기반 제거)
+ * - 버킷은 윈도우 동안 사용되지 않으면 만료 (그 시점엔 어차피 가득 찬 버킷)
+ * - 차단 항목은 차단 해제 시각에 만료
+ */
+@Component
+public class LocalRateLimiter {
+
+    @Value("${app.rate-limit.local.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.rate-limit.local.max-entries:100000}")
+    private long maxEntries;
+
+    private Cache<String, TokenBucket> buckets;
+
+    // key → 차단 해제 시각 (epoch ms)
+    private Cache<String, Long> blockedUntil;
+
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, TokenBucket>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenBucket bucket, long currentTime) {
+                        return bucket.windowNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return bucket.windowNanos;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenBucket bucket, long currentTime, long currentDuration) {
+                        return bucket.windowNanos;
+                    }
+                })
+                .build();
+
+        blockedUntil = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String key, Long until, long currentTime) {
+                        return remainingNanos(until);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Long until, long currentTime, long currentDuration) {
+                        return remainingNanos(until);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Long until, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 로컬 토큰 1개 소비
+     *
+     * @return 0이면 허용, 그 외에는 다음 토큰이 채워질 때까지 남은 시간 (ms)
+     */
+    public long tryConsume(String key, int limit, Duration window) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit, window));
+        return bucket.tryConsume();
+    }
+
+    /**
+     * 차단 해제까지 남은 시간 조회
+     *
+     * @return 남은 시간 (ms), 차단되지 않았으면 0
+     */
+    public long getBlockedMillis(String key) {
+        Long until = blockedUntil.getIfPresent(key);
+        if (until == null) {
+            return 0L;
+        }
+        return Math.max(0L, until - System.currentTimeMillis());
+    }
+
+    /**
+     * 전역 한도를 초과한 클라이언트를 재시도 가능 시각까지 로컬 차단
+     */
+    public void block(String key, long retryAfterMillis) {
+        if (retryAfterMillis > 0) {
+            blockedUntil.put(key, System.currentTimeMillis() + retryAfterMillis);
+        }
+    }
+
+    private static long remainingNanos(long untilEpochMillis) {
+        return Duration.ofMillis(Math.max(0L, untilEpochMillis - System.currentTimeMillis())).toNanos();
+    }
+
+    /**
+     * 토큰 버킷 (용량 = limit, 윈도우 동안 limit개 충전)
+     */
+    private static final class TokenBucket {
+
+        private final double capacity;
+        private final double tokensPerNano;
+        private final long windowNanos;
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(int limit, Duration window) {
+            this.capacity = limit;
+            this.windowNanos = window.toNanos();
+            this.tokensPerNano = limit / (double) windowNanos;
+            this.tokens = limit;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        synchronized long tryConsume() {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0L;
+            }
+            long waitNanos = (long) Math.ceil((1 - tokens) / tokensPerNano);
+            return Math.max(1L, Duration.ofNanos(waitNanos).toMillis());
+        }
+    }
+}
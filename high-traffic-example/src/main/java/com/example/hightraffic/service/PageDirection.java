@@ -0,0 +1,12 @@
+package com.example.hightraffic.service;
+
+/**
+ * 키셋 페이지네이션 이동 방향
+ *
+ * - NEXT : 커서보다 오래된 게시글 (다음 페이지)
+ * - PREV : 커서보다 최신 게시글 (이전 페이지)
+ */
+public enum PageDirection {
+    NEXT,
+    PREV
+}
@@ -0,0 +1,216 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.PostResponse;
+import com.example.hightraffic.event.PostChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 2단계 캐시 (L1: Caffeine, L2: Redis)
+ *
+ * 문제 정의:
+ * - 게시글 상세 조회마다 findById로 TEXT 컬럼(content)까지 DB에서 읽음
+ * - 인기 게시글일수록 같은 행을 반복 조회 → DB 부하 집중
+ *
+ * 해결 방법:
+ * 1. L1 (노드별 Caffeine): 네트워크 없이 조회, 짧은 TTL
+ * 2. L2 (Redis, RedisCacheManager의 postDetail 캐시): 노드 간 공유
+ * 3. 둘 다 없을 때만 DB 조회 → L2, L1 순서로 저장
+ *    (같은 노드의 동시 미스는 Caffeine이 하나의 로딩으로 합침)
+ *
+ * 무효화:
+ * - 게시글 수정/삭제 시 PostChangedEvent 발행
+ * - 트랜잭션 커밋 후 L2 삭제 + Redis Pub/Sub으로 게시글 ID 전파
+ * - 모든 노드(자신 포함)가 메시지를 받아 L1에서 제거
+ *
+ * 무효화 세대 (늦은 L2 저장 방지):
+ * - DB 조회가 커밋 전 값을 읽고, 무효화가 끝난 뒤에 L2에 저장하면 이전 본문(또는 삭제된 게시글)이 L2 TTL 동안 남음
+ * - 무효화는 L2 삭제 전에 세대 카운터를 증가 (post:cache:generation:{postId})
+ * - DB 조회 전에 세대를 읽어 두고, L2 저장 후 다시 읽어 달라졌으면 방금 저장한 값을 삭제
+ * - 세대 증가 → L2 삭제 순서이므로 저장이 삭제보다 먼저면 삭제가 지우고, 늦으면 저장한 쪽이 세대 변경을 보고 지움
+ *
+ * 카운터:
+ * - 캐시된 본문의 조회수/좋아요 수는 사용하지 않음
+ * - 조회 시점에 Redis 카운터를 합쳐서 응답 (본문 캐시가 카운터 때문에 무효화되지 않음)
+ *
+ * 트레이드오프:
+ * - 무효화 메시지 유실 시 L1은 최대 local-ttl-seconds 동안 이전 값을 보일 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCacheService implements MessageListener {
+
+    public static final String CACHE_NAME = "postDetail";
+    static final String INVALIDATION_CHANNEL = "post:cache:invalidate";
+    static final String GENERATION_KEY_PREFIX = "post:cache:generation:";
+
+    // DB 조회 + L2 저장보다 충분히 길면 됨 (만료 후 증가하면 새 세대로 다시 시작하므로 조회 중인 값과 달라짐)
+    private static final Duration GENERATION_TTL = Duration.ofHours(1);
+
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.cache.post.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.cache.post.local-max-size:10000}")
+    private long localMaxSize;
+
+    @Value("${app.cache.post.local-ttl-seconds:60}")
+    private long localTtlSeconds;
+
+    private Cache<Long, PostResponse> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(localTtlSeconds))
+                .build();
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    /**
+     * 게시글 본문 조회 (L1 → L2 → loader)
+     *
+     * @param postId 게시글 ID
+     * @param loader 캐시 미스 시 DB에서 읽는 함수 (없으면 예외를 던져야 함)
+     * @return 캐시된 게시글 (카운터는 호출 측에서 합쳐야 함)
+     */
+    public PostResponse get(Long postId, Supplier<PostResponse> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        PostResponse cached = localCache.getIfPresent(postId);
+        if (cached != null) {
+            record("l1");
+            return cached;
+        }
+        return localCache.get(postId, id -> loadFromRemote(id, loader));
+    }
+
+    /**
+     * 게시글 캐시 무효화 (L2 삭제 + 모든 노드의 L1 삭제 메시지 발행)
+     */
+    public void evict(Long postId) {
+        localCache.invalidate(postId);
+        try {
+            // L2 삭제보다 먼저 증가해야 진행 중인 DB 조회가 늦게 저장한 값을 스스로 지움
+            String generationKey = GENERATION_KEY_PREFIX + postId;
+            redisTemplate.opsForValue().increment(generationKey);
+            redisTemplate.expire(generationKey, GENERATION_TTL);
+
+            org.springframework.cache.Cache remoteCache = cacheManager.getCache(CACHE_NAME);
+            if (remoteCache != null) {
+                remoteCache.evict(postId);
+            }
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(postId));
+        } catch (Exception e) {
+            log.error("게시글 캐시 무효화 실패 (L1 TTL 후 반영): postId={}", postId, e);
+        }
+    }
+
+    /**
+     * 게시글 변경 트랜잭션 커밋 후 무효화
+     * - 커밋 전에 무효화하면 다른 요청이 이전 값을 다시 캐시할 수 있음
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() == PostChangedEvent.Type.CREATED) {
+            // 새 게시글은 캐시된 적이 없음
+            return;
+        }
+        evict(event.getPostId());
+    }
+
+    /**
+     * 다른 노드(또는 자신)가 발행한 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            localCache.invalidate(Long.valueOf(body));
+            log.debug("게시글 로컬 캐시 무효화: postId={}", body);
+        } catch (NumberFormatException e) {
+            log.warn("잘못된 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private PostResponse loadFromRemote(Long postId, Supplier<PostResponse> loader) {
+        org.springframework.cache.Cache remoteCache = cacheManager.getCache(CACHE_NAME);
+        String generation = null;
+
+        if (remoteCache != null) {
+            try {
+                PostResponse cached = remoteCache.get(postId, PostResponse.class);
+                if (cached != null) {
+                    record("l2");
+                    return cached;
+                }
+                // DB 조회 전 세대 (저장 후 비교)
+                generation = readGeneration(postId);
+            } catch (Exception e) {
+                log.warn("게시글 Redis 캐시 조회 실패, DB 조회: postId={}", postId, e);
+                // 세대를 모르면 늦은 저장을 감지할 수 없으므로 L2에 저장하지 않음
+                remoteCache = null;
+            }
+        }
+
+        PostResponse loaded = loader.get();
+        record("db");
+
+        if (remoteCache != null) {
+            try {
+                remoteCache.put(postId, loaded);
+                if (!Objects.equals(generation, readGeneration(postId))) {
+                    // 조회 중에 무효화됨 → 이전 값일 수 있으므로 L2에 남기지 않음
+                    remoteCache.evict(postId);
+                    log.debug("조회 중 무효화된 게시글 캐시 삭제: postId={}", postId);
+                }
+            } catch (Exception e) {
+                log.warn("게시글 Redis 캐시 저장 실패: postId={}", postId, e);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 게시글 무효화 세대 (무효화된 적 없으면 null)
+     */
+    private String readGeneration(Long postId) {
+        return redisTemplate.opsForValue().get(GENERATION_KEY_PREFIX + postId);
+    }
+
+    private void record(String source) {
+        Counter.builder("postcache.requests")
+                .description("게시글 상세 캐시 조회 수 (source: 응답한 계층)")
+                .tag("source", source)
+                .register(meterRegistry)
+                .increment();
+    }
+}
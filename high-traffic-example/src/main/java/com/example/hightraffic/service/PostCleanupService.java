@@ -0,0 +1,78 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.event.PostChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 게시글 삭제 후 Redis 정리 (좋아요, 조회수, 랭킹, 트렌딩, 댓글 수, 순 방문자)
+ *
+ * 문제 정의:
+ * - 삭제 트랜잭션 안에서 Redis를 정리하면 롤백되어도 되돌릴 수 없음 (남아 있는 게시글의 카운터 유실)
+ * - 정리 직후에도 진행 중이던 조회가 랭킹/트렌딩 ZSET에 게시글을 다시 추가할 수 있음
+ *   (L1 캐시가 무효화되기 전 다른 노드의 조회, Kafka 집계의 지연 반영 등)
+ *
+ * 해결 방법:
+ * 1. 트랜잭션 커밋 후(AFTER_COMMIT) 정리 → 롤백되면 Redis는 그대로
+ * 2. recheck-delay-ms 뒤에 조회수/랭킹/트렌딩을 한 번 더 정리 (늦게 다시 추가된 값 제거)
+ *
+ * 정리 단계마다 실패를 따로 처리 (하나가 실패해도 나머지는 정리)
+ * - 남은 랭킹/트렌딩 member는 조회 시 DB에 없는 게시글로 건너뜀
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCleanupService {
+
+    private final LikeCountService likeCountService;
+    private final ViewCountService viewCountService;
+    private final RankingService rankingService;
+    private final TrendingService trendingService;
+    private final CommentCountService commentCountService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final TaskScheduler taskScheduler;
+
+    @Value("${app.post-cleanup.recheck-delay-ms:30000}")
+    private long recheckDelayMs;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        if (event.getType() != PostChangedEvent.Type.DELETED) {
+            return;
+        }
+
+        Long postId = event.getPostId();
+        run(postId, "좋아요 수", () -> likeCountService.deleteLikeCount(postId));
+        run(postId, "댓글 수", () -> commentCountService.deleteCommentCount(postId));
+        run(postId, "순 방문자", () -> uniqueVisitorService.deleteUniqueVisitors(postId));
+        removeViewState(postId);
+
+        taskScheduler.schedule(() -> removeViewState(postId), Instant.now().plus(Duration.ofMillis(recheckDelayMs)));
+        log.debug("게시글 삭제 후 Redis 정리: postId={}, recheckDelayMs={}", postId, recheckDelayMs);
+    }
+
+    /**
+     * 조회로 다시 생길 수 있는 값 정리 (조회수, 랭킹, 트렌딩)
+     */
+    private void removeViewState(Long postId) {
+        run(postId, "조회수", () -> viewCountService.deleteViewCount(postId));
+        run(postId, "랭킹", () -> rankingService.remove(postId));
+        run(postId, "트렌딩", () -> trendingService.remove(postId));
+    }
+
+    private void run(Long postId, String target, Runnable cleanup) {
+        try {
+            cleanup.run();
+        } catch (Exception e) {
+            log.warn("게시글 삭제 후 {} 정리 실패: postId={}", target, postId, e);
+        }
+    }
+}
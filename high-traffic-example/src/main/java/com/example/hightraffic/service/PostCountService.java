@@ -0,0 +1,83 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.event.PostChangedEvent;
+import com.example.hightraffic.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 전체 게시글 수 카운터 (Redis)
+ *
+ * 문제 정의:
+ * - 페이지 번호 방식은 매 요청마다 COUNT(*) 실행 → 게시글이 많을수록 느려짐
+ *
+ * 해결 방법:
+ * 1. Redis에 게시글 수를 저장하고 목록 조회 시 재사용
+ * 2. 게시글 생성/삭제 트랜잭션 커밋 후 +1/-1 (키가 있을 때만)
+ * 3. 키가 없으면 COUNT(*) 1회 실행 후 저장
+ * 4. TTL이 지나면 다시 COUNT(*) → 누락된 이벤트 등으로 생긴 오차를 주기적으로 보정
+ *
+ * Redis Key:
+ * - post:count : 전체 게시글 수 (TTL app.post-count.ttl-seconds)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCountService {
+
+    private static final String POST_COUNT_KEY = "post:count";
+
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/counter-add-if-exists.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+
+    @Value("${app.post-count.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    /**
+     * 전체 게시글 수 조회 (근사치, 최대 TTL 동안의 오차 허용)
+     */
+    public long getTotalCount() {
+        String cached = redisTemplate.opsForValue().get(POST_COUNT_KEY);
+        if (cached != null) {
+            return Long.parseLong(cached);
+        }
+
+        long count = postRepository.count();
+        redisTemplate.opsForValue().setIfAbsent(POST_COUNT_KEY, String.valueOf(count), Duration.ofSeconds(ttlSeconds));
+        log.debug("게시글 수 카운터 초기화: count={}", count);
+        return count;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED -> add(1);
+            case DELETED -> add(-1);
+            default -> {
+                // 수정은 게시글 수에 영향 없음
+            }
+        }
+    }
+
+    private void add(long delta) {
+        try {
+            redisTemplate.execute(ADD_IF_EXISTS_SCRIPT, List.of(POST_COUNT_KEY), String.valueOf(delta));
+        } catch (Exception e) {
+            // TTL 만료 후 COUNT(*)로 보정되므로 실패해도 무시
+            log.warn("게시글 수 카운터 갱신 실패: delta={}", delta, e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.CommentWithRepliesResponse;
+import com.example.hightraffic.dto.PostPageResponse;
+import com.example.hightraffic.dto.PostResponse;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.service.ViewCountService.ViewCounts;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 게시글 상세 화면 데이터 병렬 로딩
+ *
+ * 문제 정의:
+ * - 상세 화면은 본문 → Rate Limit → 조회수 증가 → 댓글 → 댓글 수를 순서대로 조회
+ * - 응답 시간 = 각 단계 시간의 합, Redis 하나만 느려져도 화면 전체가 느려짐
+ *
+ * 해결 방법:
+ * 1. 서로 독립적인 단계를 전용 Executor에서 동시에 실행 (응답 시간 ≈ 가장 느린 단계)
+ *    - 본문 / 댓글 / 댓글 수: 즉시 시작
+ *    - 조회수 / 좋아요 수: 본문으로 게시글 존재를 확인한 뒤 시작 (없는 게시글의 카운터 생성 방지)
+ * 2. 단계별 시간 제한 + 대체값
+ *    - 본문: 필수 (실패 시 예외 전파, 시간 초과는 503)
+ *    - 조회수/좋아요 수: 캐시된 본문의 값 (조회수 증가 없이 화면 제공, 순 방문자 수는 null)
+ *    - 댓글: 빈 목록 / 댓글 수: 불러온 댓글 중 삭제되지 않은 댓글 수
+ * 3. 단계별 소요 시간(postpage.stage.duration)과 대체값 사용 횟수(postpage.stage.fallback) 기록
+ *
+ * 주의:
+ * - 시간 제한은 응답을 기다리는 시간만 제한하며 실행 중인 작업을 취소하지 않음
+ *   (느린 작업은 Redis/DB 클라이언트 타임아웃까지 스레드를 점유)
+ * - Executor 큐가 가득 차면 해당 단계는 즉시 대체값 사용 (호출 스레드에서 실행하지 않음)
+ *   (가상 스레드 모드도 동시 실행 수 한도에서 대기하지 않고 거부 - 제출 대기는 시간 제한에 포함되지 않으므로)
+ */
+@Slf4j
+@Service
+public class PostPageService {
+
+    static final String STAGE_POST = "post";
+    static final String STAGE_VIEW_COUNT = "viewCount";
+    static final String STAGE_LIKE_COUNT = "likeCount";
+    static final String STAGE_COMMENTS = "comments";
+    static final String STAGE_COMMENT_COUNT = "commentCount";
+
+    private final PostService postService;
+    private final CommentService commentService;
+    private final AsyncTaskExecutor executor;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.post-page.timeout.post-ms:1000}")
+    private long postTimeoutMs;
+
+    @Value("${app.post-page.timeout.view-count-ms:100}")
+    private long viewCountTimeoutMs;
+
+    @Value("${app.post-page.timeout.like-count-ms:100}")
+    private long likeCountTimeoutMs;
+
+    @Value("${app.post-page.timeout.comments-ms:500}")
+    private long commentsTimeoutMs;
+
+    @Value("${app.post-page.timeout.comment-count-ms:100}")
+    private long commentCountTimeoutMs;
+
+    public PostPageService(PostService postService,
+                           CommentService commentService,
+                           @Qualifier("postPageExecutor") AsyncTaskExecutor executor,
+                           MeterRegistry meterRegistry) {
+        this.postService = postService;
+        this.commentService = commentService;
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 게시글 상세 화면 데이터 조회 (조회수 증가 포함)
+     *
+     * @param postId 게시글 ID
+     * @param identifier 사용자 식별자 (IP 주소)
+     */
+    public PostPageResponse getPostPage(Long postId, String identifier) {
+        Timer.Sample total = Timer.start(meterRegistry);
+        Set<String> degraded = ConcurrentHashMap.newKeySet();
+
+        CompletableFuture<PostResponse> postFuture =
+                submit(STAGE_POST, () -> postService.getPostBody(postId), postTimeoutMs);
+        CompletableFuture<List<CommentWithRepliesResponse>> commentsFuture = withFallback(STAGE_COMMENTS,
+                submit(STAGE_COMMENTS, () -> commentService.getCommentsTwoDepth(postId), commentsTimeoutMs),
+                List.of(), degraded);
+        // 대체값은 댓글 로딩 결과에 따라 정해지므로 null로 표시하고 아래에서 계산
+        CompletableFuture<Long> commentCountFuture = withFallback(STAGE_COMMENT_COUNT,
+                submit(STAGE_COMMENT_COUNT, () -> commentService.getActiveCommentCount(postId), commentCountTimeoutMs),
+                null, degraded);
+
+        PostResponse post = awaitPost(postFuture, postId);
+
+        // 조회수 단계는 같은 왕복에서 읽은 순 방문자 수도 함께 반환
+        CompletableFuture<ViewCounts> viewCountFuture = withFallback(STAGE_VIEW_COUNT,
+                submit(STAGE_VIEW_COUNT, () -> postService.recordView(postId, identifier), viewCountTimeoutMs),
+                new ViewCounts(post.getViewCount(), null), degraded);
+        CompletableFuture<Long> likeCountFuture = withFallback(STAGE_LIKE_COUNT,
+                submit(STAGE_LIKE_COUNT, () -> postService.getCurrentLikeCount(post), likeCountTimeoutMs),
+                post.getLikeCount(), degraded);
+
+        // withFallback 이후에는 예외로 완료되지 않음
+        List<CommentWithRepliesResponse> comments = commentsFuture.join();
+        Long commentCount = commentCountFuture.join();
+        if (commentCount == null) {
+            commentCount = countActiveComments(comments);
+        }
+        ViewCounts viewCounts = viewCountFuture.join();
+        PostResponse postWithCounts = post.withCounts(viewCounts.viewCount(), likeCountFuture.join())
+                .withUniqueVisitors(viewCounts.uniqueVisitors());
+
+        List<String> degradedStages = new ArrayList<>(degraded);
+        total.stop(Timer.builder("postpage.load.duration")
+                .description("게시글 상세 화면 데이터 로딩 시간")
+                .tag("degraded", String.valueOf(!degradedStages.isEmpty()))
+                .register(meterRegistry));
+        if (!degradedStages.isEmpty()) {
+            log.warn("게시글 상세 화면 일부 대체값 사용: postId={}, stages={}", postId, degradedStages);
+        }
+
+        return PostPageResponse.builder()
+                .post(postWithCounts)
+                .comments(comments)
+                .commentCount(commentCount)
+                .degradedStages(degradedStages)
+                .build();
+    }
+
+    /**
+     * 단계를 전용 Executor에 제출 (시간 제한 적용)
+     * - 시간 제한은 제출 이후부터 적용되므로 Executor는 제출 시 대기하지 않아야 함 (거부 → 대체값)
+     */
+    private <T> CompletableFuture<T> submit(String stage, Supplier<T> loader, long timeoutMs) {
+        try {
+            return CompletableFuture.supplyAsync(() -> timed(stage, loader), executor)
+                    .orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * 단계 실행 시간 기록 (시간 초과된 단계도 실제 소요 시간을 기록)
+     */
+    private <T> T timed(String stage, Supplier<T> loader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = loader.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("postpage.stage.duration")
+                    .description("게시글 상세 화면 단계별 실행 시간")
+                    .tag("stage", stage)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 실패/시간 초과 시 대체값으로 완료
+     */
+    private <T> CompletableFuture<T> withFallback(String stage, CompletableFuture<T> future,
+                                                  T fallback, Set<String> degraded) {
+        return future.exceptionally(e -> {
+            Throwable cause = unwrap(e);
+            String reason = reason(cause);
+            meterRegistry.counter("postpage.stage.fallback", "stage", stage, "reason", reason).increment();
+            degraded.add(stage);
+            if (cause instanceof TimeoutException || cause instanceof RejectedExecutionException) {
+                log.warn("게시글 상세 단계 대체값 사용: stage={}, reason={}", stage, reason);
+            } else {
+                log.warn("게시글 상세 단계 대체값 사용: stage={}, reason={}", stage, reason, cause);
+            }
+            return fallback;
+        });
+    }
+
+    /**
+     * 본문 대기 (필수 단계 - BusinessException은 그대로 전파)
+     */
+    private PostResponse awaitPost(CompletableFuture<PostResponse> postFuture, Long postId) {
+        try {
+            return postFuture.join();
+        } catch (CompletionException e) {
+            Throwable cause = unwrap(e);
+            if (cause instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            meterRegistry.counter("postpage.stage.failure", "stage", STAGE_POST, "reason", reason(cause)).increment();
+            throw new BusinessException("게시글을 불러오지 못했습니다: id=" + postId, HttpStatus.SERVICE_UNAVAILABLE, cause);
+        }
+    }
+
+    private long countActiveComments(List<CommentWithRepliesResponse> comments) {
+        long count = 0;
+        for (CommentWithRepliesResponse comment : comments) {
+            if (!Boolean.TRUE.equals(comment.getIsDeleted())) {
+                count++;
+            }
+            count += comment.getReplies().stream()
+                    .filter(reply -> !Boolean.TRUE.equals(reply.getIsDeleted()))
+                    .count();
+        }
+        return count;
+    }
+
+    private String reason(Throwable cause) {
+        if (cause instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (cause instanceof RejectedExecutionException) {
+            return "rejected";
+        }
+        return "error";
+    }
+
+    private Throwable unwrap(Throwable e) {
+        Throwable cause = e;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -2,18 +2,29 @@ package com.example.hightraffic.service;
 
 import com.example.hightraffic.domain.Post;
 import com.example.hightraffic.dto.*;
+import com.example.hightraffic.event.PostChangedEvent;
 import com.example.hightraffic.exception.BusinessException;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.service.ViewCountService.ViewCounts;
+import com.example.hightraffic.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,6 +36,15 @@ public class PostService {
     private final PostRepository postRepository;
     private final ViewCountService viewCountService;
     private final RateLimitService rateLimitService;
+    private final LikeCountService likeCountService;
+    private final RankingService rankingService;
+    private final PostCacheService postCacheService;
+    private final PostCountService postCountService;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final ViewStatsService viewStatsService;
+    private final TrendingService trendingService;
+    private final HeavyHitterDetector heavyHitterDetector;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 게시글 생성
@@ -33,19 +53,23 @@ public class PostService {
     public PostResponse createPost(PostCreateRequest request) {
         Post post = request.toEntity();
         Post savedPost = postRepository.save(post);
+        eventPublisher.publishEvent(new PostChangedEvent(savedPost.getId(), PostChangedEvent.Type.CREATED));
         log.info("게시글 생성 완료: id={}, title={}", savedPost.getId(), savedPost.getTitle());
         return PostResponse.from(savedPost);
     }
 
     /**
      * 게시글 단건 조회 (조회수 증가 없음 - API 전용)
+     *
+     * 캐시 히트 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 실행
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPost(Long id) {
-        Post post = findPostById(id);
-        // Redis에서 현재 조회수 조회
-        Long viewCount = viewCountService.getCurrentViewCount(id);
-        log.debug("게시글 조회: id={}, viewCount={}", post.getId(), viewCount);
-        return PostResponse.from(post, viewCount);
+        PostResponse post = getCachedPost(id);
+        // Redis에서 현재 조회수 + 순 방문자 수 조회 (파이프라인 1회)
+        ViewCounts counts = viewCountService.getCurrentViewCounts(id);
+        log.debug("게시글 조회: id={}, viewCount={}", post.getId(), counts.viewCount());
+        return withCurrentCounts(post, counts);
     }
 
     /**
@@ -57,32 +81,68 @@ public class PostService {
      * 2. 중복 방지: 5초 이내 재조회 차단 (IP + 게시글)
      *    - 중복 시: 조회는 가능하지만 조회수 증가 없음
      * 3. 조회수 증가: Redis INCR (고성능)
+     * 4. 게시글 본문: 2단계 캐시 (L1 Caffeine → L2 Redis → DB)
      *
      * @param id 게시글 ID
      * @param identifier 사용자 식별자 (IP 주소)
      * @return 게시글 응답 (Redis 조회수 포함)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PostResponse getPostWithViewCount(Long id, String identifier) {
-        Post post = findPostById(id);
+        PostResponse post = getCachedPost(id);
+        return withCurrentCounts(post, recordView(id, identifier));
+    }
+
+    /**
+     * 게시글 본문 조회 (카운터 병합 없음 - 상세 화면 병렬 로딩용)
+     * - 캐시된 viewCount/likeCount는 캐시 시점 값 (카운터 조회 실패 시 대체값으로 사용)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse getPostBody(Long id) {
+        return getCachedPost(id);
+    }
+
+    /**
+     * 조회 기록 (헤비 히터 / Rate Limit 체크 후 조회수 증가)
+     * - 헤비 히터 차단 또는 Rate limit 초과: 조회수 증가 없이 현재 값만 반환
+     *
+     * @param id 게시글 ID (존재 여부는 호출 측에서 확인)
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return 현재 조회수와 누적 순 방문자 수 (조회수와 같은 왕복에서 조회)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ViewCounts recordView(Long id, String identifier) {
+        // 헤비 히터 자동 차단 (노드 메모리에서 판정, 차단 중이면 Rate Limit Redis 호출도 생략)
+        if (heavyHitterDetector.record(identifier)) {
+            ViewCounts counts = viewCountService.getCurrentViewCounts(id);
+            log.debug("헤비 히터 차단으로 조회수 증가 차단 (조회는 허용): ip={}, viewCount={}", identifier, counts.viewCount());
+            return counts;
+        }
 
         // Rate Limiting 체크 (1분에 20회)
-        boolean isAllowed = rateLimitService.isAllowed(identifier);
+        RateLimitResult rateLimit = rateLimitService.tryAcquire(identifier);
 
-        Long viewCount;
-        if (isAllowed) {
+        ViewCounts counts;
+        if (rateLimit.isAllowed()) {
             // Rate limit 허용: 조회수 증가 (5초 중복 방지)
-            viewCount = viewCountService.increaseViewCount(id, identifier);
+            counts = viewCountService.increaseViewCounts(id, identifier);
             log.debug("게시글 조회 성공 (조회수 증가): id={}, identifier={}, viewCount={}",
-                    post.getId(), identifier, viewCount);
+                    id, identifier, counts.viewCount());
         } else {
             // Rate limit 초과: 조회수 증가 없이 현재 값만 반환
-            viewCount = viewCountService.getCurrentViewCount(id);
-            long retryAfterSeconds = rateLimitService.getTimeToReset(identifier);
+            counts = viewCountService.getCurrentViewCounts(id);
+            long retryAfterSeconds = rateLimit.getRetryAfterSeconds();
             log.warn("Rate Limit 초과로 조회수 증가 차단 (조회는 허용): ip={}, viewCount={}, retryAfter={}초",
-                    identifier, viewCount, retryAfterSeconds);
+                    identifier, counts.viewCount(), retryAfterSeconds);
         }
+        return counts;
+    }
 
-        return PostResponse.from(post, viewCount);
+    /**
+     * 현재 좋아요 수 (Redis에 없으면 캐시된 게시글 값)
+     */
+    public long getCurrentLikeCount(PostResponse post) {
+        return likeCountService.getCurrentLikeCount(post.getId(), post.getLikeCount());
     }
 
     /**
@@ -94,18 +154,61 @@ public class PostService {
      * - 관리자 페이지
      *
      * 성능 고려사항:
-     * - OFFSET이 커질수록 성능 저하 (예: OFFSET 10000이면 10000개를 스캔 후 버림)
-     * - COUNT(*) 쿼리가 추가로 실행되어 총 개수를 조회
-     * - 데이터가 많을 경우 인덱스를 활용해도 느려질 수 있음
+     * - Deferred Join: (created_at, id) 인덱스에서 id만 OFFSET으로 건너뛴 뒤 size개 행만 조회
+     *   (OFFSET 10000이어도 테이블 행 10000개를 읽고 버리지 않음)
+     * - 총 개수는 Redis 카운터 사용 (매 요청 COUNT(*) 없음, PostCountService)
      */
     public PageResponse<PostListResponse> getPostsByPage(int page, int size) {
         Pageable pageable = PageRequest.of(page, size);
-        Page<Post> postPage = postRepository.findAllByOrderByCreatedAtDesc(pageable);
 
-        Page<PostListResponse> responsePage = postPage.map(PostListResponse::from);
+        // 1단계: 커버링 인덱스로 해당 페이지의 id만 조회
+        List<Long> ids = postRepository.findPostIdsOrderByCreatedAtDesc(pageable);
+
+        // 2단계: id로 목록 컬럼만 조회 (content TEXT 제외) 후 1단계 순서대로 정렬
+        List<PostListResponse> content = findPostListInOrder(ids);
+        long total = postCountService.getTotalCount();
+
+        log.debug("페이지 조회: page={}, size={}, total={}", page, size, total);
+        return PageResponse.from(new PageImpl<>(content, pageable, total));
+    }
+
+    /**
+     * 게시글 목록 조회 - 복합 키셋 방식 (createdAt, id) - 양방향
+     *
+     * 기존 커서 방식(id 기준)과의 차이:
+     * - 정렬 기준이 createdAt이므로 id 순서와 작성 시각이 다른 데이터(마이그레이션 등)에도 정확
+     * - createdAt이 같은 게시글은 id로 순서를 정해 중복/누락 없음
+     * - 이전 페이지(PREV) 이동 지원
+     *
+     * 성능: (created_at, id) 복합 인덱스 범위 스캔 → 페이지 깊이와 무관하게 일정
+     *
+     * @param cursor 이전 응답의 nextCursor 또는 prevCursor (null이면 첫 페이지)
+     * @param direction 이동 방향
+     * @param size 조회할 개수
+     */
+    public KeysetPageResponse<PostListResponse> getPostsByKeyset(String cursor, PageDirection direction, int size) {
+        // size + 1개를 조회하여 해당 방향에 페이지가 더 있는지 확인
+        Pageable pageable = PageRequest.of(0, size + 1);
+
+        if (cursor == null) {
+            List<PostListResponse> posts = postRepository.findPostListKeysetFirst(pageable);
+            return toKeysetPage(posts, size, false, posts.size() > size);
+        }
+
+        KeysetCursor keysetCursor = KeysetCursor.decode(cursor);
+        if (direction == PageDirection.PREV) {
+            List<PostListResponse> posts = new ArrayList<>(postRepository.findPostListKeysetPrev(
+                    keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable));
+            boolean hasPrevious = posts.size() > size;
+            // 커서에 가까운 size개를 최신순으로 뒤집음
+            List<PostListResponse> content = new ArrayList<>(posts.subList(0, Math.min(size, posts.size())));
+            Collections.reverse(content);
+            return toKeysetPage(content, size, hasPrevious, true);
+        }
 
-        log.debug("페이지 조회: page={}, size={}, total={}", page, size, postPage.getTotalElements());
-        return PageResponse.from(responsePage);
+        List<PostListResponse> posts = postRepository.findPostListKeysetNext(
+                keysetCursor.getCreatedAt(), keysetCursor.getId(), pageable);
+        return toKeysetPage(posts, size, true, posts.size() > size);
     }
 
     /**
@@ -128,13 +231,14 @@ public class PostService {
         // size + 1개를 조회하여 다음 페이지 존재 여부 확인
         Pageable pageable = PageRequest.of(0, size + 1);
 
-        List<Post> posts;
+        // 목록 컬럼만 조회 (content TEXT 제외)
+        List<PostListResponse> posts;
         if (cursor == null) {
             // 첫 페이지: 커서가 없으면 최신 게시글부터 조회
-            posts = postRepository.findAllByOrderByIdDesc(pageable);
+            posts = postRepository.findPostListFirstPage(pageable);
         } else {
             // 다음 페이지: 커서 이후의 게시글 조회
-            posts = postRepository.findPostsByCursor(cursor, pageable);
+            posts = postRepository.findPostListByCursor(cursor, pageable);
         }
 
         // 다음 페이지 존재 여부 확인
@@ -143,7 +247,6 @@ public class PostService {
         // size개만큼만 반환 (size + 1개를 조회했으므로)
         List<PostListResponse> content = posts.stream()
                 .limit(size)
-                .map(PostListResponse::from)
                 .collect(Collectors.toList());
 
         // 다음 커서는 마지막 게시글의 ID
@@ -162,62 +265,159 @@ public class PostService {
     public PostResponse updatePost(Long id, PostUpdateRequest request) {
         Post post = findPostById(id);
         post.update(request.getTitle(), request.getContent());
+        eventPublisher.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.UPDATED));
         log.info("게시글 수정 완료: id={}", id);
         return PostResponse.from(post);
     }
 
     /**
      * 게시글 삭제
+     * - Redis 정리(좋아요, 조회수, 랭킹, 트렌딩, 댓글 수, 순 방문자)는 커밋 후 PostCleanupService에서 처리
      */
     @Transactional
     public void deletePost(Long id) {
         Post post = findPostById(id);
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostChangedEvent(id, PostChangedEvent.Type.DELETED));
         log.info("게시글 삭제 완료: id={}", id);
     }
 
     /**
      * 좋아요 증가
+     *
+     * - Redis 카운터 + 사용자 Bitmap으로 원자적 처리 (Lost Update 없음)
+     * - 게시글 본문은 캐시에서 조회, DB는 카운터 최초 초기화 시에만 접근
+     * - DB like_count는 LikeCountScheduler가 주기적으로 반영
+     *
+     * @param userId 사용자 ID (필수, 같은 사용자의 중복 좋아요는 무시)
      */
-    @Transactional
-    public PostResponse increaseLike(Long id) {
-        Post post = findPostById(id);
-        post.increaseLikeCount();
-        log.debug("좋아요 증가: id={}, likeCount={}", post.getId(), post.getLikeCount());
-        return PostResponse.from(post);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse increaseLike(Long id, Long userId) {
+        PostResponse post = getCachedPost(id);
+        long likeCount = likeCountService.increaseLike(id, userId);
+        return post.withCounts(viewCountService.getCurrentViewCount(id), likeCount);
     }
 
     /**
      * 좋아요 감소
+     *
+     * @param userId 사용자 ID (필수, 좋아요를 누르지 않은 사용자의 취소는 무시)
      */
-    @Transactional
-    public PostResponse decreaseLike(Long id) {
-        Post post = findPostById(id);
-        post.decreaseLikeCount();
-        log.debug("좋아요 감소: id={}, likeCount={}", post.getId(), post.getLikeCount());
-        return PostResponse.from(post);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public PostResponse decreaseLike(Long id, Long userId) {
+        PostResponse post = getCachedPost(id);
+        long likeCount = likeCountService.decreaseLike(id, userId);
+        return post.withCounts(viewCountService.getCurrentViewCount(id), likeCount);
+    }
+
+    /**
+     * 조회수 상위 게시글 조회 (Redis 랭킹 ZSET, 실시간)
+     */
+    public List<PostListResponse> getTopViewedPosts(RankingPeriod period, int size) {
+        return rankingService.getTopViewed(period, size);
+    }
+
+    /**
+     * 좋아요 상위 게시글 조회 (Redis 랭킹 ZSET, 실시간)
+     */
+    public List<PostListResponse> getTopLikedPosts(RankingPeriod period, int size) {
+        return rankingService.getTopLiked(period, size);
     }
 
     /**
-     * 조회수 상위 게시글 조회
+     * 트렌딩 게시글 조회 (조회/좋아요 지수 감쇠 점수, 커서 페이징)
      */
-    public List<PostListResponse> getTopViewedPosts() {
-        return postRepository.findTop10ByOrderByViewCountDesc()
-                .stream()
-                .map(PostListResponse::from)
+    public KeysetPageResponse<PostListResponse> getTrendingPosts(String cursor, int size) {
+        return trendingService.getTrending(cursor, size);
+    }
+
+    /**
+     * 키셋 응답 생성 (content는 최신순, size개 초과분은 잘라냄)
+     */
+    private KeysetPageResponse<PostListResponse> toKeysetPage(List<PostListResponse> posts, int size,
+                                                              boolean hasPrevious, boolean hasNext) {
+        List<PostListResponse> content = posts.stream()
+                .limit(size)
                 .collect(Collectors.toList());
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            PostListResponse first = content.get(0);
+            PostListResponse last = content.get(content.size() - 1);
+            nextCursor = hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null;
+            prevCursor = hasPrevious ? new KeysetCursor(first.getCreatedAt(), first.getId()).encode() : null;
+        }
+
+        log.debug("키셋 조회: size={}, hasNext={}, hasPrevious={}", content.size(), hasNext, hasPrevious);
+        return KeysetPageResponse.<PostListResponse>builder()
+                .content(content)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .size(content.size())
+                .build();
     }
 
     /**
-     * 좋아요 상위 게시글 조회
+     * ID 목록 순서대로 목록 조회 (IN 조회는 순서를 보장하지 않음)
      */
-    public List<PostListResponse> getTopLikedPosts() {
-        return postRepository.findTop10ByOrderByLikeCountDesc()
-                .stream()
-                .map(PostListResponse::from)
+    private List<PostListResponse> findPostListInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostListResponse> postsById = postRepository.findPostListByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+        return ids.stream()
+                .map(postsById::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 캐시된 본문에 Redis 카운터(조회수, 좋아요 수, 순 방문자 수)를 합침
+     * - 순 방문자 수는 조회수와 같은 왕복에서 읽은 값 (별도 PFCOUNT 없음)
+     */
+    private PostResponse withCurrentCounts(PostResponse post, ViewCounts counts) {
+        return post.withCounts(counts.viewCount(), getCurrentLikeCount(post))
+                .withUniqueVisitors(counts.uniqueVisitors());
+    }
+
+    /**
+     * 게시글 순 방문자 통계 (누적 / 일별 / 최근 7일 / 최근 30일)
+     *
+     * @param id 게시글 ID
+     * @param days 일별 값을 반환할 일수 (오늘 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public UniqueVisitorStatsResponse getUniqueVisitorStats(Long id, int days) {
+        // 없는 게시글이면 404 (캐시 히트 시 DB 접근 없음)
+        getCachedPost(id);
+        return uniqueVisitorService.getStats(id, days);
+    }
+
+    /**
+     * 게시글 조회수 시계열 (구간 + 단위)
+     *
+     * @param id 게시글 ID
+     * @param from 시작 시각
+     * @param to 종료 시각 (미포함)
+     * @param step 집계 단위 (MINUTE / HOUR / DAY)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ViewStatsResponse getViewStats(Long id, LocalDateTime from, LocalDateTime to, ViewStatsStep step) {
+        getCachedPost(id);
+        return viewStatsService.getStats(id, from, to, step);
+    }
+
+    /**
+     * 게시글 본문 조회 (캐시 미스 시에만 DB 조회)
+     */
+    private PostResponse getCachedPost(Long id) {
+        return postCacheService.get(id, () -> PostResponse.from(findPostById(id)));
+    }
+
     /**
      * 게시글 조회 헬퍼 메서드
      */
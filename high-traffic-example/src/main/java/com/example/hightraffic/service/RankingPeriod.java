@@ -0,0 +1,12 @@
+package com.example.hightraffic.service;
+
+/**
+ * 인기 게시글 랭킹 집계 기간
+ *
+ * - ALL   : 누적 (post:ranking:{metric})
+ * - DAILY : 오늘 하루 증가분 (post:ranking:{metric}:{yyyyMMdd}, 며칠 후 자동 만료)
+ */
+public enum RankingPeriod {
+    ALL,
+    DAILY
+}
@@ -0,0 +1,200 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.PostListResponse;
+import com.example.hightraffic.repository.PostRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 인기 게시글 랭킹 서비스 (Redis Sorted Set)
+ *
+ * 문제 정의:
+ * - findTop10ByOrderByViewCountDesc: 인덱스 없는 컬럼으로 전체 테이블 정렬
+ * - DB의 view_count는 Redis보다 최대 5분 늦음 → 실시간 순위가 아님
+ *
+ * 해결 방법:
+ * 1. 조회수/좋아요 증가 스크립트 안에서 ZSET을 함께 갱신 (추가 왕복 없음)
+ *    - 누적: ZADD post:ranking:{metric} {현재 값} {postId}
+ *    - 일간: ZINCRBY post:ranking:{metric}:{yyyyMMdd} {증가량} {postId}
+ * 2. 상위 N개는 ZREVRANGE로 O(log N + M) 조회
+ * 3. 같은 랭킹을 짧은 시간 동안 로컬 캐시 (인기 페이지의 반복 조회 흡수)
+ *
+ * 초기화:
+ * - 누적 랭킹이 처음 조회될 때 DB 상위 seed-size개로 채움 (ZADD NX, 실시간 값 우선)
+ * - 완료 표시 키(post:ranking:seeded:{metric})가 없을 때만 실행 → Redis 초기화 시 자동 재구성
+ *
+ * Redis Key:
+ * - post:ranking:views, post:ranking:likes : 누적 랭킹
+ * - post:ranking:views:{yyyyMMdd}, post:ranking:likes:{yyyyMMdd} : 일간 랭킹 (TTL)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingService {
+
+    static final String VIEWS = "views";
+    static final String LIKES = "likes";
+
+    private static final String RANKING_KEY_PREFIX = "post:ranking:";
+    private static final String SEEDED_KEY_PREFIX = "post:ranking:seeded:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    // 일간 랭킹 보관 기간
+    static final Duration DAILY_RANKING_TTL = Duration.ofDays(8);
+
+    private static final int MAX_SIZE = 100;
+
+    // 삭제된 게시글이 섞여 있어도 size개를 채우기 위한 여유분
+    private static final int DELETED_SLACK = 10;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+
+    @Value("${app.ranking.local-ttl-ms:1000}")
+    private long localTtlMs;
+
+    @Value("${app.ranking.seed-size:1000}")
+    private int seedSize;
+
+    private Cache<String, List<PostListResponse>> localCache;
+
+    @PostConstruct
+    void init() {
+        localCache = Caffeine.newBuilder()
+                .maximumSize(100)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .build();
+    }
+
+    static String allTimeKey(String metric) {
+        return RANKING_KEY_PREFIX + metric;
+    }
+
+    static String dailyKey(String metric, LocalDate date) {
+        return RANKING_KEY_PREFIX + metric + ":" + date.format(DAY_FORMAT);
+    }
+
+    static String todayKey(String metric) {
+        return dailyKey(metric, LocalDate.now());
+    }
+
+    /**
+     * 조회수 상위 게시글
+     */
+    public List<PostListResponse> getTopViewed(RankingPeriod period, int size) {
+        return getTop(VIEWS, period, size);
+    }
+
+    /**
+     * 좋아요 상위 게시글
+     */
+    public List<PostListResponse> getTopLiked(RankingPeriod period, int size) {
+        return getTop(LIKES, period, size);
+    }
+
+    /**
+     * 게시글 삭제 시 랭킹에서 제거
+     */
+    public void remove(Long postId) {
+        String member = String.valueOf(postId);
+        for (String metric : List.of(VIEWS, LIKES)) {
+            redisTemplate.opsForZSet().remove(allTimeKey(metric), member);
+            redisTemplate.opsForZSet().remove(todayKey(metric), member);
+        }
+        localCache.invalidateAll();
+    }
+
+    private List<PostListResponse> getTop(String metric, RankingPeriod period, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        String key = period == RankingPeriod.DAILY ? todayKey(metric) : allTimeKey(metric);
+        return localCache.get(key + ":" + limit, k -> load(metric, key, period, limit));
+    }
+
+    private List<PostListResponse> load(String metric, String key, RankingPeriod period, int limit) {
+        if (period == RankingPeriod.ALL) {
+            seedIfNeeded(metric);
+        }
+
+        Set<TypedTuple<String>> ranking = redisTemplate.opsForZSet()
+                .reverseRangeWithScores(key, 0, limit + DELETED_SLACK - 1);
+        if (ranking == null || ranking.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> postIds = ranking.stream()
+                .map(tuple -> Long.valueOf(tuple.getValue()))
+                .toList();
+        // 목록 컬럼만 조회 (content TEXT 제외)
+        Map<Long, PostListResponse> posts = postRepository.findPostListByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+
+        // ZSET 순서 유지, 삭제된 게시글은 건너뜀
+        List<PostListResponse> result = new ArrayList<>(limit);
+        for (TypedTuple<String> tuple : ranking) {
+            PostListResponse response = posts.get(Long.valueOf(tuple.getValue()));
+            if (response == null) {
+                continue;
+            }
+
+            if (period == RankingPeriod.ALL) {
+                // 누적 랭킹의 점수 = Redis의 실시간 카운터 값
+                long score = tuple.getScore() != null ? tuple.getScore().longValue() : 0L;
+                response = VIEWS.equals(metric)
+                        ? response.toBuilder().viewCount(score).build()
+                        : response.toBuilder().likeCount(score).build();
+            }
+            result.add(response);
+
+            if (result.size() == limit) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 누적 랭킹을 DB 상위 게시글로 초기화 (한 번만)
+     */
+    private void seedIfNeeded(String metric) {
+        String seededKey = SEEDED_KEY_PREFIX + metric;
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(seededKey))) {
+            return;
+        }
+
+        PageRequest top = PageRequest.of(0, seedSize);
+        List<PostListResponse> posts = VIEWS.equals(metric)
+                ? postRepository.findPostListOrderByViewCount(top)
+                : postRepository.findPostListOrderByLikeCount(top);
+
+        Set<TypedTuple<String>> tuples = new HashSet<>();
+        for (PostListResponse post : posts) {
+            long score = VIEWS.equals(metric) ? post.getViewCount() : post.getLikeCount();
+            tuples.add(TypedTuple.of(String.valueOf(post.getId()), (double) score));
+        }
+        if (!tuples.isEmpty()) {
+            // 이미 실시간으로 갱신된 게시글은 유지 (NX)
+            redisTemplate.opsForZSet().addIfAbsent(allTimeKey(metric), tuples);
+        }
+        redisTemplate.opsForValue().set(seededKey, "1");
+        log.info("랭킹 초기화 완료: metric={}, posts={}", metric, tuples.size());
+    }
+}
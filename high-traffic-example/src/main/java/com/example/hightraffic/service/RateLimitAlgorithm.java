@@ -0,0 +1,43 @@
+package com.example.hightraffic.service;
+
+import lombok.Getter;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.util.List;
+
+/**
+ * Rate Limit 알고리즘
+ *
+ * 모든 알고리즘은 Lua 스크립트 1회 호출(EVALSHA)로 판정하며
+ * { 허용 여부, 남은 요청 수, 재시도까지 남은 시간(ms) }를 한 번에 반환합니다.
+ *
+ * 비교:
+ * - FIXED_WINDOW   : 구현이 단순, 윈도우 경계에서 최대 2배 버스트 허용
+ * - SLIDING_WINDOW : 직전 윈도우를 가중 합산하여 경계 버스트 완화 (근사치)
+ * - GCRA           : 토큰 버킷과 동일, 요청 간격을 균등하게 강제 (키 1개, 값 1개)
+ *
+ * 설정: app.rate-limit.algorithm
+ */
+@Getter
+public enum RateLimitAlgorithm {
+
+    FIXED_WINDOW("ratelimit:", "scripts/rate-limit-fixed-window.lua"),
+    SLIDING_WINDOW("ratelimit:sliding:", "scripts/rate-limit-sliding-window.lua"),
+    GCRA("ratelimit:gcra:", "scripts/rate-limit-gcra.lua");
+
+    // 알고리즘마다 저장 형식이 다르므로 키 공간을 분리
+    private final String keyPrefix;
+
+    @SuppressWarnings("rawtypes")
+    private final RedisScript<List> script;
+
+    RateLimitAlgorithm(String keyPrefix, String scriptPath) {
+        this.keyPrefix = keyPrefix;
+        this.script = RedisScript.of(new ClassPathResource(scriptPath), List.class);
+    }
+
+    public String key(String subject) {
+        return keyPrefix + subject;
+    }
+}
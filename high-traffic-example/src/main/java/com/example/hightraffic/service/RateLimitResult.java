@@ -0,0 +1,30 @@
+package com.example.hightraffic.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Rate Limit 판정 결과
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class RateLimitResult {
+
+    // 요청 허용 여부
+    private final boolean allowed;
+
+    // 현재 윈도우(버킷)에서 추가로 허용되는 요청 수
+    private final long remaining;
+
+    // 다음 요청이 허용되기까지 남은 시간 (ms, 허용된 경우 0)
+    private final long retryAfterMillis;
+
+    /**
+     * Retry-After 헤더용 초 단위 값 (올림)
+     */
+    public long getRetryAfterSeconds() {
+        return (retryAfterMillis + 999) / 1000;
+    }
+}
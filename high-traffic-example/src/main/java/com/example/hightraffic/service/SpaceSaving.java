@@ -0,0 +1,234 @@
+package com.example.hightraffic.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Space-Saving 상위 K개 추적 (고정 개수의 카운터)
+ *
+ * - 추적 중인 키면 카운터 증가
+ * - 자리가 남아 있으면 새 카운터 추가
+ * - 가득 찼으면 가장 작은 카운터를 새 키로 교체 (count = 최솟값 + 1, error = 최솟값)
+ *
+ * 보장: 실제 빈도가 N/capacity보다 큰 키는 반드시 추적됨, 실제 빈도 ∈ [count - error, count]
+ *
+ * Stream-Summary 구조 (offer O(1)):
+ * - 같은 count의 카운터를 버킷 하나에 모으고, 버킷은 count 오름차순 이중 연결 리스트
+ * - 증가 = 카운터를 다음 버킷(count + 1)으로 옮김, 최솟값 = 첫 버킷의 카운터
+ * - 조회마다 호출되므로 락을 잡는 구간에서 카운터 전체를 훑지 않음
+ *
+ * 스트라이프 (조회 경로의 락 경합 분산):
+ * - 키 해시로 나눈 stripes개의 Stream-Summary, 각각 ReentrantLock으로 보호
+ *   (synchronized는 경합 시 가상 스레드의 캐리어를 고정하므로 사용하지 않음, VirtualThreadConfig 참고)
+ * - 같은 키는 항상 같은 스트라이프 → 키의 카운트가 나뉘지 않고, 조회(top)는 스트라이프별 결과를 합쳐 정렬
+ * - 스트라이프마다 capacity개를 유지하므로 보장은 단일 구조와 같거나 더 강함 (스트라이프 유입량 ≤ 전체 유입량)
+ */
+final class SpaceSaving {
+
+    private final Stripe[] stripes;
+
+    SpaceSaving(int capacity) {
+        this(capacity, 1);
+    }
+
+    /**
+     * @param stripes 스트라이프 수 (2의 거듭제곱으로 올림)
+     */
+    SpaceSaving(int capacity, int stripes) {
+        int size = 1;
+        while (size < stripes) {
+            size <<= 1;
+        }
+        this.stripes = new Stripe[size];
+        for (int i = 0; i < this.stripes.length; i++) {
+            this.stripes[i] = new Stripe(capacity);
+        }
+    }
+
+    /**
+     * 기본 스트라이프 수 (CPU 수 = 동시에 실행되는 캐리어 스레드 수)
+     */
+    static int defaultStripes() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    void offer(String key) {
+        Stripe stripe = stripes[stripeIndex(key)];
+        stripe.lock.lock();
+        try {
+            stripe.offer(key);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 추적 중인 키 (count 내림차순, 모든 스트라이프 합침)
+     */
+    List<Entry> top(int limit) {
+        List<Entry> entries = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.collect(entries);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        entries.sort(Comparator.comparingLong(Entry::count).reversed());
+        return entries.size() > limit ? entries.subList(0, limit) : entries;
+    }
+
+    private int stripeIndex(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (stripes.length - 1);
+    }
+
+    /**
+     * 스트라이프 하나의 Stream-Summary (호출 측이 lock을 잡은 상태에서만 접근)
+     */
+    private static final class Stripe {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final Map<String, Counter> counters;
+
+        // count가 가장 작은 버킷 (교체 대상)
+        private Bucket head;
+
+        Stripe(int capacity) {
+            this.capacity = capacity;
+            this.counters = new HashMap<>(capacity * 2);
+        }
+
+        void offer(String key) {
+            Counter counter = counters.get(key);
+            if (counter != null) {
+                increment(counter);
+                return;
+            }
+            if (counters.size() < capacity) {
+                counter = new Counter(key, 0);
+                counters.put(key, counter);
+                attachFirst(counter);
+                return;
+            }
+
+            // 최솟값 카운터를 새 키로 재사용 (error = 최솟값)
+            Counter min = head.first;
+            counters.remove(min.key);
+            min.key = key;
+            min.error = head.count;
+            counters.put(key, min);
+            increment(min);
+        }
+
+        void collect(List<Entry> entries) {
+            counters.forEach((key, counter) -> entries.add(new Entry(key, counter.bucket.count, counter.error)));
+        }
+
+        /**
+         * 새 카운터를 count = 1 버킷에 추가 (없으면 맨 앞에 생성)
+         */
+        private void attachFirst(Counter counter) {
+            if (head == null || head.count != 1) {
+                Bucket bucket = new Bucket(1);
+                bucket.next = head;
+                if (head != null) {
+                    head.prev = bucket;
+                }
+                head = bucket;
+            }
+            head.add(counter);
+        }
+
+        /**
+         * 카운터를 count + 1 버킷으로 이동 (없으면 현재 버킷 바로 뒤에 생성, 빈 버킷은 제거)
+         */
+        private void increment(Counter counter) {
+            Bucket from = counter.bucket;
+            Bucket to = from.next;
+            if (to == null || to.count != from.count + 1) {
+                to = new Bucket(from.count + 1);
+                to.prev = from;
+                to.next = from.next;
+                if (from.next != null) {
+                    from.next.prev = to;
+                }
+                from.next = to;
+            }
+            from.remove(counter);
+            to.add(counter);
+            if (from.first == null) {
+                unlink(from);
+            }
+        }
+
+        private void unlink(Bucket bucket) {
+            if (bucket.prev != null) {
+                bucket.prev.next = bucket.next;
+            } else {
+                head = bucket.next;
+            }
+            if (bucket.next != null) {
+                bucket.next.prev = bucket.prev;
+            }
+        }
+    }
+
+    record Entry(String key, long count, long error) {
+    }
+
+    private static final class Bucket {
+
+        private final long count;
+        private Bucket prev;
+        private Bucket next;
+        private Counter first;
+
+        Bucket(long count) {
+            this.count = count;
+        }
+
+        void add(Counter counter) {
+            counter.bucket = this;
+            counter.prev = null;
+            counter.next = first;
+            if (first != null) {
+                first.prev = counter;
+            }
+            first = counter;
+        }
+
+        void remove(Counter counter) {
+            if (counter.prev != null) {
+                counter.prev.next = counter.next;
+            } else {
+                first = counter.next;
+            }
+            if (counter.next != null) {
+                counter.next.prev = counter.prev;
+            }
+            counter.prev = null;
+            counter.next = null;
+        }
+    }
+
+    private static final class Counter {
+
+        private String key;
+        private long error;
+        private Bucket bucket;
+        private Counter prev;
+        private Counter next;
+
+        Counter(String key, long error) {
+            this.key = key;
+            this.error = error;
+        }
+    }
+}
@@ -0,0 +1,278 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.KeysetPageResponse;
+import com.example.hightraffic.dto.PostListResponse;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.util.RedisScripts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 트렌딩 게시글 (지수 감쇠 점수, Redis Sorted Set)
+ *
+ * 문제 정의:
+ * - 누적 랭킹은 오래된 게시글이 계속 상위를 차지, 일간 랭킹은 자정에 초기화되어 급격히 바뀜
+ * - 감쇠 점수를 주기적으로 다시 계산하면 게시글 수만큼 ZADD가 필요
+ *
+ * 해결 방법 (로그 공간 점수):
+ * - 현재 시각 t의 감쇠 점수 = Σ 가중치 · e^(-λ(t - tᵢ)), λ = ln2 / 반감기
+ * - e^(-λt)는 모든 게시글에 공통 → 순위는 Σ 가중치 · e^(λtᵢ)만으로 결정
+ * - 이 값은 시간이 지나면 매우 커지므로 로그로 저장: score = ln(Σ 가중치 · e^(λtᵢ))
+ * - 증가분 반영: score = logaddexp(score, ln(가중치) + λtᵢ) → 이미 저장된 점수는 다시 쓸 필요 없음
+ * - 반감기 6시간이면 1년에 score가 약 1,000 증가 (double 정밀도 문제 없음)
+ *
+ * 반영 시점:
+ * - 조회: 조회수 증가 스크립트의 첫 조회(SET NX 성공) 경로에서 함께 반영 (추가 왕복 없음)
+ * - 좋아요: 좋아요 스크립트에서 좋아요 증가 시 함께 반영 (취소는 반영하지 않음)
+ * - 점수가 가장 낮은 게시글은 max-tracked개를 넘으면 같은 스크립트에서 제거
+ * - 점수 계산은 scripts/lib/trending.lua 한 곳에만 두고 각 스크립트 앞에 붙여 로드 (RedisScripts)
+ *
+ * 조회:
+ * - 커서 = 마지막 항목의 (점수, 게시글 ID), ZREVRANGEBYSCORE로 다음 페이지 조회
+ * - 점수가 갱신되면 순위가 바뀌므로 페이지 간 중복/누락이 있을 수 있음 (트렌딩 피드 특성상 허용)
+ * - 첫 페이지는 짧은 시간 동안 로컬 캐시
+ *
+ * Redis Key:
+ * - post:trending : 트렌딩 점수 (member = 게시글 ID)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    static final String TRENDING_KEY = "post:trending";
+
+    // 트렌딩 점수 누적 함수 (조회수 증가 / 좋아요 / 트렌딩 반영 스크립트 앞에 붙여 로드)
+    static final String TRENDING_LIBRARY = "scripts/lib/trending.lua";
+
+    // 로그 점수 기준 시각 (score가 너무 커지지 않도록 1970년 대신 사용)
+    private static final Instant EPOCH = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final int MAX_SIZE = 100;
+
+    // 삭제된 게시글이 섞여 있어도 size개를 채우기 위한 여유분
+    private static final int DELETED_SLACK = 10;
+
+    private static final char CURSOR_SEPARATOR = '_';
+
+    /**
+     * 트렌딩 점수 반영 스크립트 (조회수 증가 스크립트를 쓰지 않는 경로용)
+     */
+    private static final RedisScript<String> ADD_TRENDING_SCRIPT =
+            RedisScripts.of(String.class, TRENDING_LIBRARY, "scripts/trending-add.lua");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostRepository postRepository;
+
+    @Value("${app.trending.enabled:true}")
+    private boolean enabled;
+
+    // 점수가 절반으로 줄어드는 시간
+    @Value("${app.trending.half-life-hours:6}")
+    private double halfLifeHours;
+
+    @Value("${app.trending.view-weight:1}")
+    private double viewWeight;
+
+    @Value("${app.trending.like-weight:5}")
+    private double likeWeight;
+
+    @Value("${app.trending.max-tracked:10000}")
+    private int maxTracked;
+
+    @Value("${app.ranking.local-ttl-ms:1000}")
+    private long localTtlMs;
+
+    private Cache<Integer, KeysetPageResponse<PostListResponse>> firstPageCache;
+
+    @PostConstruct
+    void init() {
+        firstPageCache = Caffeine.newBuilder()
+                .maximumSize(MAX_SIZE)
+                .expireAfterWrite(Duration.ofMillis(localTtlMs))
+                .build();
+    }
+
+    /**
+     * 조회 1건의 로그 점수 (스크립트 인자, 비활성화 시 빈 문자열)
+     */
+    String viewTerm() {
+        return term(viewWeight);
+    }
+
+    /**
+     * 좋아요 1건의 로그 점수 (스크립트 인자, 비활성화 시 빈 문자열)
+     */
+    String likeTerm() {
+        return term(likeWeight);
+    }
+
+    int getMaxTracked() {
+        return maxTracked;
+    }
+
+    /**
+     * 조회 반영 (조회수 증가 스크립트를 쓰지 않는 경로, 왕복 1회)
+     */
+    public void recordView(Long postId) {
+        String term = viewTerm();
+        if (term.isEmpty()) {
+            return;
+        }
+        redisTemplate.execute(ADD_TRENDING_SCRIPT, List.of(TRENDING_KEY),
+                String.valueOf(postId), term, String.valueOf(maxTracked));
+    }
+
+    /**
+     * 현재 시각 기준 감쇠 점수 (저장된 로그 점수 → 가중치 합, 디버깅/모니터링용)
+     */
+    public double getDecayedScore(Long postId) {
+        Double score = redisTemplate.opsForZSet().score(TRENDING_KEY, String.valueOf(postId));
+        return score != null ? Math.exp(score - logTime(Instant.now())) : 0.0;
+    }
+
+    /**
+     * 트렌딩 게시글 (점수 내림차순, 커서 페이징)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 100)
+     */
+    public KeysetPageResponse<PostListResponse> getTrending(String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_SIZE));
+        if (cursor == null || cursor.isBlank()) {
+            return firstPageCache.get(limit, k -> load(null, limit));
+        }
+        return load(Cursor.decode(cursor), limit);
+    }
+
+    /**
+     * 게시글 삭제 시 트렌딩에서 제거
+     */
+    public void remove(Long postId) {
+        redisTemplate.opsForZSet().remove(TRENDING_KEY, String.valueOf(postId));
+        firstPageCache.invalidateAll();
+    }
+
+    private KeysetPageResponse<PostListResponse> load(Cursor after, int limit) {
+        double max = after != null ? after.score() : Double.POSITIVE_INFINITY;
+        int batch = limit + DELETED_SLACK + 1;
+
+        // limit + 1개를 채울 때까지 (다음 페이지 여부 확인) 삭제된 게시글을 건너뛰며 조회
+        List<PostListResponse> posts = new ArrayList<>(limit + 1);
+        List<TypedTuple<String>> ranks = new ArrayList<>(limit + 1);
+        long offset = 0;
+        while (posts.size() <= limit) {
+            Set<TypedTuple<String>> page = redisTemplate.opsForZSet()
+                    .reverseRangeByScoreWithScores(TRENDING_KEY, Double.NEGATIVE_INFINITY, max, offset, batch);
+            if (page == null || page.isEmpty()) {
+                break;
+            }
+            offset += page.size();
+
+            // 같은 점수는 member 역순으로 정렬되므로 커서 member 이상은 이전 페이지에서 반환됨
+            List<TypedTuple<String>> candidates = page.stream()
+                    .filter(tuple -> after == null || !after.isAtOrBefore(tuple))
+                    .toList();
+            List<Long> postIds = candidates.stream()
+                    .map(tuple -> Long.valueOf(tuple.getValue()))
+                    .toList();
+            // 목록 컬럼만 조회 (content TEXT 제외)
+            Map<Long, PostListResponse> found = postIds.isEmpty() ? Map.of() : postRepository.findPostListByIdIn(postIds).stream()
+                    .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+
+            for (TypedTuple<String> tuple : candidates) {
+                PostListResponse post = found.get(Long.valueOf(tuple.getValue()));
+                if (post != null && posts.size() <= limit) {
+                    posts.add(post);
+                    ranks.add(tuple);
+                }
+            }
+            if (page.size() < batch) {
+                break;
+            }
+        }
+
+        boolean hasNext = posts.size() > limit;
+        if (hasNext) {
+            posts = posts.subList(0, limit);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            TypedTuple<String> last = ranks.get(limit - 1);
+            nextCursor = new Cursor(last.getScore(), last.getValue()).encode();
+        }
+        return KeysetPageResponse.<PostListResponse>builder()
+                .content(posts)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .hasPrevious(after != null)
+                .size(posts.size())
+                .build();
+    }
+
+    private String term(double weight) {
+        if (!enabled || weight <= 0) {
+            return "";
+        }
+        return Double.toString(Math.log(weight) + logTime(Instant.now()));
+    }
+
+    /**
+     * λ·(t - 기준 시각)
+     */
+    private double logTime(Instant now) {
+        double lambda = Math.log(2) / (halfLifeHours * 3600);
+        return lambda * Duration.between(EPOCH, now).toMillis() / 1000.0;
+    }
+
+    /**
+     * 트렌딩 커서 (마지막 항목의 점수, 게시글 ID) → Base64 URL-safe 문자열
+     */
+    private record Cursor(double score, String member) {
+
+        String encode() {
+            String raw = Double.toString(score) + CURSOR_SEPARATOR + member;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * 이전 페이지까지 반환된 항목인지 (점수가 같으면 member 역순)
+         */
+        boolean isAtOrBefore(TypedTuple<String> tuple) {
+            return tuple.getScore() != null && tuple.getScore() == score && tuple.getValue().compareTo(member) >= 0;
+        }
+
+        static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separatorIndex = raw.lastIndexOf(CURSOR_SEPARATOR);
+                double score = Double.parseDouble(raw.substring(0, separatorIndex));
+                String member = String.valueOf(Long.parseLong(raw.substring(separatorIndex + 1)));
+                return new Cursor(score, member);
+            } catch (RuntimeException e) {
+                throw new BusinessException("잘못된 커서입니다: " + cursor, HttpStatus.BAD_REQUEST);
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.UniqueVisitorStatsResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 게시글 순 방문자 수 (HyperLogLog 기반)
+ *
+ * 문제 정의:
+ * - 조회수는 5초 중복 방지만 하므로 같은 사용자의 재방문도 모두 집계됨
+ * - 방문자 ID를 Set으로 모으면 메모리가 방문자 수에 비례하여 증가
+ *
+ * 해결 방법:
+ * 1. Redis HyperLogLog (PFADD / PFCOUNT)
+ *    - 키당 최대 12KB 고정 메모리, 표준 오차 0.81%
+ *    - 방문자가 수백만 명이어도 메모리 증가 없음
+ * 2. 게시글별 누적 키 + 일별 키 (보관 기간 후 만료)
+ *    - 조회수 증가 스크립트에서 함께 PFADD (추가 왕복 없음)
+ * 3. 주간/월간 순 방문자 = 일별 키를 PFMERGE한 롤업 키 (rollup-ttl 동안 재사용)
+ *    - 일별 순 방문자의 합과 달리 여러 날 방문한 사용자는 한 번만 집계
+ *
+ * Redis Key 구조:
+ * - post:uv:{postId} : 누적 순 방문자 (영구, 게시글 삭제 시 삭제)
+ * - post:uv:{postId}:{yyyyMMdd} : 일별 순 방문자 (TTL retention-days)
+ * - post:uv:{postId}:last{N}d:{yyyyMMdd} : 최근 N일 롤업 (TTL rollup-ttl-seconds)
+ *
+ * 메모리: 게시글-일당 최대 약 12KB (방문자가 적으면 sparse 인코딩으로 더 작음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UniqueVisitorService {
+
+    private static final String KEY_PREFIX = "post:uv:";
+    private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    static final int WEEK_DAYS = 7;
+    static final int MONTH_DAYS = 30;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 일별 키 보관 기간 (월간 롤업에 필요한 30일 + 여유 1일)
+    @Value("${app.unique-visitor.retention-days:31}")
+    private int retentionDays;
+
+    // 주간/월간 롤업 결과 재사용 시간
+    @Value("${app.unique-visitor.rollup-ttl-seconds:600}")
+    private long rollupTtlSeconds;
+
+    static String totalKey(Object postId) {
+        return KEY_PREFIX + postId;
+    }
+
+    static String dailyKey(Object postId, LocalDate date) {
+        return KEY_PREFIX + postId + ":" + date.format(DAY_FORMAT);
+    }
+
+    static String todayKey(Object postId) {
+        return dailyKey(postId, LocalDate.now());
+    }
+
+    private static String rollupKey(Long postId, int days, LocalDate today) {
+        return KEY_PREFIX + postId + ":last" + days + "d:" + today.format(DAY_FORMAT);
+    }
+
+    Duration getDailyTtl() {
+        return Duration.ofDays(retentionDays);
+    }
+
+    /**
+     * 방문 기록 (조회수 증가 스크립트를 쓰지 않는 경로용, 파이프라인 1회)
+     *
+     * @param postId 게시글 ID
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return 기록 후 누적 순 방문자 수 (같은 파이프라인의 PFCOUNT)
+     */
+    public long record(Long postId, String identifier) {
+        byte[] visitor = bytes(identifier);
+        byte[] totalKey = bytes(totalKey(postId));
+        byte[] dailyKey = bytes(todayKey(postId));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hyperLogLogCommands().pfAdd(totalKey, visitor);
+            connection.hyperLogLogCommands().pfAdd(dailyKey, visitor);
+            connection.keyCommands().expire(dailyKey, getDailyTtl().toSeconds());
+            connection.hyperLogLogCommands().pfCount(totalKey);
+            return null;
+        });
+        Object count = results.get(3);
+        return count != null ? (Long) count : 0L;
+    }
+
+    /**
+     * 게시글 순 방문자 통계 (누적 / 일별 / 최근 7일 / 최근 30일)
+     *
+     * @param postId 게시글 ID
+     * @param days 일별 값을 반환할 일수 (오늘 포함, 최대 retention-days)
+     */
+    public UniqueVisitorStatsResponse getStats(Long postId, int days) {
+        LocalDate today = LocalDate.now();
+        int dailyDays = Math.max(1, Math.min(days, retentionDays));
+
+        // 누적 + 일별 PFCOUNT를 파이프라인 1회로 조회
+        List<LocalDate> dates = new ArrayList<>(dailyDays);
+        for (int i = 0; i < dailyDays; i++) {
+            dates.add(today.minusDays(i));
+        }
+        List<Object> counts = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hyperLogLogCommands().pfCount(bytes(totalKey(postId)));
+            for (LocalDate date : dates) {
+                connection.hyperLogLogCommands().pfCount(bytes(dailyKey(postId, date)));
+            }
+            return null;
+        });
+
+        List<UniqueVisitorStatsResponse.Daily> daily = new ArrayList<>(dailyDays);
+        for (int i = 0; i < dates.size(); i++) {
+            daily.add(new UniqueVisitorStatsResponse.Daily(dates.get(i), toLong(counts.get(i + 1))));
+        }
+
+        return UniqueVisitorStatsResponse.builder()
+                .postId(postId)
+                .total(toLong(counts.get(0)))
+                .lastWeek(getRollup(postId, WEEK_DAYS, today))
+                .lastMonth(getRollup(postId, MONTH_DAYS, today))
+                .daily(daily)
+                .build();
+    }
+
+    /**
+     * 최근 N일 순 방문자 (일별 키 PFMERGE → 롤업 키에 저장 후 PFCOUNT)
+     * - 롤업 키가 남아 있으면 재사용 (rollup-ttl 동안 오늘 방문자 증가분은 반영되지 않음)
+     */
+    long getRollup(Long postId, int days, LocalDate today) {
+        String rollupKey = rollupKey(postId, days, today);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(rollupKey))) {
+            String[] sourceKeys = new String[days];
+            for (int i = 0; i < days; i++) {
+                sourceKeys[i] = dailyKey(postId, today.minusDays(i));
+            }
+            redisTemplate.opsForHyperLogLog().union(rollupKey, sourceKeys);
+            redisTemplate.expire(rollupKey, Duration.ofSeconds(rollupTtlSeconds));
+        }
+        Long count = redisTemplate.opsForHyperLogLog().size(rollupKey);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * 게시글 삭제 시 누적 키 삭제 (일별/롤업 키는 TTL로 만료)
+     */
+    public void deleteUniqueVisitors(Long postId) {
+        redisTemplate.delete(totalKey(postId));
+        log.debug("Redis 순 방문자 삭제: postId={}", postId);
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
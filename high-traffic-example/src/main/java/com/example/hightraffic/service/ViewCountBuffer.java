@@ -0,0 +1,249 @@
+package com.example.hightraffic.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 조회수 Write-Behind 버퍼 (JVM 내 누적 후 주기적 반영)
+ *
+ * 문제 정의:
+ * - 인기 게시글은 하나의 키(post:viewcount:{postId})에 초당 수만 건의 INCR이 집중
+ * - 조회 1건마다 Redis 쓰기가 발생하여 네트워크/Redis CPU가 병목
+ *
+ * 해결 방법:
+ * 1. 게시글별 LongAdder에 증가분을 누적 (스레드 경합 없이 striped 카운팅)
+ * 2. N ms마다 누적된 증가분을 flush 스크립트로 한 번에 반영 (청크당 EVALSHA 1회)
+ *    (INCRBY + DB 동기화 대상 표시를 위한 Dirty Set SADD + 랭킹 갱신을 원자적으로 처리)
+ *    - 누적 랭킹은 반영 후 조회수로 ZADD (증가 스크립트와 같은 절대값), 일간 랭킹은 ZINCRBY
+ * 3. 애플리케이션 종료 시 남은 증가분을 모두 반영 (@PreDestroy)
+ * 4. 조회수 키가 없는 게시글(삭제/만료)은 반영하지 않고, DB 값으로 키를 채운 뒤 증가분을 다음 flush에 다시 반영
+ *    (0부터 INCRBY하면 DB 조회수 대신 증가분만 남음, 삭제된 게시글의 증가분은 버림)
+ *
+ * 읽기 일관성 (read-your-writes):
+ * - getPending()으로 아직 반영되지 않은 증가분을 조회
+ * - ViewCountService.getCurrentViewCount()가 Redis 값 + 버퍼 값을 합산
+ * - 같은 노드 안에서는 방금 증가시킨 조회수가 즉시 보임
+ *
+ * 트레이드오프:
+ * - 프로세스가 비정상 종료되면 마지막 flush 이후의 증가분은 유실될 수 있음
+ * - 다른 노드에서는 최대 flush 주기만큼 늦게 보임
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewCountBuffer {
+
+    // 스크립트 1회로 반영할 최대 게시글 수 (스크립트 실행 중에는 Redis가 다른 명령을 처리하지 않음)
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    /**
+     * 버퍼 flush 스크립트
+     * - 반환값: 조회수 키가 없어서 반영하지 않은 게시글 ID 목록
+     */
+    private static final RedisScript<List> FLUSH_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/view-count-flush.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // ViewCountService가 이 버퍼를 사용하므로 순환 참조를 피해 필요할 때 조회
+    private final ObjectProvider<ViewCountService> viewCountService;
+
+    // 게시글 ID → 아직 Redis에 반영되지 않은 증가분
+    private final Map<Long, LongAdder> buffer = new ConcurrentHashMap<>();
+
+    // 버퍼에서 제거된 카운터 (제거 직전에 증가된 값을 다음 flush에서 회수)
+    private final Queue<Map.Entry<Long, LongAdder>> retired = new ConcurrentLinkedQueue<>();
+
+    // flush 직렬화 (synchronized는 Redis I/O 동안 가상 스레드의 캐리어를 고정하므로 ReentrantLock 사용)
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    // flush 진행 중인 증가분 (Redis 반영 전까지 읽기에 포함, 청크 처리가 끝날 때마다 제거)
+    private final Map<Long, Long> inFlight = new ConcurrentHashMap<>();
+
+    @Value("${app.view-count.buffer.enabled:false}")
+    private boolean enabled;
+
+    @Value("${app.view-count.sync.partitions:16}")
+    private int syncPartitions;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회수 1 증가 (Redis 호출 없음)
+     */
+    public void increment(Long postId) {
+        buffer.computeIfAbsent(postId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * 아직 Redis에 반영되지 않은 증가분 조회
+     */
+    public long getPending(Long postId) {
+        LongAdder adder = buffer.get(postId);
+        long pending = adder != null ? adder.sum() : 0L;
+        return pending + inFlight.getOrDefault(postId, 0L);
+    }
+
+    /**
+     * 누적된 증가분을 Redis에 반영
+     *
+     * 동작 방식:
+     * 1. 게시글별 누적값을 진행 중 증가분(inFlight)에 먼저 기록한 뒤 카운터에서 뺌
+     *    (카운터를 먼저 비우면 기록 전까지 읽기에서 증가분이 빠짐)
+     * 2. 이번 주기에 증가가 없던 게시글은 버퍼에서 제거 (메모리 관리)
+     * 3. 청크마다 flush 스크립트 1회로 반영 (Redis 왕복 1회, 원자적)
+     * 4. 실패한 청크의 증가분은 버퍼에 되돌려 다음 주기에 재시도
+     * 5. 청크 처리가 끝나면(반영 또는 버퍼에 되돌림) 그 청크만 진행 중 증가분에서 제거
+     *    (flush 전체가 끝날 때까지 남겨 두면 반영된 값/되돌린 값과 중복 집계됨)
+     */
+    @Scheduled(fixedDelayString = "${app.view-count.buffer.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        if (!enabled) {
+            return;
+        }
+
+        Map<Long, Long> deltas = drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<Long> postIds = new ArrayList<>(deltas.keySet());
+            for (int from = 0; from < postIds.size(); from += FLUSH_CHUNK_SIZE) {
+                flushChunk(postIds.subList(from, Math.min(from + FLUSH_CHUNK_SIZE, postIds.size())), deltas);
+            }
+            log.debug("조회수 버퍼 flush 완료: posts={}", deltas.size());
+        } finally {
+            // 처리되지 못한 청크가 읽기에 계속 더해지지 않도록 정리
+            inFlight.clear();
+        }
+    }
+
+    private void flushChunk(List<Long> postIds, Map<Long, Long> deltas) {
+        List<String> keys = new ArrayList<>(postIds.size() * 2 + 2);
+        List<String> args = new ArrayList<>(postIds.size() * 2 + 1);
+        keys.add(RankingService.allTimeKey(RankingService.VIEWS));
+        keys.add(RankingService.todayKey(RankingService.VIEWS));
+        args.add(String.valueOf(RankingService.DAILY_RANKING_TTL.toSeconds()));
+        for (Long postId : postIds) {
+            keys.add(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId);
+            keys.add(ViewCountService.dirtyKey(postId, syncPartitions));
+            args.add(String.valueOf(postId));
+            args.add(String.valueOf(deltas.get(postId)));
+        }
+
+        try {
+            List<Long> missing = redisTemplate.execute(FLUSH_SCRIPT, keys, args.toArray());
+            if (missing != null && !missing.isEmpty()) {
+                reloadMissing(missing, deltas);
+            }
+        } catch (Exception e) {
+            // 스크립트는 청크 단위로 전부 반영되거나 전혀 반영되지 않으므로 청크 전체를 버퍼에 되돌림
+            log.error("조회수 버퍼 flush 실패, 다음 주기에 재시도: posts={}", postIds.size(), e);
+            postIds.forEach(postId -> requeue(postId, deltas.get(postId)));
+        } finally {
+            // 반영했거나 버퍼에 되돌린 뒤에 제거 (읽기에서 증가분이 빠지는 순간이 없도록)
+            postIds.forEach(inFlight::remove);
+        }
+    }
+
+    /**
+     * 조회수 키가 없어서 반영하지 않은 게시글 처리
+     * - DB에 있는 게시글: DB 조회수로 키를 채우고(SET NX) 증가분은 다음 flush에서 반영
+     * - 삭제된 게시글: 증가분을 버림
+     */
+    private void reloadMissing(List<Long> postIds, Map<Long, Long> deltas) {
+        Set<Long> existing;
+        try {
+            existing = viewCountService.getObject().loadViewCounts(postIds);
+        } catch (Exception e) {
+            // 키를 채우지 못하면 다음 flush에서 다시 시도
+            log.error("조회수 키 재적재 실패, 다음 주기에 재시도: posts={}", postIds.size(), e);
+            existing = Set.copyOf(postIds);
+        }
+        for (Long postId : postIds) {
+            if (existing.contains(postId)) {
+                requeue(postId, deltas.get(postId));
+            } else {
+                log.debug("삭제된 게시글의 조회수 증가분 버림: postId={}, delta={}", postId, deltas.get(postId));
+            }
+        }
+        log.info("조회수 키가 없는 게시글 재적재: posts={}, existing={}", postIds.size(), existing.size());
+    }
+
+    private void requeue(Long postId, long delta) {
+        buffer.computeIfAbsent(postId, id -> new LongAdder()).add(delta);
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 증가분 반영
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("애플리케이션 종료: 조회수 버퍼 flush");
+        flush();
+    }
+
+    private Map<Long, Long> drain() {
+        Map<Long, Long> deltas = new HashMap<>();
+
+        // 이전 주기에 제거된 카운터에 늦게 들어온 증가분 회수
+        Map.Entry<Long, LongAdder> entry;
+        while ((entry = retired.poll()) != null) {
+            take(deltas, entry.getKey(), entry.getValue());
+        }
+
+        buffer.forEach((postId, adder) -> {
+            if (!take(deltas, postId, adder) && buffer.remove(postId, adder)) {
+                retired.add(Map.entry(postId, adder));
+            }
+        });
+        return deltas;
+    }
+
+    /**
+     * 카운터의 현재 값을 진행 중 증가분으로 옮김 (inFlight에 먼저 더한 뒤 카운터에서 뺌)
+     *
+     * @return 옮긴 증가분이 있으면 true
+     */
+    private boolean take(Map<Long, Long> deltas, Long postId, LongAdder adder) {
+        long delta = adder.sum();
+        if (delta <= 0) {
+            return false;
+        }
+        inFlight.merge(postId, delta, Long::sum);
+        adder.add(-delta);
+        deltas.merge(postId, delta, Long::sum);
+        return true;
+    }
+}
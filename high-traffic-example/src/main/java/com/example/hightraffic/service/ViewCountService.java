@@ -1,16 +1,38 @@
 package com.example.hightraffic.service;
 
 import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.repository.PostJdbcRepository;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.util.RedisScripts;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
 
 /**
  * 조회수 관리 서비스 (Redis 기반)
@@ -31,14 +53,55 @@ import java.util.concurrent.TimeUnit;
  *    - Redis TTL 활용으로 메모리 효율적 관리
  *    - Key: post:viewed:{postId}:{ip}, TTL: 5초
  *
- * 3. 주기적 DB 동기화
- *    - 5분마다 Redis → DB 동기화 (스케줄러)
+ * 3. 주기적 DB 동기화 (Dirty Set 기반 증분 동기화)
+ *    - 조회수가 증가한 게시글 ID를 Dirty Set에 기록 (증가와 같은 왕복에서 SADD)
+ *    - 5분마다 Dirty Set을 청크 단위로 꺼내 MGET + JDBC batch UPDATE (스케줄러)
+ *    - Dirty Set은 postId % N 으로 파티셔닝, 노드별로 담당 파티션만 동기화
  *    - 애플리케이션 재시작 시 DB → Redis 초기화
  *    - 데이터 영속성 보장
  *
+ * 4. Lua 스크립트 모드 (app.view-count.script-enabled)
+ *    - 중복 체크(hasKey) + INCR + 플래그 저장(set)을 스크립트 한 번으로 처리
+ *    - 조회 1건당 Redis 왕복: 3~4회 → 1회 (EVALSHA)
+ *    - 스크립트 내부에서 원자적으로 실행되므로 체크와 증가 사이의 경쟁 조건도 제거
+ *
+ * 5. Write-Behind 버퍼 모드 (app.view-count.buffer.enabled)
+ *    - 증가분은 JVM 내 ViewCountBuffer에 누적, 주기적으로 flush 스크립트(INCRBY + 랭킹)로 반영
+ *    - Redis에는 중복 체크(SET NX)만 수행하여 인기 게시글 키의 쓰기 집중 완화
+ *    - 조회수 = Redis 값 + 버퍼의 미반영 증가분 (같은 노드에서 read-your-writes)
+ *
+ * 6. Kafka 조회수 파이프라인 모드 (app.view-count.kafka.enabled)
+ *    - Redis에는 중복 체크(SET NX)만 수행하고, 첫 조회는 ViewEvent로 Kafka에 발행
+ *    - ViewEventAggregator가 윈도우 단위로 집계하여 DB/Redis에 일괄 반영 (트래픽 급증 평탄화, 재처리 가능)
+ *    - 버퍼 모드보다 우선 적용
+ *
+ * 7. 순 방문자 (UniqueVisitorService)
+ *    - 같은 스크립트에서 게시글별 누적/일별 HyperLogLog에 PFADD (추가 왕복 없음)
+ *    - 응답용 누적 순 방문자 수도 같은 왕복에서 PFCOUNT (increaseViewCounts / getCurrentViewCounts)
+ *
+ * 8. 조회수 랭킹 (RankingService)
+ *    - 조회수가 증가하면 같은 스크립트(또는 버퍼 flush 스크립트)에서 랭킹 ZSET도 갱신
+ *
+ * 9. 핫 키 샤딩 (app.view-count.hot-key.enabled, 기본 비활성화)
+ *    - 바이럴 게시글은 키 하나에 INCR이 집중되어 Redis 단일 스레드/한 노드가 병목
+ *    - 노드별 게시글 조회 속도가 임계치(초당 promote-threshold)를 넘으면 핫 키 표시 (TTL)
+ *    - 핫 키는 스크립트가 기준 키를 증가시키지 않고, 호출 측이 N개 샤드 중 하나에 단일 키 INCR
+ *      (샤드 키를 스크립트에 넣으면 여러 키 스크립트 하나에 묶여 부하가 분산되지 않음)
+ *    - 샤드가 있는 게시글만 샤드 존재 표시(post:viewcount:{postId}:sharded)를 두고,
+ *      조회 시 기준 키 + 표시를 읽어 표시가 있을 때만 샤드를 MGET (일반 게시글은 키 2개만 읽음)
+ *    - 기준 키가 없으면 DB 값 (샤드 무시)
+ *    - 트래픽이 줄어 표시가 만료되면 스케줄러가 샤드를 기준 키에 원자적으로 병합
+ *    - 한계: 기준 키와 샤드를 따로 읽으므로 병합과 겹친 조회는 일시적으로 값이 다를 수 있음
+ *      (저장된 값은 병합 스크립트가 원자적으로 옮기므로 줄거나 중복되지 않음)
+ *
  * Redis Key 구조:
  * - post:viewcount:{postId} : 조회수 저장 (영구)
  * - post:viewed:{postId}:{identifier} : 중복 방지 플래그 (TTL 5초)
+ * - post:viewcount:dirty:{partition} : DB 동기화가 필요한 게시글 ID (Set, postId % N)
+ * - post:viewcount:{postId}:{shard} : 핫 키 샤드 카운터 (병합 시 삭제)
+ * - post:viewcount:{postId}:hot : 핫 키 표시 (TTL marker-ttl-seconds)
+ * - post:viewcount:{postId}:sharded : 샤드 존재 표시 (병합 시 삭제)
+ * - post:viewcount:sharded : 샤드가 있는 게시글 ID (Set, 병합 대상)
  *
  * 성능 개선 효과:
  * - DB UPDATE 횟수: 매 조회 → 5분마다 1회
@@ -52,14 +115,169 @@ public class ViewCountService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final PostRepository postRepository;
+    private final PostJdbcRepository postJdbcRepository;
+    private final ViewCountBuffer viewCountBuffer;
+    private final ViewEventProducer viewEventProducer;
+    private final UniqueVisitorService uniqueVisitorService;
+    private final ViewStatsService viewStatsService;
+    private final TrendingService trendingService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
 
     // Redis Key Prefix
-    private static final String VIEW_COUNT_KEY_PREFIX = "post:viewcount:";
+    static final String VIEW_COUNT_KEY_PREFIX = "post:viewcount:";
+    static final String VIEW_COUNT_DIRTY_KEY_PREFIX = "post:viewcount:dirty:";
     private static final String VIEW_DUPLICATE_KEY_PREFIX = "post:viewed:";
+    static final String VIEW_COUNT_SHARDED_KEY = "post:viewcount:sharded";
 
     // 중복 방지 시간 (5초)
     private static final int DUPLICATE_PREVENTION_SECONDS = 5;
 
+    /**
+     * 조회수 증가 스크립트
+     * - RedisTemplate이 SHA1로 EVALSHA를 먼저 시도하고, 서버에 없을 때만 EVAL로 로드
+     * - 반환값: [증가 여부(1/0), 기준 키 값(-1 = Redis에 없음), 샤드 상태(SHARD_*), 누적 순 방문자 수]
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> INCREASE_VIEW_COUNT_SCRIPT =
+            RedisScripts.of(List.class, TrendingService.TRENDING_LIBRARY, "scripts/view-count-increase.lua");
+
+    /**
+     * 핫 키 샤드 병합 스크립트
+     * - 반환값: 기준 키에 합친 값 (아직 핫 키면 -1)
+     */
+    private static final RedisScript<Long> FOLD_VIEW_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/view-count-fold.lua"), Long.class);
+
+    // 증가 스크립트가 반환하는 샤드 상태
+    private static final long SHARD_NONE = 0;
+    private static final long SHARD_INCREMENT = 2;
+
+    // Lua 스크립트 모드 사용 여부 (false면 명령어를 개별 호출)
+    @Value("${app.view-count.script-enabled:true}")
+    private boolean scriptEnabled;
+
+    // DB 동기화 시 한 번에 처리할 게시글 수 (SPOP/MGET/batch UPDATE/트랜잭션 단위)
+    @Value("${app.view-count.sync.chunk-size:500}")
+    private int syncChunkSize;
+
+    // Dirty Set 파티션 수 (모든 노드가 같은 값을 사용해야 함)
+    @Value("${app.view-count.sync.partitions:16}")
+    private int syncPartitions;
+
+    // 핫 키 샤딩 사용 여부
+    @Value("${app.view-count.hot-key.enabled:false}")
+    private boolean hotKeyEnabled;
+
+    // 핫 키 샤드 수 (모든 노드가 같은 값을 사용해야 함)
+    @Value("${app.view-count.hot-key.shards:8}")
+    private int hotKeyShards;
+
+    // 노드별 게시글 조회 속도가 이 값(초당 증가 수)을 넘으면 핫 키로 전환
+    @Value("${app.view-count.hot-key.promote-threshold:500}")
+    private int promoteThreshold;
+
+    // 핫 키 표시 유지 시간 (임계치를 넘는 동안 갱신, 만료 후 샤드 병합)
+    @Value("${app.view-count.hot-key.marker-ttl-seconds:30}")
+    private long markerTtlSeconds;
+
+    @Value("${app.view-count.hot-key.max-tracked:10000}")
+    private long maxTrackedPosts;
+
+    // 게시글별 초당 증가 수 (이 노드 기준)
+    private Cache<Long, RateWindow> viewRates;
+
+    // 기동 시 DB → Redis 조회수 적재(ViewCountInitializer)가 진행 중인지 여부
+    private volatile boolean warmUpInProgress;
+
+    @PostConstruct
+    void initHotKeyTracker() {
+        viewRates = Caffeine.newBuilder()
+                .maximumSize(maxTrackedPosts)
+                .expireAfterAccess(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * 게시글이 속한 Dirty Set 키 (postId % partitions)
+     */
+    static String dirtyKey(Long postId, int partitions) {
+        return VIEW_COUNT_DIRTY_KEY_PREFIX + Math.floorMod(postId, partitions);
+    }
+
+    static String shardKey(Object postId, int shard) {
+        return VIEW_COUNT_KEY_PREFIX + postId + ":" + shard;
+    }
+
+    static String hotMarkerKey(Object postId) {
+        return VIEW_COUNT_KEY_PREFIX + postId + ":hot";
+    }
+
+    static String shardedMarkerKey(Object postId) {
+        return VIEW_COUNT_KEY_PREFIX + postId + ":sharded";
+    }
+
+    /**
+     * 조회 시 읽을 키 목록: 기준 키 + 샤드 존재 표시 (핫 키 샤딩을 쓰지 않으면 기준 키만)
+     */
+    private List<String> countKeys(Object postId) {
+        List<String> keys = new ArrayList<>(2);
+        keys.add(VIEW_COUNT_KEY_PREFIX + postId);
+        if (hotKeyEnabled) {
+            keys.add(shardedMarkerKey(postId));
+        }
+        return keys;
+    }
+
+    private List<String> shardKeys(Object postId) {
+        List<String> keys = new ArrayList<>(hotKeyShards);
+        for (int shard = 0; shard < hotKeyShards; shard++) {
+            keys.add(shardKey(postId, shard));
+        }
+        return keys;
+    }
+
+    private static long sum(List<String> values) {
+        long total = 0;
+        for (String value : values) {
+            if (value != null) {
+                total += Long.parseLong(value);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 샤드 합 조회 (MGET 1회)
+     */
+    private long shardTotal(Object postId) {
+        List<String> values = redisTemplate.opsForValue().multiGet(shardKeys(postId));
+        return values != null ? sum(values) : 0L;
+    }
+
+    /**
+     * 샤드 하나에 증가 + 샤드 합 조회 (단일 키 INCR + MGET, 파이프라인 1회)
+     *
+     * 새로 생긴 샤드면 존재 표시/병합 대상을 다시 등록
+     * (스크립트가 핫 키로 판단한 뒤 INCR 전에 병합이 끝났으면 표시가 지워진 상태)
+     */
+    @SuppressWarnings("unchecked")
+    private long incrementShard(Object postId) {
+        List<String> shardKeys = shardKeys(postId);
+        byte[] target = bytes(shardKeys.get(ThreadLocalRandom.current().nextInt(hotKeyShards)));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().incr(target);
+            connection.stringCommands().mGet(shardKeys.stream().map(ViewCountService::bytes).toArray(byte[][]::new));
+            return null;
+        });
+
+        if (Long.valueOf(1L).equals(results.get(0))) {
+            redisTemplate.opsForValue().set(shardedMarkerKey(postId), "1");
+            redisTemplate.opsForSet().add(VIEW_COUNT_SHARDED_KEY, String.valueOf(postId));
+        }
+        return sum((List<String>) results.get(1));
+    }
+
     /**
      * 조회수 증가 (중복 체크 포함)
      *
@@ -74,6 +292,27 @@ public class ViewCountService {
      * @return 증가된 조회수
      */
     public Long increaseViewCount(Long postId, String identifier) {
+        return increaseViewCounts(postId, identifier).viewCount();
+    }
+
+    /**
+     * 조회수 증가 + 누적 순 방문자 수 (같은 왕복에서 조회)
+     *
+     * @param postId 게시글 ID
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return 증가된 조회수와 누적 순 방문자 수
+     */
+    public ViewCounts increaseViewCounts(Long postId, String identifier) {
+        // 적재 중에는 아직 적재되지 않은 게시글을 먼저 DB 값으로 채움 (0부터 INCR하여 DB 값을 덮어쓰는 것 방지)
+        if (warmUpInProgress) {
+            loadViewCountIfAbsent(postId);
+        }
+
+        // 버퍼/Kafka 모드는 중복 체크를 스크립트로 처리하므로 스크립트 경로 사용
+        if (scriptEnabled || viewCountBuffer.isEnabled() || viewEventProducer.isEnabled()) {
+            return increaseViewCountWithScript(postId, identifier);
+        }
+
         // ========================================
         // Redis Key 생성
         // ========================================
@@ -91,11 +330,14 @@ public class ViewCountService {
         // 존재한다 = 5초 이내에 이미 조회했음
         Boolean isDuplicate = redisTemplate.hasKey(duplicateKey);
 
+        // 순 방문자 기록 (중복 조회도 기록, HyperLogLog가 한 번만 집계)
+        long uniqueVisitors = uniqueVisitorService.record(postId, identifier);
+
         if (Boolean.TRUE.equals(isDuplicate)) {
             // 5초 이내 재조회 - 조회수 증가 안함
             // 현재 조회수만 반환하고 종료
             log.debug("중복 조회 감지: postId={}, identifier={}", postId, identifier);
-            return getCurrentViewCount(postId);
+            return new ViewCounts(getCurrentViewCount(postId), uniqueVisitors);
         }
 
         // ========================================
@@ -105,6 +347,15 @@ public class ViewCountService {
         // 예: "post:viewcount:1" 값이 5 → 6으로 증가
         // 이 부분이 실제로 Redis에 조회수를 저장하는 곳입니다!
         Long newViewCount = redisTemplate.opsForValue().increment(viewCountKey);
+        redisTemplate.opsForSet().add(dirtyKey(postId, syncPartitions), String.valueOf(postId));
+        viewStatsService.record(postId, LocalDateTime.now());
+        trendingService.recordView(postId);
+
+        // 조회수 랭킹 갱신 (누적: 현재 값, 일간: +1)
+        String todayRankingKey = RankingService.todayKey(RankingService.VIEWS);
+        redisTemplate.opsForZSet().add(RankingService.allTimeKey(RankingService.VIEWS), String.valueOf(postId), newViewCount);
+        redisTemplate.opsForZSet().incrementScore(todayRankingKey, String.valueOf(postId), 1);
+        redisTemplate.expire(todayRankingKey, RankingService.DAILY_RANKING_TTL);
 
         // ========================================
         // [3단계] 중복 방지 플래그 저장 (Redis에 저장 ⭐)
@@ -120,36 +371,156 @@ public class ViewCountService {
 
         log.debug("조회수 증가: postId={}, identifier={}, newCount={}", postId, identifier, newViewCount);
 
-        return newViewCount;
+        return new ViewCounts(newViewCount, uniqueVisitors);
+    }
+
+    /**
+     * 조회수 증가 (Lua 스크립트 모드)
+     *
+     * 로직:
+     * 1. SET NX EX로 중복 방지 플래그 저장 시도 (성공 = 첫 조회)
+     * 2. 첫 조회면 INCR 결과를, 중복 조회면 현재 조회수를 반환
+     * 3. 위 과정이 Redis 서버에서 한 번에 실행됨 (왕복 1회)
+     * 4. 버퍼 모드면 INCR 대신 버퍼에 누적하고 Redis 값 + 미반영분을 반환
+     * 5. Kafka 모드면 INCR 대신 조회 이벤트를 발행하고 Redis 값 + 1을 반환 (집계 전 예상값)
+     *
+     * @param postId 게시글 ID
+     * @param identifier 사용자 식별자 (IP 주소)
+     * @return 증가된 조회수 (중복 조회면 현재 조회수)와 누적 순 방문자 수
+     */
+    @SuppressWarnings("unchecked")
+    private ViewCounts increaseViewCountWithScript(Long postId, String identifier) {
+        String viewCountKey = VIEW_COUNT_KEY_PREFIX + postId;
+        String duplicateKey = VIEW_DUPLICATE_KEY_PREFIX + postId + ":" + identifier;
+
+        boolean streamed = viewEventProducer.isEnabled();
+        boolean buffered = !streamed && viewCountBuffer.isEnabled();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<String> keys = new ArrayList<>(13);
+        keys.add(viewCountKey);
+        keys.add(duplicateKey);
+        keys.add(dirtyKey(postId, syncPartitions));
+        keys.add(RankingService.allTimeKey(RankingService.VIEWS));
+        keys.add(RankingService.todayKey(RankingService.VIEWS));
+        keys.add(hotMarkerKey(postId));
+        keys.add(UniqueVisitorService.totalKey(postId));
+        keys.add(UniqueVisitorService.todayKey(postId));
+        keys.add(ViewStatsService.minuteKey(postId, now));
+        keys.add(ViewStatsService.activeKey(now));
+        keys.add(TrendingService.TRENDING_KEY);
+        keys.add(shardedMarkerKey(postId));
+        keys.add(VIEW_COUNT_SHARDED_KEY);
+
+        List<Long> result = redisTemplate.execute(
+                INCREASE_VIEW_COUNT_SCRIPT,
+                keys,
+                String.valueOf(DUPLICATE_PREVENTION_SECONDS),
+                buffered || streamed ? "0" : "1",
+                String.valueOf(postId),
+                String.valueOf(RankingService.DAILY_RANKING_TTL.toSeconds()),
+                identifier,
+                String.valueOf(uniqueVisitorService.getDailyTtl().toSeconds()),
+                ViewStatsService.minuteField(now),
+                String.valueOf(viewStatsService.getMinuteRetention().toSeconds()),
+                trendingService.viewTerm(),
+                String.valueOf(trendingService.getMaxTracked())
+        );
+
+        boolean increased = result.get(0) == 1L;
+        long redisCount = result.get(1);
+        long shardState = result.get(2);
+        // 샤드가 있는 게시글만 샤드 합을 더함 (핫 키면 샤드 증가와 함께 파이프라인 1회)
+        if (redisCount >= 0 && shardState != SHARD_NONE) {
+            redisCount += shardState == SHARD_INCREMENT ? incrementShard(postId) : shardTotal(postId);
+        }
+        // Redis에 조회수가 없으면 DB 값 사용
+        long viewCount = redisCount < 0 ? getViewCountFromDatabase(postId) : redisCount;
+
+        if (!increased) {
+            log.debug("중복 조회 감지: postId={}, identifier={}", postId, identifier);
+        } else if (streamed) {
+            viewEventProducer.publish(postId);
+            viewCount += 1;
+        } else if (buffered) {
+            viewCountBuffer.increment(postId);
+        } else if (hotKeyEnabled && redisCount >= 0) {
+            trackViewRate(postId);
+        }
+
+        if (buffered) {
+            viewCount += viewCountBuffer.getPending(postId);
+        }
+
+        if (increased) {
+            log.debug("조회수 증가: postId={}, identifier={}, newCount={}", postId, identifier, viewCount);
+        }
+        return new ViewCounts(viewCount, result.get(3));
     }
 
     /**
      * 현재 조회수 조회
      *
-     * Redis에서 조회 → 없으면 DB에서 조회
+     * Redis에서 조회 (기준 키, 샤드가 있는 게시글은 + 샤드 합) → 없으면 DB에서 조회
+     * 버퍼 모드면 아직 Redis에 반영되지 않은 증가분을 더함
      *
      * @param postId 게시글 ID
      * @return 현재 조회수
      */
     public Long getCurrentViewCount(Long postId) {
-        String viewCountKey = VIEW_COUNT_KEY_PREFIX + postId;
+        // Redis에서 조회 (기준 키 + 샤드 존재 표시를 MGET 1회로, 표시가 있을 때만 샤드 MGET)
+        return toViewCount(postId, redisTemplate.opsForValue().multiGet(countKeys(postId)));
+    }
+
+    /**
+     * 현재 조회수 + 누적 순 방문자 수 (MGET + PFCOUNT 파이프라인 1회)
+     *
+     * @param postId 게시글 ID
+     * @return 현재 조회수와 누적 순 방문자 수
+     */
+    @SuppressWarnings("unchecked")
+    public ViewCounts getCurrentViewCounts(Long postId) {
+        byte[][] countKeys = countKeys(postId).stream().map(ViewCountService::bytes).toArray(byte[][]::new);
+        byte[] visitorKey = bytes(UniqueVisitorService.totalKey(postId));
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.stringCommands().mGet(countKeys);
+            connection.hyperLogLogCommands().pfCount(visitorKey);
+            return null;
+        });
+
+        Long uniqueVisitors = (Long) results.get(1);
+        return new ViewCounts(toViewCount(postId, (List<String>) results.get(0)),
+                uniqueVisitors != null ? uniqueVisitors : 0L);
+    }
+
+    /**
+     * countKeys MGET 결과로 조회수 계산 (샤드 합, 버퍼 미반영분 포함, Redis에 없으면 DB 값)
+     */
+    private long toViewCount(Long postId, List<String> values) {
+        long pending = viewCountBuffer.isEnabled() ? viewCountBuffer.getPending(postId) : 0L;
 
-        // Redis에서 조회
-        String countStr = redisTemplate.opsForValue().get(viewCountKey);
-        if (countStr != null) {
-            return Long.parseLong(countStr);
+        if (values != null && values.get(0) != null) {
+            long count = Long.parseLong(values.get(0));
+            if (values.size() > 1 && values.get(1) != null) {
+                count += shardTotal(postId);
+            }
+            return count + pending;
         }
 
         // Redis에 없으면 DB에서 조회
+        return getViewCountFromDatabase(postId) + pending;
+    }
+
+    private Long getViewCountFromDatabase(Long postId) {
         return postRepository.findById(postId)
                 .map(Post::getViewCount)
                 .orElse(0L);
     }
 
     /**
-     * DB에서 Redis로 조회수 초기화
+     * DB에서 Redis로 조회수 초기화 (게시글 1개)
      *
-     * 애플리케이션 시작 시 호출
+     * 기동 시 적재가 끝나기 전에 아직 적재되지 않은 게시글이 조회될 때 호출
      *
      * @param postId 게시글 ID
      * @param viewCount DB의 조회수
@@ -163,79 +534,237 @@ public class ViewCountService {
             return;
         }
 
-        redisTemplate.opsForValue().set(viewCountKey, String.valueOf(viewCount));
+        // 동시에 다른 요청이 먼저 채웠으면 덮어쓰지 않음 (SET NX)
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(viewCountKey, String.valueOf(viewCount)))) {
+            return;
+        }
+        deleteStaleShards(List.of(postId));
         log.debug("조회수 초기화: postId={}, viewCount={}", postId, viewCount);
     }
 
     /**
-     * Redis의 조회수를 DB에 동기화
+     * DB에서 Redis로 조회수 일괄 초기화 (SET NX 파이프라인, 왕복 1회)
+     *
+     * Redis에 이미 값이 있는 게시글은 건너뜀 (서버 재시작 시 Redis 값 보존)
+     *
+     * @param viewCounts 게시글 ID → DB의 조회수
+     * @return 새로 초기화된 게시글 수
+     */
+    public int initializeViewCounts(Map<Long, Long> viewCounts) {
+        if (viewCounts.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> postIds = new ArrayList<>(viewCounts.keySet());
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (Long postId : postIds) {
+                connection.stringCommands().set(
+                        bytes(VIEW_COUNT_KEY_PREFIX + postId),
+                        bytes(String.valueOf(viewCounts.get(postId))),
+                        Expiration.persistent(),
+                        SetOption.ifAbsent()
+                );
+            }
+            return null;
+        });
+
+        List<Long> initialized = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (Boolean.TRUE.equals(results.get(i))) {
+                initialized.add(postIds.get(i));
+            }
+        }
+        deleteStaleShards(initialized);
+        return initialized.size();
+    }
+
+    /**
+     * Redis에 조회수 키가 없는 게시글을 DB 값으로 초기화 (버퍼 flush 중 키가 없어진 게시글)
+     *
+     * @param postIds 조회수 키가 없는 게시글 ID
+     * @return DB에 있는 게시글 ID (삭제된 게시글 제외)
+     */
+    public Set<Long> loadViewCounts(Collection<Long> postIds) {
+        Map<Long, Long> viewCounts = new HashMap<>();
+        for (Object[] row : postRepository.findViewCountsByIdIn(postIds)) {
+            viewCounts.put((Long) row[0], (Long) row[1]);
+        }
+        initializeViewCounts(viewCounts);
+        return viewCounts.keySet();
+    }
+
+    /**
+     * 기준 키를 새로 만든 게시글의 남은 샤드/핫 키 표시 삭제
+     * (기준 키가 없을 때 남은 샤드는 읽기에서 무시되던 값)
+     */
+    private void deleteStaleShards(List<Long> postIds) {
+        if (!hotKeyEnabled || postIds.isEmpty()) {
+            return;
+        }
+        List<String> staleKeys = new ArrayList<>(postIds.size() * (hotKeyShards + 2));
+        for (Long postId : postIds) {
+            staleKeys.addAll(shardKeys(postId));
+            staleKeys.add(hotMarkerKey(postId));
+            staleKeys.add(shardedMarkerKey(postId));
+        }
+        redisTemplate.delete(staleKeys);
+    }
+
+    private void loadViewCountIfAbsent(Long postId) {
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(VIEW_COUNT_KEY_PREFIX + postId))) {
+            initializeViewCount(postId, getViewCountFromDatabase(postId));
+        }
+    }
+
+    /**
+     * 조회수 적재 시작/종료 표시 (적재 중에는 증가 전에 Redis 값 존재 여부를 확인)
+     */
+    public void beginWarmUp() {
+        warmUpInProgress = true;
+    }
+
+    public void completeWarmUp() {
+        warmUpInProgress = false;
+    }
+
+    /**
+     * Redis의 조회수를 DB에 동기화 (모든 파티션)
+     *
+     * 단일 노드 환경이나 수동 실행용. 여러 노드에서는 ViewCountScheduler가
+     * ViewCountSyncCoordinator로 담당 파티션을 나눠 syncPartitions()를 호출합니다.
+     *
+     * @return 동기화된 게시글 수
+     */
+    public int syncToDatabase() {
+        return syncPartitions(IntStream.range(0, syncPartitions).boxed().toList());
+    }
+
+    public int getSyncPartitionCount() {
+        return syncPartitions;
+    }
+
+    /**
+     * 지정한 파티션의 조회수를 DB에 동기화 (Dirty Set 기반 증분 동기화)
      *
      * 목적:
      * - Redis 메모리 데이터의 영속성 보장
      * - 분석, 리포팅을 위한 DB 데이터 최신화
      *
      * 동작 방식:
-     * 1. Redis의 모든 post:viewcount:* 키 조회
-     * 2. 각 키에서 postId 추출
-     * 3. Redis 조회수로 DB UPDATE
-     * 4. 실패 시 로그 기록 (트랜잭션은 계속 진행)
+     * 1. 파티션별 Dirty Set에서 게시글 ID를 청크 단위로 꺼냄 (SPOP count)
+     * 2. 청크의 조회수를 MGET으로 한 번에 조회 (샤드가 있는 게시글만 샤드를 한 번 더 MGET)
+     * 3. JDBC batch UPDATE (UPDATE posts SET view_count=? WHERE id=?)
+     * 4. 청크마다 별도 트랜잭션으로 커밋 (트랜잭션 크기 제한)
+     * 5. 실패한 청크의 ID는 Dirty Set에 되돌려 다음 실행에서 재시도
+     *
+     * 기존 방식(KEYS + findById + save) 대비:
+     * - KEYS로 Redis를 블로킹하지 않음
+     * - 마지막 동기화 이후 조회된 게시글만 처리
+     * - 게시글당 SELECT + UPDATE → 청크당 batch UPDATE 1회
      *
-     * 호출 주기:
-     * - ViewCountScheduler에서 5분마다 호출
-     * - fixedDelay 방식으로 이전 작업 완료 후 5분 대기
+     * 메트릭:
+     * - viewcount.sync.rows: 실행당 동기화된 행 수
+     * - viewcount.sync.duration: 실행 소요 시간
      *
-     * 주의사항:
-     * - @Transactional: 모든 게시글의 조회수를 한 트랜잭션으로 처리
-     * - 실패한 게시글이 있어도 전체 작업은 계속 진행
-     * - Redis KEYS 명령 사용: 프로덕션에서는 SCAN 사용 권장
+     * @param partitions 동기화할 파티션 번호 목록
+     * @return 동기화된 게시글 수
      */
-    @Transactional
-    public void syncToDatabase() {
-        log.info("조회수 DB 동기화 시작");
+    public int syncPartitions(Collection<Integer> partitions) {
+        log.info("조회수 DB 동기화 시작: partitions={}", partitions);
+        Timer.Sample sample = Timer.start(meterRegistry);
 
-        // 모든 post:viewcount:* 키 조회
-        Set<String> keys = redisTemplate.keys(VIEW_COUNT_KEY_PREFIX + "*");
+        int syncCount = 0;
+        int chunkCount = 0;
 
-        if (keys == null || keys.isEmpty()) {
-            log.info("동기화할 조회수 데이터 없음");
-            return;
-        }
+        for (Integer partition : partitions) {
+            String dirtyKey = VIEW_COUNT_DIRTY_KEY_PREFIX + partition;
 
-        int syncCount = 0;
-        int failCount = 0;
-
-        for (String key : keys) {
-            try {
-                // postId 추출 (post:viewcount:123 → 123)
-                String postIdStr = key.substring(VIEW_COUNT_KEY_PREFIX.length());
-                Long postId = Long.parseLong(postIdStr);
-
-                // Redis에서 조회수 가져오기
-                String countStr = redisTemplate.opsForValue().get(key);
-                if (countStr == null) {
-                    continue;
+            while (true) {
+                List<String> postIds = redisTemplate.opsForSet().pop(dirtyKey, syncChunkSize);
+                if (postIds == null || postIds.isEmpty()) {
+                    break;
                 }
-                Long viewCount = Long.parseLong(countStr);
-
-                // DB 업데이트
-                Post post = postRepository.findById(postId).orElse(null);
-                if (post != null) {
-                    post.setViewCount(viewCount);
-                    postRepository.save(post);
-                    syncCount++;
-                    log.debug("조회수 동기화 완료: postId={}, viewCount={}", postId, viewCount);
-                } else {
-                    log.warn("게시글 없음: postId={}", postId);
-                    failCount++;
+
+                try {
+                    syncCount += syncChunk(postIds);
+                    chunkCount++;
+                } catch (Exception e) {
+                    // 다음 실행에서 재시도할 수 있도록 Dirty Set에 되돌림
+                    redisTemplate.opsForSet().add(dirtyKey, postIds.toArray(new String[0]));
+                    log.error("조회수 동기화 실패 (다음 실행에서 재시도): partition={}, chunkSize={}, error={}",
+                            partition, postIds.size(), e.getMessage(), e);
+                    break;
                 }
+            }
+        }
+
+        sample.stop(Timer.builder("viewcount.sync.duration")
+                .description("조회수 Redis → DB 동기화 소요 시간")
+                .register(meterRegistry));
+        DistributionSummary.builder("viewcount.sync.rows")
+                .description("조회수 Redis → DB 동기화 실행당 행 수")
+                .register(meterRegistry)
+                .record(syncCount);
+
+        if (chunkCount == 0) {
+            log.info("동기화할 조회수 데이터 없음");
+        } else {
+            log.info("조회수 DB 동기화 완료: 게시글={}, 청크={}", syncCount, chunkCount);
+        }
+        return syncCount;
+    }
+
+    /**
+     * 청크 하나를 동기화 (MGET 1회 + batch UPDATE 1회, 트랜잭션 1개)
+     * - 샤드가 있는 게시글이 있으면 그 게시글의 샤드만 MGET 1회 추가
+     */
+    private int syncChunk(List<String> postIds) {
+        int keysPerPost = hotKeyEnabled ? 2 : 1;
+        List<String> keys = new ArrayList<>(postIds.size() * keysPerPost);
+        for (String postId : postIds) {
+            keys.addAll(countKeys(postId));
+        }
+        List<String> counts = redisTemplate.opsForValue().multiGet(keys);
 
-            } catch (Exception e) {
-                log.error("조회수 동기화 실패: key={}, error={}", key, e.getMessage(), e);
-                failCount++;
+        Map<Long, Long> viewCounts = new HashMap<>();
+        List<String> sharded = new ArrayList<>();
+        for (int i = 0; counts != null && i < postIds.size(); i++) {
+            String base = counts.get(i * keysPerPost);
+            if (base == null) {
+                // 기준 키가 없으면 샤드는 의미가 없으므로 건너뜀
+                continue;
+            }
+            viewCounts.put(Long.parseLong(postIds.get(i)), Long.parseLong(base));
+            if (keysPerPost > 1 && counts.get(i * keysPerPost + 1) != null) {
+                sharded.add(postIds.get(i));
             }
         }
+        addShardTotals(viewCounts, sharded);
 
-        log.info("조회수 DB 동기화 완료: 성공={}, 실패={}", syncCount, failCount);
+        Integer updated = transactionTemplate.execute(status -> postJdbcRepository.batchUpdateViewCounts(viewCounts));
+        log.debug("조회수 청크 동기화: 요청={}, 업데이트={}", postIds.size(), updated);
+        return updated != null ? updated : 0;
+    }
+
+    /**
+     * 샤드가 있는 게시글의 샤드 합을 더함 (MGET 1회)
+     */
+    private void addShardTotals(Map<Long, Long> viewCounts, List<String> shardedPostIds) {
+        if (shardedPostIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>(shardedPostIds.size() * hotKeyShards);
+        for (String postId : shardedPostIds) {
+            keys.addAll(shardKeys(postId));
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < shardedPostIds.size(); i++) {
+            long shards = sum(values.subList(i * hotKeyShards, (i + 1) * hotKeyShards));
+            viewCounts.merge(Long.parseLong(shardedPostIds.get(i)), shards, Long::sum);
+        }
     }
 
     /**
@@ -244,8 +773,115 @@ public class ViewCountService {
      * @param postId 게시글 ID
      */
     public void deleteViewCount(Long postId) {
-        String viewCountKey = VIEW_COUNT_KEY_PREFIX + postId;
-        redisTemplate.delete(viewCountKey);
+        List<String> keys = countKeys(postId);
+        if (hotKeyEnabled) {
+            keys.addAll(shardKeys(postId));
+            keys.add(hotMarkerKey(postId));
+            redisTemplate.opsForSet().remove(VIEW_COUNT_SHARDED_KEY, String.valueOf(postId));
+        }
+        redisTemplate.delete(keys);
         log.debug("Redis 조회수 삭제: postId={}", postId);
     }
+
+    /**
+     * 게시글 조회 속도 기록 → 임계치를 넘으면 핫 키로 전환 (표시 TTL 갱신)
+     * - 병합 대상 등록은 증가 스크립트가 첫 샤드 증가 때 처리 (샤드 존재 표시와 함께)
+     *
+     * 노드별로 집계하므로 노드가 여러 개면 전체 임계치는 promote-threshold × 노드 수보다 낮을 수 있음
+     * (게시글이 골고루 분산되지 않아도 노드 하나에서 넘으면 전환)
+     */
+    private void trackViewRate(Long postId) {
+        RateWindow window = viewRates.get(postId, id -> new RateWindow());
+        if (!window.record(promoteThreshold)) {
+            return;
+        }
+
+        try {
+            Boolean created = redisTemplate.opsForValue()
+                    .setIfAbsent(hotMarkerKey(postId), "1", Duration.ofSeconds(markerTtlSeconds));
+            if (!Boolean.TRUE.equals(created)) {
+                redisTemplate.expire(hotMarkerKey(postId), Duration.ofSeconds(markerTtlSeconds));
+            }
+            if (Boolean.TRUE.equals(created)) {
+                meterRegistry.counter("viewcount.hotkey.promoted").increment();
+                log.info("핫 키 전환: postId={}, shards={}", postId, hotKeyShards);
+            }
+        } catch (Exception e) {
+            // 전환 실패는 조회에 영향 없음 (다음 윈도우에서 재시도)
+            log.warn("핫 키 전환 실패: postId={}, error={}", postId, e.getMessage());
+        }
+    }
+
+    /**
+     * 핫 키 표시가 만료된 게시글의 샤드를 기준 키에 병합
+     *
+     * 병합은 스크립트 한 번으로 원자적으로 처리되므로 병합 전후의 저장된 조회수(기준 키 + 샤드 합)가 같음
+     * → 동기화와 동시에 실행되어도 값이 중복되거나 사라지지 않음 (샤드 존재 표시도 함께 삭제)
+     *
+     * 메트릭:
+     * - viewcount.hotkey.folded: 병합된 게시글 수
+     *
+     * @return 병합된 게시글 수
+     */
+    public int foldColdShards() {
+        if (!hotKeyEnabled) {
+            return 0;
+        }
+        Set<String> postIds = redisTemplate.opsForSet().members(VIEW_COUNT_SHARDED_KEY);
+        if (postIds == null || postIds.isEmpty()) {
+            return 0;
+        }
+
+        int folded = 0;
+        for (String postId : postIds) {
+            List<String> keys = new ArrayList<>(hotKeyShards + 4);
+            keys.add(hotMarkerKey(postId));
+            keys.add(VIEW_COUNT_KEY_PREFIX + postId);
+            keys.add(VIEW_COUNT_SHARDED_KEY);
+            keys.add(shardedMarkerKey(postId));
+            keys.addAll(shardKeys(postId));
+
+            Long sum = redisTemplate.execute(FOLD_VIEW_COUNT_SCRIPT, keys, postId);
+            if (sum != null && sum >= 0) {
+                folded++;
+                log.info("핫 키 샤드 병합: postId={}, sum={}", postId, sum);
+            }
+        }
+
+        if (folded > 0) {
+            meterRegistry.counter("viewcount.hotkey.folded").increment(folded);
+        }
+        return folded;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 조회수와 누적 순 방문자 수 (같은 Redis 왕복에서 읽은 값)
+     */
+    public record ViewCounts(long viewCount, Long uniqueVisitors) {
+    }
+
+    /**
+     * 1초 단위 고정 윈도우 카운터 (근사값, 윈도우당 전환 시도 1회)
+     */
+    private static final class RateWindow {
+
+        private long windowStartMillis = System.currentTimeMillis();
+        private int count;
+
+        /**
+         * @return 이번 윈도우에서 임계치를 처음 넘었으면 true
+         */
+        synchronized boolean record(int threshold) {
+            long now = System.currentTimeMillis();
+            if (now - windowStartMillis >= 1000) {
+                windowStartMillis = now;
+                count = 0;
+            }
+            return ++count == threshold;
+        }
+    }
 }
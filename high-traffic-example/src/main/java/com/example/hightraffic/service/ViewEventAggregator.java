@@ -0,0 +1,199 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.config.KafkaConfig;
+import com.example.hightraffic.domain.ViewEventOffset;
+import com.example.hightraffic.event.ViewEvent;
+import com.example.hightraffic.repository.PostJdbcRepository;
+import com.example.hightraffic.repository.ViewEventOffsetRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 이벤트 윈도우 집계 (Kafka 조회수 파이프라인 모드)
+ *
+ * 문제 정의:
+ * - 조회마다 Redis INCR → 트래픽 급증이 그대로 Redis/랭킹 ZSET 쓰기 급증으로 이어짐
+ * - Redis 데이터가 유실되면 마지막 DB 동기화 이후의 조회수는 복구할 수 없음
+ *
+ * 해결 방법:
+ * 1. 윈도우(poll 1회, app.view-count.kafka.window-ms) 동안의 이벤트를 게시글별 증가분으로 집계
+ * 2. DB: 증가분 batch UPDATE (view_count = view_count + ?) + 파티션별 반영 offset 저장 (같은 트랜잭션)
+ * 3. Redis: 커밋 후 조회수/랭킹을 Lua 스크립트로 청크당 왕복 1회에 반영
+ * 4. Kafka offset 커밋 (수동 ack)
+ *
+ * 정합성:
+ * - DB가 기준 값 (Redis 조회수 키는 있을 때만 증가, 없으면 조회 시 DB 값 사용)
+ * - 재전달된 이벤트는 저장된 반영 offset 이하이면 건너뜀 → DB 중복 집계 없음
+ * - Redis 반영 실패 시 해당 게시글의 조회수 키를 삭제하여 다음 조회부터 DB 값 사용
+ * - 재처리: DB를 복구하면 view_event_offsets도 함께 복구되므로 컨슈머 그룹 offset만 되돌리면
+ *   복구 시점 이후의 이벤트만 다시 반영됨
+ *
+ * 메트릭:
+ * - viewevent.batch.records: 윈도우당 이벤트 수
+ * - viewevent.batch.posts: 윈도우당 게시글 수 (= DB UPDATE 행 수)
+ * - viewevent.skipped: 이미 반영된 이벤트(재전달) / 역직렬화 실패 이벤트 수
+ * - viewevent.apply.duration: 윈도우 반영 소요 시간
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ViewEventAggregator {
+
+    private final PostJdbcRepository postJdbcRepository;
+    private final ViewEventOffsetRepository viewEventOffsetRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 조회수 증가분 일괄 반영 스크립트
+     * - 반환값: 조회수 키가 있어서 증가시킨 게시글 수
+     */
+    private static final RedisScript<Long> APPLY_VIEW_COUNT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/view-count-apply.lua"), Long.class);
+
+    // 스크립트 1회에 반영할 게시글 수
+    @Value("${app.view-count.sync.chunk-size:500}")
+    private int chunkSize;
+
+    @KafkaListener(
+            id = "viewEventAggregator",
+            topics = KafkaConfig.VIEW_EVENT_TOPIC,
+            groupId = "${app.view-count.kafka.group-id:view-count-aggregator}",
+            containerFactory = "viewEventListenerContainerFactory",
+            autoStartup = "${app.view-count.kafka.enabled:false}"
+    )
+    public void onViewEvents(List<ConsumerRecord<String, ViewEvent>> records, Acknowledgment acknowledgment) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        Map<Long, Long> deltas = apply(records);
+        if (!deltas.isEmpty()) {
+            applyToRedis(deltas);
+        }
+        acknowledgment.acknowledge();
+
+        sample.stop(Timer.builder("viewevent.apply.duration")
+                .description("조회 이벤트 윈도우 반영 소요 시간")
+                .register(meterRegistry));
+        DistributionSummary.builder("viewevent.batch.records")
+                .description("조회 이벤트 윈도우당 이벤트 수")
+                .register(meterRegistry)
+                .record(records.size());
+        DistributionSummary.builder("viewevent.batch.posts")
+                .description("조회 이벤트 윈도우당 게시글 수")
+                .register(meterRegistry)
+                .record(deltas.size());
+        log.debug("조회 이벤트 윈도우 반영: records={}, posts={}", records.size(), deltas.size());
+    }
+
+    /**
+     * 이벤트 집계 + DB 반영 (반영 offset과 같은 트랜잭션)
+     *
+     * @return 이번에 새로 반영한 게시글별 증가분 (Redis 반영 대상)
+     */
+    Map<Long, Long> apply(List<ConsumerRecord<String, ViewEvent>> records) {
+        if (records.isEmpty()) {
+            return Map.of();
+        }
+
+        return transactionTemplate.execute(status -> {
+            List<String> partitionKeys = records.stream()
+                    .map(this::partitionKey)
+                    .distinct()
+                    .toList();
+            Map<String, ViewEventOffset> offsets = viewEventOffsetRepository.findAllById(partitionKeys).stream()
+                    .collect(Collectors.toMap(ViewEventOffset::getTopicPartition, Function.identity()));
+
+            Map<Long, Long> deltas = new HashMap<>();
+            Map<String, Long> lastOffsets = new HashMap<>();
+            int skipped = 0;
+            for (ConsumerRecord<String, ViewEvent> record : records) {
+                String partitionKey = partitionKey(record);
+                ViewEventOffset applied = offsets.get(partitionKey);
+                lastOffsets.merge(partitionKey, record.offset(), Math::max);
+
+                // 이미 반영된 이벤트(재전달) 또는 역직렬화 실패 메시지
+                if ((applied != null && record.offset() <= applied.getAppliedOffset()) || record.value() == null) {
+                    skipped++;
+                    continue;
+                }
+                deltas.merge(record.value().getPostId(), 1L, Long::sum);
+            }
+
+            postJdbcRepository.batchAddViewCounts(deltas);
+
+            List<ViewEventOffset> newOffsets = new ArrayList<>();
+            lastOffsets.forEach((partitionKey, offset) -> {
+                ViewEventOffset applied = offsets.get(partitionKey);
+                if (applied != null) {
+                    applied.advance(offset);
+                } else {
+                    newOffsets.add(new ViewEventOffset(partitionKey, offset));
+                }
+            });
+            viewEventOffsetRepository.saveAll(newOffsets);
+
+            if (skipped > 0) {
+                meterRegistry.counter("viewevent.skipped").increment(skipped);
+                log.info("이미 반영되었거나 읽을 수 없는 조회 이벤트 건너뜀: skipped={}", skipped);
+            }
+            return deltas;
+        });
+    }
+
+    /**
+     * Redis 조회수/랭킹 반영 (청크당 스크립트 1회)
+     * - 실패해도 DB에는 반영되었으므로 예외를 전파하지 않고, 조회수 키를 삭제하여 DB 값으로 읽히게 함
+     */
+    private void applyToRedis(Map<Long, Long> deltas) {
+        List<Map.Entry<Long, Long>> entries = new ArrayList<>(deltas.entrySet());
+        for (int from = 0; from < entries.size(); from += chunkSize) {
+            List<Map.Entry<Long, Long>> chunk = entries.subList(from, Math.min(from + chunkSize, entries.size()));
+
+            List<String> keys = new ArrayList<>(chunk.size() + 2);
+            keys.add(RankingService.allTimeKey(RankingService.VIEWS));
+            keys.add(RankingService.todayKey(RankingService.VIEWS));
+            List<String> args = new ArrayList<>(chunk.size() * 2 + 1);
+            args.add(String.valueOf(RankingService.DAILY_RANKING_TTL.toSeconds()));
+            for (Map.Entry<Long, Long> entry : chunk) {
+                keys.add(ViewCountService.VIEW_COUNT_KEY_PREFIX + entry.getKey());
+                args.add(String.valueOf(entry.getKey()));
+                args.add(String.valueOf(entry.getValue()));
+            }
+
+            try {
+                redisTemplate.execute(APPLY_VIEW_COUNT_SCRIPT, keys, args.toArray());
+            } catch (Exception e) {
+                log.error("조회수 Redis 반영 실패, 조회수 키 삭제 후 DB 값 사용: posts={}", chunk.size(), e);
+                try {
+                    redisTemplate.delete(keys.subList(2, keys.size()));
+                } catch (Exception deleteError) {
+                    log.error("조회수 키 삭제 실패: posts={}", chunk.size(), deleteError);
+                }
+            }
+        }
+    }
+
+    private String partitionKey(ConsumerRecord<String, ViewEvent> record) {
+        return record.topic() + "-" + record.partition();
+    }
+}
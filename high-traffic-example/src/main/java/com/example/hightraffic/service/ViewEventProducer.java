@@ -0,0 +1,65 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.config.KafkaConfig;
+import com.example.hightraffic.event.ViewEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조회 이벤트 발행 (Kafka 조회수 파이프라인 모드, app.view-count.kafka.enabled)
+ *
+ * - 중복 체크(SET NX)를 통과한 조회 1건마다 ViewEvent 1건을 비동기 전송
+ * - 조회수 반영은 ViewEventAggregator가 윈도우 단위로 모아서 처리 (요청 경로에서 INCR 없음)
+ * - 전송 실패 시 해당 조회는 집계되지 않음 (viewevent.publish 카운터의 result=failure로 확인)
+ */
+@Slf4j
+@Component
+public class ViewEventProducer {
+
+    private final KafkaTemplate<String, ViewEvent> kafkaTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.view-count.kafka.enabled:false}")
+    private boolean enabled;
+
+    public ViewEventProducer(@Qualifier("viewEventKafkaTemplate") KafkaTemplate<String, ViewEvent> kafkaTemplate,
+                             MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 조회 이벤트 발행 (응답을 기다리지 않음)
+     *
+     * @param postId 게시글 ID (메시지 키 → 파티션 결정)
+     */
+    public void publish(Long postId) {
+        ViewEvent event = new ViewEvent(postId, System.currentTimeMillis());
+        try {
+            kafkaTemplate.send(KafkaConfig.VIEW_EVENT_TOPIC, String.valueOf(postId), event)
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            onFailure(postId, e);
+                        } else {
+                            meterRegistry.counter("viewevent.publish", "result", "success").increment();
+                        }
+                    });
+        } catch (Exception e) {
+            // 메타데이터 조회 시간 초과, 버퍼 초과 등 send() 자체가 실패한 경우
+            onFailure(postId, e);
+        }
+    }
+
+    private void onFailure(Long postId, Throwable e) {
+        meterRegistry.counter("viewevent.publish", "result", "failure").increment();
+        log.warn("조회 이벤트 전송 실패 (조회수 미반영): postId={}, error={}", postId, e.getMessage());
+    }
+}
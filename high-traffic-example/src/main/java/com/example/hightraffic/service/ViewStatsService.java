@@ -0,0 +1,352 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.PostViewStat;
+import com.example.hightraffic.dto.ViewStatsResponse;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.PostViewStatJdbcRepository;
+import com.example.hightraffic.repository.PostViewStatRepository;
+import com.example.hightraffic.repository.ViewStatsCompactionRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 게시글 조회수 시계열 (분 / 시간 / 일)
+ *
+ * 문제 정의:
+ * - ViewCountService는 누적 조회수 하나만 보관 → 대시보드용 시간대별 추이를 알 수 없음
+ * - 조회마다 DB에 INSERT하면 조회수 Redis 전환의 효과가 사라짐
+ *
+ * 해결 방법 (3단계 보관):
+ * 1. 분 단위 (Redis): 시간별 Hash에 분(mm) 필드로 HINCRBY, minute-retention-hours 후 만료
+ *    - 조회수 증가 스크립트에서 함께 기록 (조회 1건당 Redis 호출 1회 유지)
+ *    - 해당 시간에 조회된 게시글 ID를 Set에 기록 (압축 대상)
+ * 2. 시간 단위 (MySQL post_view_stats): 압축기가 끝난 시간의 분 버킷을 합산하여 저장
+ * 3. 일 단위 (MySQL post_view_stats): 하루가 모두 압축되면 시간 단위 행을 합산
+ *
+ * 조회 (구간 + 단위):
+ * - 단위보다 작지 않은 보관 단계 중 가장 큰 단계부터 사용, 아직 압축되지 않은 구간만 아래 단계로 채움
+ *   예) step=DAY: 압축이 끝난 날짜는 일 단위 행, 오늘은 시간 단위 행 + 최근 분 버킷
+ * - 압축 진행 위치 = 단위별 가장 최근 압축 완료 기록 (view_stats_compactions, 압축기는 시간 순으로 처리)
+ *   시간 단위 행은 청크마다 커밋되므로 행의 MAX는 중간에 끊긴 시간을 가리킬 수 있음 → 완료 기록을 따로 남김
+ *
+ * Redis Key 구조:
+ * - post:views:m:{postId}:{yyyyMMddHH} : 분 단위 조회수 (Hash, field = mm)
+ * - post:views:m:active:{yyyyMMddHH} : 해당 시간에 조회된 게시글 ID (Set)
+ * - post:views:compact:lock : 압축 작업 중복 실행 방지 락
+ *
+ * 메트릭:
+ * - viewstats.compact.duration: 압축 1회 소요 시간
+ * - viewstats.compact.rows: 저장된 시간 단위 행 수
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ViewStatsService {
+
+    private static final String MINUTE_KEY_PREFIX = "post:views:m:";
+    private static final String ACTIVE_KEY_PREFIX = "post:views:m:active:";
+    private static final String COMPACT_LOCK_KEY = "post:views:compact:lock";
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHH");
+    private static final DateTimeFormatter MINUTE_FIELD_FORMAT = DateTimeFormatter.ofPattern("mm");
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final PostViewStatRepository postViewStatRepository;
+    private final PostViewStatJdbcRepository postViewStatJdbcRepository;
+    private final ViewStatsCompactionRepository viewStatsCompactionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 분 단위 버킷 보관 시간 (압축이 이 시간 이상 밀리면 그 구간은 유실)
+    @Value("${app.view-stats.minute-retention-hours:48}")
+    private int minuteRetentionHours;
+
+    // 시간이 끝난 뒤 압축까지 기다리는 시간 (경계 시각에 시작된 조회의 늦은 기록 반영)
+    @Value("${app.view-stats.compact.grace-ms:120000}")
+    private long compactGraceMs;
+
+    @Value("${app.view-stats.compact.lock-ttl-ms:600000}")
+    private long compactLockTtlMs;
+
+    // 한 번에 합산/저장할 게시글 수 (HGETALL 파이프라인 / batch INSERT 단위)
+    @Value("${app.view-count.sync.chunk-size:500}")
+    private int chunkSize;
+
+    // 조회 1회에 반환할 최대 구간 수
+    @Value("${app.view-stats.max-points:1500}")
+    private int maxPoints;
+
+    static String minuteKey(Object postId, LocalDateTime time) {
+        return MINUTE_KEY_PREFIX + postId + ":" + time.format(HOUR_FORMAT);
+    }
+
+    static String activeKey(LocalDateTime time) {
+        return ACTIVE_KEY_PREFIX + time.format(HOUR_FORMAT);
+    }
+
+    static String minuteField(LocalDateTime time) {
+        return time.format(MINUTE_FIELD_FORMAT);
+    }
+
+    Duration getMinuteRetention() {
+        return Duration.ofHours(minuteRetentionHours);
+    }
+
+    /**
+     * 분 단위 버킷 기록 (조회수 증가 스크립트를 쓰지 않는 경로용, 파이프라인 1회)
+     */
+    public void record(Long postId, LocalDateTime time) {
+        byte[] minuteKey = bytes(minuteKey(postId, time));
+        byte[] activeKey = bytes(activeKey(time));
+        long ttlSeconds = getMinuteRetention().toSeconds();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            connection.hashCommands().hIncrBy(minuteKey, bytes(minuteField(time)), 1);
+            connection.keyCommands().expire(minuteKey, ttlSeconds);
+            connection.setCommands().sAdd(activeKey, bytes(String.valueOf(postId)));
+            connection.keyCommands().expire(activeKey, ttlSeconds);
+            return null;
+        });
+    }
+
+    /**
+     * 구간 조회수 시계열
+     *
+     * @param postId 게시글 ID
+     * @param from 시작 시각 (step 단위로 내림)
+     * @param to 종료 시각 (미포함)
+     * @param step 집계 단위
+     */
+    public ViewStatsResponse getStats(Long postId, LocalDateTime from, LocalDateTime to, ViewStatsStep step) {
+        LocalDateTime start = step.truncate(from);
+        if (!start.isBefore(to)) {
+            throw new BusinessException("조회 구간이 올바르지 않습니다: from=" + from + ", to=" + to, HttpStatus.BAD_REQUEST);
+        }
+        long points = Duration.between(start, to).toMillis() / step.getDuration().toMillis() + 1;
+        if (points > maxPoints) {
+            throw new BusinessException("조회 구간이 너무 깁니다 (최대 " + maxPoints + "개 구간): step=" + step, HttpStatus.BAD_REQUEST);
+        }
+
+        LocalDateTime minuteTierStart = ViewStatsStep.HOUR.truncate(LocalDateTime.now().minus(getMinuteRetention()));
+        if (step == ViewStatsStep.MINUTE && start.isBefore(minuteTierStart)) {
+            throw new BusinessException("분 단위 조회는 최근 " + minuteRetentionHours + "시간만 가능합니다.", HttpStatus.BAD_REQUEST);
+        }
+
+        Map<LocalDateTime, Long> buckets = new LinkedHashMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(to); bucket = bucket.plus(step.getDuration())) {
+            buckets.put(bucket, 0L);
+        }
+        Set<ViewStatsStep> sources = EnumSet.noneOf(ViewStatsStep.class);
+
+        // 압축이 끝난 구간의 끝 (이 시각 이전은 MySQL, 이후는 Redis 분 버킷)
+        LocalDateTime lastHour = viewStatsCompactionRepository.findLastCompleted(ViewStatsStep.HOUR);
+        LocalDateTime compactedUntil = lastHour != null ? lastHour.plusHours(1) : start;
+
+        LocalDateTime cursor = start;
+        if (step == ViewStatsStep.DAY) {
+            // 일 단위 행은 하루가 모두 압축된 뒤에 합산되므로 마지막 일 단위 행까지만 사용
+            LocalDateTime lastDay = viewStatsCompactionRepository.findLastCompleted(ViewStatsStep.DAY);
+            LocalDateTime dailyUntil = lastDay != null
+                    ? min(min(lastDay.plusDays(1), ViewStatsStep.DAY.truncate(compactedUntil)), to)
+                    : cursor;
+            if (cursor.isBefore(dailyUntil)) {
+                addRows(buckets, step, postViewStatRepository.findRange(postId, ViewStatsStep.DAY, cursor, dailyUntil));
+                sources.add(ViewStatsStep.DAY);
+                cursor = dailyUntil;
+            }
+        }
+        if (step != ViewStatsStep.MINUTE) {
+            LocalDateTime hourlyUntil = min(compactedUntil, to);
+            if (cursor.isBefore(hourlyUntil)) {
+                addRows(buckets, step, postViewStatRepository.findRange(postId, ViewStatsStep.HOUR, cursor, hourlyUntil));
+                sources.add(ViewStatsStep.HOUR);
+                cursor = hourlyUntil;
+            }
+        }
+        // 분 버킷이 만료된 구간은 압축되지 않은 채 남아 있으면 0
+        cursor = cursor.isBefore(minuteTierStart) ? minuteTierStart : cursor;
+        if (cursor.isBefore(to)) {
+            addMinutes(buckets, step, postId, cursor, to);
+            sources.add(ViewStatsStep.MINUTE);
+        }
+
+        List<ViewStatsResponse.Point> result = new ArrayList<>(buckets.size());
+        buckets.forEach((bucket, views) -> result.add(new ViewStatsResponse.Point(bucket, views)));
+        return ViewStatsResponse.builder()
+                .postId(postId)
+                .step(step)
+                .from(start)
+                .to(to)
+                .sources(new ArrayList<>(sources))
+                .points(result)
+                .build();
+    }
+
+    private void addRows(Map<LocalDateTime, Long> buckets, ViewStatsStep step, List<PostViewStat> rows) {
+        for (PostViewStat row : rows) {
+            buckets.merge(step.truncate(row.getBucketStart()), row.getViews(), Long::sum);
+        }
+    }
+
+    /**
+     * Redis 분 버킷 합산 ([from, to), 시간별 Hash HGETALL 파이프라인 1회)
+     */
+    private void addMinutes(Map<LocalDateTime, Long> buckets, ViewStatsStep step,
+                            Long postId, LocalDateTime from, LocalDateTime to) {
+        List<LocalDateTime> hours = new ArrayList<>();
+        for (LocalDateTime hour = ViewStatsStep.HOUR.truncate(from); hour.isBefore(to); hour = hour.plusHours(1)) {
+            hours.add(hour);
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            hours.forEach(hour -> connection.hashCommands().hGetAll(bytes(minuteKey(postId, hour))));
+            return null;
+        });
+
+        for (int i = 0; i < hours.size(); i++) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> minutes = (Map<String, String>) results.get(i);
+            if (minutes == null) {
+                continue;
+            }
+            for (Map.Entry<String, String> minute : minutes.entrySet()) {
+                LocalDateTime time = hours.get(i).plusMinutes(Long.parseLong(minute.getKey()));
+                if (!time.isBefore(from) && time.isBefore(to)) {
+                    buckets.merge(step.truncate(time), Long.parseLong(minute.getValue()), Long::sum);
+                }
+            }
+        }
+    }
+
+    /**
+     * 분 버킷 → 시간/일 단위 압축
+     *
+     * 동작 방식:
+     * 1. Redis 락(SET NX PX)으로 여러 노드 중 한 노드만 실행
+     * 2. 압축 진행 위치 다음 시간부터 grace 이전에 끝난 시간까지 순서대로 처리
+     *    (분 버킷이 만료된 구간은 건너뜀)
+     * 3. 시간마다 조회된 게시글 Set을 청크 단위로 HGETALL 파이프라인 → 합산 → DELETE + batch INSERT
+     *    마지막 청크까지 커밋되면 완료 기록 (조회가 없던 시간도 기록)
+     * 4. 모든 시간이 압축된 날짜 중 완료 기록이 없는 날짜를 합산 (합산과 완료 기록은 한 트랜잭션)
+     *
+     * 재실행 안전: 같은 시간을 다시 처리해도 같은 값으로 교체됨
+     * → 청크 사이에 장애가 나면 완료 기록이 없으므로 다음 실행에서 그 시간부터 다시 처리
+     *
+     * @return 저장된 시간 단위 행 수 (락 획득 실패 시 -1)
+     */
+    public int compact() {
+        Boolean locked = redisTemplate.opsForValue()
+                .setIfAbsent(COMPACT_LOCK_KEY, "1", Duration.ofMillis(compactLockTtlMs));
+        if (!Boolean.TRUE.equals(locked)) {
+            log.debug("조회수 시계열 압축: 다른 노드에서 실행 중");
+            return -1;
+        }
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        int rows = 0;
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime closedUntil = ViewStatsStep.HOUR.truncate(now.minus(Duration.ofMillis(compactGraceMs)));
+            LocalDateTime retainedFrom = ViewStatsStep.HOUR.truncate(now.minus(getMinuteRetention())).plusHours(1);
+            LocalDateTime lastHour = viewStatsCompactionRepository.findLastCompleted(ViewStatsStep.HOUR);
+            LocalDateTime hour = lastHour != null && lastHour.plusHours(1).isAfter(retainedFrom)
+                    ? lastHour.plusHours(1)
+                    : retainedFrom;
+
+            for (; hour.isBefore(closedUntil); hour = hour.plusHours(1)) {
+                rows += compactHour(hour);
+            }
+
+            // 모든 시간이 압축된 날짜 (보관 구간 안에서, 아직 완료 기록이 없는 날짜만)
+            for (LocalDate day = retainedFrom.toLocalDate(); day.plusDays(1).atStartOfDay().compareTo(closedUntil) <= 0;
+                 day = day.plusDays(1)) {
+                LocalDate target = day;
+                if (!viewStatsCompactionRepository.existsByGranularityAndBucketStart(ViewStatsStep.DAY, target.atStartOfDay())) {
+                    Integer dailyRows = transactionTemplate.execute(status -> {
+                        int saved = postViewStatJdbcRepository.rollupDaily(target);
+                        postViewStatJdbcRepository.markCompacted(ViewStatsStep.DAY, target.atStartOfDay());
+                        return saved;
+                    });
+                    log.debug("조회수 시계열 일 단위 합산: day={}, rows={}", target, dailyRows);
+                }
+            }
+        } finally {
+            redisTemplate.delete(COMPACT_LOCK_KEY);
+        }
+
+        sample.stop(Timer.builder("viewstats.compact.duration")
+                .description("조회수 시계열 압축 소요 시간")
+                .register(meterRegistry));
+        Counter.builder("viewstats.compact.rows")
+                .description("조회수 시계열 압축으로 저장된 시간 단위 행 수")
+                .register(meterRegistry)
+                .increment(rows);
+        if (rows > 0) {
+            log.info("조회수 시계열 압축 완료: 시간 단위 행={}", rows);
+        }
+        return rows;
+    }
+
+    private int compactHour(LocalDateTime hour) {
+        // 조회가 없던 시간도 완료 기록을 남겨 압축 진행 위치를 넘김
+        Set<String> members = redisTemplate.opsForSet().members(activeKey(hour));
+        List<String> postIds = members != null ? new ArrayList<>(members) : List.of();
+        int rows = 0;
+        for (int from = 0; from < postIds.size(); from += chunkSize) {
+            List<String> chunk = postIds.subList(from, Math.min(from + chunkSize, postIds.size()));
+            List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                chunk.forEach(postId -> connection.hashCommands().hGetAll(bytes(minuteKey(postId, hour))));
+                return null;
+            });
+
+            Map<Long, Long> views = new HashMap<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, String> minutes = (Map<String, String>) results.get(i);
+                long sum = 0;
+                if (minutes != null) {
+                    for (String count : minutes.values()) {
+                        sum += Long.parseLong(count);
+                    }
+                }
+                if (sum > 0) {
+                    views.put(Long.parseLong(chunk.get(i)), sum);
+                }
+            }
+
+            Integer saved = transactionTemplate.execute(status -> postViewStatJdbcRepository.replaceHourly(hour, views));
+            rows += saved != null ? saved : 0;
+        }
+        // 모든 청크가 커밋된 뒤에만 완료 기록 (이 앞에서 끊기면 다음 압축이 이 시간부터 다시 처리)
+        transactionTemplate.executeWithoutResult(status -> postViewStatJdbcRepository.markCompacted(ViewStatsStep.HOUR, hour));
+        log.debug("조회수 시계열 시간 단위 압축: hour={}, posts={}, rows={}", hour, postIds.size(), rows);
+        return rows;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,32 @@
+package com.example.hightraffic.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 조회수 시계열 집계 단위
+ *
+ * - MINUTE : Redis 분 단위 버킷 (post:views:m:{postId}:{yyyyMMddHH}, 보관 기간 후 만료)
+ * - HOUR   : MySQL 시간 단위 행 (post_view_stats, 압축기가 분 버킷을 합산)
+ * - DAY    : MySQL 일 단위 행 (post_view_stats, 하루의 시간 단위 행을 합산)
+ */
+public enum ViewStatsStep {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    ViewStatsStep(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime truncate(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public Duration getDuration() {
+        return unit.getDuration();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hightraffic.util;
+
+import com.example.hightraffic.exception.BusinessException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 복합 키셋 커서 (createdAt, id)
+ *
+ * - 클라이언트에는 Base64 URL-safe 문자열로 전달 (불투명 토큰, 내부 구조 노출 없음)
+ * - 인코딩 형식: "{createdAt ISO-8601}_{id}" → Base64
+ * - createdAt은 DB 정밀도(마이크로초)를 그대로 유지해야 같은 시각의 게시글이 누락되지 않음
+ */
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+
+    private static final char SEPARATOR = '_';
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws BusinessException 형식이 잘못된 커서 (400)
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, separatorIndex));
+            Long id = Long.parseLong(raw.substring(separatorIndex + 1));
+            return new KeysetCursor(createdAt, id);
+        } catch (RuntimeException e) {
+            throw new BusinessException("잘못된 커서입니다: " + cursor, HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.hightraffic.util;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Lua 스크립트 로드 유틸리티
+ *
+ * 문제 정의:
+ * - EVAL/EVALSHA는 스크립트 하나만 실행하므로 여러 스크립트가 쓰는 함수(예: 트렌딩 점수 누적)를
+ *   스크립트마다 복사하게 됨 → 한 곳만 고치면 점수 계산이 경로마다 달라짐
+ *
+ * 해결 방법:
+ * - 공용 함수 파일(scripts/lib/*.lua)을 스크립트 앞에 붙여 하나의 소스로 로드
+ * - 합친 소스 기준으로 SHA1이 계산되므로 EVALSHA 캐시 동작은 그대로
+ */
+@UtilityClass
+public class RedisScripts {
+
+    /**
+     * 클래스패스의 Lua 파일들을 순서대로 이어 붙인 스크립트
+     *
+     * @param resultType 스크립트 반환 타입
+     * @param paths 공용 함수 파일들, 마지막에 본문 스크립트
+     */
+    public static <T> RedisScript<T> of(Class<T> resultType, String... paths) {
+        StringBuilder source = new StringBuilder();
+        for (String path : paths) {
+            try {
+                source.append(StreamUtils.copyToString(new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Lua 스크립트를 읽을 수 없습니다: " + path, e);
+            }
+            source.append('\n');
+        }
+        return RedisScript.of(source.toString(), resultType);
+    }
+}
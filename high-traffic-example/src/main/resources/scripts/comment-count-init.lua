@@ -0,0 +1,14 @@
+-- 댓글 수 카운터 초기화 스크립트 (키가 없을 때만 두 필드를 함께 저장)
+-- HSETNX를 필드별로 호출하면 그 사이에 증감 스크립트가 끼어들 수 있으므로 한 번에 처리합니다.
+--
+-- KEYS[1]: post:commentcount:{postId}
+-- ARGV[1]: 전체 댓글 수
+-- ARGV[2]: 활성 댓글 수
+--
+-- 반환값: 1 (초기화), 0 (이미 있음)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return 0
+end
+redis.call('HSET', KEYS[1], 'total', ARGV[1], 'active', ARGV[2])
+return 1
@@ -0,0 +1,31 @@
+-- 댓글 수 증감 스크립트
+-- 전체/활성 댓글 수 증감과 DB 동기화 대상 표시를 한 번의 왕복으로 원자적으로 처리합니다.
+--
+-- KEYS[1]: post:commentcount:{postId}          (Hash - total: 전체 댓글 수, active: 삭제되지 않은 댓글 수)
+-- KEYS[2]: post:commentcount:dirty:{partition} (DB 동기화 대상 게시글 ID)
+-- ARGV[1]: 전체 댓글 수 증감량
+-- ARGV[2]: 활성 댓글 수 증감량
+-- ARGV[3]: 게시글 ID
+--
+-- 반환값: { 전체 댓글 수, 활성 댓글 수 } (카운터가 없으면 { -1, -1 })
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    -- 카운터가 없으면 호출 측에서 DB 값으로 초기화
+    return { -1, -1 }
+end
+
+local total = redis.call('HINCRBY', KEYS[1], 'total', ARGV[1])
+local active = redis.call('HINCRBY', KEYS[1], 'active', ARGV[2])
+
+-- 이벤트 유실/중복 등으로 음수가 되지 않도록 보정 (정확한 값은 정합성 보정 작업이 복구)
+if total < 0 then
+    redis.call('HSET', KEYS[1], 'total', 0)
+    total = 0
+end
+if active < 0 then
+    redis.call('HSET', KEYS[1], 'active', 0)
+    active = 0
+end
+
+redis.call('SADD', KEYS[2], ARGV[3])
+return { total, active }
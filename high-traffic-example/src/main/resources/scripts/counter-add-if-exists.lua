@@ -0,0 +1,12 @@
+-- 카운터가 있을 때만 증감하는 스크립트
+-- 키가 없을 때 INCRBY가 0부터 시작해 잘못된 값을 만드는 것을 막습니다 (다음 조회 시 DB에서 다시 계산).
+--
+-- KEYS[1]: 카운터 키
+-- ARGV[1]: 증감량
+--
+-- 반환값: 증감 후 값 (키가 없으면 -1)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return redis.call('INCRBY', KEYS[1], ARGV[1])
+end
+return -1
@@ -0,0 +1,28 @@
+-- 트렌딩 점수 누적 함수 (공용)
+-- 단독으로 실행하지 않고 사용하는 스크립트 앞에 붙여서 로드합니다. (RedisScripts.of)
+-- 사용처: view-count-increase.lua / post-like.lua / trending-add.lua
+--
+-- score = ln(Σ 가중치 · e^(λ·t)) → 새 점수 = logaddexp(기존 점수, 증가분 로그 점수)
+-- 지수 감쇠 점수를 로그 공간에서 누적하므로 주기적인 재계산이 없고 e^(λ·t)가 overflow되지 않음
+--
+-- key: 트렌딩 점수 ZSET
+-- term: 이번 증가분의 로그 점수 = ln(가중치) + λ·(현재 시각 - 기준 시각)
+-- max_tracked: ZSET에 유지할 최대 게시글 수
+-- 반환값: 반영 후 점수
+
+local function add_trending(key, member, term, max_tracked)
+    local current = redis.call('ZSCORE', key, member)
+    local score = term
+    if current then
+        local c = tonumber(current)
+        if c > term then
+            score = c + math.log(1 + math.exp(term - c))
+        else
+            score = term + math.log(1 + math.exp(c - term))
+        end
+    end
+    redis.call('ZADD', key, score, member)
+    -- 점수가 가장 낮은 게시글부터 제거 (대부분 0~1개, O(log N))
+    redis.call('ZREMRANGEBYRANK', key, 0, -(max_tracked + 1))
+    return score
+end
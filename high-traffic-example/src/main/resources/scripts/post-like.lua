@@ -0,0 +1,55 @@
+-- 좋아요 증가/감소 스크립트
+-- 사용자별 중복 체크(SETBIT) + 카운터 증감 + DB 동기화 대상 표시를 한 번의 왕복으로 원자적으로 처리합니다.
+--
+-- KEYS[1]: post:likecount:{postId}          (좋아요 수)
+-- KEYS[2]: post:liked:{postId}              (좋아요 누른 사용자 Bitmap, offset = userId)
+-- KEYS[3]: post:likecount:dirty:{partition} (DB 동기화 대상 게시글 ID)
+-- KEYS[4]: post:ranking:likes               (누적 좋아요 랭킹)
+-- KEYS[5]: post:ranking:likes:{yyyyMMdd}    (일간 좋아요 랭킹)
+-- KEYS[6]: post:trending                    (트렌딩 점수 ZSET, 지수 감쇠)
+-- ARGV[1]: 사용자 ID (Bitmap offset)
+-- ARGV[2]: 증감량 (1: 좋아요, -1: 좋아요 취소)
+-- ARGV[3]: 게시글 ID
+-- ARGV[4]: 일간 랭킹 보관 시간 (초)
+-- ARGV[5]: 트렌딩 증가분 로그 점수 = ln(가중치) + λ·(현재 시각 - 기준 시각) (빈 문자열이면 미반영)
+-- ARGV[6]: 트렌딩 ZSET에 유지할 최대 게시글 수
+--
+-- 좋아요 취소는 트렌딩 점수를 되돌리지 않음 (로그 공간에서는 뺄셈이 불안정, 시간이 지나면 감쇠)
+--
+-- 반환값: { 변경 여부 (1: 변경, 0: 중복/변경 없음), 좋아요 수 (Redis에 값이 없으면 -1) }
+
+local current = redis.call('GET', KEYS[1])
+if not current then
+    -- 카운터가 없으면 호출 측에서 DB 값으로 초기화 후 재시도
+    return { 0, -1 }
+end
+
+local user_id = tonumber(ARGV[1])
+local delta = tonumber(ARGV[2])
+
+-- SETBIT은 이전 비트를 반환: 이미 같은 상태면 중복 요청
+local bit = 0
+if delta > 0 then
+    bit = 1
+end
+if redis.call('SETBIT', KEYS[2], user_id, bit) == bit then
+    return { 0, tonumber(current) }
+end
+
+local count = redis.call('INCRBY', KEYS[1], delta)
+if count < 0 then
+    -- Bitmap 유실 등으로 음수가 되지 않도록 보정
+    redis.call('SET', KEYS[1], 0)
+    count = 0
+end
+redis.call('SADD', KEYS[3], ARGV[3])
+redis.call('ZADD', KEYS[4], count, ARGV[3])
+redis.call('ZINCRBY', KEYS[5], delta, ARGV[3])
+redis.call('EXPIRE', KEYS[5], ARGV[4])
+
+if delta > 0 and ARGV[5] ~= '' then
+    -- 지수 감쇠 점수를 로그 공간에서 누적 (lib/trending.lua)
+    add_trending(KEYS[6], ARGV[3], tonumber(ARGV[5]), tonumber(ARGV[6]))
+end
+
+return { 1, count }
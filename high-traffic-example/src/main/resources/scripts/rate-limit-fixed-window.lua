@@ -0,0 +1,30 @@
+-- 고정 윈도우 Rate Limit 스크립트
+-- GET → INCR → EXPIRE 세 번의 왕복을 한 번의 EVALSHA로 원자적으로 처리합니다.
+--
+-- KEYS[1]: ratelimit:{subject}  (윈도우 내 요청 횟수)
+-- ARGV[1]: 윈도우 내 최대 요청 수
+-- ARGV[2]: 윈도우 크기 (ms)
+--
+-- 반환값: { 허용 여부 (1/0), 남은 요청 수, 재시도까지 남은 시간 (ms, 허용 시 0) }
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+if count >= limit then
+    local ttl = redis.call('PTTL', KEYS[1])
+    -- TTL이 없는 키(비정상)는 영구 차단되지 않도록 윈도우 TTL 복구
+    if ttl < 0 then
+        redis.call('PEXPIRE', KEYS[1], window)
+        ttl = window
+    end
+    return { 0, 0, ttl }
+end
+
+count = redis.call('INCR', KEYS[1])
+-- 첫 요청이면 윈도우 시작: TTL 설정
+if count == 1 then
+    redis.call('PEXPIRE', KEYS[1], window)
+end
+
+return { 1, limit - count, 0 }
@@ -0,0 +1,42 @@
+-- GCRA (Generic Cell Rate Algorithm) Rate Limit 스크립트
+-- 토큰 버킷과 동일한 동작을 "이론적 도착 시각(TAT)" 값 하나로 구현합니다.
+-- - 요청 간격 T = 윈도우 / 최대 요청 수 (토큰 1개가 채워지는 시간)
+-- - 버스트 허용치 τ = T × (최대 요청 수 - 1) (버킷 용량)
+-- - TAT - now <= τ 이면 허용하고 TAT를 T만큼 뒤로 미룸
+--
+-- KEYS[1]: ratelimit:gcra:{subject}  (TAT, 마이크로초)
+-- ARGV[1]: 윈도우 내 최대 요청 수 (버킷 용량)
+-- ARGV[2]: 윈도우 크기 (ms)
+--
+-- 반환값: { 허용 여부 (1/0), 남은 요청 수, 재시도까지 남은 시간 (ms, 허용 시 0) }
+
+-- Redis 7 미만에서 TIME 이후 쓰기 명령어를 허용하기 위한 effects replication
+redis.replicate_commands()
+
+local limit = tonumber(ARGV[1])
+local window_us = tonumber(ARGV[2]) * 1000
+
+-- 정밀도를 위해 마이크로초 단위로 계산 (2^53 범위 내)
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+
+local interval = window_us / limit
+local tolerance = interval * (limit - 1)
+
+local tat = tonumber(redis.call('GET', KEYS[1]) or '0')
+if tat < now then
+    tat = now
+end
+
+if tat - now > tolerance then
+    local retry_after_us = tat - now - tolerance
+    return { 0, 0, math.ceil(retry_after_us / 1000) }
+end
+
+local new_tat = tat + interval
+local ttl_ms = math.ceil((new_tat - now) / 1000)
+-- 큰 정수가 지수 표기로 저장되지 않도록 문자열로 변환
+redis.call('SET', KEYS[1], string.format('%.0f', new_tat), 'PX', ttl_ms)
+
+local remaining = math.floor((tolerance - (new_tat - interval - now)) / interval)
+return { 1, remaining, 0 }
@@ -0,0 +1,65 @@
+-- 슬라이딩 윈도우 카운터 Rate Limit 스크립트
+-- 직전 윈도우 요청 수에 겹치는 비율만큼 가중치를 주어 현재 시점의 요청 수를 추정합니다.
+--   추정치 = 직전 윈도우 요청 수 × (남은 비율) + 현재 윈도우 요청 수
+-- 고정 윈도우의 경계 구간 2배 버스트를 막으면서 키 하나(해시 필드 3개)만 사용합니다.
+--
+-- KEYS[1]: ratelimit:sliding:{subject}  (HASH: start = 현재 윈도우 시작 시각(ms), cur, prev)
+-- ARGV[1]: 윈도우 내 최대 요청 수
+-- ARGV[2]: 윈도우 크기 (ms)
+--
+-- 반환값: { 허용 여부 (1/0), 남은 요청 수, 재시도까지 남은 시간 (ms, 허용 시 0) }
+
+-- Redis 7 미만에서 TIME 이후 쓰기 명령어를 허용하기 위한 effects replication
+redis.replicate_commands()
+
+local limit = tonumber(ARGV[1])
+local window = tonumber(ARGV[2])
+
+-- 노드 간 시계 차이를 피하기 위해 Redis 서버 시각 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+local window_start = now - (now % window)
+
+local state = redis.call('HMGET', KEYS[1], 'start', 'cur', 'prev')
+local start = tonumber(state[1]) or window_start
+local cur = tonumber(state[2]) or 0
+local prev = tonumber(state[3]) or 0
+
+-- 윈도우가 넘어갔으면 현재 → 직전으로 이동 (두 윈도우 이상 지났으면 0)
+if start ~= window_start then
+    if window_start - start == window then
+        prev = cur
+    else
+        prev = 0
+    end
+    cur = 0
+end
+
+local elapsed = now - window_start
+local estimated = prev * (window - elapsed) / window + cur
+
+local function save()
+    redis.call('HSET', KEYS[1],
+            'start', string.format('%.0f', window_start),
+            'cur', cur,
+            'prev', prev)
+    redis.call('PEXPIRE', KEYS[1], window * 2)
+end
+
+if estimated + 1 > limit then
+    local retry_after
+    if prev > 0 and cur + 1 <= limit then
+        -- 직전 윈도우 가중치가 충분히 줄어드는 시점
+        retry_after = math.ceil(window * (1 - (limit - cur - 1) / prev)) - elapsed
+    else
+        -- 현재 윈도우가 끝나야 허용 가능
+        retry_after = window - elapsed
+    end
+    save()
+    return { 0, 0, math.max(retry_after, 1) }
+end
+
+cur = cur + 1
+save()
+
+return { 1, math.floor(limit - estimated - 1), 0 }
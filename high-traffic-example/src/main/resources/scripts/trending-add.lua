@@ -0,0 +1,11 @@
+-- 트렌딩 점수 반영 스크립트 (조회수 증가 스크립트를 쓰지 않는 경로용)
+-- 지수 감쇠 점수를 로그 공간에서 누적합니다. (계산은 lib/trending.lua의 add_trending)
+--
+-- KEYS[1]: post:trending   (트렌딩 점수 ZSET)
+-- ARGV[1]: 게시글 ID
+-- ARGV[2]: 이번 증가분의 로그 점수 = ln(가중치) + λ·(현재 시각 - 기준 시각)
+-- ARGV[3]: ZSET에 유지할 최대 게시글 수
+--
+-- 반환값: 반영 후 점수 (문자열)
+
+return tostring(add_trending(KEYS[1], ARGV[1], tonumber(ARGV[2]), tonumber(ARGV[3])))
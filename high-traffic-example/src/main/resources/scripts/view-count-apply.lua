@@ -0,0 +1,27 @@
+-- 조회수 증가분 일괄 반영 스크립트 (Kafka 조회 이벤트 집계 결과)
+-- 게시글 N개의 조회수/랭킹을 한 번의 왕복(EVALSHA)으로 반영합니다.
+--
+-- KEYS[1]: post:ranking:views                 (누적 조회수 랭킹)
+-- KEYS[2]: post:ranking:views:{yyyyMMdd}      (일간 조회수 랭킹)
+-- KEYS[3..]: post:viewcount:{postId}          (조회수, ARGV의 게시글 순서와 같음)
+-- ARGV[1]: 일간 랭킹 보관 시간 (초)
+-- ARGV[2i], ARGV[2i+1]: i번째 게시글 ID, 증가분
+--
+-- 조회수 키가 없으면 INCRBY하지 않음 (0부터 시작해 잘못된 값이 되는 것을 막음, 조회 시 DB 값 사용)
+-- 누적 랭킹은 증가분만 반영 (핫 키 샤드가 있으면 기준 키 값이 전체 조회수가 아님)
+-- 반환값: 조회수 키가 있어서 증가시킨 게시글 수
+
+local applied = 0
+for i = 3, #KEYS do
+    local postId = ARGV[(i - 3) * 2 + 2]
+    local delta = tonumber(ARGV[(i - 3) * 2 + 3])
+
+    if redis.call('EXISTS', KEYS[i]) == 1 then
+        redis.call('INCRBY', KEYS[i], delta)
+        applied = applied + 1
+    end
+    redis.call('ZINCRBY', KEYS[1], delta, postId)
+    redis.call('ZINCRBY', KEYS[2], delta, postId)
+end
+redis.call('EXPIRE', KEYS[2], ARGV[1])
+return applied
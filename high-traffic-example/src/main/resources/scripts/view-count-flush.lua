@@ -0,0 +1,34 @@
+-- 조회수 버퍼 flush 스크립트
+-- 버퍼에 누적된 게시글별 증가분을 INCRBY + Dirty Set 등록 + 랭킹 갱신으로 한 번에 원자적으로 반영합니다.
+--
+-- KEYS[1]: post:ranking:views                 (누적 조회수 랭킹)
+-- KEYS[2]: post:ranking:views:{yyyyMMdd}      (일간 조회수 랭킹)
+-- KEYS[3..]: 게시글마다 (post:viewcount:{postId}, post:viewcount:dirty:{partition}) 쌍
+-- ARGV[1]: 일간 랭킹 보관 시간 (초)
+-- ARGV[2..]: 게시글마다 (게시글 ID, 증가분) 쌍 (KEYS와 같은 순서)
+--
+-- 누적 랭킹은 증가 스크립트와 같이 반영 후 조회수(절대값)로 ZADD
+-- GT: 기준 키 외에 핫 키 샤드가 남아 있어 랭킹 점수가 더 크면 유지 (점수가 줄어들지 않음)
+--
+-- 조회수 키가 없으면 아무것도 반영하지 않음 (view-count-apply.lua와 같은 기준)
+-- - 0부터 INCRBY하면 DB 조회수를 증가분으로 덮어쓰게 됨
+-- - 호출 측이 DB 값으로 키를 채운 뒤 증가분을 다음 flush에서 다시 반영
+--
+-- 반환값: 조회수 키가 없어서 반영하지 않은 게시글 ID 목록
+
+local missing = {}
+local posts = (#KEYS - 2) / 2
+for i = 0, posts - 1 do
+    local post_id = ARGV[2 + i * 2]
+    local delta = tonumber(ARGV[3 + i * 2])
+    if redis.call('EXISTS', KEYS[3 + i * 2]) == 1 then
+        local count = redis.call('INCRBY', KEYS[3 + i * 2], delta)
+        redis.call('SADD', KEYS[4 + i * 2], post_id)
+        redis.call('ZADD', KEYS[1], 'GT', count, post_id)
+        redis.call('ZINCRBY', KEYS[2], delta, post_id)
+    else
+        missing[#missing + 1] = tonumber(post_id)
+    end
+end
+redis.call('EXPIRE', KEYS[2], ARGV[1])
+return missing
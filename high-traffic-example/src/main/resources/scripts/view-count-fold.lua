@@ -0,0 +1,33 @@
+-- 핫 키 샤드 병합 스크립트
+-- 핫 키 표시가 만료된 게시글의 샤드 값을 기준 키에 합치고 샤드를 삭제합니다.
+-- 합치기 전후의 조회수(기준 키 + 샤드 합)가 같도록 한 번에 원자적으로 처리합니다.
+--
+-- KEYS[1]: post:viewcount:{postId}:hot        (핫 키 표시)
+-- KEYS[2]: post:viewcount:{postId}            (조회수 기준 키)
+-- KEYS[3]: post:viewcount:sharded             (샤드가 있는 게시글 ID)
+-- KEYS[4]: post:viewcount:{postId}:sharded    (샤드 존재 표시)
+-- KEYS[5..]: post:viewcount:{postId}:{shard}  (샤드 카운터)
+-- ARGV[1]: 게시글 ID
+--
+-- 반환값: 기준 키에 합친 값 (아직 핫 키면 -1)
+
+if redis.call('EXISTS', KEYS[1]) == 1 then
+    return -1
+end
+
+local sum = 0
+for i = 5, #KEYS do
+    local shard = redis.call('GET', KEYS[i])
+    if shard then
+        sum = sum + tonumber(shard)
+        redis.call('DEL', KEYS[i])
+    end
+end
+
+-- 기준 키가 없으면 샤드 값은 읽기에서 이미 무시되므로 삭제만 함
+if sum > 0 and redis.call('EXISTS', KEYS[2]) == 1 then
+    redis.call('INCRBY', KEYS[2], sum)
+end
+redis.call('DEL', KEYS[4])
+redis.call('SREM', KEYS[3], ARGV[1])
+return sum
@@ -0,0 +1,95 @@
+-- 조회수 증가 스크립트
+-- 중복 체크 + INCR + 중복 방지 플래그 저장을 한 번의 왕복(EVALSHA)으로 원자적으로 처리합니다.
+--
+-- KEYS[1]: post:viewcount:{postId}            (조회수)
+-- KEYS[2]: post:viewed:{postId}:{identifier}  (중복 방지 플래그)
+-- KEYS[3]: post:viewcount:dirty:{partition}   (DB 동기화 대상 게시글 ID)
+-- KEYS[4]: post:ranking:views                 (누적 조회수 랭킹)
+-- KEYS[5]: post:ranking:views:{yyyyMMdd}      (일간 조회수 랭킹)
+-- KEYS[6]: post:viewcount:{postId}:hot        (핫 키 표시, 있으면 호출 측이 샤드에 증가)
+-- KEYS[7]: post:uv:{postId}                   (누적 순 방문자 HyperLogLog)
+-- KEYS[8]: post:uv:{postId}:{yyyyMMdd}        (일별 순 방문자 HyperLogLog)
+-- KEYS[9]: post:views:m:{postId}:{yyyyMMddHH}  (분 단위 조회수 Hash, field = mm)
+-- KEYS[10]: post:views:m:active:{yyyyMMddHH}   (해당 시간에 조회된 게시글 ID, 시계열 압축 대상)
+-- KEYS[11]: post:trending                     (트렌딩 점수 ZSET, 지수 감쇠)
+-- KEYS[12]: post:viewcount:{postId}:sharded  (샤드 존재 표시, 병합 시 삭제)
+-- KEYS[13]: post:viewcount:sharded            (샤드가 있는 게시글 ID, 병합 대상)
+-- ARGV[1]: 중복 방지 시간 (초)
+-- ARGV[2]: 증가량 (0이면 중복 체크만 수행 - write-behind 버퍼 모드)
+-- ARGV[3]: 게시글 ID
+-- ARGV[4]: 일간 랭킹 보관 시간 (초)
+-- ARGV[5]: 사용자 식별자 (순 방문자 집계용)
+-- ARGV[6]: 일별 순 방문자 보관 시간 (초)
+-- ARGV[7]: 분 버킷 필드 (mm)
+-- ARGV[8]: 분 버킷 보관 시간 (초)
+-- ARGV[9]: 트렌딩 증가분 로그 점수 = ln(가중치) + λ·(현재 시각 - 기준 시각) (빈 문자열이면 미반영)
+-- ARGV[10]: 트렌딩 ZSET에 유지할 최대 게시글 수
+--
+-- 샤드 키는 이 스크립트에 넘기지 않음 (샤드 INCRBY를 별도 단일 키 명령으로 보내야 부하가 분산됨)
+-- 트렌딩 점수는 lib/trending.lua의 add_trending으로 누적 (로드 시 이 스크립트 앞에 붙음)
+-- 반환값: { 증가 여부 (1: 증가, 0: 중복 조회), 기준 키 값 (Redis에 값이 없으면 -1), 샤드 상태, 누적 순 방문자 수 }
+-- 샤드 상태: 0 = 샤드 없음 (조회수 = 기준 키)
+--           1 = 샤드 있음 (호출 측이 샤드 합을 더함)
+--           2 = 핫 키 (기준 키는 증가하지 않음, 호출 측이 샤드 하나에 증가 후 샤드 합을 더함)
+
+local function current_count()
+    local current = redis.call('GET', KEYS[1])
+    if not current then
+        return -1
+    end
+    return tonumber(current)
+end
+
+local function shard_state()
+    return redis.call('EXISTS', KEYS[12])
+end
+
+-- 순 방문자는 중복 조회 여부와 관계없이 기록 (HyperLogLog가 같은 사용자를 한 번만 집계)
+redis.call('PFADD', KEYS[7], ARGV[5])
+redis.call('PFADD', KEYS[8], ARGV[5])
+redis.call('EXPIRE', KEYS[8], ARGV[6])
+-- 응답에 넣을 누적 순 방문자 수도 같은 왕복에서 조회 (별도 PFCOUNT 왕복 없음)
+local visitors = redis.call('PFCOUNT', KEYS[7])
+
+-- SET NX EX: 플래그가 없을 때만 저장 = 5초 이내 첫 조회
+if redis.call('SET', KEYS[2], '1', 'EX', ARGV[1], 'NX') then
+    -- 시계열 분 버킷 / 트렌딩 점수는 조회수 반영 방식(즉시/버퍼/Kafka)과 관계없이 첫 조회마다 기록
+    redis.call('HINCRBY', KEYS[9], ARGV[7], 1)
+    redis.call('EXPIRE', KEYS[9], ARGV[8])
+    redis.call('SADD', KEYS[10], ARGV[3])
+    redis.call('EXPIRE', KEYS[10], ARGV[8])
+    if ARGV[9] ~= '' then
+        add_trending(KEYS[11], ARGV[3], tonumber(ARGV[9]), tonumber(ARGV[10]))
+    end
+
+    local increment = tonumber(ARGV[2])
+    if increment > 0 then
+        local count = current_count()
+        local state
+        -- 핫 키: 기준 키가 있을 때만 샤드에 증가 (기준 키가 없으면 샤드 값은 읽기에서 무시됨)
+        if count >= 0 and redis.call('EXISTS', KEYS[6]) == 1 then
+            -- 샤드 존재 표시가 새로 생길 때만 병합 대상에 등록 (공유 Set에 매번 쓰지 않음)
+            if redis.call('SET', KEYS[12], '1', 'NX') then
+                redis.call('SADD', KEYS[13], ARGV[3])
+            end
+            state = 2
+        else
+            count = redis.call('INCRBY', KEYS[1], increment)
+            state = shard_state()
+        end
+        redis.call('SADD', KEYS[3], ARGV[3])
+        if state == 0 or not redis.call('ZSCORE', KEYS[4], ARGV[3]) then
+            redis.call('ZADD', KEYS[4], count, ARGV[3])
+        else
+            -- 샤드가 있으면 count는 기준 키 값뿐이므로 증가분만 더함
+            redis.call('ZINCRBY', KEYS[4], increment, ARGV[3])
+        end
+        redis.call('ZINCRBY', KEYS[5], increment, ARGV[3])
+        redis.call('EXPIRE', KEYS[5], ARGV[4])
+        return { 1, count, state, visitors }
+    end
+    return { 1, current_count(), shard_state(), visitors }
+end
+
+-- 중복 조회: 현재 조회수만 반환
+return { 0, current_count(), shard_state(), visitors }
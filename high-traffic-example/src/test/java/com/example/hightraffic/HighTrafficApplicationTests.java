@@ -1,16 +1,9 @@
 package com.example.hightraffic;
 
+import com.example.hightraffic.support.IntegrationTest;
 import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.test.context.TestPropertySource;
 
-@SpringBootTest
-@TestPropertySource(properties = {
-		"spring.datasource.url=jdbc:h2:mem:testdb",
-		"spring.datasource.driver-class-name=org.h2.Driver",
-		"spring.jpa.hibernate.ddl-auto=create-drop",
-		"spring.kafka.bootstrap-servers=localhost:9092"
-})
+@IntegrationTest
 class HighTrafficApplicationTests {
 
 	@Test
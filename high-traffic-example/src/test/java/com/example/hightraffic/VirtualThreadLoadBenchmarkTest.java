@@ -0,0 +1,221 @@
+package com.example.hightraffic;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 요청 처리 스레드 모드 부하 테스트 (플랫폼 스레드 풀 vs 가상 스레드)
+ *
+ * 측정 항목 (동시 클라이언트 5,000, 모드별로 애플리케이션을 새로 기동):
+ * - 처리량 (성공 요청 수 / 초)
+ * - 응답 시간 p50 / p99, 오류 비율
+ * - 측정 구간 최대 힙 사용량 / 최대 플랫폼 스레드 수
+ *
+ * 요청 구성: 목록(페이지 번호, 키셋) + 인기 게시글 (DB/Redis 블로킹 I/O, Rate Limit 없는 API)
+ *
+ * 전제 조건:
+ * - 로컬 MySQL / Redis (application.yml의 설정)
+ * - posts 테이블이 1,000건보다 적으면 JDBC batch로 채움
+ * - 클라이언트도 같은 JVM에서 가상 스레드로 실행되므로 힙/스레드 값은 두 모드 모두 같은 만큼 포함됨
+ *
+ * 실행 방법: ./gradlew test --tests '*VirtualThreadLoadBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class VirtualThreadLoadBenchmarkTest {
+
+    private static final int CLIENTS = 5_000;
+    private static final Duration WARM_UP = Duration.ofSeconds(10);
+    private static final Duration MEASURE = Duration.ofSeconds(30);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final int SEED_POSTS = 1_000;
+    private static final int PAGE_SIZE = 20;
+
+    @Test
+    @DisplayName("가상 스레드 모드는 동시 클라이언트 5,000에서 플랫폼 스레드 풀보다 처리량이 높고 플랫폼 스레드를 적게 사용한다")
+    void comparePlatformAndVirtualThreads() throws Exception {
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+
+        log.info("=== 요청 처리 스레드 모드 부하 테스트 (동시 클라이언트 {}, 측정 {}초) ===", CLIENTS, MEASURE.toSeconds());
+        log.info("플랫폼 스레드: {}", platform);
+        log.info("가상 스레드:   {}", virtual);
+
+        assertTrue(virtual.errorRate() < 0.01, "가상 스레드 모드의 오류 비율은 1% 미만이어야 함");
+        assertTrue(virtual.throughput() >= platform.throughput(), "가상 스레드 모드의 처리량이 같거나 높아야 함");
+        assertTrue(virtual.peakPlatformThreads() < platform.peakPlatformThreads(), "가상 스레드 모드의 플랫폼 스레드 수가 더 적어야 함");
+    }
+
+    private LoadResult run(boolean virtualThreads) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HighTrafficApplication.class)
+                .properties(
+                        "server.port=0",
+                        "management.server.port=0",
+                        "spring.threads.virtual.enabled=" + virtualThreads,
+                        "spring.kafka.bootstrap-servers=localhost:9092",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.com.example.hightraffic=INFO",
+                        "logging.level.org.hibernate.SQL=INFO",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=INFO",
+                        // 5,000 연결을 모두 수락 (플랫폼 모드는 threads.max=200 기본값으로 처리)
+                        "server.tomcat.max-connections=10000",
+                        "server.tomcat.accept-count=1000"
+                )
+                .run()) {
+            seedPosts(context.getBean(JdbcTemplate.class));
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            return load("http://localhost:" + port, virtualThreads);
+        }
+    }
+
+    private LoadResult load(String baseUrl, boolean virtualThreads) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        Timer latency = Timer.builder("load.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(new SimpleMeterRegistry());
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+
+        MemoryMXBean memoryMXBean = ManagementFactory.getMemoryMXBean();
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        AtomicLong peakHeap = new AtomicLong();
+        AtomicLong peakThreads = new AtomicLong();
+
+        long warmUpEnd = System.nanoTime() + WARM_UP.toNanos();
+        long measureEnd = warmUpEnd + MEASURE.toNanos();
+
+        System.gc();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                clients.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < measureEnd) {
+                        boolean measuring = now >= warmUpEnd;
+                        boolean ok = send(httpClient, baseUrl + randomPath());
+                        if (measuring) {
+                            latency.record(System.nanoTime() - now, TimeUnit.NANOSECONDS);
+                            (ok ? succeeded : failed).increment();
+                        }
+                    }
+                });
+            }
+
+            // 측정 구간 동안 100ms마다 힙 사용량 / 플랫폼 스레드 수 샘플링
+            while (System.nanoTime() < measureEnd) {
+                if (System.nanoTime() >= warmUpEnd) {
+                    peakHeap.accumulateAndGet(memoryMXBean.getHeapMemoryUsage().getUsed(), Math::max);
+                    peakThreads.accumulateAndGet(threadMXBean.getThreadCount(), Math::max);
+                }
+                Thread.sleep(100);
+            }
+        }
+
+        HistogramSnapshot snapshot = latency.takeSnapshot();
+        return new LoadResult(
+                virtualThreads,
+                succeeded.sum() / (double) MEASURE.toSeconds(),
+                percentileMs(snapshot, 0.5),
+                percentileMs(snapshot, 0.99),
+                failed.sum() / (double) Math.max(1, succeeded.sum() + failed.sum()),
+                peakHeap.get() / (1024 * 1024),
+                peakThreads.get()
+        );
+    }
+
+    private boolean send(HttpClient httpClient, String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(REQUEST_TIMEOUT)
+                    .GET()
+                    .build();
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private String randomPath() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return switch (random.nextInt(3)) {
+            case 0 -> "/api/posts?page=" + random.nextInt(SEED_POSTS / PAGE_SIZE) + "&size=" + PAGE_SIZE;
+            case 1 -> "/api/posts/keyset?size=" + PAGE_SIZE;
+            default -> "/api/posts/top/viewed?size=10";
+        };
+    }
+
+    private double percentileMs(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) {
+                return value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return Double.NaN;
+    }
+
+    private void seedPosts(JdbcTemplate jdbcTemplate) {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM posts", Long.class);
+        if (existing != null && existing >= SEED_POSTS) {
+            return;
+        }
+
+        LocalDateTime baseTime = LocalDateTime.now().minusDays(1);
+        List<Object[]> batch = new ArrayList<>(SEED_POSTS);
+        for (long i = existing == null ? 0 : existing; i < SEED_POSTS; i++) {
+            Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+            batch.add(new Object[]{"부하 테스트 게시글 " + i, "부하 테스트 본문 " + i, "author" + (i % 100), createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO posts (title, content, author, view_count, like_count, created_at, updated_at) "
+                        + "VALUES (?, ?, ?, 0, 0, ?, ?)",
+                batch);
+    }
+
+    private record LoadResult(boolean virtualThreads, double throughput, double p50Ms, double p99Ms,
+                              double errorRate, long peakHeapMb, long peakPlatformThreads) {
+
+        @Override
+        public String toString() {
+            return String.format("throughput=%.0f req/s, p50=%.1fms, p99=%.1fms, errorRate=%.4f, peakHeap=%dMB, peakPlatformThreads=%d",
+                    throughput, p50Ms, p99Ms, errorRate, peakHeapMb, peakPlatformThreads);
+        }
+    }
+}
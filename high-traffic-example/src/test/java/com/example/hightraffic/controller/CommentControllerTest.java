@@ -6,31 +6,40 @@ import com.example.hightraffic.dto.CommentCreateRequest;
 import com.example.hightraffic.dto.CommentUpdateRequest;
 import com.example.hightraffic.repository.CommentRepository;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.service.CommentService;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@IntegrationTest
 @AutoConfigureMockMvc
 @Transactional
 @TestPropertySource(properties = {
-        "spring.datasource.url=jdbc:h2:mem:testdb",
-        "spring.datasource.driver-class-name=org.h2.Driver",
-        "spring.jpa.hibernate.ddl-auto=create-drop",
-        "spring.kafka.bootstrap-servers=localhost:9092"
+        // 댓글 작성 API는 @RateLimited(30/분) - 테스트 전체 작성 요청 수가 한도에 가까우므로 로컬 버킷 비활성화
+        "app.rate-limit.local.enabled=false",
+        // H2는 음수 fetch size(MySQL 행 단위 스트리밍)를 허용하지 않음
+        "app.comment.stream.fetch-size=1000"
 })
 class CommentControllerTest {
 
@@ -46,12 +55,20 @@ class CommentControllerTest {
     @Autowired
     private CommentRepository commentRepository;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private CommentService commentService;
+
     private Post testPost;
 
     @BeforeEach
     void setUp() {
         commentRepository.deleteAll();
         postRepository.deleteAll();
+        // H2 ID는 실행마다 다시 시작하므로 이전 실행의 댓글 수 카운터 제거, Rate Limit 윈도우 초기화
+        RedisTestKeys.deleteMatching(redisTemplate, "post:commentcount*", "ratelimit:*api:comment-write*");
 
         // 테스트용 게시글 생성
         testPost = Post.builder()
@@ -160,6 +177,65 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].replies", hasSize(2)));
     }
 
+    @Test
+    @DisplayName("스레드 페이지 조회 테스트 (2 Depth - 첫 N개 답글 + 답글 더보기)")
+    void getCommentThreadsTwoDepth() throws Exception {
+        // given: API로 생성해야 reply_count가 갱신됨
+        Long rootId = createCommentTwoDepth(null, "루트 댓글");
+        for (int i = 1; i <= 4; i++) {
+            createCommentTwoDepth(rootId, "답글 " + i);
+        }
+        createCommentTwoDepth(null, "두번째 루트 댓글");
+
+        // when & then: 루트 1개 + 첫 답글 2개
+        String threads = mockMvc.perform(get("/api/comments/two-depth/threads")
+                        .param("postId", testPost.getId().toString())
+                        .param("size", "1")
+                        .param("replySize", "2"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(rootId))
+                .andExpect(jsonPath("$.content[0].replyCount").value(4))
+                .andExpect(jsonPath("$.content[0].replies", hasSize(2)))
+                .andExpect(jsonPath("$.content[0].nextReplyCursor").exists())
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String replyCursor = JsonPath.read(threads, "$.content[0].nextReplyCursor");
+
+        // 답글 더보기: 남은 2개
+        mockMvc.perform(get("/api/comments/{id}/replies", rootId)
+                        .param("cursor", replyCursor)
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.content[1].content").value("답글 4"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    private Long createCommentTwoDepth(Long parentId, String content) throws Exception {
+        return createComment("/api/comments/two-depth", parentId, content);
+    }
+
+    private Long createCommentInfiniteDepth(Long parentId, String content) throws Exception {
+        return createComment("/api/comments/infinite-depth", parentId, content);
+    }
+
+    private Long createComment(String url, Long parentId, String content) throws Exception {
+        CommentCreateRequest request = CommentCreateRequest.builder()
+                .postId(testPost.getId())
+                .parentId(parentId)
+                .content(content)
+                .author("작성자")
+                .build();
+        String response = mockMvc.perform(post(url)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return ((Number) JsonPath.read(response, "$.id")).longValue();
+    }
+
     // ==================== 무한 Depth 방식 테스트 ====================
 
     @Test
@@ -235,6 +311,159 @@ class CommentControllerTest {
                 .andExpect(jsonPath("$[0].children[0].children", hasSize(1)));
     }
 
+    @Test
+    @DisplayName("스레드 목록 조회 테스트 (경로 열거 - 루트 단위 페이지)")
+    void getThreads() throws Exception {
+        // given
+        Comment root1 = saveWithPath(Comment.createRoot(testPost.getId(), "루트1", "작성자1"), null);
+        Comment child = saveWithPath(Comment.createChild(root1, testPost.getId(), "자식", "작성자2"), root1);
+        saveWithPath(Comment.createChild(child, testPost.getId(), "손자", "작성자3"), child);
+        Comment root2 = saveWithPath(Comment.createRoot(testPost.getId(), "루트2", "작성자4"), null);
+
+        // when & then: 첫 스레드 (루트1 + 하위 전체)
+        mockMvc.perform(get("/api/comments/infinite-depth/threads")
+                        .param("postId", testPost.getId().toString())
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].id").value(root1.getId()))
+                .andExpect(jsonPath("$.content[0].children[0].children", hasSize(1)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value(root1.getId()));
+
+        // 다음 스레드
+        mockMvc.perform(get("/api/comments/infinite-depth/threads")
+                        .param("postId", testPost.getId().toString())
+                        .param("cursor", root1.getId().toString())
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(root2.getId()))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // 서브트리
+        mockMvc.perform(get("/api/comments/{id}/subtree", child.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(child.getId()))
+                .andExpect(jsonPath("$.children", hasSize(1)));
+    }
+
+    @Test
+    @DisplayName("스레드 목록 조회 테스트 (행 수 제한을 넘으면 잘린 스레드는 다음 페이지로 넘기고, 단독 스레드는 truncated 표시)")
+    void getThreadsOverRowLimit() throws Exception {
+        // given: 루트0(댓글 1개), 루트1(댓글 4개), 루트2(댓글 2개), 행 수 제한 3
+        Comment root0 = saveWithPath(Comment.createRoot(testPost.getId(), "루트0", "작성자"), null);
+        Comment root1 = saveWithPath(Comment.createRoot(testPost.getId(), "루트1", "작성자"), null);
+        Comment child1 = saveWithPath(Comment.createChild(root1, testPost.getId(), "자식1", "작성자"), root1);
+        saveWithPath(Comment.createChild(child1, testPost.getId(), "손자1", "작성자"), child1);
+        saveWithPath(Comment.createChild(root1, testPost.getId(), "자식2", "작성자"), root1);
+        Comment root2 = saveWithPath(Comment.createRoot(testPost.getId(), "루트2", "작성자"), null);
+        saveWithPath(Comment.createChild(root2, testPost.getId(), "자식3", "작성자"), root2);
+
+        CommentService target = AopTestUtils.getTargetObject(commentService);
+        int maxTreeRows = (int) ReflectionTestUtils.getField(target, "maxTreeRows");
+        ReflectionTestUtils.setField(target, "maxTreeRows", 3);
+        try {
+            // when & then: 루트1 스레드가 잘리므로 루트0만 반환하고 루트1부터 다음 페이지
+            mockMvc.perform(get("/api/comments/infinite-depth/threads")
+                            .param("postId", testPost.getId().toString())
+                            .param("size", "3"))
+                    .andDo(print())
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(root0.getId()))
+                    .andExpect(jsonPath("$.content[0].truncated").doesNotExist())
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value(root0.getId()));
+
+            // 루트1 스레드 하나가 제한보다 크면 잘린 채 반환 (자식2가 빠진 루트1만 truncated)
+            mockMvc.perform(get("/api/comments/infinite-depth/threads")
+                            .param("postId", testPost.getId().toString())
+                            .param("cursor", root0.getId().toString())
+                            .param("size", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(root1.getId()))
+                    .andExpect(jsonPath("$.content[0].truncated").value(true))
+                    .andExpect(jsonPath("$.content[0].children", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].children[0].truncated").doesNotExist())
+                    .andExpect(jsonPath("$.hasNext").value(true))
+                    .andExpect(jsonPath("$.nextCursor").value(root1.getId()));
+
+            mockMvc.perform(get("/api/comments/infinite-depth/threads")
+                            .param("postId", testPost.getId().toString())
+                            .param("cursor", root1.getId().toString())
+                            .param("size", "3"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.content", hasSize(1)))
+                    .andExpect(jsonPath("$.content[0].id").value(root2.getId()))
+                    .andExpect(jsonPath("$.content[0].children", hasSize(1)))
+                    .andExpect(jsonPath("$.hasNext").value(false));
+
+            // 서브트리도 같은 기준
+            mockMvc.perform(get("/api/comments/{id}/subtree", root1.getId()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.truncated").value(true))
+                    .andExpect(jsonPath("$.children", hasSize(1)));
+        } finally {
+            ReflectionTestUtils.setField(target, "maxTreeRows", maxTreeRows);
+        }
+    }
+
+    @Test
+    @DisplayName("path가 아직 없는 댓글에 답글을 달면 조상 path를 함께 채워 서브트리 조회에 포함된다")
+    void replyToUnmigratedParent() throws Exception {
+        // given: 마이그레이션 전 댓글 (path 없음)
+        Comment root = commentRepository.save(Comment.createRoot(testPost.getId(), "루트", "작성자1"));
+        Comment child = commentRepository.save(Comment.createChild(root, testPost.getId(), "자식", "작성자2"));
+
+        // when
+        Long replyId = createComment("/api/comments/infinite-depth", child.getId(), "답글");
+
+        // then
+        mockMvc.perform(get("/api/comments/{id}/subtree", root.getId()))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.children", hasSize(1)))
+                .andExpect(jsonPath("$.children[0].children[0].id").value(replyId));
+    }
+
+    private Comment saveWithPath(Comment comment, Comment parent) {
+        Comment saved = commentRepository.save(comment);
+        saved.assignPath(parent != null ? parent.getPath() : null);
+        return saved;
+    }
+
+    @Test
+    @DisplayName("댓글 목록 스트리밍 조회 테스트 (무한 Depth)")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 스트리밍은 별도 스레드에서 조회하므로 실제 커밋 필요
+    void streamCommentsInfiniteDepth() throws Exception {
+        // given
+        Long rootId = createCommentInfiniteDepth(null, "루트");
+        Long childId = createCommentInfiniteDepth(rootId, "자식");
+        createCommentInfiniteDepth(childId, "손자");
+        createCommentInfiniteDepth(rootId, "자식2");
+        Long root2Id = createCommentInfiniteDepth(null, "루트2");
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/comments/infinite-depth/stream")
+                        .param("postId", testPost.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then: 일반 트리 조회와 같은 구조
+        mockMvc.perform(asyncDispatch(result))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].id").value(rootId))
+                .andExpect(jsonPath("$[0].totalChildCount").value(3))
+                .andExpect(jsonPath("$[0].children", hasSize(2)))
+                .andExpect(jsonPath("$[0].children[0].children[0].content").value("손자"))
+                .andExpect(jsonPath("$[1].id").value(root2Id))
+                .andExpect(jsonPath("$[1].children", hasSize(0)));
+    }
+
     // ==================== 공통 기능 테스트 ====================
 
     @Test
@@ -298,12 +527,11 @@ class CommentControllerTest {
 
     @Test
     @DisplayName("댓글 개수 조회 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 후 카운터가 갱신되므로 실제 커밋 필요
     void getCommentCount() throws Exception {
-        // given
-        Comment comment1 = Comment.createRoot(testPost.getId(), "댓글1", "작성자1");
-        Comment comment2 = Comment.createRoot(testPost.getId(), "댓글2", "작성자2");
-        commentRepository.save(comment1);
-        commentRepository.save(comment2);
+        // given: API로 생성해야 댓글 수 카운터가 갱신됨
+        createCommentTwoDepth(null, "댓글1");
+        createCommentTwoDepth(null, "댓글2");
 
         // when & then
         mockMvc.perform(get("/api/comments/count")
@@ -315,18 +543,22 @@ class CommentControllerTest {
 
     @Test
     @DisplayName("활성 댓글 개수 조회 테스트")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 커밋 후 카운터가 갱신되므로 실제 커밋 필요
     void getActiveCommentCount() throws Exception {
         // given
-        Comment comment1 = Comment.createRoot(testPost.getId(), "댓글1", "작성자1");
-        Comment comment2 = Comment.createRoot(testPost.getId(), "댓글2", "작성자2");
-        comment1 = commentRepository.save(comment1);
-        comment2 = commentRepository.save(comment2);
+        Long parentId = createCommentTwoDepth(null, "댓글1");
+        createCommentTwoDepth(parentId, "답글1");
 
-        // 하나 삭제
-        comment1.delete();
-        commentRepository.save(comment1);
+        // 하나 삭제 (답글이 있으므로 소프트 삭제)
+        mockMvc.perform(delete("/api/comments/{id}", parentId))
+                .andExpect(status().isNoContent());
 
         // when & then
+        mockMvc.perform(get("/api/comments/count")
+                        .param("postId", testPost.getId().toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("2"));
+
         mockMvc.perform(get("/api/comments/count/active")
                         .param("postId", testPost.getId().toString()))
                 .andDo(print())
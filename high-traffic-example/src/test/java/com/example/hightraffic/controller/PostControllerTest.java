@@ -4,31 +4,36 @@ import com.example.hightraffic.domain.Post;
 import com.example.hightraffic.dto.PostCreateRequest;
 import com.example.hightraffic.dto.PostUpdateRequest;
 import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
-import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
-@SpringBootTest
+@IntegrationTest
 @AutoConfigureMockMvc
 @Transactional
 @TestPropertySource(properties = {
-        "spring.datasource.url=jdbc:h2:mem:testdb",
-        "spring.datasource.driver-class-name=org.h2.Driver",
-        "spring.jpa.hibernate.ddl-auto=create-drop",
-        "spring.kafka.bootstrap-servers=localhost:9092"
+        // 이 테스트 전용 Redis DB (다른 테스트의 키를 건드리지 않고 비울 수 있도록)
+        "spring.data.redis.database=1",
+        // H2는 실행마다 ID가 1부터 다시 시작하지만 Redis 캐시는 남아 있으므로 게시글 캐시 비활성화
+        "app.cache.post.enabled=false"
 })
 class PostControllerTest {
 
@@ -41,9 +46,17 @@ class PostControllerTest {
     @Autowired
     private PostRepository postRepository;
 
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
     @BeforeEach
     void setUp() {
         postRepository.deleteAll();
+        // H2 ID는 실행마다 다시 시작하므로 이전 실행의 좋아요 카운터/Bitmap, 랭킹, 게시글 수 제거 (전용 DB만 비움)
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
     }
 
     @Test
@@ -169,6 +182,62 @@ class PostControllerTest {
                 .andExpect(jsonPath("$.content", hasSize(lessThanOrEqualTo(10))));
     }
 
+    @Test
+    @DisplayName("게시글 목록 조회 테스트 - 복합 키셋 방식 (다음/이전 페이지)")
+    void getPostsByKeyset() throws Exception {
+        // given
+        for (int i = 1; i <= 15; i++) {
+            Post post = Post.builder()
+                    .title("게시글 " + i)
+                    .content("내용 " + i)
+                    .author("작성자 " + i)
+                    .build();
+            postRepository.save(post);
+        }
+
+        // 첫 페이지
+        String firstPage = mockMvc.perform(get("/api/posts/keyset")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(10)))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.hasPrevious").value(false))
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        // 다음 페이지: 남은 5개
+        String secondPage = mockMvc.perform(get("/api/posts/keyset")
+                        .param("cursor", nextCursor)
+                        .param("direction", "NEXT")
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(5)))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.hasPrevious").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String prevCursor = JsonPath.read(secondPage, "$.prevCursor");
+
+        // 이전 페이지: 첫 페이지와 같은 10개
+        List<Integer> firstPageIds = JsonPath.read(firstPage, "$.content[*].id");
+        mockMvc.perform(get("/api/posts/keyset")
+                        .param("cursor", prevCursor)
+                        .param("direction", "PREV")
+                        .param("size", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].id", contains(firstPageIds.toArray())))
+                .andExpect(jsonPath("$.hasPrevious").value(false));
+    }
+
+    @Test
+    @DisplayName("게시글 목록 조회 테스트 - 복합 키셋 방식 (잘못된 커서)")
+    void getPostsByKeysetInvalidCursor() throws Exception {
+        mockMvc.perform(get("/api/posts/keyset")
+                        .param("cursor", "invalid-cursor"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("게시글 수정 테스트")
     void updatePost() throws Exception {
@@ -229,10 +298,33 @@ class PostControllerTest {
         Post savedPost = postRepository.save(post);
 
         // when & then
-        mockMvc.perform(post("/api/posts/{id}/like", savedPost.getId()))
+        mockMvc.perform(post("/api/posts/{id}/like", savedPost.getId())
+                        .param("userId", "1"))
                 .andDo(print())
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.likeCount").value(1));
+
+        // 같은 사용자의 중복 좋아요는 무시
+        mockMvc.perform(post("/api/posts/{id}/like", savedPost.getId())
+                        .param("userId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.likeCount").value(1));
+    }
+
+    @Test
+    @DisplayName("좋아요 증가 테스트 - 사용자 ID 누락")
+    void increaseLikeWithoutUserId() throws Exception {
+        // given
+        Post savedPost = postRepository.save(Post.builder()
+                .title("테스트 게시글")
+                .content("내용")
+                .author("테스터")
+                .build());
+
+        // when & then
+        mockMvc.perform(post("/api/posts/{id}/like", savedPost.getId()))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -248,11 +340,16 @@ class PostControllerTest {
         post.increaseLikeCount();
         Post savedPost = postRepository.save(post);
 
+        mockMvc.perform(post("/api/posts/{id}/like", savedPost.getId())
+                        .param("userId", "1"))
+                .andExpect(jsonPath("$.likeCount").value(3));
+
         // when & then
-        mockMvc.perform(delete("/api/posts/{id}/like", savedPost.getId()))
+        mockMvc.perform(delete("/api/posts/{id}/like", savedPost.getId())
+                        .param("userId", "1"))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.likeCount").value(1));
+                .andExpect(jsonPath("$.likeCount").value(2));
     }
 
     @Test
@@ -0,0 +1,111 @@
+package com.example.hightraffic.interceptor;
+
+import com.example.hightraffic.service.LocalRateLimiter;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * {@link RateLimitInterceptor} 테스트 (한도 초과 시 429 + Retry-After)
+ *
+ * 부수 효과가 없는 트렌딩 조회 API(@RateLimited(limit = 300))를 테스트마다 다른 IP로 호출
+ */
+@IntegrationTest
+@AutoConfigureMockMvc
+class RateLimitInterceptorTest {
+
+    private static final String URL = "/api/posts/trending";
+    private static final int LIMIT = 300;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private LocalRateLimiter localRateLimiter;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final List<String> ips = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(localRateLimiter, "enabled", true);
+        for (String ip : ips) {
+            RedisTestKeys.deleteMatching(redisTemplate, "ratelimit:*:ip:" + ip);
+        }
+    }
+
+    @Test
+    @DisplayName("한도까지는 허용하고 남은 요청 수를 알려주며, 초과하면 429와 Retry-After를 반환한다")
+    void rejectWithRetryAfter() throws Exception {
+        String ip = newIp();
+
+        for (int i = 0; i < LIMIT; i++) {
+            mockMvc.perform(get(URL).header("X-Forwarded-For", ip))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("X-RateLimit-Remaining", String.valueOf(LIMIT - 1 - i)));
+        }
+
+        assertTooManyRequests(ip);
+
+        // 다른 클라이언트는 영향 없음
+        mockMvc.perform(get(URL).header("X-Forwarded-For", newIp()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("로컬 계층을 끄면 Redis 전역 한도로 거절해도 429와 Retry-After를 반환한다")
+    void rejectByRedisTier() throws Exception {
+        ReflectionTestUtils.setField(localRateLimiter, "enabled", false);
+        String ip = newIp();
+
+        for (int i = 0; i < LIMIT; i++) {
+            mockMvc.perform(get(URL).header("X-Forwarded-For", ip))
+                    .andExpect(status().isOk());
+        }
+
+        assertTooManyRequests(ip);
+    }
+
+    private void assertTooManyRequests(String ip) throws Exception {
+        MvcResult result = mockMvc.perform(get(URL).header("X-Forwarded-For", ip))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.status").value(429))
+                .andReturn();
+
+        long retryAfter = Long.parseLong(result.getResponse().getHeader(HttpHeaders.RETRY_AFTER));
+        assertTrue(retryAfter >= 1 && retryAfter <= 60, "Retry-After: " + retryAfter);
+        Integer bodyRetryAfter = JsonPath.read(result.getResponse().getContentAsString(), "$.retryAfter");
+        assertEquals(retryAfter, bodyRetryAfter.longValue());
+    }
+
+    private String newIp() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String ip = "10." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(1, 255);
+        ips.add(ip);
+        return ip;
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.hightraffic.repository;
+
+import com.example.hightraffic.dto.PostListResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 목록 조회 벤치마크 (엔티티 조회 vs Projection 조회)
+ *
+ * 측정 항목:
+ * - 페이지 1회당 MySQL → 애플리케이션 전송 바이트 (SHOW GLOBAL STATUS의 Bytes_sent 증가량)
+ * - 페이지 1회당 힙 할당 바이트 (현재 스레드의 allocated bytes 증가량)
+ *
+ * 전제 조건:
+ * - 로컬 MySQL (application.yml의 datasource)
+ * - posts 테이블이 benchmark.posts(기본 100만)건보다 적으면 JDBC batch로 채움
+ *
+ * 실행 방법: ./gradlew test --tests '*PostListProjectionBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@SpringBootTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.kafka.bootstrap-servers=localhost:9092"
+})
+class PostListProjectionBenchmarkTest {
+
+    private static final int TARGET_POSTS = Integer.getInteger("benchmark.posts", 1_000_000);
+    private static final int SEED_BATCH_SIZE = 1_000;
+    private static final int CONTENT_LENGTH = 2_000;
+
+    private static final int PAGE_SIZE = 20;
+    private static final int PAGES = 200;
+    private static final int WARM_UP_PAGES = 50;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    @DisplayName("Projection 조회는 페이지당 MySQL 전송량과 힙 할당을 줄인다")
+    void compareEntityAndProjection() {
+        seedPosts();
+
+        // 기존 방식: 엔티티(content 포함) 조회 후 DTO 변환
+        IntFunction<List<PostListResponse>> entityPage = page -> postRepository
+                .findAllByOrderByCreatedAtDesc(PageRequest.of(page, PAGE_SIZE))
+                .map(PostListResponse::from)
+                .getContent();
+
+        // 개선 방식: 서비스와 같은 경로 (커버링 인덱스로 ID 조회 → 목록 컬럼만 Projection 조회)
+        IntFunction<List<PostListResponse>> projectionPage = page -> {
+            List<Long> postIds = postRepository.findPostIdsOrderByCreatedAtDesc(PageRequest.of(page, PAGE_SIZE));
+            Map<Long, PostListResponse> posts = postRepository.findPostListByIdIn(postIds).stream()
+                    .collect(Collectors.toMap(PostListResponse::getId, Function.identity()));
+            return postIds.stream().map(posts::get).toList();
+        };
+
+        Result entity = run(entityPage);
+        Result projection = run(projectionPage);
+
+        log.info("=== 목록 조회 벤치마크 (게시글 {}건, 페이지 크기 {}, {}페이지) ===", TARGET_POSTS, PAGE_SIZE, PAGES);
+        log.info("엔티티 조회:   bytesSent/page={}, allocated/page={}", entity.bytesSentPerPage, entity.allocatedPerPage);
+        log.info("Projection 조회: bytesSent/page={}, allocated/page={}", projection.bytesSentPerPage, projection.allocatedPerPage);
+
+        // 같은 결과를 반환해야 함
+        assertEquals(entityPage.apply(0).stream().map(PostListResponse::getId).toList(),
+                projectionPage.apply(0).stream().map(PostListResponse::getId).toList());
+        assertTrue(projection.bytesSentPerPage < entity.bytesSentPerPage, "Projection의 전송량이 더 적어야 함");
+        assertTrue(projection.allocatedPerPage < entity.allocatedPerPage, "Projection의 힙 할당이 더 적어야 함");
+    }
+
+    private Result run(IntFunction<List<PostListResponse>> pageQuery) {
+        for (int page = 0; page < WARM_UP_PAGES; page++) {
+            readOnly(pageQuery, page);
+        }
+
+        long bytesSentBefore = globalBytesSent();
+        long allocatedBefore = allocatedBytes();
+
+        for (int page = 0; page < PAGES; page++) {
+            readOnly(pageQuery, page);
+        }
+
+        long allocated = allocatedBytes() - allocatedBefore;
+        long bytesSent = globalBytesSent() - bytesSentBefore;
+        return new Result(bytesSent / PAGES, allocated / PAGES);
+    }
+
+    /**
+     * 서비스와 같은 조건(읽기 전용 트랜잭션)에서 조회
+     */
+    private void readOnly(IntFunction<List<PostListResponse>> pageQuery, int page) {
+        transactionTemplate.execute(status -> pageQuery.apply(page));
+    }
+
+    private long globalBytesSent() {
+        return jdbcTemplate.query("SHOW GLOBAL STATUS LIKE 'Bytes_sent'",
+                rs -> rs.next() ? rs.getLong(2) : 0L);
+    }
+
+    private long allocatedBytes() {
+        com.sun.management.ThreadMXBean threadMXBean =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private void seedPosts() {
+        long existing = postRepository.count();
+        if (existing >= TARGET_POSTS) {
+            return;
+        }
+
+        log.info("벤치마크 데이터 생성: {}건 → {}건", existing, TARGET_POSTS);
+        String content = "벤치마크 본문 ".repeat(CONTENT_LENGTH / 8);
+        LocalDateTime baseTime = LocalDateTime.now().minusYears(1);
+
+        for (long offset = existing; offset < TARGET_POSTS; offset += SEED_BATCH_SIZE) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+            for (long i = offset; i < Math.min(offset + SEED_BATCH_SIZE, TARGET_POSTS); i++) {
+                Timestamp createdAt = Timestamp.valueOf(baseTime.plusSeconds(i));
+                batch.add(new Object[]{"벤치마크 게시글 " + i, content, "author" + (i % 100), createdAt, createdAt});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO posts (title, content, author, view_count, like_count, created_at, updated_at) "
+                            + "VALUES (?, ?, ?, 0, 0, ?, ?)",
+                    batch);
+        }
+    }
+
+    private record Result(long bytesSentPerPage, long allocatedPerPage) {
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.hightraffic.scheduler;
+
+import com.example.hightraffic.service.ViewCountService;
+import com.example.hightraffic.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 동기화 파티션 소유권 테스트 (분할 → 하트비트 누락 시 인계 → 복귀)
+ *
+ * 노드 두 개를 직접 만들고 테스트 전용 노드 목록 키를 사용 (다른 테스트 컨텍스트의 노드와 분리)
+ */
+@IntegrationTest
+class ViewCountSyncCoordinatorTest {
+
+    private static final long NODE_TTL_MS = 30_000;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String nodesKey;
+    private ViewCountSyncCoordinator first;
+    private ViewCountSyncCoordinator second;
+
+    @BeforeEach
+    void setUp() {
+        nodesKey = "test:viewcount:sync:nodes:" + UUID.randomUUID();
+        first = coordinator();
+        second = coordinator();
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(nodesKey);
+    }
+
+    @Test
+    @DisplayName("살아있는 노드가 파티션을 겹치지 않게 나누고, 하트비트가 끊긴 노드의 파티션은 남은 노드가 가져간다")
+    void takeOverAfterMissedHeartbeat() {
+        // when: 두 노드 하트비트
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+
+        // then: 파티션을 반씩 겹치지 않게 담당
+        assertPartitioned(first.getOwnedPartitions(), second.getOwnedPartitions());
+        assertEquals(2, first.getLiveNodes().size());
+
+        // when: second의 마지막 하트비트가 TTL보다 오래됨 (하트비트 누락)
+        redisTemplate.opsForZSet().add(nodesKey, second.getNodeId(), System.currentTimeMillis() - NODE_TTL_MS - 1);
+        first.heartbeat();
+
+        // then: first가 모든 파티션을 담당
+        assertEquals(allPartitions(), first.getOwnedPartitions());
+        assertEquals(List.of(first.getNodeId()), first.getLiveNodes());
+
+        // when: second 복귀
+        second.heartbeat();
+        first.heartbeat();
+
+        // then: 다시 나눠서 담당
+        assertPartitioned(first.getOwnedPartitions(), second.getOwnedPartitions());
+    }
+
+    @Test
+    @DisplayName("정상 종료한 노드의 파티션은 TTL을 기다리지 않고 다음 하트비트에서 인계된다")
+    void takeOverAfterLeave() {
+        first.heartbeat();
+        second.heartbeat();
+        first.heartbeat();
+
+        second.leave();
+
+        assertEquals(allPartitions(), first.refreshOwnedPartitions());
+    }
+
+    private ViewCountSyncCoordinator coordinator() {
+        ViewCountSyncCoordinator coordinator = new ViewCountSyncCoordinator(redisTemplate, viewCountService);
+        ReflectionTestUtils.setField(coordinator, "nodesKey", nodesKey);
+        ReflectionTestUtils.setField(coordinator, "nodeTtlMs", NODE_TTL_MS);
+        return coordinator;
+    }
+
+    private List<Integer> allPartitions() {
+        return IntStream.range(0, viewCountService.getSyncPartitionCount()).boxed().toList();
+    }
+
+    private void assertPartitioned(List<Integer> owned, List<Integer> others) {
+        assertFalse(owned.isEmpty());
+        assertFalse(others.isEmpty());
+        Set<Integer> union = new HashSet<>(owned);
+        for (Integer partition : others) {
+            assertTrue(union.add(partition), "두 노드가 같은 파티션을 담당: " + partition);
+        }
+        assertEquals(new HashSet<>(allPartitions()), union);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.hightraffic.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Space-Saving 락 경합 벤치마크 (단일 락 vs 스트라이프)
+ *
+ * 측정 항목:
+ * - 가상 스레드 N개가 동시에 offer할 때의 처리량 (offer/s)
+ * - 두 방식 모두 어뷰저 IP를 상위 1위로 추적하는지 (스트라이프로 나눠도 정확도 유지)
+ *
+ * 단일 락(stripes = 1)은 이전 synchronized 구현과 같은 직렬화 구간
+ *
+ * 실행 방법: ./gradlew test --tests '*HeavyHitterBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class HeavyHitterBenchmarkTest {
+
+    private static final int THREADS = 256;
+    private static final int OFFERS_PER_THREAD = 20_000;
+    private static final int CLIENTS = 50_000;
+    private static final int TOP_K = 100;
+    private static final String ABUSER = "203.0.113.7";
+
+    @Test
+    @DisplayName("스트라이프 Space-Saving은 동시 offer 처리량이 단일 락보다 높고 상위 IP는 같다")
+    void measureOfferContention() throws Exception {
+        // 워밍업 (JIT)
+        run(1);
+        run(SpaceSaving.defaultStripes());
+
+        Result single = run(1);
+        Result striped = run(SpaceSaving.defaultStripes());
+
+        log.info("=== Space-Saving 동시 offer 벤치마크 (가상 스레드 {}개 × {}회) ===", THREADS, OFFERS_PER_THREAD);
+        log.info("단일 락: {} offer/s", String.format("%,.0f", single.offersPerSecond));
+        log.info("스트라이프 {}개: {} offer/s ({}배)", SpaceSaving.defaultStripes(),
+                String.format("%,.0f", striped.offersPerSecond),
+                String.format("%.2f", striped.offersPerSecond / single.offersPerSecond));
+
+        // 어뷰저는 조회 50건 중 1건 → 전체 유입량 / capacity의 2배이므로 두 방식 모두 반드시 1위로 추적
+        long abuserViews = (long) THREADS * (OFFERS_PER_THREAD / 50);
+        for (Result result : List.of(single, striped)) {
+            assertEquals(ABUSER, result.top.key());
+            assertTrue(result.top.count() >= abuserViews, "count=" + result.top.count());
+        }
+    }
+
+    private Result run(int stripes) throws Exception {
+        SpaceSaving topK = new SpaceSaving(TOP_K, stripes);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < OFFERS_PER_THREAD; i++) {
+                        if (i % 50 == 0) {
+                            topK.offer(ABUSER);
+                        } else {
+                            int client = (thread * OFFERS_PER_THREAD + i) % CLIENTS;
+                            topK.offer("198.51." + (client / 250) + "." + (client % 250));
+                        }
+                    }
+                    return null;
+                }));
+            }
+
+            long startNanos = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            double seconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+            return new Result((double) THREADS * OFFERS_PER_THREAD / seconds, topK.top(1).get(0));
+        }
+    }
+
+    private record Result(double offersPerSecond, SpaceSaving.Entry top) {
+    }
+}
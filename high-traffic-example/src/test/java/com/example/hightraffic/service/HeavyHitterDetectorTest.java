@@ -0,0 +1,172 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.support.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 헤비 히터 탐지 테스트 (Count-Min Sketch + Space-Saving → 자동 차단 → Redis 공유 차단 목록)
+ *
+ * 테스트마다 미래의 고정 시각 Clock으로 탐지기를 직접 생성
+ * → 다른 테스트 컨텍스트의 탐지기와 윈도우(Redis 키)가 겹치지 않고, 차단 해제 시각도 다른 노드의 정리 대상이 아님
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "app.heavy-hitter.merge-interval-ms=3600000"
+})
+class HeavyHitterDetectorTest {
+
+    private static final String ABUSER = "203.0.113.7";
+    private static final String BENIGN_PREFIX = "198.51.";
+    private static final String HIGH_VOLUME_PREFIX = "100.64.";
+    private static final int BENIGN_CLIENTS = 5_000;
+    private static final long THRESHOLD = 100;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final List<HeavyHitterDetector> detectors = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        // 이 테스트의 윈도우 키와 이 테스트가 차단한 IP만 삭제
+        for (HeavyHitterDetector detector : detectors) {
+            long windowId = detector.getWindowId();
+            redisTemplate.delete(List.of(
+                    HeavyHitterDetector.sketchKey(windowId, detector.getNodeId()),
+                    HeavyHitterDetector.nodesKey(windowId),
+                    HeavyHitterDetector.candidatesKey(windowId),
+                    HeavyHitterDetector.unblockedKey(windowId)));
+            detector.getBlocked().keySet().stream()
+                    .filter(identifier -> identifier.startsWith(BENIGN_PREFIX) || identifier.startsWith(HIGH_VOLUME_PREFIX))
+                    .forEach(identifier -> redisTemplate.opsForZSet().remove(HeavyHitterDetector.BLOCKLIST_KEY, identifier));
+        }
+        redisTemplate.opsForZSet().remove(HeavyHitterDetector.BLOCKLIST_KEY, ABUSER);
+    }
+
+    @Test
+    @DisplayName("임계값을 넘은 IP만 차단되고, 병합 후 공유 차단 목록과 상위 목록에 나타난다")
+    void blockHeavyHitter() {
+        HeavyHitterDetector detector = detector(Duration.ofDays(1), BENIGN_CLIENTS * 3 + 150);
+
+        // given: 정상 사용자 5,000명 × 3회 사이에 어뷰저의 반복 조회
+        boolean blocked = false;
+        for (int i = 0; i < BENIGN_CLIENTS * 3; i++) {
+            assertFalse(detector.record(BENIGN_PREFIX + (i % BENIGN_CLIENTS / 250) + "." + (i % 250)));
+            if (i % 100 == 0) {
+                blocked = detector.record(ABUSER);
+            }
+        }
+        // 150회 중 100번째에서 차단
+        assertTrue(blocked);
+
+        // when
+        detector.merge();
+
+        // then
+        assertTrue(detector.isBlocked(ABUSER));
+        assertNotNull(redisTemplate.opsForZSet().score(HeavyHitterDetector.BLOCKLIST_KEY, ABUSER));
+        assertEquals(ABUSER, detector.getTopOffenders().get(0).identifier());
+        assertTrue(detector.getTopOffenders().get(0).estimate() >= THRESHOLD);
+
+        // 차단 해제 후에는 같은 윈도우에서 다시 차단하지 않음
+        detector.unblock(ABUSER);
+        detector.merge();
+        assertFalse(detector.record(ABUSER));
+    }
+
+    @Test
+    @DisplayName("윈도우당 조회 100만 건의 정상 트래픽에서도 임계값 미만의 IP는 차단하지 않는다")
+    void noFalseBlocksUnderHighVolume() {
+        // given: IP 50,000개 × 20회 (임계값 100의 1/5), 스케치 폭은 예상 조회 수로 계산
+        int clients = 50_000;
+        int viewsPerClient = 20;
+        HeavyHitterDetector detector = detector(Duration.ofDays(1).plusMinutes(10), (long) clients * viewsPerClient);
+
+        // when
+        for (int round = 0; round < viewsPerClient; round++) {
+            for (int i = 0; i < clients; i++) {
+                assertFalse(detector.record(HIGH_VOLUME_PREFIX + (i / 250) + "." + (i % 250)));
+            }
+        }
+
+        // then: 노드 합산 탐지에서도 차단 없음, 상위 IP의 추정값도 임계값 미만
+        assertEquals(0, detector.merge());
+        assertTrue(detector.getBlocked().keySet().stream().noneMatch(identifier -> identifier.startsWith(HIGH_VOLUME_PREFIX)));
+        assertTrue(detector.getTopOffenders().get(0).estimate() < THRESHOLD,
+                "estimate=" + detector.getTopOffenders().get(0).estimate());
+    }
+
+    @Test
+    @DisplayName("Count-Min Sketch는 과소 추정하지 않고 병합하면 두 스케치의 합을 추정한다")
+    void mergeSketches() {
+        CountMinSketch first = new CountMinSketch(4, 2048);
+        CountMinSketch second = new CountMinSketch(4, 2048);
+        for (int i = 0; i < 10_000; i++) {
+            first.add("client-" + (i % 1_000));
+            second.add("client-" + (i % 500));
+        }
+
+        CountMinSketch merged = CountMinSketch.fromBytes(first.toBytes());
+        merged.merge(second);
+
+        // 오차 상한 e·N/width ≈ 2.718 × 20,000 / 2048 ≈ 27
+        long estimate = merged.estimate("client-1");
+        assertTrue(estimate >= 30 && estimate <= 30 + 27, "estimate=" + estimate);
+    }
+
+    @Test
+    @DisplayName("Space-Saving은 가득 차면 가장 작은 카운터를 교체하고 교체 전 값을 오차로 기록한다")
+    void spaceSavingReplacesMinimum() {
+        SpaceSaving topK = new SpaceSaving(2);
+        for (String key : List.of("a", "a", "a", "b", "c", "c")) {
+            topK.offer(key);
+        }
+
+        // b(1) → c(1 + 1, error 1) → c(3, error 1)
+        assertEquals(List.of(new SpaceSaving.Entry("a", 3, 0), new SpaceSaving.Entry("c", 3, 1)),
+                topK.top(2).stream().sorted(Comparator.comparing(SpaceSaving.Entry::key)).toList());
+    }
+
+    /**
+     * 현재 시각보다 ahead만큼 뒤의 고정 시각으로 동작하는 탐지기
+     */
+    private HeavyHitterDetector detector(Duration ahead, long expectedViewsPerWindow) {
+        Clock clock = Clock.fixed(Instant.now().plus(ahead), ZoneId.systemDefault());
+        HeavyHitterDetector detector = new HeavyHitterDetector(redisTemplate, meterRegistry, clock);
+        ReflectionTestUtils.setField(detector, "enabled", true);
+        ReflectionTestUtils.setField(detector, "windowSeconds", 60L);
+        ReflectionTestUtils.setField(detector, "threshold", THRESHOLD);
+        ReflectionTestUtils.setField(detector, "sketchDepth", 4);
+        ReflectionTestUtils.setField(detector, "expectedViewsPerWindow", expectedViewsPerWindow);
+        ReflectionTestUtils.setField(detector, "errorRatio", 0.25);
+        ReflectionTestUtils.setField(detector, "topK", 100);
+        ReflectionTestUtils.setField(detector, "blockSeconds", 600L);
+        ReflectionTestUtils.setField(detector, "maxBlocked", 10_000L);
+        detector.init();
+        detectors.add(detector);
+        return detector;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 좋아요 사용자별 중복 방지 테스트 (Bitmap)
+ */
+@IntegrationTest
+class LikeCountServiceTest {
+
+    @Autowired
+    private LikeCountService likeCountService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .title("좋아요 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        RedisTestKeys.deletePost(redisTemplate, postId);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    @DisplayName("같은 사용자의 좋아요는 한 번만 집계되고, 좋아요를 누른 사용자만 취소할 수 있다")
+    void dedupPerUser() {
+        // 같은 사용자의 중복 좋아요
+        assertEquals(1L, likeCountService.increaseLike(postId, 1L));
+        assertEquals(1L, likeCountService.increaseLike(postId, 1L));
+
+        // 다른 사용자
+        assertEquals(2L, likeCountService.increaseLike(postId, 2L));
+
+        // 좋아요를 누르지 않은 사용자의 취소는 무시
+        assertEquals(2L, likeCountService.decreaseLike(postId, 3L));
+
+        // 취소 후 중복 취소는 무시, 다시 좋아요 가능
+        assertEquals(1L, likeCountService.decreaseLike(postId, 1L));
+        assertEquals(1L, likeCountService.decreaseLike(postId, 1L));
+        assertEquals(2L, likeCountService.increaseLike(postId, 1L));
+    }
+
+    @Test
+    @DisplayName("사용자 ID가 없거나 범위를 벗어나면 카운터를 바꾸지 않고 400으로 거절한다")
+    void rejectWithoutUserId() {
+        likeCountService.increaseLike(postId, 1L);
+
+        BusinessException anonymous = assertThrows(BusinessException.class,
+                () -> likeCountService.increaseLike(postId, null));
+        assertEquals(HttpStatus.BAD_REQUEST, anonymous.getStatus());
+        assertThrows(BusinessException.class, () -> likeCountService.decreaseLike(postId, null));
+        assertThrows(BusinessException.class, () -> likeCountService.increaseLike(postId, -1L));
+
+        assertEquals(1L, likeCountService.getCurrentLikeCount(postId, 0L));
+    }
+}
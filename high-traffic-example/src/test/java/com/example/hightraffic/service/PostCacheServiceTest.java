@@ -0,0 +1,102 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.PostResponse;
+import com.example.hightraffic.support.IntegrationTest;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 게시글 상세 캐시 무효화 세대 테스트
+ *
+ * DB 조회 도중 다른 노드가 무효화하면, 조회한 값이 무효화 뒤에 L2에 저장되더라도 남지 않아야 함
+ */
+@IntegrationTest
+class PostCacheServiceTest {
+
+    private static final long POST_ID = -7L;
+
+    @Autowired
+    private PostCacheService postCacheService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        postCacheService.evict(POST_ID);
+        redisTemplate.delete(PostCacheService.GENERATION_KEY_PREFIX + POST_ID);
+    }
+
+    @Test
+    @DisplayName("DB 조회 중에 무효화되면 조회한 값을 L2에 남기지 않는다")
+    void evictDuringLoadDropsStalePut() {
+        // given: 같은 L2를 쓰는 다른 노드
+        PostCacheService otherNode = otherNode();
+
+        // when: 커밋 전 값을 읽는 사이 다른 노드에서 커밋 후 무효화
+        PostResponse loaded;
+        try {
+            loaded = postCacheService.get(POST_ID, () -> {
+                PostResponse stale = post("이전 제목");
+                otherNode.evict(POST_ID);
+                return stale;
+            });
+        } finally {
+            listenerContainer.removeMessageListener(otherNode);
+        }
+
+        // then
+        assertEquals("이전 제목", loaded.getTitle());
+        assertNull(remoteCache().get(POST_ID));
+
+        // 무효화 이후의 조회는 정상적으로 L2에 저장
+        postCacheService.evict(POST_ID);
+        postCacheService.get(POST_ID, () -> post("새 제목"));
+        PostResponse cached = remoteCache().get(POST_ID, PostResponse.class);
+        assertNotNull(cached);
+        assertEquals("새 제목", cached.getTitle());
+    }
+
+    private PostCacheService otherNode() {
+        PostCacheService node = new PostCacheService(cacheManager, redisTemplate, listenerContainer, meterRegistry);
+        ReflectionTestUtils.setField(node, "enabled", true);
+        ReflectionTestUtils.setField(node, "localMaxSize", 100L);
+        ReflectionTestUtils.setField(node, "localTtlSeconds", 60L);
+        node.init();
+        return node;
+    }
+
+    private Cache remoteCache() {
+        return cacheManager.getCache(PostCacheService.CACHE_NAME);
+    }
+
+    private PostResponse post(String title) {
+        return PostResponse.builder()
+                .id(POST_ID)
+                .title(title)
+                .content("내용")
+                .author("작성자")
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 삭제 후 Redis 정리 테스트 (커밋 후 정리, 늦게 다시 추가된 랭킹/트렌딩 재정리)
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "app.post-cleanup.recheck-delay-ms=200"
+})
+class PostCleanupServiceTest {
+
+    private static final long RECHECK_TIMEOUT_MS = 5_000;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .title("삭제 정리 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        redisTemplate.opsForValue().set(likeCountKey(), "3");
+        redisTemplate.opsForZSet().add(RankingService.allTimeKey(RankingService.VIEWS), member(), 10);
+        redisTemplate.opsForZSet().add(TrendingService.TRENDING_KEY, member(), 1.0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        redisTemplate.delete(likeCountKey());
+        redisTemplate.opsForZSet().remove(RankingService.allTimeKey(RankingService.VIEWS), member());
+        redisTemplate.opsForZSet().remove(TrendingService.TRENDING_KEY, member());
+        postRepository.findById(postId).ifPresent(postRepository::delete);
+    }
+
+    @Test
+    @DisplayName("삭제 트랜잭션이 롤백되면 Redis 카운터와 랭킹을 정리하지 않는다")
+    void rollbackKeepsRedisState() {
+        // when
+        transactionTemplate.executeWithoutResult(status -> {
+            postService.deletePost(postId);
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertTrue(postRepository.existsById(postId));
+        assertEquals("3", redisTemplate.opsForValue().get(likeCountKey()));
+        assertEquals(10.0, redisTemplate.opsForZSet().score(RankingService.allTimeKey(RankingService.VIEWS), member()));
+    }
+
+    @Test
+    @DisplayName("커밋 후 정리하고, 정리 직후 조회가 다시 추가한 랭킹/트렌딩 member도 다시 제거한다")
+    void cleanupAfterCommitAndRecheck() throws InterruptedException {
+        // when
+        postService.deletePost(postId);
+
+        // then: 커밋 후 정리
+        assertFalse(postRepository.existsById(postId));
+        assertNull(redisTemplate.opsForValue().get(likeCountKey()));
+        assertNull(redisTemplate.opsForZSet().score(RankingService.allTimeKey(RankingService.VIEWS), member()));
+        assertNull(redisTemplate.opsForZSet().score(TrendingService.TRENDING_KEY, member()));
+
+        // when: 진행 중이던 조회가 정리 직후 랭킹/트렌딩에 다시 추가
+        redisTemplate.opsForZSet().incrementScore(RankingService.allTimeKey(RankingService.VIEWS), member(), 1);
+        redisTemplate.opsForZSet().incrementScore(TrendingService.TRENDING_KEY, member(), 1.0);
+
+        // then: recheck-delay-ms 뒤에 다시 제거
+        long deadline = System.currentTimeMillis() + RECHECK_TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline
+                && (redisTemplate.opsForZSet().score(RankingService.allTimeKey(RankingService.VIEWS), member()) != null
+                || redisTemplate.opsForZSet().score(TrendingService.TRENDING_KEY, member()) != null)) {
+            Thread.sleep(50);
+        }
+        assertNull(redisTemplate.opsForZSet().score(RankingService.allTimeKey(RankingService.VIEWS), member()));
+        assertNull(redisTemplate.opsForZSet().score(TrendingService.TRENDING_KEY, member()));
+    }
+
+    private String likeCountKey() {
+        return LikeCountService.LIKE_COUNT_KEY_PREFIX + postId;
+    }
+
+    private String member() {
+        return String.valueOf(postId);
+    }
+}
@@ -0,0 +1,222 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.config.BoundedVirtualThreadExecutor;
+import com.example.hightraffic.domain.Comment;
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.dto.PostPageResponse;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.CommentRepository;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 게시글 상세 화면 병렬 로딩 테스트 (단계별 시간 초과/거부 시 대체값)
+ *
+ * 모든 단계를 일정 시간 늦게 시작하는 Executor와 단계별 시간 제한을 직접 지정한 PostPageService를 사용
+ */
+@IntegrationTest
+class PostPageServiceTest {
+
+    private static final long STAGE_DELAY_MS = 300;
+    private static final long SHORT_TIMEOUT_MS = 50;
+    private static final long LONG_TIMEOUT_MS = 5_000;
+    private static final String IP = "10.250.0.1";
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private PostCacheService postCacheService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private SimpleAsyncTaskExecutor threads;
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        threads = new SimpleAsyncTaskExecutor("post-page-test-");
+        threads.setVirtualThreads(true);
+        threads.setTaskTerminationTimeout(LONG_TIMEOUT_MS);
+
+        postId = postRepository.save(Post.builder()
+                .title("상세 화면 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        commentRepository.save(Comment.createRoot(postId, "댓글", "테스터"));
+        deleteTestKeys();
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 시간 초과된 단계도 끝까지 실행되므로 완료를 기다린 뒤 키 삭제
+        threads.close();
+        deleteTestKeys();
+        commentRepository.deleteAll(commentRepository.findByPostIdOrderByCreatedAtAsc(postId));
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    @DisplayName("모든 단계가 시간 안에 끝나면 대체값 없이 조회수를 증가시킨다")
+    void allStagesInTime() {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("post-page-test-", 10, LONG_TIMEOUT_MS);
+        try {
+            PostPageResponse response = service(executor, LONG_TIMEOUT_MS, LONG_TIMEOUT_MS, LONG_TIMEOUT_MS).getPostPage(postId, IP);
+
+            assertEquals(List.of(), response.getDegradedStages());
+            assertEquals(1L, response.getPost().getViewCount());
+            assertEquals(1L, response.getPost().getUniqueVisitors());
+            assertEquals(1, response.getComments().size());
+            assertEquals(1L, response.getCommentCount());
+        } finally {
+            executor.close();
+        }
+    }
+
+    @Test
+    @DisplayName("시간 초과된 카운터 단계는 본문의 값으로, 댓글 수는 불러온 댓글로 대체한다")
+    void fallbackOnTimeout() {
+        double viewCountTimeouts = fallbackCount(PostPageService.STAGE_VIEW_COUNT, "timeout");
+
+        PostPageResponse response = service(delayed(), LONG_TIMEOUT_MS, SHORT_TIMEOUT_MS, LONG_TIMEOUT_MS).getPostPage(postId, IP);
+
+        // then: 느린 카운터 단계만 대체값
+        assertTrue(response.isDegraded());
+        assertEquals(Set.of(PostPageService.STAGE_VIEW_COUNT, PostPageService.STAGE_LIKE_COUNT, PostPageService.STAGE_COMMENT_COUNT),
+                Set.copyOf(response.getDegradedStages()));
+        assertEquals(0L, response.getPost().getViewCount());
+        assertEquals(0L, response.getPost().getLikeCount());
+        assertNull(response.getPost().getUniqueVisitors());
+
+        // 댓글은 시간 안에 도착했으므로 댓글 수는 불러온 댓글에서 계산
+        assertEquals(1, response.getComments().size());
+        assertEquals(1L, response.getCommentCount());
+        assertEquals(viewCountTimeouts + 1, fallbackCount(PostPageService.STAGE_VIEW_COUNT, "timeout"));
+    }
+
+    @Test
+    @DisplayName("본문 단계가 시간 초과되면 503으로 응답한다")
+    void postTimeout() {
+        BusinessException e = assertThrows(BusinessException.class,
+                () -> service(delayed(), SHORT_TIMEOUT_MS, LONG_TIMEOUT_MS, LONG_TIMEOUT_MS).getPostPage(postId, IP));
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+    }
+
+    @Test
+    @DisplayName("가상 스레드 Executor가 한도에 도달하면 요청 스레드를 대기시키지 않고 거부한다")
+    void rejectWithoutBlocking() throws InterruptedException {
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("post-page-test-", 1, LONG_TIMEOUT_MS);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            // given: 한도(1)를 다른 작업이 점유
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await();
+
+            // then: 제출은 대기 없이 거부
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+
+            // then: 본문 단계가 거부되면 시간 제한을 기다리지 않고 503
+            double rejected = meterRegistry.counter("postpage.stage.failure",
+                    "stage", PostPageService.STAGE_POST, "reason", "rejected").count();
+            BusinessException e = assertThrows(BusinessException.class,
+                    () -> service(executor, LONG_TIMEOUT_MS, LONG_TIMEOUT_MS, LONG_TIMEOUT_MS).getPostPage(postId, IP));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, e.getStatus());
+            assertEquals(rejected + 1, meterRegistry.counter("postpage.stage.failure",
+                    "stage", PostPageService.STAGE_POST, "reason", "rejected").count());
+        } finally {
+            release.countDown();
+            executor.close();
+        }
+        assertEquals(0, executor.getActiveCount());
+    }
+
+    /**
+     * 단계별 시간 제한을 지정한 PostPageService (카운터 단계 = 조회수/좋아요 수/댓글 수)
+     */
+    private PostPageService service(AsyncTaskExecutor executor, long postTimeoutMs, long counterTimeoutMs, long commentsTimeoutMs) {
+        PostPageService service = new PostPageService(postService, commentService, executor, meterRegistry);
+        ReflectionTestUtils.setField(service, "postTimeoutMs", postTimeoutMs);
+        ReflectionTestUtils.setField(service, "viewCountTimeoutMs", counterTimeoutMs);
+        ReflectionTestUtils.setField(service, "likeCountTimeoutMs", counterTimeoutMs);
+        ReflectionTestUtils.setField(service, "commentsTimeoutMs", commentsTimeoutMs);
+        ReflectionTestUtils.setField(service, "commentCountTimeoutMs", counterTimeoutMs);
+        return service;
+    }
+
+    /**
+     * 모든 단계를 STAGE_DELAY_MS 뒤에 시작하는 Executor
+     */
+    private AsyncTaskExecutor delayed() {
+        return new TaskExecutorAdapter(task -> threads.execute(() -> {
+            try {
+                Thread.sleep(STAGE_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            task.run();
+        }));
+    }
+
+    private double fallbackCount(String stage, String reason) {
+        return meterRegistry.counter("postpage.stage.fallback", "stage", stage, "reason", reason).count();
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 이 테스트의 게시글/IP 키만 삭제 (공유 Set/ZSET은 member만 제거)
+     */
+    private void deleteTestKeys() {
+        postCacheService.evict(postId);
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        RedisTestKeys.deleteMatching(redisTemplate, "ratelimit:*ip:" + IP);
+    }
+}
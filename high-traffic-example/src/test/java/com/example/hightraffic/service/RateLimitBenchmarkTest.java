@@ -0,0 +1,167 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisCommandCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rate Limit 알고리즘 벤치마크 (고정 윈도우 vs 슬라이딩 윈도우 vs GCRA)
+ *
+ * 측정 항목:
+ * - 판정 1건당 클라이언트 → Redis 명령어 수 (= 네트워크 왕복 수)
+ * - 판정 1건당 응답 시간 p50 / p99
+ * - 윈도우 경계 버스트 정확도: 윈도우 끝 직전과 직후에 연속 버스트를 보냈을 때 허용된 요청 수
+ *
+ * 실행 방법: ./gradlew test --tests '*RateLimitBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@IntegrationTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class RateLimitBenchmarkTest {
+
+    private static final int DECISIONS = 5_000;
+    private static final int WARM_UP_DECISIONS = 500;
+    private static final int SUBJECTS = 100;
+
+    private static final int BURST_LIMIT = 20;
+    private static final Duration BURST_WINDOW = Duration.ofSeconds(1);
+
+    private static final String SUBJECT_PREFIX = "benchmark:";
+
+    @Autowired
+    private RateLimitService rateLimitService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private static RedisCommandCounter commandCounter;
+
+    @BeforeEach
+    void setUp() {
+        if (commandCounter == null) {
+            commandCounter = RedisCommandCounter.install(redisConnectionFactory);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            for (int i = 0; i < SUBJECTS; i++) {
+                redisTemplate.delete(algorithm.key(SUBJECT_PREFIX + i));
+            }
+            redisTemplate.delete(algorithm.key(SUBJECT_PREFIX + "burst"));
+        }
+    }
+
+    @Test
+    @DisplayName("모든 알고리즘은 판정 1건당 Redis 왕복 1회로 처리한다")
+    void roundTripsPerDecision() {
+        log.info("=== Rate Limit 판정 벤치마크 (판정 {}건) ===", DECISIONS);
+
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            for (int i = 0; i < WARM_UP_DECISIONS; i++) {
+                rateLimitService.tryAcquire(algorithm, SUBJECT_PREFIX + (i % SUBJECTS), 20, Duration.ofMinutes(1));
+            }
+
+            long[] latencies = new long[DECISIONS];
+            long roundTripsBefore = commandCounter.get();
+
+            for (int i = 0; i < DECISIONS; i++) {
+                // 100명의 사용자가 번갈아 요청 (허용 / 차단 경로 모두 포함)
+                String subject = SUBJECT_PREFIX + (i % SUBJECTS);
+                long start = System.nanoTime();
+                rateLimitService.tryAcquire(algorithm, subject, 20, Duration.ofMinutes(1));
+                latencies[i] = System.nanoTime() - start;
+            }
+
+            double roundTripsPerDecision = (double) (commandCounter.get() - roundTripsBefore) / DECISIONS;
+            Arrays.sort(latencies);
+            log.info("{}: roundTrips/decision={}, p50={}µs, p99={}µs",
+                    algorithm, String.format("%.2f", roundTripsPerDecision),
+                    percentile(latencies, 0.50) / 1_000, percentile(latencies, 0.99) / 1_000);
+
+            assertEquals(1.0, roundTripsPerDecision, 0.01, algorithm + "는 판정 1건당 왕복 1회");
+        }
+    }
+
+    @Test
+    @DisplayName("슬라이딩 윈도우와 GCRA는 윈도우 경계 버스트를 한도 근처로 제한한다")
+    void burstAccuracyAtWindowEdge() throws InterruptedException {
+        Map<RateLimitAlgorithm, Integer> allowedInBurst = new EnumMap<>(RateLimitAlgorithm.class);
+        for (RateLimitAlgorithm algorithm : RateLimitAlgorithm.values()) {
+            allowedInBurst.put(algorithm, edgeBurst(algorithm));
+        }
+
+        log.info("=== 윈도우 경계 버스트 (한도 {}회 / {}ms, 경계 전후 60ms 동안 {}회 요청) ===",
+                BURST_LIMIT, BURST_WINDOW.toMillis(), BURST_LIMIT * 4);
+        allowedInBurst.forEach((algorithm, allowed) -> log.info("{}: 허용 {}회", algorithm, allowed));
+
+        // 고정 윈도우: 경계 양쪽에서 각각 한도만큼 허용 → 약 2배
+        assertTrue(allowedInBurst.get(RateLimitAlgorithm.FIXED_WINDOW) > BURST_LIMIT * 1.5);
+        // 슬라이딩 윈도우 / GCRA: 한도 + 경계 구간에 새로 생긴 여유분 정도만 허용
+        assertTrue(allowedInBurst.get(RateLimitAlgorithm.SLIDING_WINDOW) <= BURST_LIMIT + 2);
+        assertTrue(allowedInBurst.get(RateLimitAlgorithm.GCRA) <= BURST_LIMIT + 2);
+    }
+
+    /**
+     * 첫 요청으로 윈도우를 시작한 뒤, 윈도우 끝 30ms 전과 30ms 후에 한도의 2배씩 요청
+     *
+     * @return 두 버스트에서 허용된 요청 수 합계
+     */
+    private int edgeBurst(RateLimitAlgorithm algorithm) throws InterruptedException {
+        String subject = SUBJECT_PREFIX + "burst";
+        redisTemplate.delete(algorithm.key(subject));
+
+        long windowMillis = BURST_WINDOW.toMillis();
+        long primedAt = System.currentTimeMillis();
+        rateLimitService.tryAcquire(algorithm, subject, BURST_LIMIT, BURST_WINDOW);
+
+        sleepUntil(primedAt + windowMillis - 30);
+        int allowed = burst(algorithm, subject);
+
+        sleepUntil(primedAt + windowMillis + 30);
+        allowed += burst(algorithm, subject);
+        return allowed;
+    }
+
+    private int burst(RateLimitAlgorithm algorithm, String subject) {
+        int allowed = 0;
+        for (int i = 0; i < BURST_LIMIT * 2; i++) {
+            if (rateLimitService.tryAcquire(algorithm, subject, BURST_LIMIT, BURST_WINDOW).isAllowed()) {
+                allowed++;
+            }
+        }
+        return allowed;
+    }
+
+    private void sleepUntil(long epochMillis) throws InterruptedException {
+        long sleep = epochMillis - System.currentTimeMillis();
+        if (sleep > 0) {
+            Thread.sleep(sleep);
+        }
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 트렌딩 점수 갱신 비용 벤치마크 (조회수 증가 스크립트에 포함 vs 미포함)
+ *
+ * 측정 항목:
+ * - 조회 1건당 Redis 서버가 실행한 명령어 수 (스크립트 내부 ZSCORE / ZADD / ZREMRANGEBYRANK 포함)
+ * - 조회 1건당 응답 시간 p50 / p99
+ * - 반영 후 감쇠 점수 (측정 시간이 반감기보다 훨씬 짧으므로 고유 조회 수와 거의 같아야 함)
+ *
+ * 실행 방법: ./gradlew test --tests '*TrendingBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@IntegrationTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TrendingBenchmarkTest {
+
+    private static final int VIEWS = 5_000;
+    private static final int WARM_UP_VIEWS = 500;
+
+    // DB에 존재하지 않는 게시글 ID (Redis 키만 사용)
+    private static final long BASELINE_POST_ID = 9_000_011L;
+    private static final long TRENDING_POST_ID = 9_000_012L;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private TrendingService trendingService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(trendingService, "enabled", true);
+        cleanUp(BASELINE_POST_ID);
+        cleanUp(TRENDING_POST_ID);
+    }
+
+    @Test
+    @DisplayName("트렌딩 점수 갱신은 조회 1건당 왕복을 늘리지 않고 스크립트 내부 명령어만 추가한다")
+    void measurePerViewOverhead() {
+        Result baseline = run(false, BASELINE_POST_ID);
+        Result trending = run(true, TRENDING_POST_ID);
+
+        log.info("=== 트렌딩 점수 갱신 벤치마크 (조회 {}건, 절반은 중복 조회) ===", VIEWS);
+        log.info("트렌딩 미포함: serverCommands/view={}, p50={}µs, p99={}µs",
+                String.format("%.2f", baseline.serverCommandsPerView), baseline.p50Micros, baseline.p99Micros);
+        log.info("트렌딩 포함: serverCommands/view={}, p50={}µs, p99={}µs, decayedScore={}",
+                String.format("%.2f", trending.serverCommandsPerView), trending.p50Micros, trending.p99Micros,
+                String.format("%.2f", trending.decayedScore));
+
+        // 고유 조회(짝수 번째)마다 ZSCORE + ZADD + ZREMRANGEBYRANK
+        assertEquals(1.5, trending.serverCommandsPerView - baseline.serverCommandsPerView, 0.05);
+        assertEquals(VIEWS / 2.0, trending.decayedScore, VIEWS / 2.0 * 0.01);
+        assertEquals(0.0, baseline.decayedScore);
+    }
+
+    private Result run(boolean trendingEnabled, long postId) {
+        ReflectionTestUtils.setField(trendingService, "enabled", trendingEnabled);
+        cleanUp(postId);
+
+        // 워밍업 (스크립트 로드, 커넥션 준비)
+        for (int i = 0; i < WARM_UP_VIEWS; i++) {
+            viewCountService.increaseViewCount(postId, "warmup-" + i);
+        }
+        cleanUp(postId);
+
+        long[] latencies = new long[VIEWS];
+        long serverCommandsBefore = totalCommandsProcessed();
+
+        for (int i = 0; i < VIEWS; i++) {
+            // 짝수 번째는 새 사용자, 홀수 번째는 직전 사용자의 재조회 (중복 경로)
+            String identifier = "10.1." + (i / 2 / 250) + "." + (i / 2 % 250);
+            long start = System.nanoTime();
+            viewCountService.increaseViewCount(postId, identifier);
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        // INFO 명령어 자신은 제외
+        long serverCommands = totalCommandsProcessed() - serverCommandsBefore - 1;
+
+        Arrays.sort(latencies);
+        return new Result(
+                (double) serverCommands / VIEWS,
+                percentile(latencies, 0.50) / 1_000,
+                percentile(latencies, 0.99) / 1_000,
+                trendingService.getDecayedScore(postId)
+        );
+    }
+
+    private long totalCommandsProcessed() {
+        Properties info = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("stats"));
+        return Long.parseLong(info.getProperty("total_commands_processed"));
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private void cleanUp(long postId) {
+        RedisTestKeys.deletePost(redisTemplate, postId);
+    }
+
+    private record Result(double serverCommandsPerView, long p50Micros, long p99Micros, double decayedScore) {
+    }
+}
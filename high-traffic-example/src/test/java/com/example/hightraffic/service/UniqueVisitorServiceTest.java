@@ -0,0 +1,107 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.UniqueVisitorStatsResponse;
+import com.example.hightraffic.service.ViewCountService.ViewCounts;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 순 방문자(HyperLogLog) 오차 범위 테스트
+ *
+ * HyperLogLog 표준 오차 0.81% → 허용 오차 2.5% (약 3σ)
+ */
+@IntegrationTest
+class UniqueVisitorServiceTest {
+
+    private static final long POST_ID = -22L;
+    private static final double MAX_ERROR = 0.025;
+    private static final int DAILY_VISITORS = 20_000;
+    private static final int DAILY_NEW_VISITORS = 10_000;
+
+    @Autowired
+    private UniqueVisitorService uniqueVisitorService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @AfterEach
+    void tearDown() {
+        RedisTestKeys.deletePost(redisTemplate, POST_ID);
+    }
+
+    @Test
+    @DisplayName("조회수 증가/조회 결과에 같은 왕복에서 읽은 누적 순 방문자 수가 포함된다")
+    void viewCountsIncludeUniqueVisitors() {
+        viewCountService.increaseViewCounts(POST_ID, "10.1.0.1");
+        assertEquals(2L, viewCountService.increaseViewCounts(POST_ID, "10.1.0.2").uniqueVisitors());
+
+        // 중복 조회는 조회수는 그대로, 순 방문자 수도 그대로
+        ViewCounts duplicate = viewCountService.increaseViewCounts(POST_ID, "10.1.0.2");
+        assertEquals(new ViewCounts(2L, 2L), duplicate);
+        assertEquals(new ViewCounts(2L, 2L), viewCountService.getCurrentViewCounts(POST_ID));
+    }
+
+    @Test
+    @DisplayName("일별/주간/월간/누적 순 방문자 추정값이 실제 값의 2.5% 이내이고 키당 메모리는 12KB 이하이다")
+    void estimateWithinErrorBounds() {
+        // given: 30일간 매일 20,000명 방문, 그중 10,000명은 전날에도 방문 (날짜가 겹치는 방문자)
+        LocalDate today = LocalDate.now();
+        for (int day = 0; day < UniqueVisitorService.MONTH_DAYS; day++) {
+            int first = (UniqueVisitorService.MONTH_DAYS - 1 - day) * DAILY_NEW_VISITORS;
+            addVisitors(today.minusDays(day), first, first + DAILY_VISITORS);
+        }
+
+        // when
+        UniqueVisitorStatsResponse stats = uniqueVisitorService.getStats(POST_ID, 7);
+
+        // then
+        long expectedTotal = (long) (UniqueVisitorService.MONTH_DAYS + 1) * DAILY_NEW_VISITORS;
+        long expectedWeek = (long) (UniqueVisitorService.WEEK_DAYS + 1) * DAILY_NEW_VISITORS;
+        assertWithinError(expectedTotal, stats.getTotal());
+        assertWithinError(expectedTotal, stats.getLastMonth());
+        assertWithinError(expectedWeek, stats.getLastWeek());
+        assertEquals(7, stats.getDaily().size());
+        stats.getDaily().forEach(daily -> assertWithinError(DAILY_VISITORS, daily.getUniqueVisitors()));
+
+        // 방문자 31만 명이어도 dense 인코딩 최대 크기(12KB + 헤더)를 넘지 않음
+        Object memory = redisTemplate.execute((RedisCallback<Object>) connection -> connection.execute("MEMORY",
+                "USAGE".getBytes(StandardCharsets.UTF_8),
+                UniqueVisitorService.totalKey(POST_ID).getBytes(StandardCharsets.UTF_8)));
+        assertTrue(memory instanceof Long bytes && bytes <= 12 * 1024 + 512, "HyperLogLog 키 메모리: " + memory);
+    }
+
+    /**
+     * 방문자 [from, to)를 누적/일별 키에 기록 (조회수 스크립트와 같은 키, 1,000명씩 PFADD)
+     */
+    private void addVisitors(LocalDate date, int from, int to) {
+        for (int start = from; start < to; start += 1_000) {
+            String[] visitors = new String[Math.min(1_000, to - start)];
+            for (int i = 0; i < visitors.length; i++) {
+                visitors[i] = "10.0." + (start + i) / 256 + "." + (start + i) % 256;
+            }
+            redisTemplate.opsForHyperLogLog().add(UniqueVisitorService.totalKey(POST_ID), visitors);
+            redisTemplate.opsForHyperLogLog().add(UniqueVisitorService.dailyKey(POST_ID, date), visitors);
+        }
+    }
+
+    private void assertWithinError(long expected, long actual) {
+        double error = Math.abs(actual - expected) / (double) expected;
+        assertTrue(error <= MAX_ERROR,
+                String.format("expected=%d, actual=%d, error=%.4f", expected, actual, error));
+    }
+}
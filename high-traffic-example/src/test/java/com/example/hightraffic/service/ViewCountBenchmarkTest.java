@@ -0,0 +1,146 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import com.example.hightraffic.support.RedisCommandCounter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 조회수 증가 경로 벤치마크 (개별 명령어 vs Lua 스크립트)
+ *
+ * 측정 항목:
+ * - 조회 1건당 클라이언트 → Redis 명령어 수 (= 네트워크 왕복 수)
+ * - 조회 1건당 Redis 서버가 실행한 명령어 수 (INFO stats의 total_commands_processed, 스크립트 내부 포함)
+ * - 조회 1건당 응답 시간 p50 / p99
+ *
+ * 실행 방법: ./gradlew test --tests '*ViewCountBenchmarkTest' -Dbenchmark=true
+ */
+@Slf4j
+@IntegrationTest
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ViewCountBenchmarkTest {
+
+    private static final int VIEWS = 5_000;
+    private static final int WARM_UP_VIEWS = 500;
+
+    // DB에 존재하지 않는 게시글 ID (Redis 키만 사용)
+    private static final long LEGACY_POST_ID = 9_000_001L;
+    private static final long SCRIPT_POST_ID = 9_000_002L;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory redisConnectionFactory;
+
+    private static RedisCommandCounter commandCounter;
+
+    @BeforeEach
+    void setUp() {
+        if (commandCounter == null) {
+            commandCounter = RedisCommandCounter.install(redisConnectionFactory);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(viewCountService, "scriptEnabled", true);
+        cleanUp(LEGACY_POST_ID);
+        cleanUp(SCRIPT_POST_ID);
+    }
+
+    @Test
+    @DisplayName("Lua 스크립트 모드는 조회 1건당 Redis 명령어 수와 p99 응답 시간을 줄인다")
+    void compareLegacyAndScript() {
+        Result legacy = run(false, LEGACY_POST_ID);
+        Result script = run(true, SCRIPT_POST_ID);
+
+        log.info("=== 조회수 증가 벤치마크 (조회 {}건, 절반은 중복 조회) ===", VIEWS);
+        log.info("개별 명령어: roundTrips/view={}, serverCommands/view={}, p50={}µs, p99={}µs",
+                String.format("%.2f", legacy.roundTripsPerView), String.format("%.2f", legacy.serverCommandsPerView),
+                legacy.p50Micros, legacy.p99Micros);
+        log.info("Lua 스크립트: roundTrips/view={}, serverCommands/view={}, p50={}µs, p99={}µs",
+                String.format("%.2f", script.roundTripsPerView), String.format("%.2f", script.serverCommandsPerView),
+                script.p50Micros, script.p99Micros);
+
+        // 두 방식 모두 같은 조회수를 기록해야 함 (고유 조회만 증가)
+        assertEquals(legacy.finalCount, script.finalCount);
+        assertEquals(1.0, script.roundTripsPerView, 0.01, "스크립트 모드는 조회 1건당 왕복 1회");
+        assertTrue(script.roundTripsPerView < legacy.roundTripsPerView,
+                "스크립트 모드의 왕복 수가 더 적어야 함");
+    }
+
+    private Result run(boolean scriptEnabled, long postId) {
+        ReflectionTestUtils.setField(viewCountService, "scriptEnabled", scriptEnabled);
+        cleanUp(postId);
+
+        // 워밍업 (스크립트 로드, 커넥션 준비)
+        for (int i = 0; i < WARM_UP_VIEWS; i++) {
+            viewCountService.increaseViewCount(postId, "warmup-" + i);
+        }
+        cleanUp(postId);
+
+        long[] latencies = new long[VIEWS];
+        long serverCommandsBefore = totalCommandsProcessed();
+        long roundTripsBefore = commandCounter.get();
+
+        for (int i = 0; i < VIEWS; i++) {
+            // 짝수 번째는 새 사용자, 홀수 번째는 직전 사용자의 재조회 (중복 경로)
+            String identifier = "10.0." + (i / 2 / 250) + "." + (i / 2 % 250);
+            long start = System.nanoTime();
+            viewCountService.increaseViewCount(postId, identifier);
+            latencies[i] = System.nanoTime() - start;
+        }
+
+        long roundTrips = commandCounter.get() - roundTripsBefore;
+        // INFO 명령어 자신은 제외
+        long serverCommands = totalCommandsProcessed() - serverCommandsBefore - 1;
+        long finalCount = viewCountService.getCurrentViewCount(postId);
+
+        Arrays.sort(latencies);
+        return new Result(
+                (double) roundTrips / VIEWS,
+                (double) serverCommands / VIEWS,
+                percentile(latencies, 0.50) / 1_000,
+                percentile(latencies, 0.99) / 1_000,
+                finalCount
+        );
+    }
+
+    private long totalCommandsProcessed() {
+        Properties info = redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("stats"));
+        return Long.parseLong(info.getProperty("total_commands_processed"));
+    }
+
+    private long percentile(long[] sorted, double percentile) {
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+    private void cleanUp(long postId) {
+        RedisTestKeys.deletePost(redisTemplate, postId);
+    }
+
+    private record Result(double roundTripsPerView, double serverCommandsPerView, long p50Micros, long p99Micros, long finalCount) {
+    }
+}
@@ -0,0 +1,182 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.repository.PostJdbcRepository;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 조회수 Write-Behind 버퍼 테스트 (read-your-writes, flush 실패 시 재시도)
+ *
+ * 스케줄러 flush가 끼어들지 않도록 flush 주기를 길게 두고 테스트에서 직접 flush
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "app.view-count.buffer.enabled=true",
+        "app.view-count.buffer.flush-interval-ms=3600000"
+})
+class ViewCountBufferTest {
+
+    private static final int VIEWERS = 5;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private ViewCountBuffer viewCountBuffer;
+
+    @Autowired
+    private ObjectProvider<ViewCountService> viewCountServiceProvider;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private PostJdbcRepository postJdbcRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisConnectionFactory connectionFactory;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .title("버퍼 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        viewCountService.initializeViewCount(postId, 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        viewCountBuffer.flush();
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    @DisplayName("flush 전에도 같은 노드에서는 증가분이 조회수에 포함되고, flush 후 Redis에 반영된다")
+    void readYourWrites() {
+        // when: 서로 다른 사용자의 첫 조회
+        for (int i = 0; i < VIEWERS; i++) {
+            assertEquals(i + 1L, viewCountService.increaseViewCount(postId, "buffer-viewer-" + i).longValue());
+        }
+
+        // then: Redis에는 아직 반영되지 않았지만 조회수에는 포함
+        assertEquals("0", redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertEquals(VIEWERS, viewCountBuffer.getPending(postId));
+        assertEquals(VIEWERS, viewCountService.getCurrentViewCount(postId).longValue());
+
+        // when: flush
+        viewCountBuffer.flush();
+
+        // then: Redis에 반영되고 미반영분은 0 (합계는 그대로)
+        assertEquals(String.valueOf(VIEWERS), redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertEquals(0L, viewCountBuffer.getPending(postId));
+        assertEquals(VIEWERS, viewCountService.getCurrentViewCount(postId).longValue());
+    }
+
+    @Test
+    @DisplayName("flush가 실패하면 증가분을 버퍼에 되돌리고 다음 flush에서 반영한다")
+    void requeueOnFlushFailure() {
+        // given: flush 스크립트 실행을 실패시킬 수 있는 버퍼
+        AtomicBoolean failing = new AtomicBoolean(true);
+        StringRedisTemplate failingTemplate = new StringRedisTemplate(connectionFactory) {
+            @Override
+            public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+                if (failing.get()) {
+                    throw new RedisConnectionFailureException("테스트: Redis 연결 실패");
+                }
+                return super.execute(script, keys, args);
+            }
+        };
+        ViewCountBuffer buffer = new ViewCountBuffer(failingTemplate, viewCountServiceProvider);
+        ReflectionTestUtils.setField(buffer, "enabled", true);
+        ReflectionTestUtils.setField(buffer, "syncPartitions", viewCountService.getSyncPartitionCount());
+        for (int i = 0; i < VIEWERS; i++) {
+            buffer.increment(postId);
+        }
+
+        // when: flush 실패
+        buffer.flush();
+
+        // then: 증가분이 유실되지 않고 버퍼에 남음
+        assertEquals(VIEWERS, buffer.getPending(postId));
+        assertEquals("0", redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+
+        // when: Redis 복구 후 다음 flush
+        failing.set(false);
+        buffer.increment(postId);
+        buffer.flush();
+
+        // then: 실패했던 증가분 + 새 증가분이 한 번씩만 반영
+        assertEquals(String.valueOf(VIEWERS + 1), redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertEquals(0L, buffer.getPending(postId));
+    }
+
+    @Test
+    @DisplayName("조회수 키가 없어졌으면 0부터 증가시키지 않고 DB 값으로 채운 뒤 증가분을 반영한다")
+    void reloadMissingKeyFromDatabase() {
+        // given: DB 조회수 50, 버퍼에 증가분 1이 있는 동안 Redis 조회수 키가 사라짐
+        postJdbcRepository.batchUpdateViewCounts(Map.of(postId, 50L));
+        viewCountService.increaseViewCount(postId, "buffer-viewer-1");
+        redisTemplate.delete(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId);
+
+        // when
+        viewCountBuffer.flush();
+
+        // then: DB 값으로 채우고 증가분은 버퍼에 남음
+        assertEquals("50", redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertEquals(1L, viewCountBuffer.getPending(postId));
+
+        // when: 다음 flush
+        viewCountBuffer.flush();
+
+        // then
+        assertEquals("51", redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertEquals(0L, viewCountBuffer.getPending(postId));
+    }
+
+    @Test
+    @DisplayName("flush 후 누적 랭킹 점수는 증가분이 아니라 반영 후 조회수이다")
+    void rankingScoreIsTotalCount() {
+        // given: 랭킹에 없는 게시글의 조회수가 이미 100
+        viewCountService.deleteViewCount(postId);
+        viewCountService.initializeViewCount(postId, 100L);
+
+        // when
+        viewCountService.increaseViewCount(postId, "buffer-viewer-1");
+        viewCountService.increaseViewCount(postId, "buffer-viewer-2");
+        viewCountBuffer.flush();
+
+        // then
+        assertEquals(102.0, redisTemplate.opsForZSet().score(RankingService.allTimeKey(RankingService.VIEWS), String.valueOf(postId)));
+        assertEquals(2.0, redisTemplate.opsForZSet().score(RankingService.todayKey(RankingService.VIEWS), String.valueOf(postId)));
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 핫 키 샤딩 테스트 (전환 → 샤드 합산 조회/동기화 → 병합)
+ *
+ * 동기화는 이 게시글이 속한 파티션만 실행 (다른 테스트의 Dirty Set을 비우지 않도록)
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "app.view-count.hot-key.enabled=true",
+        "app.view-count.hot-key.shards=4",
+        "app.view-count.hot-key.promote-threshold=5"
+})
+class ViewCountHotKeyTest {
+
+    private static final int VIEWERS = 50;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .title("핫 키 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        viewCountService.initializeViewCount(postId, 0L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        postRepository.deleteById(postId);
+    }
+
+    @Test
+    @DisplayName("핫 키가 아닌 게시글은 샤드 없이 기준 키만 증가한다")
+    void coldPostHasNoShards() {
+        viewCountService.increaseViewCount(postId, "cold-viewer");
+
+        assertEquals("1", redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(ViewCountService.shardedMarkerKey(postId))));
+        assertEquals(1L, viewCountService.getCurrentViewCount(postId).longValue());
+    }
+
+    @Test
+    @DisplayName("핫 키로 전환되어도 조회/동기화/병합 전후의 조회수가 같다")
+    void shardAndFold() {
+        // when: 임계치를 넘는 조회
+        for (int i = 0; i < VIEWERS; i++) {
+            viewCountService.increaseViewCount(postId, "hot-viewer-" + i);
+        }
+
+        // then: 핫 키 전환, 증가분 일부는 샤드에 저장되지만 조회수는 합산 값
+        assertTrue(Boolean.TRUE.equals(redisTemplate.hasKey(ViewCountService.hotMarkerKey(postId))));
+        assertTrue(Boolean.TRUE.equals(redisTemplate.hasKey(ViewCountService.shardedMarkerKey(postId))));
+        long baseCount = Long.parseLong(redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        assertTrue(baseCount < VIEWERS);
+        assertEquals(VIEWERS, viewCountService.getCurrentViewCount(postId).longValue());
+
+        viewCountService.syncPartitions(List.of(Math.floorMod(postId, viewCountService.getSyncPartitionCount())));
+        assertEquals(VIEWERS, postRepository.findById(postId).orElseThrow().getViewCount().longValue());
+
+        // 표시가 남아 있으면 병합하지 않음
+        viewCountService.foldColdShards();
+        assertEquals(baseCount, Long.parseLong(redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId)));
+
+        // when: 트래픽 감소로 표시 만료
+        redisTemplate.delete(ViewCountService.hotMarkerKey(postId));
+        viewCountService.foldColdShards();
+
+        // then: 샤드가 기준 키로 합쳐짐
+        assertEquals(String.valueOf(VIEWERS), redisTemplate.opsForValue().get(ViewCountService.VIEW_COUNT_KEY_PREFIX + postId));
+        for (int shard = 0; shard < 4; shard++) {
+            assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(ViewCountService.shardKey(postId, shard))));
+        }
+        assertFalse(Boolean.TRUE.equals(redisTemplate.opsForSet()
+                .isMember(ViewCountService.VIEW_COUNT_SHARDED_KEY, String.valueOf(postId))));
+        assertFalse(Boolean.TRUE.equals(redisTemplate.hasKey(ViewCountService.shardedMarkerKey(postId))));
+        assertEquals(VIEWERS, viewCountService.getCurrentViewCount(postId).longValue());
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Dirty Set 기반 증분 동기화 테스트
+ *
+ * 청크 크기를 작게 두어 한 파티션이 여러 청크(SPOP count)로 나뉘는 경우도 확인
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "app.view-count.sync.chunk-size=2"
+})
+class ViewCountSyncTest {
+
+    private static final int POSTS = 5;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final List<Long> postIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < POSTS; i++) {
+            Long postId = postRepository.save(Post.builder()
+                    .title("동기화 테스트 " + i)
+                    .content("내용")
+                    .author("테스터")
+                    .build()).getId();
+            postIds.add(postId);
+            viewCountService.initializeViewCount(postId, 0L);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        for (Long postId : postIds) {
+            RedisTestKeys.deletePost(redisTemplate, postId);
+            postRepository.deleteById(postId);
+        }
+        postIds.clear();
+    }
+
+    @Test
+    @DisplayName("조회된 게시글만 Dirty Set에 기록되고, 동기화하면 DB에 반영된 뒤 Dirty Set에서 빠진다")
+    void drainAndSync() {
+        // given: 게시글 i를 i명이 조회 (0번 게시글은 조회 없음)
+        for (int i = 0; i < POSTS; i++) {
+            for (int viewer = 0; viewer < i; viewer++) {
+                viewCountService.increaseViewCount(postIds.get(i), "sync-viewer-" + viewer);
+            }
+        }
+        assertFalse(isDirty(postIds.get(0)));
+        for (int i = 1; i < POSTS; i++) {
+            assertTrue(isDirty(postIds.get(i)));
+            assertEquals(0L, postRepository.findById(postIds.get(i)).orElseThrow().getViewCount().longValue());
+        }
+
+        // when: 이 테스트의 게시글이 속한 파티션만 동기화
+        int synced = viewCountService.syncPartitions(partitions());
+
+        // then: 조회된 게시글만 DB에 반영되고 Dirty Set은 비워짐
+        assertTrue(synced >= POSTS - 1);
+        for (int i = 0; i < POSTS; i++) {
+            assertEquals(i, postRepository.findById(postIds.get(i)).orElseThrow().getViewCount().longValue());
+            assertFalse(isDirty(postIds.get(i)));
+        }
+
+        // when: 동기화 이후 다시 조회
+        viewCountService.increaseViewCount(postIds.get(0), "sync-viewer-late");
+
+        // then: 그 게시글만 다시 동기화 대상
+        assertTrue(isDirty(postIds.get(0)));
+        viewCountService.syncPartitions(partitions());
+        assertEquals(1L, postRepository.findById(postIds.get(0)).orElseThrow().getViewCount().longValue());
+        assertEquals(POSTS - 1L, postRepository.findById(postIds.get(POSTS - 1)).orElseThrow().getViewCount().longValue());
+    }
+
+    @Test
+    @DisplayName("Redis에 조회수가 없는 게시글은 DB 값을 덮어쓰지 않고 Dirty Set에서만 빠진다")
+    void skipPostWithoutRedisCount() {
+        // given: Dirty Set에는 있지만 조회수 키가 삭제된 게시글
+        Long postId = postIds.get(0);
+        viewCountService.increaseViewCount(postId, "sync-viewer");
+        viewCountService.deleteViewCount(postId);
+
+        // when
+        viewCountService.syncPartitions(List.of(Math.floorMod(postId, viewCountService.getSyncPartitionCount())));
+
+        // then
+        assertEquals(0L, postRepository.findById(postId).orElseThrow().getViewCount().longValue());
+        assertFalse(isDirty(postId));
+    }
+
+    private Set<Integer> partitions() {
+        Set<Integer> partitions = new TreeSet<>();
+        for (Long postId : postIds) {
+            partitions.add(Math.floorMod(postId, viewCountService.getSyncPartitionCount()));
+        }
+        return partitions;
+    }
+
+    private String dirtyKey(Long postId) {
+        return ViewCountService.dirtyKey(postId, viewCountService.getSyncPartitionCount());
+    }
+
+    private boolean isDirty(Long postId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(dirtyKey(postId), String.valueOf(postId)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.config.KafkaConfig;
+import com.example.hightraffic.domain.Post;
+import com.example.hightraffic.event.ViewEvent;
+import com.example.hightraffic.repository.PostRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Kafka 조회수 파이프라인 E2E 테스트 (조회 → ViewEvent 발행 → 윈도우 집계 → DB/Redis 반영)
+ */
+@IntegrationTest
+@EmbeddedKafka(partitions = 3, topics = KafkaConfig.VIEW_EVENT_TOPIC)
+@TestPropertySource(properties = {
+        "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+        "spring.kafka.consumer.auto-offset-reset=earliest",
+        "app.cache.post.enabled=false",
+        "app.view-count.kafka.enabled=true",
+        "app.view-count.kafka.partitions=3",
+        "app.view-count.kafka.window-ms=200"
+})
+class ViewEventPipelineTest {
+
+    private static final int VIEWERS = 30;
+    private static final long TIMEOUT_MS = 15_000;
+
+    @Autowired
+    private PostService postService;
+
+    @Autowired
+    private ViewCountService viewCountService;
+
+    @Autowired
+    private ViewEventAggregator viewEventAggregator;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private Long postId;
+
+    @BeforeEach
+    void setUp() {
+        postId = postRepository.save(Post.builder()
+                .title("조회 이벤트 테스트")
+                .content("내용")
+                .author("테스터")
+                .build()).getId();
+        // H2 ID는 실행마다 다시 시작하므로 이전 실행의 조회수/중복 방지 키 제거
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        RedisTestKeys.deleteMatching(redisTemplate, "ratelimit:*viewer-*");
+    }
+
+    @AfterEach
+    void tearDown() {
+        RedisTestKeys.deletePost(redisTemplate, postId);
+        postRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("조회 이벤트가 윈도우 단위로 집계되어 DB 조회수에 반영된다 (중복 조회 제외)")
+    void aggregateViewEvents() throws Exception {
+        // when: 서로 다른 사용자 VIEWERS명 조회 + 같은 사용자의 5초 이내 재조회
+        for (int i = 0; i < VIEWERS; i++) {
+            postService.getPostWithViewCount(postId, "viewer-" + i);
+        }
+        postService.getPostWithViewCount(postId, "viewer-0");
+
+        // then
+        awaitEquals(VIEWERS, () -> postRepository.findById(postId).orElseThrow().getViewCount());
+        assertEquals(VIEWERS, viewCountService.getCurrentViewCount(postId).longValue());
+    }
+
+    @Test
+    @DisplayName("이미 반영된 offset의 이벤트가 다시 전달되면 건너뛴다")
+    void skipRedeliveredEvents() {
+        // given
+        List<ConsumerRecord<String, ViewEvent>> records = List.of(
+                record(0, 100L), record(0, 101L), record(1, 100L));
+        long viewCountBefore = postRepository.findById(postId).orElseThrow().getViewCount();
+
+        // when: 같은 배치를 두 번 반영 (offset 커밋 전 장애로 재전달된 상황)
+        viewEventAggregator.apply(records);
+        viewEventAggregator.apply(records);
+
+        // then
+        assertEquals(viewCountBefore + 3, postRepository.findById(postId).orElseThrow().getViewCount().longValue());
+    }
+
+    private ConsumerRecord<String, ViewEvent> record(int partition, long offset) {
+        // 임베디드 Kafka에 실제로 발행된 offset과 겹치지 않도록 별도 토픽 이름 사용
+        return new ConsumerRecord<>("post-viewed-replay", partition, offset, String.valueOf(postId),
+                new ViewEvent(postId, System.currentTimeMillis()));
+    }
+
+    private void awaitEquals(long expected, LongSupplier actual) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MS;
+        while (System.currentTimeMillis() < deadline && actual.getAsLong() != expected) {
+            Thread.sleep(100);
+        }
+        assertEquals(expected, actual.getAsLong());
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.hightraffic.service;
+
+import com.example.hightraffic.dto.ViewStatsResponse;
+import com.example.hightraffic.exception.BusinessException;
+import com.example.hightraffic.repository.PostViewStatJdbcRepository;
+import com.example.hightraffic.repository.PostViewStatRepository;
+import com.example.hightraffic.repository.ViewStatsCompactionRepository;
+import com.example.hightraffic.support.IntegrationTest;
+import com.example.hightraffic.support.RedisTestKeys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 조회수 시계열 테스트 (분 버킷 기록 → 시간 단위 압축 → 보관 단계별 조회)
+ */
+@IntegrationTest
+class ViewStatsServiceTest {
+
+    private static final long POST_ID = -23L;
+    private static final long OTHER_POST_ID = -24L;
+
+    @Autowired
+    private ViewStatsService viewStatsService;
+
+    @Autowired
+    private PostViewStatRepository postViewStatRepository;
+
+    @Autowired
+    private PostViewStatJdbcRepository postViewStatJdbcRepository;
+
+    @Autowired
+    private ViewStatsCompactionRepository viewStatsCompactionRepository;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final LocalDateTime now = LocalDateTime.now();
+    private final LocalDateTime closedHour = ViewStatsStep.HOUR.truncate(now.minusHours(2));
+
+    @BeforeEach
+    void setUp() {
+        // 통계 테이블은 이 테스트만 사용: 압축 진행 위치를 비워 각 테스트가 보관 구간 처음부터 압축
+        viewStatsCompactionRepository.deleteAll();
+        postViewStatRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RedisTestKeys.deletePost(redisTemplate, POST_ID);
+    }
+
+    @Test
+    @DisplayName("끝난 시간은 MySQL 시간 단위 행, 현재 시간은 Redis 분 버킷에서 읽는다")
+    void readFromCompactedAndMinuteTiers() {
+        // given: 2시간 전 3회 + 현재 2회 조회
+        for (int i = 0; i < 3; i++) {
+            viewStatsService.record(POST_ID, closedHour.plusMinutes(10));
+        }
+        viewStatsService.record(POST_ID, now);
+        viewStatsService.record(POST_ID, now);
+
+        // when
+        assertTrue(viewStatsService.compact() >= 1);
+        ViewStatsResponse stats = viewStatsService.getStats(POST_ID, closedHour.minusHours(1), now.plusHours(1), ViewStatsStep.HOUR);
+
+        // then
+        Map<LocalDateTime, Long> views = stats.getPoints().stream()
+                .collect(Collectors.toMap(ViewStatsResponse.Point::getBucketStart, ViewStatsResponse.Point::getViews));
+        assertEquals(3L, views.get(closedHour).longValue());
+        assertEquals(2L, views.get(ViewStatsStep.HOUR.truncate(now)).longValue());
+        assertTrue(stats.getSources().containsAll(Set.of(ViewStatsStep.HOUR, ViewStatsStep.MINUTE)));
+    }
+
+    @Test
+    @DisplayName("청크 저장 중간에 끊긴 시간은 완료 기록이 없으므로 다음 압축에서 다시 처리한다")
+    void resumePartiallyCompactedHour() {
+        // given: 2시간 전 3회 조회, 그 시간의 다른 게시글 청크만 저장된 채 중단 (완료 기록 없음)
+        for (int i = 0; i < 3; i++) {
+            viewStatsService.record(POST_ID, closedHour.plusMinutes(10));
+        }
+        postViewStatJdbcRepository.replaceHourly(closedHour, Map.of(OTHER_POST_ID, 5L));
+
+        // then: 저장된 행이 있어도 완료 기록이 없으면 그 시간은 아직 분 버킷에서 읽음
+        ViewStatsResponse before = viewStatsService.getStats(POST_ID, closedHour, closedHour.plusHours(1), ViewStatsStep.HOUR);
+        assertEquals(3L, before.getPoints().get(0).getViews());
+        assertEquals(List.of(ViewStatsStep.MINUTE), before.getSources());
+
+        // when: 다음 압축
+        assertTrue(viewStatsService.compact() >= 1);
+
+        // then: 끊긴 시간부터 다시 압축되어 시간 단위 행에서 읽음
+        ViewStatsResponse after = viewStatsService.getStats(POST_ID, closedHour, closedHour.plusHours(1), ViewStatsStep.HOUR);
+        assertEquals(3L, after.getPoints().get(0).getViews());
+        assertEquals(List.of(ViewStatsStep.HOUR), after.getSources());
+        assertTrue(viewStatsCompactionRepository.existsByGranularityAndBucketStart(ViewStatsStep.HOUR, closedHour));
+    }
+
+    @Test
+    @DisplayName("분 단위 조회는 분 버킷 보관 기간 밖의 구간을 거부한다")
+    void rejectMinuteStepBeyondRetention() {
+        assertThrows(BusinessException.class, () -> viewStatsService.getStats(
+                POST_ID, now.minusDays(3), now.minusDays(3).plusHours(1), ViewStatsStep.MINUTE));
+    }
+}
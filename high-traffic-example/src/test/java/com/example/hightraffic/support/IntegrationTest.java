@@ -0,0 +1,30 @@
+package com.example.hightraffic.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 통합 테스트 공통 설정 (@SpringBootTest + 공통 프로퍼티)
+ *
+ * 설정이 같은 테스트 클래스는 애플리케이션 컨텍스트 하나를 재사용 (클래스마다 기동하지 않음)
+ * - 클래스별 추가 설정은 클래스에 @TestPropertySource로 선언 (공통 프로퍼티와 합쳐지고 같은 키는 클래스 설정 우선)
+ * - H2 메모리 DB와 Redis를 여러 테스트 클래스가 공유하므로 테스트는 자신이 만든 행/키만 정리 (RedisTestKeys)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@SpringBootTest
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:testdb",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.kafka.bootstrap-servers=localhost:9092"
+})
+public @interface IntegrationTest {
+}
@@ -0,0 +1,40 @@
+package com.example.hightraffic.support;
+
+import io.lettuce.core.event.command.CommandListener;
+import io.lettuce.core.event.command.CommandStartedEvent;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트가 Redis로 보낸 명령어 수 카운터 (벤치마크용)
+ *
+ * INFO stats의 total_commands_processed는 Lua 스크립트 내부의 redis.call()까지 합산하므로
+ * 네트워크 왕복 수를 비교하려면 클라이언트 측에서 보낸 명령어를 직접 세어야 합니다.
+ */
+public class RedisCommandCounter implements CommandListener {
+
+    private final AtomicLong commands = new AtomicLong();
+
+    /**
+     * Lettuce 클라이언트에 리스너 등록
+     * - 리스너는 새로 생성되는 커넥션에만 적용되므로 공유 커넥션을 재생성
+     */
+    public static RedisCommandCounter install(RedisConnectionFactory connectionFactory) {
+        LettuceConnectionFactory lettuceConnectionFactory = (LettuceConnectionFactory) connectionFactory;
+        RedisCommandCounter counter = new RedisCommandCounter();
+        lettuceConnectionFactory.getRequiredNativeClient().addListener(counter);
+        lettuceConnectionFactory.resetConnection();
+        return counter;
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        commands.incrementAndGet();
+    }
+
+    public long get() {
+        return commands.get();
+    }
+}
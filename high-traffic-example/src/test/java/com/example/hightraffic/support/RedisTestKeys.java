@@ -0,0 +1,83 @@
+package com.example.hightraffic.support;
+
+import org.springframework.data.redis.connection.DataType;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테스트가 만든 Redis 키 정리 (여러 테스트 클래스와 로컬 서버가 같은 Redis를 공유)
+ *
+ * - 패턴 삭제는 KEYS 대신 SCAN (키가 많은 Redis를 막지 않음)
+ * - 게시글 ID가 들어간 키는 삭제, 여러 게시글이 함께 쓰는 Set/ZSET(랭킹, 트렌딩, Dirty Set 등)은 member만 제거
+ */
+public final class RedisTestKeys {
+
+    private static final int SCAN_COUNT = 1000;
+
+    private RedisTestKeys() {
+    }
+
+    /**
+     * 게시글 하나의 조회수/좋아요/댓글 수/순 방문자/시계열 키 삭제 + 공유 Set/ZSET에서 제거
+     */
+    public static void deletePost(RedisTemplate<String, String> redisTemplate, Long postId) {
+        deleteMatching(redisTemplate,
+                "post:viewcount:" + postId,
+                "post:viewcount:" + postId + ":*",
+                "post:viewed:" + postId + ":*",
+                "post:uv:" + postId,
+                "post:uv:" + postId + ":*",
+                "post:views:m:" + postId + ":*",
+                "post:likecount:" + postId,
+                "post:liked:" + postId,
+                "post:commentcount:" + postId,
+                "post:cache:generation:" + postId);
+        removeMember(redisTemplate, String.valueOf(postId),
+                "post:viewcount:dirty:*",
+                "post:viewcount:sharded",
+                "post:likecount:dirty:*",
+                "post:commentcount:dirty:*",
+                "post:views:m:active:*",
+                "post:ranking:*",
+                "post:trending");
+    }
+
+    /**
+     * 패턴에 맞는 키 삭제 (SCAN)
+     */
+    public static void deleteMatching(RedisTemplate<String, String> redisTemplate, String... patterns) {
+        List<String> keys = scan(redisTemplate, patterns);
+        if (!keys.isEmpty()) {
+            redisTemplate.delete(keys);
+        }
+    }
+
+    /**
+     * 패턴에 맞는 Set/ZSET에서 member 제거 (다른 타입의 키는 건너뜀)
+     */
+    public static void removeMember(RedisTemplate<String, String> redisTemplate, String member, String... patterns) {
+        for (String key : scan(redisTemplate, patterns)) {
+            DataType type = redisTemplate.type(key);
+            if (type == DataType.ZSET) {
+                redisTemplate.opsForZSet().remove(key, member);
+            } else if (type == DataType.SET) {
+                redisTemplate.opsForSet().remove(key, member);
+            }
+        }
+    }
+
+    private static List<String> scan(RedisTemplate<String, String> redisTemplate, String... patterns) {
+        List<String> keys = new ArrayList<>();
+        for (String pattern : patterns) {
+            ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+            try (Cursor<String> cursor = redisTemplate.scan(options)) {
+                cursor.forEachRemaining(keys::add);
+            }
+        }
+        return keys;
+    }
+}